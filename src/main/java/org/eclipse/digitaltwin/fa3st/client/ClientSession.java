@@ -0,0 +1,562 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.Objects;
+import org.eclipse.digitaltwin.fa3st.client.auth.AuthenticationProvider;
+import org.eclipse.digitaltwin.fa3st.client.auth.BasicAuthenticationProvider;
+import org.eclipse.digitaltwin.fa3st.client.cache.CachingTransport;
+import org.eclipse.digitaltwin.fa3st.client.cache.HttpCache;
+import org.eclipse.digitaltwin.fa3st.client.cache.ObjectCache;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASInterface;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASRegistryInterface;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASRepositoryInterface;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.ConceptDescriptionRepositoryInterface;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.DescriptionInterface;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.SubmodelInterface;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.SubmodelRegistryInterface;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.SubmodelRepositoryInterface;
+import org.eclipse.digitaltwin.fa3st.client.transport.AuthenticatingTransport;
+import org.eclipse.digitaltwin.fa3st.client.transport.CircuitBreakerPolicy;
+import org.eclipse.digitaltwin.fa3st.client.transport.CircuitBreakingTransport;
+import org.eclipse.digitaltwin.fa3st.client.transport.CoalescingTransport;
+import org.eclipse.digitaltwin.fa3st.client.transport.ConcurrencyLimitPolicy;
+import org.eclipse.digitaltwin.fa3st.client.transport.ConcurrencyLimitingTransport;
+import org.eclipse.digitaltwin.fa3st.client.transport.HedgingPolicy;
+import org.eclipse.digitaltwin.fa3st.client.transport.HedgingTransport;
+import org.eclipse.digitaltwin.fa3st.client.transport.HttpTransport;
+import org.eclipse.digitaltwin.fa3st.client.transport.JdkHttpTransport;
+import org.eclipse.digitaltwin.fa3st.client.transport.RetryPolicy;
+import org.eclipse.digitaltwin.fa3st.client.transport.RetryingTransport;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.OperationPoller;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiDeserializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+
+
+/**
+ * Holds the resources shared by all interfaces created from it, i.e., a single {@link HttpTransport} with its
+ * connection pool, a single serializer/deserializer pair and the configuration of the client. Interfaces created via this session,
+ * as well as all child interfaces obtained from them, e.g., via {@link AASRepositoryInterface#getAASInterface(String)},
+ * reuse these resources instead of creating their own.
+ *
+ * <p>A session is thread-safe and is intended to be created once and used for all requests to the same set of servers.
+ * By default, requests are sent using a {@link JdkHttpTransport}. Closing the session closes its transport.
+ *
+ * <pre>{@code
+ * ClientSession session = new ClientSession.Builder()
+ *         .credentials("user", "password")
+ *         .build();
+ * AASRepositoryInterface aasRepository = session.getAASRepositoryInterface(serviceUri);
+ * SubmodelRepositoryInterface submodelRepository = session.getSubmodelRepositoryInterface(serviceUri);
+ * }</pre>
+ *
+ * <p>To access servers with different credentials, e.g., on behalf of many tenants, create lightweight views of a
+ * session via {@link #withAuthentication(AuthenticationProvider)} or {@link #withCredentials(String, String)}. Views
+ * send their own credentials preemptively but share the transport and all other resources of the session, so the
+ * number of connections and threads does not grow with the number of tenants.
+ *
+ * <pre>{@code
+ * SubmodelInterface submodel = session.withCredentials(tenant.getUser(), tenant.getPassword())
+ *         .getSubmodelInterface(submodelUri);
+ * }</pre>
+ */
+public class ClientSession implements AutoCloseable {
+
+    private final HttpClient httpClient;
+    private final HttpTransport sharedTransport;
+    private final HttpTransport transport;
+    private final boolean ownsTransport;
+    private final JsonApiSerializer serializer;
+    private final JsonApiDeserializer deserializer;
+    private final OperationPoller operationPoller;
+    private final ObjectCache objectCache;
+    private final AuthenticationProvider authenticationProvider;
+
+    private ClientSession(Builder builder) {
+        HttpTransport baseTransport = createBaseTransport(builder);
+        this.httpClient = baseTransport instanceof JdkHttpTransport
+                ? ((JdkHttpTransport) baseTransport).getHttpClient()
+                : null;
+        this.sharedTransport = decorate(baseTransport, builder);
+        this.transport = authenticate(sharedTransport, builder.authenticationProvider);
+        this.authenticationProvider = Objects.isNull(builder.authenticationProvider) && Objects.nonNull(builder.username)
+                ? new BasicAuthenticationProvider(builder.username, builder.password)
+                : builder.authenticationProvider;
+        this.ownsTransport = true;
+        this.serializer = Objects.nonNull(builder.serializer) ? builder.serializer : new JsonApiSerializer();
+        this.deserializer = Objects.nonNull(builder.deserializer) ? builder.deserializer : new JsonApiDeserializer();
+        this.operationPoller = Objects.nonNull(builder.operationPoller) ? builder.operationPoller : new OperationPoller.Builder().build();
+        this.objectCache = builder.objectCache;
+    }
+
+
+    private ClientSession(ClientSession parent, AuthenticationProvider authenticationProvider) {
+        this.httpClient = parent.httpClient;
+        this.sharedTransport = parent.sharedTransport;
+        this.transport = authenticate(sharedTransport, authenticationProvider);
+        this.authenticationProvider = authenticationProvider;
+        this.ownsTransport = false;
+        this.serializer = parent.serializer;
+        this.deserializer = parent.deserializer;
+        this.operationPoller = parent.operationPoller;
+        this.objectCache = parent.objectCache;
+    }
+
+
+    private static HttpTransport createBaseTransport(Builder builder) {
+        return Objects.nonNull(builder.transport)
+                ? builder.transport
+                : new JdkHttpTransport(Objects.nonNull(builder.httpClient)
+                        ? builder.httpClient
+                        : HttpHelper.newClient(builder.username, builder.password, builder.trustAllCertificates, builder.useVirtualThreads));
+    }
+
+
+    private static HttpTransport decorate(HttpTransport transport, Builder builder) {
+        HttpTransport result = transport;
+        if (Objects.nonNull(builder.circuitBreakerPolicy)) {
+            result = new CircuitBreakingTransport(result, builder.circuitBreakerPolicy);
+        }
+        if (Objects.nonNull(builder.concurrencyLimitPolicy)) {
+            result = new ConcurrencyLimitingTransport(result, builder.concurrencyLimitPolicy);
+        }
+        if (Objects.nonNull(builder.hedgingPolicy)) {
+            result = new HedgingTransport(result, builder.hedgingPolicy);
+        }
+        if (Objects.nonNull(builder.retryPolicy)) {
+            result = new RetryingTransport(result, builder.retryPolicy);
+        }
+        if (Objects.nonNull(builder.httpCache)) {
+            result = new CachingTransport(result, builder.httpCache);
+        }
+        // coalescing is applied before the cache as the cache passes its own body handler to the transports it wraps
+        if (builder.coalesceRequests) {
+            result = new CoalescingTransport(result);
+        }
+        return result;
+    }
+
+
+    private static HttpTransport authenticate(HttpTransport transport, AuthenticationProvider authenticationProvider) {
+        return Objects.nonNull(authenticationProvider)
+                ? new AuthenticatingTransport(transport, authenticationProvider)
+                : transport;
+    }
+
+
+    /**
+     * Creates a view of this session that sends the credentials of the given provider preemptively with each request
+     * instead of the credentials configured for this session. The view shares the transport, serializer, deserializer
+     * and operation poller of this session, i.e., creating a view is cheap and does not open any connections or
+     * threads. Closing a view has no effect, the resources are released when this session is closed.
+     *
+     * @param authenticationProvider the authentication provider to use, or null to send requests without preemptive
+     *            authentication
+     * @return the view
+     */
+    public ClientSession withAuthentication(AuthenticationProvider authenticationProvider) {
+        return new ClientSession(this, authenticationProvider);
+    }
+
+
+    /**
+     * Creates a view of this session that sends the given HTTP Basic credentials preemptively with each request, see
+     * {@link #withAuthentication(AuthenticationProvider)}.
+     *
+     * @param username the username
+     * @param password the password
+     * @return the view
+     */
+    public ClientSession withCredentials(String username, String password) {
+        return withAuthentication(new BasicAuthenticationProvider(username, password));
+    }
+
+
+    /**
+     * Returns the transport shared by all interfaces of this session.
+     *
+     * @return the transport
+     */
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+
+    /**
+     * Returns the HTTP client shared by all interfaces of this session.
+     *
+     * @return the HTTP client if requests are sent using a {@link JdkHttpTransport}, otherwise null
+     * @deprecated use {@link #getTransport()} instead, which also applies the authentication, retry and caching
+     *             configured for this session
+     */
+    @Deprecated
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+
+    /**
+     * Returns the serializer shared by all interfaces of this session.
+     *
+     * @return the serializer
+     */
+    public JsonApiSerializer getSerializer() {
+        return serializer;
+    }
+
+
+    /**
+     * Returns the deserializer shared by all interfaces of this session.
+     *
+     * @return the deserializer
+     */
+    public JsonApiDeserializer getDeserializer() {
+        return deserializer;
+    }
+
+
+    /**
+     * Returns the poller used to wait for operations invoked asynchronously.
+     *
+     * @return the operation poller
+     */
+    public OperationPoller getOperationPoller() {
+        return operationPoller;
+    }
+
+
+    /**
+     * Returns the object cache shared by all interfaces of this session and its views.
+     *
+     * @return the object cache, or null if objects are not cached
+     */
+    public ObjectCache getObjectCache() {
+        return objectCache;
+    }
+
+
+    /**
+     * Returns the provider of the credentials used by this session or view. If the session has been created with a
+     * username and password, a {@link BasicAuthenticationProvider} for these credentials is returned.
+     *
+     * @return the authentication provider, or null if no credentials are used
+     */
+    public AuthenticationProvider getAuthenticationProvider() {
+        return authenticationProvider;
+    }
+
+
+    /**
+     * Creates a new Asset Administration Shell Repository Interface using this session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @return the interface
+     */
+    public AASRepositoryInterface getAASRepositoryInterface(URI endpoint) {
+        return new AASRepositoryInterface(endpoint, this);
+    }
+
+
+    /**
+     * Creates a new Submodel Repository Interface using this session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @return the interface
+     */
+    public SubmodelRepositoryInterface getSubmodelRepositoryInterface(URI endpoint) {
+        return new SubmodelRepositoryInterface(endpoint, this);
+    }
+
+
+    /**
+     * Creates a new Concept Description Repository Interface using this session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @return the interface
+     */
+    public ConceptDescriptionRepositoryInterface getConceptDescriptionRepositoryInterface(URI endpoint) {
+        return new ConceptDescriptionRepositoryInterface(endpoint, this);
+    }
+
+
+    /**
+     * Creates a new Asset Administration Shell Registry Interface using this session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @return the interface
+     */
+    public AASRegistryInterface getAASRegistryInterface(URI endpoint) {
+        return new AASRegistryInterface(endpoint, this);
+    }
+
+
+    /**
+     * Creates a new Submodel Registry Interface using this session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @return the interface
+     */
+    public SubmodelRegistryInterface getSubmodelRegistryInterface(URI endpoint) {
+        return new SubmodelRegistryInterface(endpoint, this);
+    }
+
+
+    /**
+     * Creates a new Asset Administration Shell Interface using this session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @return the interface
+     */
+    public AASInterface getAASInterface(URI endpoint) {
+        return new AASInterface(endpoint, this);
+    }
+
+
+    /**
+     * Creates a new Submodel Interface using this session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @return the interface
+     */
+    public SubmodelInterface getSubmodelInterface(URI endpoint) {
+        return new SubmodelInterface(endpoint, this);
+    }
+
+
+    /**
+     * Creates a new Description Interface using this session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @return the interface
+     */
+    public DescriptionInterface getDescriptionInterface(URI endpoint) {
+        return new DescriptionInterface(endpoint, this);
+    }
+
+    /**
+     * Closes the transport of this session. Interfaces created from this session or from any of its views must not be
+     * used afterwards. Closing a view has no effect.
+     */
+    @Override
+    public void close() {
+        if (ownsTransport) {
+            transport.close();
+        }
+    }
+
+    public static class Builder {
+        private HttpTransport transport;
+        private HttpClient httpClient;
+        private String username;
+        private String password;
+        private boolean trustAllCertificates;
+        private boolean useVirtualThreads;
+        private AuthenticationProvider authenticationProvider;
+        private RetryPolicy retryPolicy;
+        private CircuitBreakerPolicy circuitBreakerPolicy;
+        private HedgingPolicy hedgingPolicy;
+        private ConcurrencyLimitPolicy concurrencyLimitPolicy;
+        private boolean coalesceRequests;
+        private HttpCache httpCache;
+        private ObjectCache objectCache;
+        private JsonApiSerializer serializer;
+        private JsonApiDeserializer deserializer;
+        private OperationPoller operationPoller;
+
+        /**
+         * Sets the transport to use, e.g., an {@link org.eclipse.digitaltwin.fa3st.client.transport.ApacheHttpTransport}.
+         * If set, all options for creating a HTTP client, i.e., httpClient, credentials, trustAllCertificates and
+         * useVirtualThreads, are ignored.
+         *
+         * @param transport the transport
+         * @return the builder
+         */
+        public Builder transport(HttpTransport transport) {
+            this.transport = transport;
+            return this;
+        }
+
+
+        /**
+         * Sets the HTTP client to use. If set, the options for creating a HTTP client, i.e., credentials,
+         * trustAllCertificates and useVirtualThreads, are ignored.
+         *
+         * @param httpClient the HTTP client
+         * @return the builder
+         */
+        public Builder httpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+
+        public Builder credentials(String username, String password) {
+            this.username = username;
+            this.password = password;
+            return this;
+        }
+
+
+        /**
+         * Sets the provider of credentials that are sent preemptively with each request, e.g., a
+         * {@link org.eclipse.digitaltwin.fa3st.client.auth.BasicAuthenticationProvider} or a
+         * {@link org.eclipse.digitaltwin.fa3st.client.auth.BearerTokenProvider}. In contrast to
+         * {@link #credentials(String, String)}, which only sends credentials when challenged by the server, this saves
+         * one round trip per request.
+         *
+         * @param authenticationProvider the authentication provider
+         * @return the builder
+         */
+        public Builder authentication(AuthenticationProvider authenticationProvider) {
+            this.authenticationProvider = authenticationProvider;
+            return this;
+        }
+
+
+        /**
+         * Sets the policy for retrying failed requests, e.g., when the server is temporarily unavailable. The policy
+         * applies to all requests of this session and its views, including requests sent via a custom
+         * {@link #transport(HttpTransport)}. By default, failed requests are not retried.
+         *
+         * @param retryPolicy the retry policy
+         * @return the builder
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+
+        /**
+         * Sets the policy for the circuit breakers guarding each endpoint. While the circuit of an endpoint is open,
+         * requests to it fail immediately with a {@link org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException}
+         * instead of waiting for a timeout. If a retry policy is set as well, each retry passes the circuit breaker. By
+         * default, no circuit breakers are used.
+         *
+         * @param circuitBreakerPolicy the circuit breaker policy
+         * @return the builder
+         */
+        public Builder circuitBreakerPolicy(CircuitBreakerPolicy circuitBreakerPolicy) {
+            this.circuitBreakerPolicy = circuitBreakerPolicy;
+            return this;
+        }
+
+
+        /**
+         * Sets the policy for hedging read requests, i.e., sending a second GET request if the first one has not been
+         * answered within the usual latency and using the first response. This reduces the tail latency caused by
+         * occasional slow responses at the cost of a few additional requests. By default, requests are not hedged.
+         *
+         * @param hedgingPolicy the hedging policy
+         * @return the builder
+         */
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+
+        /**
+         * Sets the policy for limiting the number of concurrent requests per endpoint. The limit adapts to the latency
+         * and the overload signals of the server, so that firing many parallel requests does not overload it.
+         * Requests exceeding the limit are queued. By default, the number of concurrent requests is not limited.
+         *
+         * @param concurrencyLimitPolicy the concurrency limit policy
+         * @return the builder
+         */
+        public Builder concurrencyLimitPolicy(ConcurrencyLimitPolicy concurrencyLimitPolicy) {
+            this.concurrencyLimitPolicy = concurrencyLimitPolicy;
+            return this;
+        }
+
+
+        /**
+         * Enables coalescing of identical concurrent GET requests, i.e., while a GET request is in flight, identical
+         * requests with the same URI and credentials wait for its response instead of being sent. Each caller still
+         * receives its own deserialized result. Disabled by default.
+         *
+         * @param coalesceRequests true to coalesce identical concurrent GET requests
+         * @return the builder
+         */
+        public Builder coalesceRequests(boolean coalesceRequests) {
+            this.coalesceRequests = coalesceRequests;
+            return this;
+        }
+
+
+        /**
+         * Sets the cache for GET requests. Cached responses are revalidated using the ETag or Last-Modified header sent
+         * by the server, so unchanged resources are not downloaded again. By default, responses are not cached.
+         *
+         * @param httpCache the cache
+         * @return the builder
+         */
+        public Builder httpCache(HttpCache httpCache) {
+            this.httpCache = httpCache;
+            return this;
+        }
+
+
+        /**
+         * Sets the cache for deserialized objects, e.g., submodels and shells. Objects are cached per credentials and
+         * are invalidated by successful modifications sent through this session or any of its views. Cached objects
+         * are shared by all callers and must not be modified. By default, objects are not cached.
+         *
+         * @param objectCache the cache
+         * @return the builder
+         */
+        public Builder objectCache(ObjectCache objectCache) {
+            this.objectCache = objectCache;
+            return this;
+        }
+
+
+        public Builder trustAllCertificates(boolean trustAllCertificates) {
+            this.trustAllCertificates = trustAllCertificates;
+            return this;
+        }
+
+
+        public Builder useVirtualThreads(boolean useVirtualThreads) {
+            this.useVirtualThreads = useVirtualThreads;
+            return this;
+        }
+
+
+        public Builder serializer(JsonApiSerializer serializer) {
+            this.serializer = serializer;
+            return this;
+        }
+
+
+        public Builder deserializer(JsonApiDeserializer deserializer) {
+            this.deserializer = deserializer;
+            return this;
+        }
+
+
+        public Builder operationPoller(OperationPoller operationPoller) {
+            this.operationPoller = operationPoller;
+            return this;
+        }
+
+
+        public ClientSession build() {
+            return new ClientSession(this);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.auth;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * An access token, e.g., an OAuth 2.0 bearer token, with an optional expiry time.
+ */
+public class AccessToken {
+
+    private final String value;
+    private final Instant expiresAt;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param value the token value
+     * @param expiresAt the expiry time, or null if the token does not expire
+     */
+    public AccessToken(String value, Instant expiresAt) {
+        Ensure.requireNonNull(value, "value must be non-null");
+        this.value = value;
+        this.expiresAt = expiresAt;
+    }
+
+
+    /**
+     * Creates a new token expiring after the given duration, e.g., the expires_in value of an OAuth 2.0 token
+     * response.
+     *
+     * @param value the token value
+     * @param expiresIn the duration after which the token expires
+     * @return the token
+     */
+    public static AccessToken of(String value, Duration expiresIn) {
+        Ensure.requireNonNull(expiresIn, "expiresIn must be non-null");
+        return new AccessToken(value, Instant.now().plus(expiresIn));
+    }
+
+
+    public String getValue() {
+        return value;
+    }
+
+
+    public Optional<Instant> getExpiresAt() {
+        return Optional.ofNullable(expiresAt);
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.auth;
+
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Provides the credentials that are sent preemptively with each request, i.e., the value of the Authorization header
+ * is attached to the first request instead of waiting for the server to challenge the client with a 401 response.
+ * This saves one round trip per request compared to challenge-based authentication.
+ *
+ * <p>Implementations must be thread-safe and should return quickly, e.g., by caching credentials that are expensive
+ * to obtain.
+ */
+public interface AuthenticationProvider {
+
+    /**
+     * Returns the value of the Authorization header to send.
+     *
+     * @return a future of the value of the Authorization header
+     */
+    public CompletableFuture<String> getAuthorization();
+
+
+    /**
+     * Notifies the provider that the server rejected the given credentials with 401 Unauthorized. Providers that are
+     * able to obtain new credentials, e.g., by fetching a new token, should discard the rejected credentials and
+     * return true, in which case the request is retried once with the new credentials. The default implementation
+     * returns false.
+     *
+     * @param authorization the rejected value of the Authorization header
+     * @return true if the request should be retried with new credentials, otherwise false
+     */
+    public default boolean invalidate(String authorization) {
+        return false;
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Provides HTTP Basic authentication credentials that are sent preemptively with each request.
+ */
+public class BasicAuthenticationProvider implements AuthenticationProvider {
+
+    private final CompletableFuture<String> authorization;
+
+    public BasicAuthenticationProvider(String username, String password) {
+        Ensure.requireNonNull(username, "username must be non-null");
+        String credentials = username + ":" + (Objects.nonNull(password) ? password : "");
+        this.authorization = CompletableFuture.completedFuture(
+                "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)));
+    }
+
+
+    @Override
+    public CompletableFuture<String> getAuthorization() {
+        return authorization;
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return Objects.equals(authorization.join(), ((BasicAuthenticationProvider) obj).authorization.join());
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(authorization.join());
+    }
+}
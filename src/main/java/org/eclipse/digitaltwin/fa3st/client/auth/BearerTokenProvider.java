@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.auth;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Provides bearer tokens obtained from a {@link TokenSource}, e.g., an OAuth 2.0 token endpoint. Tokens are cached and
+ * refreshed ahead of their expiry: once a token is within {@code refreshAhead} of expiring, a new token is fetched in
+ * the background while the current token is still used. Only expired tokens cause requests to wait for a new token.
+ * Concurrent requests share a single fetch, i.e., the token source is never called concurrently.
+ *
+ * <p>If the server rejects a token with 401 Unauthorized, the token is discarded and the request is retried once with
+ * a newly fetched token.
+ */
+public class BearerTokenProvider implements AuthenticationProvider {
+
+    public static final Duration DEFAULT_REFRESH_AHEAD = Duration.ofSeconds(30);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenSource tokenSource;
+    private final Duration refreshAhead;
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private AccessToken token;
+    private CompletableFuture<AccessToken> refresh;
+
+    private BearerTokenProvider(Builder builder) {
+        Ensure.requireNonNull(builder.tokenSource, "tokenSource must be non-null");
+        Ensure.requireNonNull(builder.refreshAhead, "refreshAhead must be non-null");
+        Ensure.requireNonNull(builder.clock, "clock must be non-null");
+        Ensure.require(!builder.refreshAhead.isNegative(), "refreshAhead must be non-negative");
+        this.tokenSource = builder.tokenSource;
+        this.refreshAhead = builder.refreshAhead;
+        this.clock = builder.clock;
+    }
+
+
+    @Override
+    public CompletableFuture<String> getAuthorization() {
+        return getToken().thenApply(x -> BEARER_PREFIX + x.getValue());
+    }
+
+
+    /**
+     * Returns a valid token, fetching a new one if there is no cached token or the cached token has expired.
+     *
+     * @return a future of the token
+     */
+    public CompletableFuture<AccessToken> getToken() {
+        Instant now = clock.instant();
+        lock.lock();
+        try {
+            if (Objects.nonNull(token) && !isExpired(token, now)) {
+                if (isExpired(token, now.plus(refreshAhead))) {
+                    fetch();
+                }
+                return CompletableFuture.completedFuture(token);
+            }
+            return fetch();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public boolean invalidate(String authorization) {
+        lock.lock();
+        try {
+            if (Objects.nonNull(token) && Objects.equals(authorization, BEARER_PREFIX + token.getValue())) {
+                token = null;
+            }
+            return true;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    private static boolean isExpired(AccessToken token, Instant time) {
+        return token.getExpiresAt()
+                .map(x -> !time.isBefore(x))
+                .orElse(false);
+    }
+
+
+    private CompletableFuture<AccessToken> fetch() {
+        if (Objects.nonNull(refresh)) {
+            return refresh;
+        }
+        CompletableFuture<AccessToken> result;
+        try {
+            result = tokenSource.fetch().thenApply(x -> {
+                Ensure.requireNonNull(x, "token source must not provide null");
+                return x;
+            });
+        }
+        catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<AccessToken> current = result;
+        refresh = current;
+        current.whenComplete((newToken, error) -> {
+            lock.lock();
+            try {
+                if (refresh == current) {
+                    refresh = null;
+                }
+                if (Objects.nonNull(newToken)) {
+                    token = newToken;
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+        });
+        return current;
+    }
+
+    /**
+     * Source of new tokens, e.g., a client of an OAuth 2.0 token endpoint.
+     */
+    @FunctionalInterface
+    public interface TokenSource {
+
+        /**
+         * Fetches a new token. This method should not block but return a future that completes once the token is
+         * available.
+         *
+         * @return a future of the new token
+         */
+        public CompletableFuture<AccessToken> fetch();
+    }
+
+    public static class Builder {
+        private TokenSource tokenSource;
+        private Duration refreshAhead = DEFAULT_REFRESH_AHEAD;
+        private Clock clock = Clock.systemUTC();
+
+        public Builder tokenSource(TokenSource tokenSource) {
+            this.tokenSource = tokenSource;
+            return this;
+        }
+
+
+        /**
+         * Sets how long before its expiry a token is refreshed in the background.
+         *
+         * @param refreshAhead the time before expiry
+         * @return the builder
+         */
+        public Builder refreshAhead(Duration refreshAhead) {
+            this.refreshAhead = refreshAhead;
+            return this;
+        }
+
+
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+
+        public BearerTokenProvider build() {
+            return new BearerTokenProvider(this);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Optional;
+import javax.net.ssl.SSLSession;
+
+
+/**
+ * Response answered from a {@link HttpCache}.
+ *
+ * @param <T> the type of the body
+ */
+class CachedHttpResponse<T> implements HttpResponse<T> {
+
+    private static final int STATUS_OK = 200;
+
+    private final HttpRequest request;
+    private final HttpHeaders headers;
+    private final T body;
+
+    CachedHttpResponse(HttpRequest request, HttpHeaders headers, T body) {
+        this.request = request;
+        this.headers = headers;
+        this.body = body;
+    }
+
+
+    @Override
+    public int statusCode() {
+        return STATUS_OK;
+    }
+
+
+    @Override
+    public HttpRequest request() {
+        return request;
+    }
+
+
+    @Override
+    public Optional<HttpResponse<T>> previousResponse() {
+        return Optional.empty();
+    }
+
+
+    @Override
+    public HttpHeaders headers() {
+        return headers;
+    }
+
+
+    @Override
+    public T body() {
+        return body;
+    }
+
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+        return Optional.empty();
+    }
+
+
+    @Override
+    public URI uri() {
+        return request.uri();
+    }
+
+
+    @Override
+    public HttpClient.Version version() {
+        return HttpClient.Version.HTTP_1_1;
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * A response stored in a {@link HttpCacheStore}, consisting of the headers and the raw body of a 200 OK response and
+ * the instant until which it may be used without revalidation.
+ */
+public class CachedResponse {
+
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final Instant expiresAt;
+
+    private CachedResponse(Builder builder) {
+        Ensure.requireNonNull(builder.headers, "headers must be non-null");
+        Ensure.requireNonNull(builder.body, "body must be non-null");
+        Ensure.requireNonNull(builder.expiresAt, "expiresAt must be non-null");
+        this.headers = Map.copyOf(builder.headers);
+        this.body = builder.body;
+        this.expiresAt = builder.expiresAt;
+    }
+
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+
+    /**
+     * Returns the raw body. The returned array must not be modified.
+     *
+     * @return the body
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+
+    /**
+     * Checks whether the response may be used without revalidation.
+     *
+     * @param now the current instant
+     * @return true if the response is fresh, otherwise false
+     */
+    public boolean isFresh(Instant now) {
+        return now.isBefore(expiresAt);
+    }
+
+
+    public Optional<String> getETag() {
+        return getHeader(HEADER_ETAG);
+    }
+
+
+    public Optional<String> getLastModified() {
+        return getHeader(HEADER_LAST_MODIFIED);
+    }
+
+
+    /**
+     * Creates a copy of this response with a new expiry, e.g., after it has been revalidated.
+     *
+     * @param expiresAt the new expiry
+     * @return the copy
+     */
+    public CachedResponse withExpiresAt(Instant expiresAt) {
+        return new Builder()
+                .headers(headers)
+                .body(body)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+
+    private Optional<String> getHeader(String name) {
+        return headers.entrySet().stream()
+                .filter(x -> x.getKey().equalsIgnoreCase(name))
+                .flatMap(x -> x.getValue().stream())
+                .findFirst();
+    }
+
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        CachedResponse other = (CachedResponse) obj;
+        return Objects.equals(headers, other.headers)
+                && Arrays.equals(body, other.body)
+                && Objects.equals(expiresAt, other.expiresAt);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(headers, Arrays.hashCode(body), expiresAt);
+    }
+
+    public static class Builder {
+        private Map<String, List<String>> headers = Map.of();
+        private byte[] body;
+        private Instant expiresAt;
+
+        public Builder headers(Map<String, List<String>> headers) {
+            this.headers = headers;
+            return this;
+        }
+
+
+        public Builder body(byte[] body) {
+            this.body = body;
+            return this;
+        }
+
+
+        public Builder expiresAt(Instant expiresAt) {
+            this.expiresAt = expiresAt;
+            return this;
+        }
+
+
+        public CachedResponse build() {
+            return new CachedResponse(this);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Binary representation of the headers and body of a {@link CachedResponse} used by stores that keep responses in
+ * serialized form.
+ */
+class CachedResponseCodec {
+
+    private CachedResponseCodec() {}
+
+
+    /**
+     * Writes the headers and body of a response.
+     *
+     * @param output the output to write to
+     * @param response the response
+     * @throws IOException if writing fails
+     */
+    static void write(DataOutput output, CachedResponse response) throws IOException {
+        writeHeaders(output, response.getHeaders());
+        output.writeInt(response.getBody().length);
+        output.write(response.getBody());
+    }
+
+
+    /**
+     * Writes the headers of a response.
+     *
+     * @param output the output to write to
+     * @param headers the headers
+     * @throws IOException if writing fails
+     */
+    static void writeHeaders(DataOutput output, Map<String, List<String>> headers) throws IOException {
+        output.writeInt(headers.size());
+        for (Map.Entry<String, List<String>> header: headers.entrySet()) {
+            writeString(output, header.getKey());
+            output.writeInt(header.getValue().size());
+            for (String value: header.getValue()) {
+                writeString(output, value);
+            }
+        }
+    }
+
+
+    /**
+     * Reads the headers and body of a response written by {@link #write(DataOutput, CachedResponse)}.
+     *
+     * @param input the input to read from
+     * @param expiresAt the expiry of the response
+     * @return the response
+     * @throws IOException if reading fails
+     */
+    static CachedResponse read(DataInput input, Instant expiresAt) throws IOException {
+        Map<String, List<String>> headers = readHeaders(input);
+        byte[] body = new byte[input.readInt()];
+        input.readFully(body);
+        return new CachedResponse.Builder()
+                .headers(headers)
+                .body(body)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+
+    /**
+     * Reads the headers of a response written by {@link #writeHeaders(DataOutput, Map)}.
+     *
+     * @param input the input to read from
+     * @return the headers
+     * @throws IOException if reading fails
+     */
+    static Map<String, List<String>> readHeaders(DataInput input) throws IOException {
+        int headerCount = input.readInt();
+        Map<String, List<String>> result = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            String name = readString(input);
+            int valueCount = input.readInt();
+            List<String> values = new ArrayList<>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(readString(input));
+            }
+            result.put(name, values);
+        }
+        return result;
+    }
+
+
+    static void writeString(DataOutput output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+
+    static String readString(DataInput input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import org.eclipse.digitaltwin.fa3st.client.transport.HttpTransport;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Transport decorator answering GET requests from a {@link HttpCache} and revalidating cached responses via
+ * conditional requests. Cached bodies are passed to the body handler of each request, so the cache works regardless
+ * of whether the body is read as a string, a byte array or a stream.
+ */
+public class CachingTransport implements HttpTransport {
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_NOT_MODIFIED = 304;
+    private static final String HEADER_CONTENT_LENGTH = "Content-Length";
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    private static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final String METHOD_GET = "GET";
+
+    private final HttpTransport delegate;
+    private final HttpCache cache;
+
+    public CachingTransport(HttpTransport delegate, HttpCache cache) {
+        Ensure.requireNonNull(delegate, "delegate must be non-null");
+        Ensure.requireNonNull(cache, "cache must be non-null");
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+
+    public HttpCache getCache() {
+        return cache;
+    }
+
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        if (!cache.isCacheable(request)) {
+            return sendUncached(request, bodyHandler);
+        }
+        String key = cache.getKey(request);
+        Optional<CachedResponse> cached = cache.getStore().get(key);
+        if (cached.isPresent() && cached.get().isFresh(cache.now())) {
+            cache.getMetrics().recordHit();
+            return replay(request, cached.get(), bodyHandler);
+        }
+        Instant requestTime = cache.now();
+        return delegate.sendAsync(cached.map(x -> conditional(request, x)).orElse(request), responseInfo -> {
+            if (responseInfo.statusCode() == STATUS_NOT_MODIFIED && cached.isPresent()) {
+                return HttpResponse.BodySubscribers.replacing(null);
+            }
+            HttpResponse.BodySubscriber<T> subscriber = bodyHandler.apply(responseInfo);
+            if (responseInfo.statusCode() != STATUS_OK) {
+                return subscriber;
+            }
+            Optional<Instant> expiresAt = cache.getExpiresAt(responseInfo.headers(), requestTime);
+            if (expiresAt.isEmpty()) {
+                cache.remove(key);
+                return subscriber;
+            }
+            return new CapturingBodySubscriber<>(subscriber, cache.getMaxEntrySize(), body -> cache.put(key, new CachedResponse.Builder()
+                    .headers(responseInfo.headers().map())
+                    .body(body)
+                    .expiresAt(expiresAt.get())
+                    .build()));
+        })
+                .thenCompose(response -> {
+                    if (response.statusCode() == STATUS_NOT_MODIFIED && cached.isPresent()) {
+                        cache.getMetrics().recordRevalidation();
+                        HttpHeaders headers = merge(cached.get(), response.headers());
+                        CachedResponse revalidated = new CachedResponse.Builder()
+                                .headers(headers.map())
+                                .body(cached.get().getBody())
+                                .expiresAt(cache.getExpiresAt(headers, requestTime).orElse(requestTime))
+                                .build();
+                        cache.touch(key, revalidated.getHeaders(), revalidated.getExpiresAt());
+                        return replay(request, revalidated, bodyHandler);
+                    }
+                    cache.getMetrics().recordMiss();
+                    return CompletableFuture.completedFuture(response);
+                });
+    }
+
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+
+    private <T> CompletableFuture<HttpResponse<T>> sendUncached(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        CompletableFuture<HttpResponse<T>> result = delegate.sendAsync(request, bodyHandler);
+        if (Objects.equals(METHOD_GET, request.method())) {
+            return result;
+        }
+        return result.whenComplete((response, error) -> {
+            if (Objects.nonNull(response) && response.statusCode() >= 200 && response.statusCode() < 300) {
+                cache.recordInvalidation(request.uri());
+            }
+        });
+    }
+
+
+    private static HttpRequest conditional(HttpRequest request, CachedResponse cached) {
+        HttpRequest.Builder result = HttpRequest.newBuilder(request, (name, value) -> true);
+        cached.getETag().ifPresent(x -> result.header(HEADER_IF_NONE_MATCH, x));
+        cached.getLastModified().ifPresent(x -> result.header(HEADER_IF_MODIFIED_SINCE, x));
+        return result.build();
+    }
+
+
+    /**
+     * Updates the headers of a cached response with the headers of a 304 Not Modified response, e.g., a new ETag or
+     * Cache-Control header, as described in RFC 9111, section 4.3.4.
+     */
+    private static HttpHeaders merge(CachedResponse cached, HttpHeaders notModifiedHeaders) {
+        Map<String, List<String>> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        result.putAll(cached.getHeaders());
+        notModifiedHeaders.map().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase(HEADER_CONTENT_LENGTH)) {
+                result.put(name, values);
+            }
+        });
+        return HttpHeaders.of(result, (name, value) -> true);
+    }
+
+
+    private static <T> CompletableFuture<HttpResponse<T>> replay(HttpRequest request, CachedResponse cached, HttpResponse.BodyHandler<T> bodyHandler) {
+        HttpHeaders headers = HttpHeaders.of(cached.getHeaders(), (name, value) -> true);
+        HttpResponse.BodySubscriber<T> subscriber = bodyHandler.apply(new HttpResponse.ResponseInfo() {
+            @Override
+            public int statusCode() {
+                return STATUS_OK;
+            }
+
+
+            @Override
+            public HttpHeaders headers() {
+                return headers;
+            }
+
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        });
+        subscriber.onSubscribe(new Flow.Subscription() {
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                if (cached.getBody().length > 0) {
+                    subscriber.onNext(List.of(ByteBuffer.wrap(cached.getBody()).asReadOnlyBuffer()));
+                }
+                subscriber.onComplete();
+            }
+
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+        return subscriber.getBody()
+                .toCompletableFuture()
+                .thenApply(body -> new CachedHttpResponse<>(request, headers, body));
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+
+/**
+ * Body subscriber forwarding the body to another subscriber while capturing a copy of it. Once the body has been
+ * received completely, the copy is passed to a callback, unless it exceeds the maximum size.
+ *
+ * @param <T> the type of the body
+ */
+class CapturingBodySubscriber<T> implements HttpResponse.BodySubscriber<T> {
+
+    private final HttpResponse.BodySubscriber<T> delegate;
+    private final long maxSize;
+    private final Consumer<byte[]> onCaptured;
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    CapturingBodySubscriber(HttpResponse.BodySubscriber<T> delegate, long maxSize, Consumer<byte[]> onCaptured) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.onCaptured = onCaptured;
+    }
+
+
+    @Override
+    public CompletionStage<T> getBody() {
+        return delegate.getBody();
+    }
+
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        delegate.onSubscribe(subscription);
+    }
+
+
+    @Override
+    public void onNext(List<ByteBuffer> item) {
+        if (buffer != null) {
+            for (ByteBuffer byteBuffer: item) {
+                if (buffer.size() + (long) byteBuffer.remaining() > maxSize) {
+                    buffer = null;
+                    break;
+                }
+                ByteBuffer copy = byteBuffer.duplicate();
+                byte[] bytes = new byte[copy.remaining()];
+                copy.get(bytes);
+                buffer.writeBytes(bytes);
+            }
+        }
+        delegate.onNext(item);
+    }
+
+
+    @Override
+    public void onError(Throwable throwable) {
+        buffer = null;
+        delegate.onError(throwable);
+    }
+
+
+    @Override
+    public void onComplete() {
+        if (buffer != null) {
+            onCaptured.accept(buffer.toByteArray());
+            buffer = null;
+        }
+        delegate.onComplete();
+    }
+}
@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * {@link HttpCacheStore} keeping the responses deflate-compressed on the heap. A cached response occupies little more
+ * than its compressed payload, which for typical JSON is a fraction of its raw size and even more so of the
+ * deserialized object graph, so that far more responses fit into the same amount of memory than with an
+ * {@link InMemoryHttpCacheStore} or an {@link ObjectCache}. In turn, each hit has to decompress and deserialize the
+ * payload again.
+ *
+ * <p>The store is bounded by the total size of the compressed bodies, their headers and keys and evicts entries using
+ * Window TinyLFU. Besides the payload, each entry occupies memory for the object headers and references of the entry,
+ * the cache node, the key and the headers. This overhead is included in the size as a fixed estimate of
+ * {@value #ENTRY_OVERHEAD} bytes per entry and {@value #HEADER_OVERHEAD} bytes per header, so that {@code maxSize}
+ * reflects the actual memory usage even if most responses compress to a few hundred bytes.
+ */
+public class CompressedHttpCacheStore implements HttpCacheStore {
+
+    public static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+    /**
+     * Estimated size in bytes of the entry, its cache node, the key object and the byte array header.
+     */
+    public static final int ENTRY_OVERHEAD = 160;
+    /**
+     * Estimated size in bytes of the objects holding a header name and its values apart from their characters.
+     */
+    public static final int HEADER_OVERHEAD = 64;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Cache<String, Entry> entries;
+    private final int compressionLevel;
+
+    private CompressedHttpCacheStore(Builder builder) {
+        Ensure.require(builder.maxSize > 0, "maxSize must be positive");
+        Ensure.require(builder.compressionLevel >= Deflater.DEFAULT_COMPRESSION && builder.compressionLevel <= Deflater.BEST_COMPRESSION,
+                "compressionLevel must be between -1 and 9");
+        this.compressionLevel = builder.compressionLevel;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(builder.maxSize)
+                .weigher((String key, Entry entry) -> key.length() + entry.weight)
+                .build();
+    }
+
+
+    /**
+     * Returns the total size of the stored responses including their keys and the estimated overhead per entry in bytes.
+     *
+     * @return the size in bytes
+     */
+    public long getSize() {
+        entries.cleanUp();
+        return entries.policy().eviction()
+                .map(x -> x.weightedSize().orElse(0))
+                .orElse(0L);
+    }
+
+
+    /**
+     * Returns the number of stored responses.
+     *
+     * @return the number of stored responses
+     */
+    public long getCount() {
+        return entries.estimatedSize();
+    }
+
+
+    @Override
+    public Optional<CachedResponse> get(String key) {
+        Entry entry = entries.getIfPresent(key);
+        if (Objects.isNull(entry)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(decode(entry));
+        }
+        catch (DataFormatException e) {
+            entries.invalidate(key);
+            return Optional.empty();
+        }
+    }
+
+
+    @Override
+    public void put(String key, CachedResponse response) {
+        Ensure.requireNonNull(key, "key must be non-null");
+        Ensure.requireNonNull(response, "response must be non-null");
+        try {
+            entries.put(key, encode(response));
+        }
+        catch (IOException e) {
+            entries.invalidate(key);
+        }
+    }
+
+
+    @Override
+    public void touch(String key, Map<String, List<String>> headers, Instant expiresAt) {
+        Ensure.requireNonNull(headers, "headers must be non-null");
+        Ensure.requireNonNull(expiresAt, "expiresAt must be non-null");
+        entries.asMap().computeIfPresent(key, (k, x) -> new Entry(x.data, x.uncompressedLength, Map.copyOf(headers), expiresAt));
+    }
+
+
+    @Override
+    public void remove(String key) {
+        entries.invalidate(key);
+    }
+
+
+    @Override
+    public void removeIf(Predicate<String> keyPredicate) {
+        entries.asMap().keySet().removeIf(keyPredicate);
+    }
+
+
+    @Override
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+
+    @Override
+    public void close() {
+        clear();
+        entries.cleanUp();
+    }
+
+
+    private Entry encode(CachedResponse response) throws IOException {
+        int uncompressedLength = response.getBody().length;
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, uncompressedLength / 4));
+        Deflater deflater = new Deflater(compressionLevel);
+        try (DeflaterOutputStream output = new DeflaterOutputStream(compressed, deflater, BUFFER_SIZE)) {
+            output.write(response.getBody());
+        }
+        finally {
+            deflater.end();
+        }
+        return new Entry(compressed.toByteArray(), uncompressedLength, response.getHeaders(), response.getExpiresAt());
+    }
+
+
+    private static CachedResponse decode(Entry entry) throws DataFormatException {
+        byte[] raw = new byte[entry.uncompressedLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(entry.data);
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, length, raw.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("truncated cache entry");
+                }
+                length += inflated;
+            }
+        }
+        finally {
+            inflater.end();
+        }
+        return new CachedResponse.Builder()
+                .headers(entry.headers)
+                .body(raw)
+                .expiresAt(entry.expiresAt)
+                .build();
+    }
+
+    /**
+     * A stored response. Only the body is compressed; the headers are kept as they are so that they can be replaced on
+     * revalidation without decompressing and compressing the body again.
+     */
+    private static class Entry {
+
+        private final byte[] data;
+        private final int uncompressedLength;
+        private final Map<String, List<String>> headers;
+        private final Instant expiresAt;
+        private final int weight;
+
+        Entry(byte[] data, int uncompressedLength, Map<String, List<String>> headers, Instant expiresAt) {
+            this.data = data;
+            this.uncompressedLength = uncompressedLength;
+            this.headers = headers;
+            this.expiresAt = expiresAt;
+            this.weight = ENTRY_OVERHEAD + data.length + headers.entrySet().stream()
+                    .mapToInt(x -> HEADER_OVERHEAD + x.getKey().length() + x.getValue().stream().mapToInt(String::length).sum())
+                    .sum();
+        }
+    }
+
+    public static class Builder {
+        private long maxSize = DEFAULT_MAX_SIZE;
+        private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+
+        /**
+         * Sets the maximum total size of the compressed responses including their keys and the estimated overhead per
+         * entry in bytes.
+         *
+         * @param maxSize the maximum size in bytes
+         * @return the builder
+         */
+        public Builder maxSize(long maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+
+        /**
+         * Sets the deflate compression level from 0 (no compression) to 9 (best compression), or -1 for the default
+         * level.
+         *
+         * @param compressionLevel the compression level
+         * @return the builder
+         */
+        public Builder compressionLevel(int compressionLevel) {
+            this.compressionLevel = compressionLevel;
+            return this;
+        }
+
+
+        public CompressedHttpCacheStore build() {
+            return new CompressedHttpCacheStore(this);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * HTTP cache for GET requests based on the validators sent by the server, used by a {@link CachingTransport}.
+ *
+ * <p>Responses with status 200 OK are stored in a {@link HttpCacheStore}. If the response contains an ETag or a
+ * Last-Modified header, the cached response is revalidated on each subsequent request by sending If-None-Match or
+ * If-Modified-Since, respectively; if the server responds with 304 Not Modified, the cached body is used and not
+ * downloaded again. Responses without validators are used without contacting the server for {@code defaultTtl}. A
+ * Cache-Control header sent by the server takes precedence, i.e., max-age defines how long the response is used
+ * without revalidation, no-cache forces revalidation and no-store prevents caching.
+ *
+ * <p>Responses are cached separately per URI, Accept header and credentials. Successful PUT, PATCH, POST and DELETE
+ * requests sent via the same cache invalidate all cached responses of the modified resource, its parents and its
+ * children, matched on path segment boundaries. To find them without scanning the store, the cache keeps an index from
+ * resource path to the keys of the responses stored via this cache. As stores may evict responses on their own, the
+ * index may contain stale keys; it is rebuilt from the store whenever it has grown to twice the number of keys present
+ * after the last rebuild.
+ */
+public class HttpCache implements AutoCloseable {
+
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(5);
+    public static final long DEFAULT_MAX_ENTRY_SIZE = 16L * 1024 * 1024;
+    private static final String HEADER_ACCEPT = "Accept";
+    private static final String HEADER_AUTHORIZATION = "Authorization";
+    private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+    private static final String HEADER_RANGE = "Range";
+    private static final String DIRECTIVE_MAX_AGE = "max-age=";
+    private static final String DIRECTIVE_NO_CACHE = "no-cache";
+    private static final String DIRECTIVE_NO_STORE = "no-store";
+    private static final char KEY_SEPARATOR = ' ';
+
+    private final HttpCacheStore store;
+    private final Duration defaultTtl;
+    private final long maxEntrySize;
+    private final Clock clock;
+    private final HttpCacheMetrics metrics = new HttpCacheMetrics();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ResourcePathIndex<String> index = new ResourcePathIndex<>(HttpCache::getResourcePath);
+
+    private HttpCache(Builder builder) {
+        Ensure.requireNonNull(builder.defaultTtl, "defaultTtl must be non-null");
+        Ensure.requireNonNull(builder.clock, "clock must be non-null");
+        Ensure.require(!builder.defaultTtl.isNegative(), "defaultTtl must be non-negative");
+        Ensure.require(builder.maxEntrySize > 0, "maxEntrySize must be positive");
+        this.store = Objects.nonNull(builder.store) ? builder.store : new InMemoryHttpCacheStore.Builder().build();
+        this.defaultTtl = builder.defaultTtl;
+        this.maxEntrySize = builder.maxEntrySize;
+        this.clock = builder.clock;
+        reindex();
+    }
+
+
+    /**
+     * Returns the store of the cached responses. Responses should not be added to the store directly, as they would
+     * not be found when invalidating a resource.
+     *
+     * @return the store
+     */
+    public HttpCacheStore getStore() {
+        return store;
+    }
+
+
+    public HttpCacheMetrics getMetrics() {
+        return metrics;
+    }
+
+
+    public long getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+
+    /**
+     * Removes all cached responses of the given resource, its parents and its children, e.g., after it has been
+     * modified by another client.
+     *
+     * @param uri the URI of the resource
+     */
+    public void invalidate(URI uri) {
+        Ensure.requireNonNull(uri, "uri must be non-null");
+        lock.lock();
+        try {
+            index.removeAffected(uri).forEach(store::remove);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes all cached responses.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            store.clear();
+            index.clear();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public void close() throws Exception {
+        store.close();
+    }
+
+
+    void put(String key, CachedResponse response) {
+        lock.lock();
+        try {
+            store.put(key, response);
+            index.add(key);
+            if (index.needsRebuild()) {
+                reindex();
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    void touch(String key, Map<String, List<String>> headers, Instant expiresAt) {
+        store.touch(key, headers, expiresAt);
+    }
+
+
+    void remove(String key) {
+        lock.lock();
+        try {
+            store.remove(key);
+            index.remove(key);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    Instant now() {
+        return clock.instant();
+    }
+
+
+    void recordInvalidation(URI uri) {
+        metrics.recordInvalidation();
+        invalidate(uri);
+    }
+
+
+    /**
+     * Checks whether a request may be answered from the cache.
+     *
+     * @param request the request
+     * @return true if the request may be answered from the cache, otherwise false
+     */
+    boolean isCacheable(HttpRequest request) {
+        return Objects.equals("GET", request.method())
+                && request.headers().firstValue(HEADER_RANGE).isEmpty();
+    }
+
+
+    String getKey(HttpRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.headers().firstValue(HEADER_ACCEPT).orElse("").getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(request.headers().firstValue(HEADER_AUTHORIZATION).orElse("").getBytes(StandardCharsets.UTF_8));
+            return request.uri().toString() + KEY_SEPARATOR + HexFormat.of().formatHex(digest.digest());
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+
+
+    /**
+     * Determines until when a response may be used without revalidation.
+     *
+     * @param headers the headers of the response
+     * @param now the current instant
+     * @return the expiry, or empty if the response must not be cached
+     */
+    Optional<Instant> getExpiresAt(HttpHeaders headers, Instant now) {
+        String cacheControl = String.join(",", headers.allValues(HEADER_CACHE_CONTROL)).toLowerCase(Locale.ROOT);
+        boolean hasValidator = headers.firstValue(HEADER_ETAG).isPresent() || headers.firstValue(HEADER_LAST_MODIFIED).isPresent();
+        Duration maxAge = null;
+        for (String directive: cacheControl.split(",")) {
+            String value = directive.trim();
+            if (value.equals(DIRECTIVE_NO_STORE)) {
+                return Optional.empty();
+            }
+            if (value.equals(DIRECTIVE_NO_CACHE)) {
+                maxAge = Duration.ZERO;
+            }
+            else if (value.startsWith(DIRECTIVE_MAX_AGE) && Objects.isNull(maxAge)) {
+                try {
+                    maxAge = Duration.ofSeconds(Long.parseLong(value.substring(DIRECTIVE_MAX_AGE.length())));
+                }
+                catch (NumberFormatException e) {
+                    maxAge = Duration.ZERO;
+                }
+            }
+        }
+        if (Objects.isNull(maxAge)) {
+            maxAge = hasValidator ? Duration.ZERO : defaultTtl;
+        }
+        if (!hasValidator && (maxAge.isZero() || maxAge.isNegative())) {
+            return Optional.empty();
+        }
+        return Optional.of(now.plus(maxAge));
+    }
+
+
+    private void reindex() {
+        lock.lock();
+        try {
+            index.rebuild(store::forEachKey);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    private static String getResourcePath(String key) {
+        return ResourcePathIndex.getResourcePath(key.substring(0, Math.max(0, key.lastIndexOf(KEY_SEPARATOR))));
+    }
+
+    public static class Builder {
+        private HttpCacheStore store;
+        private Duration defaultTtl = DEFAULT_TTL;
+        private long maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
+        private Clock clock = Clock.systemUTC();
+
+        /**
+         * Sets the store for the cached responses. By default, an {@link InMemoryHttpCacheStore} is used.
+         *
+         * @param store the store
+         * @return the builder
+         */
+        public Builder store(HttpCacheStore store) {
+            this.store = store;
+            return this;
+        }
+
+
+        /**
+         * Sets how long responses without validators, i.e., without ETag or Last-Modified header, are used without
+         * contacting the server. If zero, such responses are not cached.
+         *
+         * @param defaultTtl the time to live of responses without validators
+         * @return the builder
+         */
+        public Builder defaultTtl(Duration defaultTtl) {
+            this.defaultTtl = defaultTtl;
+            return this;
+        }
+
+
+        /**
+         * Sets the maximum size of a single response body in bytes. Larger responses are not cached.
+         *
+         * @param maxEntrySize the maximum size in bytes
+         * @return the builder
+         */
+        public Builder maxEntrySize(long maxEntrySize) {
+            this.maxEntrySize = maxEntrySize;
+            return this;
+        }
+
+
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+
+        public HttpCache build() {
+            return new HttpCache(this);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Counters describing the GET requests handled by a {@link HttpCache}. All counters are cumulative and thread-safe.
+ */
+public class HttpCacheMetrics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    void recordHit() {
+        hits.increment();
+    }
+
+
+    void recordRevalidation() {
+        revalidations.increment();
+    }
+
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+
+    void recordInvalidation() {
+        invalidations.increment();
+    }
+
+
+    /**
+     * Returns the number of requests answered from the cache without contacting the server.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+
+    /**
+     * Returns the number of requests answered from the cache after the server confirmed via 304 Not Modified that the
+     * cached response is still valid.
+     *
+     * @return the number of revalidations
+     */
+    public long getRevalidations() {
+        return revalidations.sum();
+    }
+
+
+    /**
+     * Returns the number of requests for which the response had to be downloaded.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+
+    /**
+     * Returns the number of modifying requests that caused cached responses to be invalidated.
+     *
+     * @return the number of invalidations
+     */
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("HttpCacheMetrics[hits=%d, revalidations=%d, misses=%d, invalidations=%d]",
+                getHits(), getRevalidations(), getMisses(), getInvalidations());
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+
+/**
+ * Storage of the responses cached by a {@link HttpCache}. Implementations must be thread-safe and are free to evict
+ * entries at any time, e.g., to stay within a size limit.
+ *
+ * <p>Keys consist of the request URI followed by a space and a hash of the headers the response varies on, e.g., the
+ * credentials. They do not contain any secrets.
+ */
+public interface HttpCacheStore extends AutoCloseable {
+
+    /**
+     * Returns the response stored for the given key.
+     *
+     * @param key the key
+     * @return the stored response, or empty if none is stored
+     */
+    public Optional<CachedResponse> get(String key);
+
+
+    /**
+     * Stores a response, replacing any response previously stored for the same key.
+     *
+     * @param key the key
+     * @param response the response
+     */
+    public void put(String key, CachedResponse response);
+
+
+    /**
+     * Replaces the headers and expiry of a stored response, keeping its body, e.g., after it has been revalidated by the
+     * server. Does nothing if no response is stored for the given key. The default implementation reads the response
+     * and stores it again; stores keeping the responses in serialized form should update the metadata only.
+     *
+     * @param key the key
+     * @param headers the new headers
+     * @param expiresAt the new expiry
+     */
+    public default void touch(String key, Map<String, List<String>> headers, Instant expiresAt) {
+        get(key).ifPresent(x -> put(key, new CachedResponse.Builder()
+                .headers(headers)
+                .body(x.getBody())
+                .expiresAt(expiresAt)
+                .build()));
+    }
+
+
+    /**
+     * Removes the response stored for the given key, if any.
+     *
+     * @param key the key
+     */
+    public void remove(String key);
+
+
+    /**
+     * Removes all responses whose key matches the given predicate.
+     *
+     * @param keyPredicate the predicate
+     */
+    public void removeIf(Predicate<String> keyPredicate);
+
+
+    /**
+     * Performs the given action for the key of each stored response. The default implementation iterates the keys via
+     * {@link #removeIf(Predicate)} without removing any response.
+     *
+     * @param action the action
+     */
+    public default void forEachKey(Consumer<String> action) {
+        removeIf(x -> {
+            action.accept(x);
+            return false;
+        });
+    }
+
+
+    /**
+     * Removes all responses.
+     */
+    public default void clear() {
+        removeIf(x -> true);
+    }
+
+
+    @Override
+    public default void close() {}
+}
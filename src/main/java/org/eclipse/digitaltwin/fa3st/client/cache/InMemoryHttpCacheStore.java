@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * {@link HttpCacheStore} keeping the responses on the heap. If the total size of the stored bodies exceeds
+ * {@code maxSize}, the least recently used responses are evicted.
+ */
+public class InMemoryHttpCacheStore implements HttpCacheStore {
+
+    public static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+    private final long maxSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    private InMemoryHttpCacheStore(Builder builder) {
+        Ensure.require(builder.maxSize > 0, "maxSize must be positive");
+        this.maxSize = builder.maxSize;
+    }
+
+
+    /**
+     * Returns the total size of the stored bodies in bytes.
+     *
+     * @return the size in bytes
+     */
+    public long getSize() {
+        lock.lock();
+        try {
+            return size;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public Optional<CachedResponse> get(String key) {
+        lock.lock();
+        try {
+            return Optional.ofNullable(entries.get(key));
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public void put(String key, CachedResponse response) {
+        Ensure.requireNonNull(key, "key must be non-null");
+        Ensure.requireNonNull(response, "response must be non-null");
+        if (response.getBody().length > maxSize) {
+            remove(key);
+            return;
+        }
+        lock.lock();
+        try {
+            CachedResponse previous = entries.put(key, response);
+            if (previous != null) {
+                size -= previous.getBody().length;
+            }
+            size += response.getBody().length;
+            Iterator<CachedResponse> iterator = entries.values().iterator();
+            while (size > maxSize && iterator.hasNext()) {
+                size -= iterator.next().getBody().length;
+                iterator.remove();
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public void touch(String key, Map<String, List<String>> headers, Instant expiresAt) {
+        Ensure.requireNonNull(headers, "headers must be non-null");
+        Ensure.requireNonNull(expiresAt, "expiresAt must be non-null");
+        lock.lock();
+        try {
+            entries.computeIfPresent(key, (k, x) -> new CachedResponse.Builder()
+                    .headers(headers)
+                    .body(x.getBody())
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public void remove(String key) {
+        lock.lock();
+        try {
+            CachedResponse previous = entries.remove(key);
+            if (previous != null) {
+                size -= previous.getBody().length;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public void removeIf(Predicate<String> keyPredicate) {
+        lock.lock();
+        try {
+            Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, CachedResponse> entry = iterator.next();
+                if (keyPredicate.test(entry.getKey())) {
+                    size -= entry.getValue().getBody().length;
+                    iterator.remove();
+                }
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public static class Builder {
+        private long maxSize = DEFAULT_MAX_SIZE;
+
+        /**
+         * Sets the maximum total size of the stored bodies in bytes.
+         *
+         * @param maxSize the maximum size in bytes
+         * @return the builder
+         */
+        public Builder maxSize(long maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+
+        public InMemoryHttpCacheStore build() {
+            return new InMemoryHttpCacheStore(this);
+        }
+    }
+}
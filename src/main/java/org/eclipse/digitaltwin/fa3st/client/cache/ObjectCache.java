@@ -0,0 +1,469 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+import org.eclipse.digitaltwin.fa3st.client.exception.NotFoundException;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * In-process cache of deserialized objects, e.g., submodels, shells, descriptors and concept descriptions, consulted
+ * by the interfaces before sending a GET request. Unlike the {@link HttpCache}, a hit neither contacts the server nor
+ * deserializes anything. As a consequence, all callers receive the same instance, i.e., <b>objects returned from the
+ * cache must not be modified</b>.
+ *
+ * <p>Entries are keyed by the credentials, the resolved URI including all modifiers and the requested type. The cache
+ * is bounded by the number of entries or, if a weigher is set, by their total weight, and evicts entries using Window
+ * TinyLFU, which keeps frequently read objects even if many objects are read only once. Entries expire after a TTL
+ * that can be configured per type. {@link NotFoundException}s are cached as well for {@code negativeTtl}. Successful
+ * PUT, PATCH, POST and DELETE requests sent by interfaces of the same session invalidate the entries of the modified
+ * resource, its parents and its children, matched on path segment boundaries. These are found via an index from
+ * resource path to cache keys; as entries may expire or be evicted at any time, the index may contain stale keys and is
+ * rebuilt from the cache whenever it has grown to twice the number of keys present after the last rebuild.
+ *
+ * <p>A response to a GET request sent before an invalidation may arrive after it. To not cache such outdated objects,
+ * callers obtain the version of the resource via {@link #getVersion(URI)} before sending the request and pass it when
+ * caching the result, which is discarded if the resource has been invalidated in between.
+ */
+public class ObjectCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(5);
+    private static final int MAX_TRACKED_VERSIONS = 10_000;
+    private static final long ANY_VERSION = -1;
+
+    private final Cache<Key, Object> cache;
+    private final Map<Class<?>, Duration> ttls;
+    private final Duration defaultTtl;
+    private final Duration negativeTtl;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ResourcePathIndex<Key> index = new ResourcePathIndex<>(x -> ResourcePathIndex.getResourcePath(x.uri));
+    private final TreeMap<String, Long> versionsByPath = new TreeMap<>();
+    private long invalidations;
+    private long minVersion;
+
+    private ObjectCache(Builder builder) {
+        Ensure.requireNonNull(builder.defaultTtl, "defaultTtl must be non-null");
+        Ensure.requireNonNull(builder.negativeTtl, "negativeTtl must be non-null");
+        Ensure.require(!builder.defaultTtl.isNegative(), "defaultTtl must be non-negative");
+        Ensure.require(!builder.negativeTtl.isNegative(), "negativeTtl must be non-negative");
+        this.ttls = Map.copyOf(builder.ttls);
+        this.defaultTtl = builder.defaultTtl;
+        this.negativeTtl = builder.negativeTtl;
+        Caffeine<Key, Object> caffeine = Caffeine.newBuilder()
+                .expireAfter(new Expiry<Key, Object>() {
+                    @Override
+                    public long expireAfterCreate(Key key, Object value, long currentTime) {
+                        return getTtl(key, value).toNanos();
+                    }
+
+
+                    @Override
+                    public long expireAfterUpdate(Key key, Object value, long currentTime, long currentDuration) {
+                        return getTtl(key, value).toNanos();
+                    }
+
+
+                    @Override
+                    public long expireAfterRead(Key key, Object value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats();
+        if (Objects.nonNull(builder.clock)) {
+            Clock clock = builder.clock;
+            caffeine.ticker(() -> {
+                Instant now = clock.instant();
+                return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+            });
+        }
+        if (Objects.nonNull(builder.weigher)) {
+            Ensure.require(builder.maximumWeight > 0, "maximumWeight must be positive");
+            ToIntFunction<Object> weigher = builder.weigher;
+            caffeine.maximumWeight(builder.maximumWeight)
+                    .weigher((Key key, Object value) -> value instanceof NotFound ? 1 : weigher.applyAsInt(value));
+        }
+        else {
+            Ensure.require(builder.maximumSize > 0, "maximumSize must be positive");
+            caffeine.maximumSize(builder.maximumSize);
+        }
+        this.cache = caffeine.build();
+    }
+
+
+    /**
+     * Returns the cached object.
+     *
+     * @param <T> the type of the object
+     * @param scope the scope of the entry, e.g., the credentials used to fetch it
+     * @param uri the resolved URI of the object including all modifiers
+     * @param type the type of the object
+     * @return the cached object, or null if none is cached
+     * @throws NotFoundException if the object has been cached as not found
+     */
+    public <T> T get(Object scope, URI uri, Class<T> type) throws NotFoundException {
+        Object result = cache.getIfPresent(new Key(scope, uri, type));
+        if (result instanceof NotFound) {
+            throw ((NotFound) result).newException();
+        }
+        return type.cast(result);
+    }
+
+
+    /**
+     * Returns the current version of a resource. The version changes whenever the resource, one of its parents or one
+     * of its children is invalidated.
+     *
+     * @param uri the URI of the resource
+     * @return the current version
+     */
+    public long getVersion(URI uri) {
+        Ensure.requireNonNull(uri, "uri must be non-null");
+        String path = ResourcePathIndex.getResourcePath(uri);
+        lock.lock();
+        try {
+            if (versionsByPath.size() >= MAX_TRACKED_VERSIONS && !versionsByPath.containsKey(path)) {
+                // versions handed out before can no longer be checked and are outdated
+                versionsByPath.clear();
+                minVersion = ++invalidations;
+            }
+            return versionsByPath.computeIfAbsent(path, x -> minVersion);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Caches an object.
+     *
+     * @param scope the scope of the entry, e.g., the credentials used to fetch it
+     * @param uri the resolved URI of the object including all modifiers
+     * @param type the type of the object
+     * @param value the object
+     */
+    public void put(Object scope, URI uri, Class<?> type, Object value) {
+        put(scope, uri, type, value, ANY_VERSION);
+    }
+
+
+    /**
+     * Caches an object unless the resource has been invalidated since the given version has been obtained.
+     *
+     * @param scope the scope of the entry, e.g., the credentials used to fetch it
+     * @param uri the resolved URI of the object including all modifiers
+     * @param type the type of the object
+     * @param value the object
+     * @param version the version of the resource obtained via {@link #getVersion(URI)} before fetching the object
+     */
+    public void put(Object scope, URI uri, Class<?> type, Object value, long version) {
+        Ensure.requireNonNull(uri, "uri must be non-null");
+        Ensure.requireNonNull(type, "type must be non-null");
+        if (Objects.nonNull(value)) {
+            put(new Key(scope, uri, type), value, version);
+        }
+    }
+
+
+    /**
+     * Caches that an object does not exist.
+     *
+     * @param scope the scope of the entry, e.g., the credentials used to fetch it
+     * @param uri the resolved URI of the object including all modifiers
+     * @param type the type of the object
+     * @param exception the exception received when fetching the object
+     */
+    public void putNotFound(Object scope, URI uri, Class<?> type, NotFoundException exception) {
+        putNotFound(scope, uri, type, exception, ANY_VERSION);
+    }
+
+
+    /**
+     * Caches that an object does not exist unless the resource has been invalidated since the given version has been
+     * obtained.
+     *
+     * @param scope the scope of the entry, e.g., the credentials used to fetch it
+     * @param uri the resolved URI of the object including all modifiers
+     * @param type the type of the object
+     * @param exception the exception received when fetching the object
+     * @param version the version of the resource obtained via {@link #getVersion(URI)} before fetching the object
+     */
+    public void putNotFound(Object scope, URI uri, Class<?> type, NotFoundException exception, long version) {
+        Ensure.requireNonNull(uri, "uri must be non-null");
+        Ensure.requireNonNull(type, "type must be non-null");
+        Ensure.requireNonNull(exception, "exception must be non-null");
+        if (!negativeTtl.isZero()) {
+            put(new Key(scope, uri, type), new NotFound(exception), version);
+        }
+    }
+
+
+    /**
+     * Removes all cached objects of the given resource, its parents and its children regardless of scope, type and
+     * modifiers.
+     *
+     * @param uri the URI of the modified resource
+     */
+    public void invalidate(URI uri) {
+        Ensure.requireNonNull(uri, "uri must be non-null");
+        String modified = ResourcePathIndex.getResourcePath(uri);
+        lock.lock();
+        try {
+            long version = ++invalidations;
+            ResourcePathIndex.getAffectedPaths(versionsByPath, modified).forEach(x -> versionsByPath.put(x, version));
+            cache.invalidateAll(index.removeAffected(uri));
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes all cached objects.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            cache.invalidateAll();
+            index.clear();
+            versionsByPath.clear();
+            minVersion = ++invalidations;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the approximate number of cached entries.
+     *
+     * @return the number of entries
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+
+    /**
+     * Returns statistics about hits, misses and evictions.
+     *
+     * @return the statistics
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+
+    private void put(Key key, Object value, long version) {
+        lock.lock();
+        try {
+            if (version != ANY_VERSION
+                    && version != versionsByPath.getOrDefault(ResourcePathIndex.getResourcePath(key.uri), minVersion)) {
+                return;
+            }
+            cache.put(key, value);
+            index.add(key);
+            if (index.needsRebuild()) {
+                index.rebuild(cache.asMap().keySet()::forEach);
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    private Duration getTtl(Key key, Object value) {
+        if (value instanceof NotFound) {
+            return negativeTtl;
+        }
+        Duration result = ttls.get(key.type);
+        if (Objects.nonNull(result)) {
+            return result;
+        }
+        return ttls.entrySet().stream()
+                .filter(x -> x.getKey().isInstance(value))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(defaultTtl);
+    }
+
+
+    /**
+     * Cached result of a request that failed with {@link NotFoundException}. Only the response details are kept and a new
+     * exception is thrown on each hit, as exceptions are mutable, e.g., via suppressed exceptions, and their stack trace
+     * should point to the caller.
+     */
+    private static class NotFound {
+
+        private final URI uri;
+        private final int statusCode;
+        private final String body;
+
+        NotFound(NotFoundException exception) {
+            this.uri = exception.getUri();
+            this.statusCode = exception.getStatusCode();
+            this.body = exception.getBody();
+        }
+
+
+        NotFoundException newException() {
+            return new NotFoundException(uri, statusCode, body);
+        }
+    }
+
+    private static class Key {
+
+        private final Object scope;
+        private final URI uri;
+        private final Class<?> type;
+
+        Key(Object scope, URI uri, Class<?> type) {
+            this.scope = scope;
+            this.uri = uri;
+            this.type = type;
+        }
+
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(scope, other.scope)
+                    && Objects.equals(uri, other.uri)
+                    && Objects.equals(type, other.type);
+        }
+
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, uri, type);
+        }
+    }
+
+    public static class Builder {
+        private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private long maximumWeight;
+        private ToIntFunction<Object> weigher;
+        private Duration defaultTtl = DEFAULT_TTL;
+        private Duration negativeTtl = DEFAULT_NEGATIVE_TTL;
+        private Clock clock;
+        private final Map<Class<?>, Duration> ttls = new HashMap<>();
+
+        /**
+         * Sets the maximum number of cached objects. Ignored if a weigher is set.
+         *
+         * @param maximumSize the maximum number of cached objects
+         * @return the builder
+         */
+        public Builder maximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+
+        /**
+         * Bounds the cache by the total weight of the cached objects instead of their number.
+         *
+         * @param maximumWeight the maximum total weight
+         * @param weigher calculates the weight of an object, e.g., its approximate size in bytes
+         * @return the builder
+         */
+        public Builder maximumWeight(long maximumWeight, ToIntFunction<Object> weigher) {
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+
+        /**
+         * Sets the time to live of objects whose type has no TTL of its own.
+         *
+         * @param defaultTtl the time to live
+         * @return the builder
+         */
+        public Builder defaultTtl(Duration defaultTtl) {
+            this.defaultTtl = defaultTtl;
+            return this;
+        }
+
+
+        /**
+         * Sets the time to live of objects of the given type, e.g., {@code Submodel.class}.
+         *
+         * @param type the type
+         * @param ttl the time to live
+         * @return the builder
+         */
+        public Builder ttl(Class<?> type, Duration ttl) {
+            Ensure.requireNonNull(type, "type must be non-null");
+            Ensure.requireNonNull(ttl, "ttl must be non-null");
+            Ensure.require(!ttl.isNegative(), "ttl must be non-negative");
+            this.ttls.put(type, ttl);
+            return this;
+        }
+
+
+        /**
+         * Sets how long a {@link NotFoundException} is cached. If zero, not found objects are not cached.
+         *
+         * @param negativeTtl the time to live of not found objects
+         * @return the builder
+         */
+        public Builder negativeTtl(Duration negativeTtl) {
+            this.negativeTtl = negativeTtl;
+            return this;
+        }
+
+
+        /**
+         * Sets the clock used to expire entries. By default, {@link System#nanoTime()} is used.
+         *
+         * @param clock the clock
+         * @return the builder
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+
+        public ObjectCache build() {
+            return new ObjectCache(this);
+        }
+    }
+}
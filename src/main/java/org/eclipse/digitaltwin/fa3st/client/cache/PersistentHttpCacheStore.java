@@ -0,0 +1,727 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * {@link HttpCacheStore} persisting the responses on disk so that they survive a restart of the application. After a
+ * restart, cached responses are served from disk and revalidated with the server on first use as usual, i.e.,
+ * unchanged resources are not downloaded again.
+ *
+ * <p>Responses are appended to memory-mapped segment files of {@code segmentSize} bytes in {@code directory}; only an
+ * index of the keys is kept on the heap and rebuilt from the segments on startup. Each record is protected by a
+ * checksum, so records that have been written partially, e.g., due to a crash, are ignored. Replaced and removed
+ * responses leave garbage in their segment; once the share of live data of a segment falls below
+ * {@code compactionThreshold}, its live responses are copied to the current segment and the segment is deleted. If the
+ * total size of the segments exceeds {@code maxSize}, the oldest segment is deleted including its responses, i.e.,
+ * responses that have not been replaced for the longest time are evicted first. Responses larger than a segment are
+ * not stored. Revalidating a response only appends a small record with the new headers and expiry, which takes
+ * precedence over the ones stored with the body.
+ *
+ * <p>A directory must not be used by more than one store at a time. This is enforced by a lock file, i.e., opening a
+ * store fails if its directory is in use by another store, no matter whether in the same or another process.
+ */
+public class PersistentHttpCacheStore implements HttpCacheStore {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.5;
+    private static final Pattern SEGMENT_FILE_NAME = Pattern.compile("segment-(\\d+)\\.dat");
+    private static final String SEGMENT_FILE_NAME_FORMAT = "segment-%020d.dat";
+    private static final String LOCK_FILE_NAME = "lock";
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final byte RECORD_TYPE_PUT = 1;
+    private static final byte RECORD_TYPE_REMOVE = 2;
+    private static final byte RECORD_TYPE_TOUCH = 3;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxSize;
+    private final double compactionThreshold;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FileChannel lockChannel;
+    private final Map<String, Location> index = new HashMap<>();
+    private final Map<String, Location> touches = new HashMap<>();
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private Segment active;
+    private boolean closed;
+
+    private PersistentHttpCacheStore(Builder builder) throws IOException {
+        Ensure.requireNonNull(builder.directory, "directory must be non-null");
+        Ensure.require(builder.segmentSize > RECORD_HEADER_SIZE, "segmentSize must be larger than 8");
+        Ensure.require(builder.maxSize >= builder.segmentSize, "maxSize must be at least segmentSize");
+        Ensure.require(builder.compactionThreshold >= 0 && builder.compactionThreshold < 1, "compactionThreshold must be between 0 (inclusive) and 1 (exclusive)");
+        this.directory = builder.directory;
+        this.segmentSize = builder.segmentSize;
+        this.maxSize = builder.maxSize;
+        this.compactionThreshold = builder.compactionThreshold;
+        Files.createDirectories(directory);
+        this.lockChannel = lockDirectory(directory);
+        try {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file: (Iterable<Path>) files::iterator) {
+                    Matcher matcher = SEGMENT_FILE_NAME.matcher(file.getFileName().toString());
+                    if (matcher.matches()) {
+                        long id = Long.parseLong(matcher.group(1));
+                        segments.put(id, openSegment(id));
+                    }
+                }
+            }
+            for (Segment segment: segments.values()) {
+                load(segment);
+            }
+            active = segments.isEmpty()
+                    ? addSegment(0)
+                    : segments.lastEntry().getValue();
+            maintain();
+        }
+        catch (IOException | RuntimeException e) {
+            segments.values().forEach(Segment::release);
+            lockChannel.close();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Returns the total size of the segment files in bytes.
+     *
+     * @return the size in bytes
+     */
+    public long getSize() {
+        lock.lock();
+        try {
+            return segments.values().stream()
+                    .mapToLong(x -> x.buffer.capacity())
+                    .sum();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the number of stored responses.
+     *
+     * @return the number of stored responses
+     */
+    public int getCount() {
+        lock.lock();
+        try {
+            return index.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public Optional<CachedResponse> get(String key) {
+        byte[] record;
+        byte[] touch = null;
+        lock.lock();
+        try {
+            Location location = index.get(key);
+            if (closed || Objects.isNull(location)) {
+                return Optional.empty();
+            }
+            record = read(location);
+            if (touches.containsKey(key)) {
+                touch = read(touches.get(key));
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(record))) {
+            input.readByte();
+            CachedResponseCodec.readString(input);
+            Instant expiresAt = Instant.ofEpochSecond(input.readLong(), input.readInt());
+            CachedResponse result = CachedResponseCodec.read(input, expiresAt);
+            if (Objects.isNull(touch)) {
+                return Optional.of(result);
+            }
+            try (DataInputStream touchInput = new DataInputStream(new ByteArrayInputStream(touch))) {
+                touchInput.readByte();
+                CachedResponseCodec.readString(touchInput);
+                Instant touchedExpiresAt = Instant.ofEpochSecond(touchInput.readLong(), touchInput.readInt());
+                return Optional.of(new CachedResponse.Builder()
+                        .headers(CachedResponseCodec.readHeaders(touchInput))
+                        .body(result.getBody())
+                        .expiresAt(touchedExpiresAt)
+                        .build());
+            }
+        }
+        catch (IOException e) {
+            remove(key);
+            return Optional.empty();
+        }
+    }
+
+
+    @Override
+    public void put(String key, CachedResponse response) {
+        Ensure.requireNonNull(key, "key must be non-null");
+        Ensure.requireNonNull(response, "response must be non-null");
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(record)) {
+            output.writeByte(RECORD_TYPE_PUT);
+            CachedResponseCodec.writeString(output, key);
+            output.writeLong(response.getExpiresAt().getEpochSecond());
+            output.writeInt(response.getExpiresAt().getNano());
+            CachedResponseCodec.write(output, response);
+        }
+        catch (IOException e) {
+            remove(key);
+            return;
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            Location location = append(record.toByteArray());
+            if (Objects.isNull(location)) {
+                removeLocked(key);
+                return;
+            }
+            index(key, location);
+            removeTouch(key);
+            maintain();
+        }
+        catch (IOException e) {
+            removeLocked(key);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Appends a record containing only the new headers and expiry instead of the whole response.
+     */
+    @Override
+    public void touch(String key, Map<String, List<String>> headers, Instant expiresAt) {
+        Ensure.requireNonNull(key, "key must be non-null");
+        Ensure.requireNonNull(headers, "headers must be non-null");
+        Ensure.requireNonNull(expiresAt, "expiresAt must be non-null");
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(record)) {
+            output.writeByte(RECORD_TYPE_TOUCH);
+            CachedResponseCodec.writeString(output, key);
+            output.writeLong(expiresAt.getEpochSecond());
+            output.writeInt(expiresAt.getNano());
+            CachedResponseCodec.writeHeaders(output, headers);
+        }
+        catch (IOException e) {
+            remove(key);
+            return;
+        }
+        lock.lock();
+        try {
+            if (closed || !index.containsKey(key)) {
+                return;
+            }
+            Location location = append(record.toByteArray());
+            if (Objects.isNull(location)) {
+                removeLocked(key);
+                return;
+            }
+            indexTouch(key, location);
+            maintain();
+        }
+        catch (IOException e) {
+            removeLocked(key);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public void remove(String key) {
+        lock.lock();
+        try {
+            removeLocked(key);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public void removeIf(Predicate<String> keyPredicate) {
+        lock.lock();
+        try {
+            List<String> keys = new ArrayList<>();
+            for (String key: index.keySet()) {
+                if (keyPredicate.test(key)) {
+                    keys.add(key);
+                }
+            }
+            keys.forEach(this::removeLocked);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            index.clear();
+            long id = active.id + 1;
+            for (Segment segment: new ArrayList<>(segments.values())) {
+                deleteSegment(segment);
+            }
+            active = addSegment(id);
+        }
+        catch (IOException e) {
+            closed = true;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Flushes all segments to disk, closes them and releases the directory.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Segment segment: segments.values()) {
+                segment.close();
+            }
+            lockChannel.close();
+        }
+        catch (IOException e) {
+            // the lock is released when the process exits at the latest
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    private void removeLocked(String key) {
+        Location location = index.remove(key);
+        if (closed || Objects.isNull(location)) {
+            return;
+        }
+        location.segment.liveBytes -= location.length;
+        removeTouch(key);
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(record)) {
+            output.writeByte(RECORD_TYPE_REMOVE);
+            CachedResponseCodec.writeString(output, key);
+            append(record.toByteArray());
+        }
+        catch (IOException e) {
+            // the response has been removed from the index, at worst it is restored after a restart
+        }
+    }
+
+
+    private void index(String key, Location location) {
+        Location previous = index.put(key, location);
+        if (Objects.nonNull(previous)) {
+            previous.segment.liveBytes -= previous.length;
+        }
+        location.segment.liveBytes += location.length;
+    }
+
+
+    private void indexTouch(String key, Location location) {
+        Location previous = touches.put(key, location);
+        if (Objects.nonNull(previous)) {
+            previous.segment.liveBytes -= previous.length;
+        }
+        location.segment.liveBytes += location.length;
+    }
+
+
+    private void removeTouch(String key) {
+        Location previous = touches.remove(key);
+        if (Objects.nonNull(previous)) {
+            previous.segment.liveBytes -= previous.length;
+        }
+    }
+
+
+    private Location append(byte[] record) throws IOException {
+        int length = RECORD_HEADER_SIZE + record.length;
+        if (length > segmentSize) {
+            return null;
+        }
+        if (active.position + length > active.buffer.capacity()) {
+            active = addSegment(active.id + 1);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        int offset = active.position;
+        active.buffer.put(offset + RECORD_HEADER_SIZE, record);
+        active.buffer.putInt(offset + 4, (int) crc.getValue());
+        active.buffer.putInt(offset, record.length);
+        active.position += length;
+        return new Location(active, offset, length);
+    }
+
+
+    private void load(Segment segment) {
+        ByteBuffer buffer = segment.buffer;
+        int offset = 0;
+        while (offset + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || length > buffer.capacity() - offset - RECORD_HEADER_SIZE) {
+                break;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(offset + RECORD_HEADER_SIZE, length));
+            if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+                break;
+            }
+            String key;
+            try {
+                key = readKey(segment, offset);
+            }
+            catch (IOException e) {
+                break;
+            }
+            byte type = buffer.get(offset + RECORD_HEADER_SIZE);
+            if (type == RECORD_TYPE_PUT) {
+                index(key, new Location(segment, offset, RECORD_HEADER_SIZE + length));
+                removeTouch(key);
+            }
+            else if (type == RECORD_TYPE_TOUCH) {
+                if (index.containsKey(key)) {
+                    indexTouch(key, new Location(segment, offset, RECORD_HEADER_SIZE + length));
+                }
+            }
+            else {
+                Location previous = index.remove(key);
+                if (Objects.nonNull(previous)) {
+                    previous.segment.liveBytes -= previous.length;
+                }
+                removeTouch(key);
+            }
+            offset += RECORD_HEADER_SIZE + length;
+        }
+        segment.position = offset;
+    }
+
+
+    private void maintain() throws IOException {
+        for (Segment segment: new ArrayList<>(segments.values())) {
+            if (segment != active && segments.containsKey(segment.id) && segment.liveBytes < compactionThreshold * segment.buffer.capacity()) {
+                compact(segment);
+            }
+        }
+        while (segments.size() > 1 && (long) segments.size() * segmentSize > maxSize) {
+            Segment oldest = segments.firstEntry().getValue();
+            index.values().removeIf(x -> x.segment == oldest);
+            touches.entrySet().removeIf(x -> {
+                boolean evicted = x.getValue().segment == oldest || !index.containsKey(x.getKey());
+                if (evicted) {
+                    x.getValue().segment.liveBytes -= x.getValue().length;
+                }
+                return evicted;
+            });
+            deleteSegment(oldest);
+        }
+    }
+
+
+    private void compact(Segment segment) throws IOException {
+        boolean oldest = segments.firstKey() == segment.id;
+        int offset = 0;
+        while (offset < segment.position) {
+            int length = RECORD_HEADER_SIZE + segment.buffer.getInt(offset);
+            String key = readKey(segment, offset);
+            byte type = segment.buffer.get(offset + RECORD_HEADER_SIZE);
+            Location location = type == RECORD_TYPE_TOUCH ? touches.get(key) : index.get(key);
+            boolean live = Objects.nonNull(location) && location.segment == segment && location.offset == offset;
+            boolean tombstone = type == RECORD_TYPE_REMOVE;
+            if (live || (tombstone && !oldest && Objects.isNull(location))) {
+                Location copy = append(read(new Location(segment, offset, length)));
+                if (live && Objects.isNull(copy)) {
+                    // the record is larger than a segment, i.e., the segment size has been reduced since it was written
+                    if (type == RECORD_TYPE_TOUCH) {
+                        touches.remove(key);
+                    }
+                    else {
+                        index.remove(key);
+                        removeTouch(key);
+                    }
+                }
+                else if (live && type == RECORD_TYPE_TOUCH) {
+                    indexTouch(key, copy);
+                }
+                else if (live) {
+                    index(key, copy);
+                    if (touches.containsKey(key)) {
+                        // a touch record has to follow the response it belongs to, otherwise it is dropped on load
+                        Location touch = append(read(touches.get(key)));
+                        if (Objects.isNull(touch)) {
+                            removeTouch(key);
+                        }
+                        else {
+                            indexTouch(key, touch);
+                        }
+                    }
+                }
+            }
+            offset += length;
+        }
+        deleteSegment(segment);
+    }
+
+
+    private static byte[] read(Location location) {
+        byte[] result = new byte[location.length - RECORD_HEADER_SIZE];
+        location.segment.buffer.get(location.offset + RECORD_HEADER_SIZE, result);
+        return result;
+    }
+
+
+    private static String readKey(Segment segment, int offset) throws IOException {
+        int length = segment.buffer.getInt(offset);
+        byte[] record = new byte[length];
+        segment.buffer.get(offset + RECORD_HEADER_SIZE, record);
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(record))) {
+            input.readByte();
+            return CachedResponseCodec.readString(input);
+        }
+    }
+
+
+    /**
+     * Locks the directory against use by other processes and other stores in the same process.
+     */
+    private static FileChannel lockDirectory(Path directory) throws IOException {
+        FileChannel result = FileChannel.open(directory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock fileLock;
+        try {
+            fileLock = result.tryLock();
+        }
+        catch (OverlappingFileLockException e) {
+            fileLock = null;
+        }
+        catch (IOException e) {
+            result.close();
+            throw e;
+        }
+        if (Objects.isNull(fileLock)) {
+            result.close();
+            throw new IOException(String.format("directory is already in use by another store (directory: %s)", directory));
+        }
+        return result;
+    }
+
+
+    private Segment addSegment(long id) throws IOException {
+        Segment result = openSegment(id);
+        segments.put(id, result);
+        return result;
+    }
+
+
+    private Segment openSegment(long id) throws IOException {
+        Path file = directory.resolve(String.format(SEGMENT_FILE_NAME_FORMAT, id));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(channel.size(), segmentSize));
+            return new Segment(id, file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+        }
+        catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+
+    private void deleteSegment(Segment segment) {
+        segments.remove(segment.id);
+        // mark the segment as empty in case the file cannot be deleted while it is still mapped
+        segment.buffer.putInt(0, 0);
+        segment.release();
+        try {
+            Files.deleteIfExists(segment.file);
+        }
+        catch (IOException e) {
+            // the segment is empty and will be deleted when it is loaded the next time
+        }
+    }
+
+    private static class Segment {
+
+        private final long id;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position;
+        private long liveBytes;
+
+        Segment(long id, Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+
+        void close() {
+            buffer.force();
+            release();
+        }
+
+
+        /**
+         * Closes the segment without flushing it to disk, e.g., because it is deleted anyway.
+         */
+        void release() {
+            try {
+                channel.close();
+            }
+            catch (IOException e) {
+                // nothing to do
+            }
+        }
+    }
+
+    private static class Location {
+
+        private final Segment segment;
+        private final int offset;
+        private final int length;
+
+        Location(Segment segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    public static class Builder {
+        private Path directory;
+        private int segmentSize = DEFAULT_SEGMENT_SIZE;
+        private long maxSize = DEFAULT_MAX_SIZE;
+        private double compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+
+        /**
+         * Sets the directory to store the segment files in. The directory is created if it does not exist.
+         *
+         * @param directory the directory
+         * @return the builder
+         */
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+
+        /**
+         * Sets the size of a segment file in bytes. Responses larger than a segment are not stored.
+         *
+         * @param segmentSize the size of a segment in bytes
+         * @return the builder
+         */
+        public Builder segmentSize(int segmentSize) {
+            this.segmentSize = segmentSize;
+            return this;
+        }
+
+
+        /**
+         * Sets the maximum total size of all segment files in bytes.
+         *
+         * @param maxSize the maximum size in bytes
+         * @return the builder
+         */
+        public Builder maxSize(long maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+
+        /**
+         * Sets the share of live data below which a segment is compacted, e.g., 0.5 to compact segments of which more
+         * than half has been replaced or removed. 0 disables compaction.
+         *
+         * @param compactionThreshold the share of live data
+         * @return the builder
+         */
+        public Builder compactionThreshold(double compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+            return this;
+        }
+
+
+        /**
+         * Opens the store and loads the responses stored in the directory.
+         *
+         * @return the store
+         * @throws IOException if the directory or a segment cannot be opened, or the directory is in use by another
+         *             store
+         */
+        public PersistentHttpCacheStore build() throws IOException {
+            return new PersistentHttpCacheStore(this);
+        }
+    }
+}
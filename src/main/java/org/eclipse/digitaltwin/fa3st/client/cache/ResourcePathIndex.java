@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+
+/**
+ * Index from resource path to the cache keys of that resource, used to find the entries affected by a modification
+ * without scanning the cache. A resource path consists of scheme, authority and path of a URI without query and
+ * trailing slash. A modification affects the resource itself, its parents and its children, matched on path segment
+ * boundaries, i.e., modifying {@code /shells/a} affects {@code /shells} and {@code /shells/a/submodel-refs} but neither
+ * {@code /shells/ab} nor {@code /shell}.
+ *
+ * <p>As caches may evict entries on their own, the index may contain stale keys. {@link #needsRebuild()} signals when
+ * it has grown to twice the number of keys present after the last rebuild. The index is not thread-safe.
+ *
+ * @param <K> the type of the cache keys
+ */
+final class ResourcePathIndex<K> {
+
+    private static final char SEGMENT_SEPARATOR = '/';
+    private static final String SCHEME_SEPARATOR = "://";
+    private static final int MIN_REBUILD_THRESHOLD = 1024;
+
+    private final Function<K, String> resourcePath;
+    private final TreeMap<String, Set<K>> keysByPath = new TreeMap<>();
+    private int size;
+    private int rebuildThreshold = MIN_REBUILD_THRESHOLD;
+
+    /**
+     * Creates a new index.
+     *
+     * @param resourcePath determines the resource path of a key, see {@link #getResourcePath(URI)}
+     */
+    ResourcePathIndex(Function<K, String> resourcePath) {
+        this.resourcePath = resourcePath;
+    }
+
+
+    /**
+     * Returns the resource path of a URI.
+     *
+     * @param uri the URI
+     * @return the resource path
+     */
+    static String getResourcePath(URI uri) {
+        return getResourcePath(uri.getScheme() + SCHEME_SEPARATOR + uri.getRawAuthority() + Objects.requireNonNullElse(uri.getRawPath(), ""));
+    }
+
+
+    /**
+     * Returns the resource path of a URI given as string.
+     *
+     * @param uri the URI
+     * @return the resource path
+     */
+    static String getResourcePath(String uri) {
+        int end = uri.length();
+        int query = uri.indexOf('?');
+        if (query >= 0) {
+            end = query;
+        }
+        int fragment = uri.indexOf('#');
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        while (end > 0 && uri.charAt(end - 1) == SEGMENT_SEPARATOR) {
+            end--;
+        }
+        return uri.substring(0, end);
+    }
+
+
+    void add(K key) {
+        if (keysByPath.computeIfAbsent(resourcePath.apply(key), x -> new HashSet<>()).add(key)) {
+            size++;
+        }
+    }
+
+
+    void remove(K key) {
+        String path = resourcePath.apply(key);
+        Set<K> keys = keysByPath.get(path);
+        if (Objects.nonNull(keys) && keys.remove(key)) {
+            size--;
+            if (keys.isEmpty()) {
+                keysByPath.remove(path);
+            }
+        }
+    }
+
+
+    /**
+     * Removes and returns the keys of the given resource, its parents and its children.
+     *
+     * @param uri the URI of the modified resource
+     * @return the removed keys
+     */
+    List<K> removeAffected(URI uri) {
+        List<K> result = new ArrayList<>();
+        for (String path: getAffectedPaths(keysByPath, getResourcePath(uri))) {
+            result.addAll(keysByPath.remove(path));
+        }
+        size -= result.size();
+        return result;
+    }
+
+
+    /**
+     * Returns the resource paths contained in the given map that are affected by a modification of the given resource,
+     * i.e., the resource itself, its parents and its children.
+     *
+     * @param paths the map keyed by resource path
+     * @param modified the resource path of the modified resource
+     * @return the affected resource paths contained in the map
+     */
+    static List<String> getAffectedPaths(NavigableMap<String, ?> paths, String modified) {
+        List<String> result = new ArrayList<>(paths.subMap(
+                modified + SEGMENT_SEPARATOR, true,
+                modified + (char) (SEGMENT_SEPARATOR + 1), false)
+                .keySet());
+        if (paths.containsKey(modified)) {
+            result.add(modified);
+        }
+        int authority = modified.indexOf(SCHEME_SEPARATOR);
+        int start = authority < 0 ? 0 : authority + SCHEME_SEPARATOR.length();
+        for (int i = modified.indexOf(SEGMENT_SEPARATOR, start); i >= 0; i = modified.indexOf(SEGMENT_SEPARATOR, i + 1)) {
+            String parent = modified.substring(0, i);
+            if (paths.containsKey(parent)) {
+                result.add(parent);
+            }
+        }
+        return result;
+    }
+
+
+    void clear() {
+        keysByPath.clear();
+        size = 0;
+    }
+
+
+    boolean needsRebuild() {
+        return size > rebuildThreshold;
+    }
+
+
+    /**
+     * Replaces the content of the index with the given keys, e.g., all keys currently present in the cache.
+     *
+     * @param keys provides the keys to the given consumer
+     */
+    void rebuild(Consumer<Consumer<K>> keys) {
+        clear();
+        keys.accept(this::add);
+        rebuildThreshold = Math.max(MIN_REBUILD_THRESHOLD, 2 * size);
+    }
+}
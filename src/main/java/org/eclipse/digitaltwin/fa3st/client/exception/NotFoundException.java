@@ -13,6 +13,7 @@
  */
 package org.eclipse.digitaltwin.fa3st.client.exception;
 
+import java.net.URI;
 import java.net.http.HttpResponse;
 
 
@@ -30,4 +31,16 @@ public class NotFoundException extends StatusCodeException {
     public NotFoundException(HttpResponse<?> response) {
         super(response);
     }
+
+
+    /**
+     * Constructs a new exception.
+     *
+     * @param uri the uri called
+     * @param statusCode the status code received
+     * @param body the body of the response
+     */
+    public NotFoundException(URI uri, int statusCode, String body) {
+        super(uri, statusCode, body);
+    }
 }
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.exception;
+
+/**
+ * Wraps a {@link ClientException} with an unchecked exception. This is used in contexts where checked exceptions
+ * cannot be thrown, e.g., when lazily fetching results while iterating over a {@link java.util.Iterator} or
+ * {@link java.util.stream.Stream}.
+ */
+public class UncheckedClientException extends RuntimeException {
+
+    /**
+     * Constructs a new exception.
+     *
+     * @param cause the cause of the exception
+     */
+    public UncheckedClientException(ClientException cause) {
+        super(cause);
+    }
+
+
+    /**
+     * Constructs a new exception.
+     *
+     * @param message the message
+     * @param cause the cause of the exception
+     */
+    public UncheckedClientException(String message, ClientException cause) {
+        super(message, cause);
+    }
+
+
+    /**
+     * Returns the cause of this exception.
+     *
+     * @return the {@link ClientException} which is the cause of this exception
+     */
+    @Override
+    public ClientException getCause() {
+        return (ClientException) super.getCause();
+    }
+}
@@ -13,14 +13,20 @@
  */
 package org.eclipse.digitaltwin.fa3st.client.interfaces;
 
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.eclipse.digitaltwin.aas4j.v3.model.*;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
 import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
 import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
 import org.eclipse.digitaltwin.fa3st.client.query.SearchCriteria;
 import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.StreamingFile;
 import org.eclipse.digitaltwin.fa3st.common.exception.InvalidRequestException;
 import org.eclipse.digitaltwin.fa3st.common.model.InMemoryFile;
 import org.eclipse.digitaltwin.fa3st.common.model.TypedInMemoryFile;
@@ -53,6 +59,17 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Creates a new Asset Administration Shell Interface sharing the resources of the given session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @param session the session providing the HTTP client, serializer and deserializer
+     */
+    public AASInterface(URI endpoint, ClientSession session) {
+        super(endpoint, session);
+    }
+
+
     /**
      * Creates a new Asset Administration Shell Interface.
      *
@@ -107,6 +124,17 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get()}.
+     *
+     * @return a future of the requested Asset Administration Shell object that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<AssetAdministrationShell> getAsync() {
+        return getAsync(null, OutputModifier.DEFAULT, AssetAdministrationShell.class);
+    }
+
+
     /**
      * Replaces the current Asset Administration Shell with a new one.
      *
@@ -128,6 +156,18 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #put(AssetAdministrationShell)}.
+     *
+     * @param aas The new Asset Administration Shell object to replace the current one
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> putAsync(AssetAdministrationShell aas) {
+        return super.putAsync(aas);
+    }
+
+
     /**
      * Retrieves the Asset Administration Shell (AAS) as a reference.
      *
@@ -149,6 +189,17 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAsReference()}.
+     *
+     * @return a future of the requested Asset Administration Shell reference that completes exceptionally with any of
+     *         the exceptions of the synchronous variant
+     */
+    public CompletableFuture<Reference> getAsReferenceAsync() {
+        return getAsync(null, OutputModifier.with(Content.REFERENCE), Reference.class);
+    }
+
+
     /**
      * Retrieves the asset information associated with the Asset Administration Shell.
      *
@@ -170,6 +221,17 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAssetInformation()}.
+     *
+     * @return a future of the requested Asset Information object that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<AssetInformation> getAssetInformationAsync() {
+        return getAsync(assetInfoPath(), OutputModifier.DEFAULT, AssetInformation.class);
+    }
+
+
     /**
      * Updates the asset information of the Asset Administration Shell.
      *
@@ -191,6 +253,18 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #putAssetInformation(AssetInformation)}.
+     *
+     * @param assetInfo The new Asset Information object to replace the current one
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> putAssetInformationAsync(AssetInformation assetInfo) {
+        return putAsync(assetInfoPath(), assetInfo);
+    }
+
+
     /**
      * Retrieves the thumbnail image associated with the Asset Administration Shell.
      *
@@ -211,6 +285,84 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getThumbnail()}.
+     *
+     * @return a future of the requested thumbnail as a TypedInMemoryFile object that completes exceptionally with any
+     *         of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<InMemoryFile> getThumbnailAsync() {
+        return getFileAsync(thumbnailPath());
+    }
+
+
+    /**
+     * Downloads the thumbnail image associated with the Asset Administration Shell to disk without loading it into
+     * memory. If {@code target} is an existing directory, the thumbnail is stored inside this directory using the file
+     * name provided by the server, otherwise {@code target} is used as file name. Existing files are replaced.
+     *
+     * @param target The file or directory to write to
+     * @return The file that has been written
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established or writing the file fails
+     */
+    public Path getThumbnail(Path target) throws StatusCodeException, ConnectivityException {
+        return getFile(thumbnailPath(), target);
+    }
+
+
+    /**
+     * Writes the thumbnail image associated with the Asset Administration Shell to an output stream without loading it
+     * into memory. The output stream is not closed.
+     *
+     * @param output The output stream to write to
+     * @return The name of the thumbnail as provided by the server
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established or writing to the output
+     *             stream fails
+     */
+    public String getThumbnail(OutputStream output) throws StatusCodeException, ConnectivityException {
+        return getFile(thumbnailPath(), output);
+    }
+
+
+    /**
+     * Returns the thumbnail image associated with the Asset Administration Shell whose content is read directly from
+     * the connection. The returned file must be closed after use.
+     *
+     * @return The requested thumbnail
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public StreamingFile getThumbnailStreaming() throws StatusCodeException, ConnectivityException {
+        return getFileStreaming(thumbnailPath());
+    }
+
+
     /**
      * Replaces the current thumbnail image of the Asset Administration Shell.
      *
@@ -231,6 +383,65 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Replaces the current thumbnail image of the Asset Administration Shell with a file from disk. The file is read
+     * while sending the request and not loaded into memory. The name of the file is sent as file name.
+     *
+     * @param file The new thumbnail file to replace the current one
+     * @param contentType The content type of the file
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established or the file cannot be read
+     */
+    public void putThumbnail(Path file, String contentType) throws StatusCodeException, ConnectivityException {
+        putFile(thumbnailPath(), file, contentType);
+    }
+
+
+    /**
+     * Replaces the current thumbnail image of the Asset Administration Shell with the content of a file channel. The
+     * content is read from the current position of the channel up to its end while sending the request and not loaded
+     * into memory. The channel is neither closed nor is its position modified.
+     *
+     * @param channel The channel providing the new thumbnail content
+     * @param fileName The file name to send to the server
+     * @param contentType The content type of the file
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established or the channel cannot be
+     *             read
+     */
+    public void putThumbnail(FileChannel channel, String fileName, String contentType) throws StatusCodeException, ConnectivityException {
+        putFile(thumbnailPath(), channel, fileName, contentType);
+    }
+
+
+    /**
+     * Asynchronous variant of {@link #putThumbnail(TypedInMemoryFile)}.
+     *
+     * @param file The new thumbnail file to replace the current one
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> putThumbnailAsync(TypedInMemoryFile file) {
+        return putFileAsync(thumbnailPath(), file);
+    }
+
+
     /**
      * Deletes the current thumbnail image of the Asset Administration Shell.
      *
@@ -250,6 +461,17 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #deleteThumbnail()}.
+     *
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> deleteThumbnailAsync() {
+        return deleteAsync(thumbnailPath(), HttpStatus.OK);
+    }
+
+
     /**
      * Retrieves all references to submodels within the Asset Administration Shell.
      *
@@ -271,6 +493,17 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAllSubmodelReferences()}.
+     *
+     * @return a future of a list of references to all submodels that completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<List<Reference>> getAllSubmodelReferencesAsync() {
+        return getAllAsync(submodelRefPath(), SearchCriteria.DEFAULT, OutputModifier.DEFAULT, Reference.class);
+    }
+
+
     /**
      * Retrieves a page of references to submodels.
      *
@@ -293,6 +526,18 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getSubmodelReference(PagingInfo)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of references to submodels that completes exceptionally with any of the exceptions of
+     *         the synchronous variant
+     */
+    public CompletableFuture<Page<Reference>> getSubmodelReferenceAsync(PagingInfo pagingInfo) {
+        return getPageAsync(submodelRefPath(), SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pagingInfo, Reference.class);
+    }
+
+
     /**
      * Creates a new reference to a submodel within the Asset Administration Shell.
      *
@@ -316,6 +561,18 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #postSubmodelReference(Reference)}.
+     *
+     * @param reference The reference to the submodel to be added
+     * @return a future of the created submodel reference that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Reference> postSubmodelReferenceAsync(Reference reference) {
+        return postAsync(submodelRefPath(), reference, Content.NORMAL, Reference.class);
+    }
+
+
     /**
      * Deletes a specific submodel reference from the Asset Administration Shell.
      *
@@ -337,6 +594,18 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #deleteSubmodelReference(String)}.
+     *
+     * @param submodelId The unique identifier of the submodel to delete
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> deleteSubmodelReferenceAsync(String submodelId) {
+        return deleteAsync(submodelRefPath() + idPath(submodelId));
+    }
+
+
     /**
      * Deletes a specific submodel from the Asset Administration Shell.
      *
@@ -358,6 +627,18 @@ public class AASInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #deleteSubmodel(String)}.
+     *
+     * @param submodelId The unique identifier of the submodel to delete
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> deleteSubmodelAsync(String submodelId) {
+        return deleteAsync(submodelPath() + idPath(submodelId));
+    }
+
+
     /**
      * Returns the Submodel Interface for managing the submodel within the AAS.
      * Although submodels can be managed directly through this interface,
@@ -367,7 +648,7 @@ public class AASInterface extends BaseInterface {
      * @return The SubmodelInterface object for interacting with the specified submodel
      */
     public SubmodelInterface getSubmodelInterface(String submodelId) {
-        return new SubmodelInterface(resolve(idPath(submodelId)));
+        return new SubmodelInterface(resolve(idPath(submodelId)), session);
     }
 
 
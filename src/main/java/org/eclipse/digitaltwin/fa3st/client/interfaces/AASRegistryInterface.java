@@ -15,13 +15,22 @@ package org.eclipse.digitaltwin.fa3st.client.interfaces;
 
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShellDescriptor;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
 import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
 import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
+import org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException;
 import org.eclipse.digitaltwin.fa3st.client.query.AASDescriptorSearchCriteria;
 import org.eclipse.digitaltwin.fa3st.client.query.SearchCriteria;
 import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.PagingIterator;
+import org.eclipse.digitaltwin.fa3st.client.util.StreamingPage;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Content;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
@@ -53,6 +62,17 @@ public class AASRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Creates a new Asset Administration Shell Registry Interface sharing the resources of the given session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @param session the session providing the HTTP client, serializer and deserializer
+     */
+    public AASRegistryInterface(URI endpoint, ClientSession session) {
+        super(resolve(endpoint, API_PATH), session);
+    }
+
+
     /**
      * Creates a new Asset Administration Shell Registry Interface.
      *
@@ -107,6 +127,17 @@ public class AASRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll()}.
+     *
+     * @return a future of list containing all Asset Administration Shell Descriptors that completes exceptionally with
+     *         any of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<List<AssetAdministrationShellDescriptor>> getAllAsync() {
+        return getAllAsync(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, AssetAdministrationShellDescriptor.class);
+    }
+
+
     /**
      * Returns a page of Asset Administration Shell Descriptors.
      *
@@ -129,6 +160,18 @@ public class AASRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(PagingInfo)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Asset Administration Shell Descriptors that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<Page<AssetAdministrationShellDescriptor>> getAsync(PagingInfo pagingInfo) {
+        return getAsync(pagingInfo, AASDescriptorSearchCriteria.DEFAULT);
+    }
+
+
     /**
      * Returns a Page of Asset Administration Shell Descriptors.
      *
@@ -153,6 +196,204 @@ public class AASRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(PagingInfo, AASDescriptorSearchCriteria)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @param aasDescriptorSearchCriteria Allows to filter Descriptors based on AssetType and AssetKind
+     * @return a future of a page of Asset Administration Shell Descriptors that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<Page<AssetAdministrationShellDescriptor>> getAsync(PagingInfo pagingInfo, AASDescriptorSearchCriteria aasDescriptorSearchCriteria) {
+        return getPageAsync(null, aasDescriptorSearchCriteria, OutputModifier.DEFAULT, pagingInfo, AssetAdministrationShellDescriptor.class);
+    }
+
+
+    /**
+     * Retrieves a page of Asset Administration Shell Descriptors that is parsed incrementally while being read from the
+     * connection, i.e., only a single element is held in memory at a time. The returned page must be closed after use,
+     * e.g., by using a try-with-resources statement.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return A streaming page of Asset Administration Shell Descriptors
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>401: UnauthorizedException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public StreamingPage<AssetAdministrationShellDescriptor> getStreaming(PagingInfo pagingInfo) throws StatusCodeException, ConnectivityException {
+        return getPageStreaming(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pagingInfo, AssetAdministrationShellDescriptor.class);
+    }
+
+
+    /**
+     * Retrieves a page of Asset Administration Shell Descriptors based on specific search criteria that is parsed
+     * incrementally while being read from the connection, i.e., only a single element is held in memory at a time. The
+     * returned page must be closed after use, e.g., by using a try-with-resources statement.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @param aasDescriptorSearchCriteria Allows to filter Descriptors based on AssetType and AssetKind
+     * @return A streaming page of Asset Administration Shell Descriptors that match the search criteria
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>401: UnauthorizedException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public StreamingPage<AssetAdministrationShellDescriptor> getStreaming(PagingInfo pagingInfo, AASDescriptorSearchCriteria aasDescriptorSearchCriteria) throws StatusCodeException, ConnectivityException {
+        return getPageStreaming(null, aasDescriptorSearchCriteria, OutputModifier.DEFAULT, pagingInfo, AssetAdministrationShellDescriptor.class);
+    }
+
+
+    /**
+     * Lazily streams all Asset Administration Shell Descriptors using pages of default size. Pages are requested only
+     * when needed, so memory consumption is limited by the page size instead of the total number of Asset
+     * Administration Shell Descriptors. If fetching a page fails, an {@link UncheckedClientException} is thrown while
+     * consuming the stream.
+     *
+     * @return a sequential stream of all Asset Administration Shell Descriptors
+     */
+    public Stream<AssetAdministrationShellDescriptor> stream() {
+        return stream(PagingIterator.DEFAULT_PAGE_SIZE);
+    }
+
+
+    /**
+     * Lazily streams all Asset Administration Shell Descriptors. Pages are requested only when needed, so memory
+     * consumption is limited by the page size instead of the total number of Asset Administration Shell Descriptors. If
+     * fetching a page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param pageSize The maximum number of Asset Administration Shell Descriptors per page
+     * @return a sequential stream of all Asset Administration Shell Descriptors
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<AssetAdministrationShellDescriptor> stream(long pageSize) {
+        return stream(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, AssetAdministrationShellDescriptor.class);
+    }
+
+
+    /**
+     * Lazily streams all Asset Administration Shell Descriptors that match specific search criteria. Pages are
+     * requested only when needed, so memory consumption is limited by the page size instead of the total number of
+     * Asset Administration Shell Descriptors. If fetching a page fails, an {@link UncheckedClientException} is thrown
+     * while consuming the stream.
+     *
+     * @param aasDescriptorSearchCriteria Allows to filter Descriptors based on AssetType and AssetKind
+     * @param pageSize The maximum number of Asset Administration Shell Descriptors per page
+     * @return a sequential stream of all Asset Administration Shell Descriptors that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<AssetAdministrationShellDescriptor> stream(AASDescriptorSearchCriteria aasDescriptorSearchCriteria, long pageSize) {
+        return stream(null, aasDescriptorSearchCriteria, OutputModifier.DEFAULT, pageSize, AssetAdministrationShellDescriptor.class);
+    }
+
+
+    /**
+     * Lazily iterates over all Asset Administration Shell Descriptors that match specific search criteria. Pages are
+     * requested only when needed, so memory consumption is limited by the page size instead of the total number of
+     * Asset Administration Shell Descriptors. If fetching a page fails, an {@link UncheckedClientException} is thrown
+     * while iterating.
+     *
+     * @param aasDescriptorSearchCriteria Allows to filter Descriptors based on AssetType and AssetKind
+     * @param pageSize The maximum number of Asset Administration Shell Descriptors per page
+     * @return an iterator over all Asset Administration Shell Descriptors that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Iterator<AssetAdministrationShellDescriptor> iterate(AASDescriptorSearchCriteria aasDescriptorSearchCriteria, long pageSize) {
+        return iterate(null, aasDescriptorSearchCriteria, OutputModifier.DEFAULT, pageSize, AssetAdministrationShellDescriptor.class);
+    }
+
+
+    /**
+     * Lazily streams all Asset Administration Shell Descriptors that match specific search criteria while prefetching
+     * pages. Pages of {@code pageSize} elements are requested in the background as soon as the cursor of the previous
+     * page is known, with up to {@code prefetchDepth} pages fetched ahead of the page currently consumed. This overlaps
+     * network latency with processing at the cost of holding up to {@code prefetchDepth} additional pages in memory. If
+     * fetching a page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param aasDescriptorSearchCriteria Allows to filter Descriptors based on AssetType and AssetKind
+     * @param pageSize The maximum number of Asset Administration Shell Descriptors per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return a sequential stream of all Asset Administration Shell Descriptors that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Stream<AssetAdministrationShellDescriptor> stream(AASDescriptorSearchCriteria aasDescriptorSearchCriteria, long pageSize, int prefetchDepth) {
+        return stream(
+                null,
+                aasDescriptorSearchCriteria,
+                OutputModifier.DEFAULT,
+                pageSize,
+                prefetchDepth,
+                AssetAdministrationShellDescriptor.class);
+    }
+
+
+    /**
+     * Lazily iterates over all Asset Administration Shell Descriptors that match specific search criteria while
+     * prefetching pages. Pages of {@code pageSize} elements are requested in the background as soon as the cursor of
+     * the previous page is known, with up to {@code prefetchDepth} pages fetched ahead of the page currently consumed.
+     * This overlaps network latency with processing at the cost of holding up to {@code prefetchDepth} additional pages
+     * in memory. If fetching a page fails, an {@link UncheckedClientException} is thrown while iterating.
+     *
+     * @param aasDescriptorSearchCriteria Allows to filter Descriptors based on AssetType and AssetKind
+     * @param pageSize The maximum number of Asset Administration Shell Descriptors per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return an iterator over all Asset Administration Shell Descriptors that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Iterator<AssetAdministrationShellDescriptor> iterate(AASDescriptorSearchCriteria aasDescriptorSearchCriteria, long pageSize, int prefetchDepth) {
+        return iterate(
+                null,
+                aasDescriptorSearchCriteria,
+                OutputModifier.DEFAULT,
+                pageSize,
+                prefetchDepth,
+                AssetAdministrationShellDescriptor.class);
+    }
+
+
+    /**
+     * Creates a publisher emitting all Asset Administration Shell Descriptors. Pages are only requested when required
+     * by the demand of the subscriber, i.e., backpressure is propagated to the server. Errors are signalled to the
+     * subscriber with the respective {@link ClientException}.
+     *
+     * @param pageSize The maximum number of Asset Administration Shell Descriptors per page
+     * @return a publisher of all Asset Administration Shell Descriptors
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Flow.Publisher<AssetAdministrationShellDescriptor> publisher(long pageSize) {
+        return publisher(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, AssetAdministrationShellDescriptor.class);
+    }
+
+
+    /**
+     * Creates a publisher emitting all Asset Administration Shell Descriptors that match specific search criteria.
+     * Pages are only requested when required by the demand of the subscriber, i.e., backpressure is propagated to the
+     * server. Errors are signalled to the subscriber with the respective {@link ClientException}.
+     *
+     * @param aasDescriptorSearchCriteria Allows to filter Descriptors based on AssetType and AssetKind
+     * @param pageSize The maximum number of Asset Administration Shell Descriptors per page
+     * @return a publisher of all Asset Administration Shell Descriptors that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Flow.Publisher<AssetAdministrationShellDescriptor> publisher(AASDescriptorSearchCriteria aasDescriptorSearchCriteria, long pageSize) {
+        return publisher(null, aasDescriptorSearchCriteria, OutputModifier.DEFAULT, pageSize, AssetAdministrationShellDescriptor.class);
+    }
+
+
     /**
      * Creates a new Asset Administration Shell Descriptor, i.e. registers an AAS.
      *
@@ -176,6 +417,18 @@ public class AASRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #post(AssetAdministrationShellDescriptor)}.
+     *
+     * @param shellDescriptor Object containing the Asset Administration Shell’s identification and endpoint information
+     * @return a future of created Asset Administration Shell Descriptor that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<AssetAdministrationShellDescriptor> postAsync(AssetAdministrationShellDescriptor shellDescriptor) {
+        return postAsync(idPath(shellDescriptor.getId()), shellDescriptor, Content.NORMAL, AssetAdministrationShellDescriptor.class);
+    }
+
+
     /**
      * Returns a specific Asset Administration Shell Descriptor.
      *
@@ -198,6 +451,18 @@ public class AASRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @param aasIdentifier The Asset Administration Shell’s unique id
+     * @return a future of requested Asset Administration Shell Descriptor that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<AssetAdministrationShellDescriptor> getAsync(String aasIdentifier) {
+        return getAsync(idPath(aasIdentifier), OutputModifier.DEFAULT, AssetAdministrationShellDescriptor.class);
+    }
+
+
     /**
      * Replaces an existing Asset Administration Shell Descriptor, i.e. replaces registration information.
      *
@@ -219,6 +484,18 @@ public class AASRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #put(AssetAdministrationShellDescriptor)}.
+     *
+     * @param shellDescriptor Object containing the Asset Administration Shell’s identification and endpoint information
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> putAsync(AssetAdministrationShellDescriptor shellDescriptor) {
+        return super.putAsync(idPath(shellDescriptor.getId()), shellDescriptor);
+    }
+
+
     /**
      * Deletes an Asset Administration Shell Descriptor, i.e. de-registers an AAS.
      *
@@ -241,6 +518,18 @@ public class AASRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @param aasIdentifier The Asset Administration Shell’s unique id
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> deleteAsync(String aasIdentifier) {
+        return super.deleteAsync(idPath(aasIdentifier));
+    }
+
+
     /**
      * Returns the Submodel Registry Interface.
      *
@@ -248,6 +537,6 @@ public class AASRegistryInterface extends BaseInterface {
      * @return the {@link SubmodelRegistryInterface}
      */
     public SubmodelRegistryInterface getSubmodelRegistryInterface(String aasIdentifier) {
-        return new SubmodelRegistryInterface(resolve(idPath(aasIdentifier)));
+        return new SubmodelRegistryInterface(resolve(idPath(aasIdentifier)), session);
     }
 }
@@ -15,13 +15,23 @@ package org.eclipse.digitaltwin.fa3st.client.interfaces;
 
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
 import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
 import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
+import org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException;
 import org.eclipse.digitaltwin.fa3st.client.query.AASSearchCriteria;
+import org.eclipse.digitaltwin.fa3st.client.query.SearchCriteria;
 import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.PagingIterator;
+import org.eclipse.digitaltwin.fa3st.client.util.StreamingPage;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Content;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
@@ -51,6 +61,17 @@ public class AASRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Creates a new Asset Administration Shell Repository Interface sharing the resources of the given session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @param session the session providing the HTTP client, serializer and deserializer
+     */
+    public AASRepositoryInterface(URI endpoint, ClientSession session) {
+        super(resolve(endpoint, API_PATH), session);
+    }
+
+
     /**
      * Creates a new Asset Administration Shell Repository Interface.
      *
@@ -105,6 +126,17 @@ public class AASRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll()}.
+     *
+     * @return a future of a list of all Asset Administration Shells that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<List<AssetAdministrationShell>> getAllAsync() {
+        return getAllAsync(AASSearchCriteria.DEFAULT);
+    }
+
+
     /**
      * Retrieves all Asset Administration Shells based on specific search criteria.
      *
@@ -127,6 +159,18 @@ public class AASRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll(AASSearchCriteria)}.
+     *
+     * @param aasSearchCriteria Search criteria to filter Asset Administration Shells based on AssetType and AssetKind
+     * @return a future of a list of Asset Administration Shells that match the search criteria that completes
+     *         exceptionally with any of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<List<AssetAdministrationShell>> getAllAsync(AASSearchCriteria aasSearchCriteria) {
+        return getAllAsync(null, aasSearchCriteria, OutputModifier.DEFAULT, AssetAdministrationShell.class);
+    }
+
+
     /**
      * Retrieves a page of Asset Administration Shells.
      *
@@ -149,6 +193,18 @@ public class AASRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(PagingInfo)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Asset Administration Shells that completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Page<AssetAdministrationShell>> getAsync(PagingInfo pagingInfo) {
+        return getAsync(pagingInfo, AASSearchCriteria.DEFAULT);
+    }
+
+
     /**
      * Retrieves a page of Asset Administration Shells based on specific search criteria.
      *
@@ -172,6 +228,201 @@ public class AASRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(PagingInfo, AASSearchCriteria)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @param aasSearchCriteria Search criteria to filter Asset Administration Shells based on AssetType and AssetKind
+     * @return a future of a page of Asset Administration Shells that completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Page<AssetAdministrationShell>> getAsync(PagingInfo pagingInfo, AASSearchCriteria aasSearchCriteria) {
+        return getPageAsync(null, aasSearchCriteria, OutputModifier.DEFAULT, pagingInfo, AssetAdministrationShell.class);
+    }
+
+
+    /**
+     * Retrieves a page of Asset Administration Shells that is parsed incrementally while being read from the
+     * connection, i.e., only a single element is held in memory at a time. The returned page must be closed after use,
+     * e.g., by using a try-with-resources statement.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return A streaming page of Asset Administration Shells
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>401: UnauthorizedException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public StreamingPage<AssetAdministrationShell> getStreaming(PagingInfo pagingInfo) throws StatusCodeException, ConnectivityException {
+        return getPageStreaming(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pagingInfo, AssetAdministrationShell.class);
+    }
+
+
+    /**
+     * Retrieves a page of Asset Administration Shells based on specific search criteria that is parsed incrementally
+     * while being read from the connection, i.e., only a single element is held in memory at a time. The returned page
+     * must be closed after use, e.g., by using a try-with-resources statement.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @param aasSearchCriteria Search criteria to filter Asset Administration Shells based on AssetType and AssetKind
+     * @return A streaming page of Asset Administration Shells that match the search criteria
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>401: UnauthorizedException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public StreamingPage<AssetAdministrationShell> getStreaming(PagingInfo pagingInfo, AASSearchCriteria aasSearchCriteria) throws StatusCodeException, ConnectivityException {
+        return getPageStreaming(null, aasSearchCriteria, OutputModifier.DEFAULT, pagingInfo, AssetAdministrationShell.class);
+    }
+
+
+    /**
+     * Lazily streams all Asset Administration Shells using pages of default size. Pages are requested only when needed,
+     * so memory consumption is limited by the page size instead of the total number of Asset Administration Shells. If
+     * fetching a page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @return a sequential stream of all Asset Administration Shells
+     */
+    public Stream<AssetAdministrationShell> stream() {
+        return stream(PagingIterator.DEFAULT_PAGE_SIZE);
+    }
+
+
+    /**
+     * Lazily streams all Asset Administration Shells. Pages are requested only when needed, so memory consumption is
+     * limited by the page size instead of the total number of Asset Administration Shells. If fetching a page fails, an
+     * {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param pageSize The maximum number of Asset Administration Shells per page
+     * @return a sequential stream of all Asset Administration Shells
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<AssetAdministrationShell> stream(long pageSize) {
+        return stream(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, AssetAdministrationShell.class);
+    }
+
+
+    /**
+     * Lazily streams all Asset Administration Shells that match specific search criteria. Pages are requested only when
+     * needed, so memory consumption is limited by the page size instead of the total number of Asset Administration
+     * Shells. If fetching a page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param aasSearchCriteria Search criteria to filter Asset Administration Shells based on AssetType and AssetKind
+     * @param pageSize The maximum number of Asset Administration Shells per page
+     * @return a sequential stream of all Asset Administration Shells that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<AssetAdministrationShell> stream(AASSearchCriteria aasSearchCriteria, long pageSize) {
+        return stream(null, aasSearchCriteria, OutputModifier.DEFAULT, pageSize, AssetAdministrationShell.class);
+    }
+
+
+    /**
+     * Lazily iterates over all Asset Administration Shells that match specific search criteria. Pages are requested
+     * only when needed, so memory consumption is limited by the page size instead of the total number of Asset
+     * Administration Shells. If fetching a page fails, an {@link UncheckedClientException} is thrown while iterating.
+     *
+     * @param aasSearchCriteria Search criteria to filter Asset Administration Shells based on AssetType and AssetKind
+     * @param pageSize The maximum number of Asset Administration Shells per page
+     * @return an iterator over all Asset Administration Shells that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Iterator<AssetAdministrationShell> iterate(AASSearchCriteria aasSearchCriteria, long pageSize) {
+        return iterate(null, aasSearchCriteria, OutputModifier.DEFAULT, pageSize, AssetAdministrationShell.class);
+    }
+
+
+    /**
+     * Lazily streams all Asset Administration Shells that match specific search criteria while prefetching pages. Pages
+     * of {@code pageSize} elements are requested in the background as soon as the cursor of the previous page is known,
+     * with up to {@code prefetchDepth} pages fetched ahead of the page currently consumed. This overlaps network
+     * latency with processing at the cost of holding up to {@code prefetchDepth} additional pages in memory. If
+     * fetching a page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param aasSearchCriteria Search criteria to filter Asset Administration Shells based on AssetType and AssetKind
+     * @param pageSize The maximum number of Asset Administration Shells per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return a sequential stream of all Asset Administration Shells that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Stream<AssetAdministrationShell> stream(AASSearchCriteria aasSearchCriteria, long pageSize, int prefetchDepth) {
+        return stream(
+                null,
+                aasSearchCriteria,
+                OutputModifier.DEFAULT,
+                pageSize,
+                prefetchDepth,
+                AssetAdministrationShell.class);
+    }
+
+
+    /**
+     * Lazily iterates over all Asset Administration Shells that match specific search criteria while prefetching pages.
+     * Pages of {@code pageSize} elements are requested in the background as soon as the cursor of the previous page is
+     * known, with up to {@code prefetchDepth} pages fetched ahead of the page currently consumed. This overlaps network
+     * latency with processing at the cost of holding up to {@code prefetchDepth} additional pages in memory. If
+     * fetching a page fails, an {@link UncheckedClientException} is thrown while iterating.
+     *
+     * @param aasSearchCriteria Search criteria to filter Asset Administration Shells based on AssetType and AssetKind
+     * @param pageSize The maximum number of Asset Administration Shells per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return an iterator over all Asset Administration Shells that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Iterator<AssetAdministrationShell> iterate(AASSearchCriteria aasSearchCriteria, long pageSize, int prefetchDepth) {
+        return iterate(
+                null,
+                aasSearchCriteria,
+                OutputModifier.DEFAULT,
+                pageSize,
+                prefetchDepth,
+                AssetAdministrationShell.class);
+    }
+
+
+    /**
+     * Creates a publisher emitting all Asset Administration Shells. Pages are only requested when required by the
+     * demand of the subscriber, i.e., backpressure is propagated to the server. Errors are signalled to the subscriber
+     * with the respective {@link ClientException}.
+     *
+     * @param pageSize The maximum number of Asset Administration Shells per page
+     * @return a publisher of all Asset Administration Shells
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Flow.Publisher<AssetAdministrationShell> publisher(long pageSize) {
+        return publisher(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, AssetAdministrationShell.class);
+    }
+
+
+    /**
+     * Creates a publisher emitting all Asset Administration Shells that match specific search criteria. Pages are only
+     * requested when required by the demand of the subscriber, i.e., backpressure is propagated to the server. Errors
+     * are signalled to the subscriber with the respective {@link ClientException}.
+     *
+     * @param aasSearchCriteria Search criteria to filter Asset Administration Shells based on AssetType and AssetKind
+     * @param pageSize The maximum number of Asset Administration Shells per page
+     * @return a publisher of all Asset Administration Shells that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Flow.Publisher<AssetAdministrationShell> publisher(AASSearchCriteria aasSearchCriteria, long pageSize) {
+        return publisher(null, aasSearchCriteria, OutputModifier.DEFAULT, pageSize, AssetAdministrationShell.class);
+    }
+
+
     /**
      * Creates a new Asset Administration Shell.
      * The unique identifier of the Asset Administration Shell must be provided in the payload.
@@ -196,6 +447,18 @@ public class AASRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #post(AssetAdministrationShell)}.
+     *
+     * @param aas Asset Administration Shell object to be created
+     * @return a future of the created Asset Administration Shell that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<AssetAdministrationShell> postAsync(AssetAdministrationShell aas) {
+        return postAsync(null, aas, Content.NORMAL, AssetAdministrationShell.class);
+    }
+
+
     /**
      * Retrieves references to all Asset Administration Shells.
      *
@@ -217,6 +480,17 @@ public class AASRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAllAsReference()}.
+     *
+     * @return a future of a list of references to all Asset Administration Shells that completes exceptionally with any
+     *         of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<List<Reference>> getAllAsReferenceAsync() {
+        return getAllAsReferenceAsync(AASSearchCriteria.DEFAULT);
+    }
+
+
     /**
      * Retrieves references to all Asset Administration Shells based on specific search criteria.
      *
@@ -240,6 +514,18 @@ public class AASRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAllAsReference(AASSearchCriteria)}.
+     *
+     * @param aasSearchCriteria Search criteria to filter Asset Administration Shell references based on AssetType and
+     * @return a future of a list of references to Asset Administration Shells that completes exceptionally with any of
+     *         the exceptions of the synchronous variant
+     */
+    public CompletableFuture<List<Reference>> getAllAsReferenceAsync(AASSearchCriteria aasSearchCriteria) {
+        return getAllAsync(null, aasSearchCriteria, OutputModifier.with(Content.REFERENCE), Reference.class);
+    }
+
+
     /**
      * Retrieves a page of references to Asset Administration Shells.
      *
@@ -262,6 +548,18 @@ public class AASRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getReference(PagingInfo)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of references to Asset Administration Shells that completes exceptionally with any of
+     *         the exceptions of the synchronous variant
+     */
+    public CompletableFuture<Page<Reference>> getReferenceAsync(PagingInfo pagingInfo) {
+        return getReferenceAsync(pagingInfo, AASSearchCriteria.DEFAULT);
+    }
+
+
     /**
      * Retrieves a page of references to Asset Administration Shells based on specific search criteria.
      *
@@ -286,6 +584,19 @@ public class AASRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getReference(PagingInfo, AASSearchCriteria)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @param aasSearchCriteria Search criteria to filter Asset Administration Shell references based on AssetType and
+     * @return a future of a page of references to Asset Administration Shells that completes exceptionally with any of
+     *         the exceptions of the synchronous variant
+     */
+    public CompletableFuture<Page<Reference>> getReferenceAsync(PagingInfo pagingInfo, AASSearchCriteria aasSearchCriteria) {
+        return getPageAsync(null, aasSearchCriteria, OutputModifier.with(Content.REFERENCE), pagingInfo, Reference.class);
+    }
+
+
     /**
      * Deletes an Asset Administration Shell.
      *
@@ -308,6 +619,18 @@ public class AASRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @param aasIdentifier The unique identifier of the Asset Administration Shell to be deleted
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> deleteAsync(String aasIdentifier) {
+        return super.deleteAsync(idPath(aasIdentifier));
+    }
+
+
     /**
      * Returns an AAS Interface for accessing the data of AAS elements.
      *
@@ -315,6 +638,6 @@ public class AASRepositoryInterface extends BaseInterface {
      * @return Requested Asset Administration Shell Interface
      */
     public AASInterface getAASInterface(String aasIdentifier) {
-        return new AASInterface(resolve(idPath(aasIdentifier)), httpClient);
+        return new AASInterface(resolve(idPath(aasIdentifier)), session);
     }
 }
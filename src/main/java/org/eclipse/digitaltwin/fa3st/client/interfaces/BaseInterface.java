@@ -17,14 +17,29 @@ import static org.eclipse.digitaltwin.fa3st.client.util.Constants.DEFAULT_CHARSE
 import static org.eclipse.digitaltwin.fa3st.client.util.Constants.URI_PATH_SEPERATOR;
 
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.cache.ObjectCache;
 import org.eclipse.digitaltwin.fa3st.client.exception.BadRequestException;
 import org.eclipse.digitaltwin.fa3st.client.exception.ConflictException;
 import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
@@ -37,8 +52,15 @@ import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
 import org.eclipse.digitaltwin.fa3st.client.exception.UnauthorizedException;
 import org.eclipse.digitaltwin.fa3st.client.exception.UnsupportedStatusCodeException;
 import org.eclipse.digitaltwin.fa3st.client.query.SearchCriteria;
+import org.eclipse.digitaltwin.fa3st.client.transport.HttpTransport;
 import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.MultipartFileBody;
+import org.eclipse.digitaltwin.fa3st.client.util.PagingIterator;
+import org.eclipse.digitaltwin.fa3st.client.util.PagingPublisher;
 import org.eclipse.digitaltwin.fa3st.client.util.QueryHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.RangedDownload;
+import org.eclipse.digitaltwin.fa3st.client.util.StreamingFile;
+import org.eclipse.digitaltwin.fa3st.client.util.StreamingPage;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.DeserializationException;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiDeserializer;
@@ -54,6 +76,7 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
 import org.eclipse.digitaltwin.fa3st.common.model.http.HttpMethod;
 import org.eclipse.digitaltwin.fa3st.common.model.http.HttpStatus;
 import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
 import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
 import org.springframework.web.util.UriUtils;
 
@@ -61,7 +84,8 @@ import org.springframework.web.util.UriUtils;
 /**
  * Abstract base class providing core functionality for sending HTTP requests and handling API responses.
  * Supports GET, POST, PUT, PATCH and DELETE operations, deserialization of responses, and throws exceptions based on
- * status codes.
+ * status codes. Every operation is available in a blocking and in a non-blocking variant, the latter returning a
+ * {@link CompletableFuture} that completes exceptionally with the same exceptions the blocking variant throws.
  * Subclasses extend these methods to interact with specific APIs.
  */
 public abstract class BaseInterface {
@@ -73,10 +97,42 @@ public abstract class BaseInterface {
             HttpStatus.NOT_FOUND,
             HttpStatus.INTERNAL_SERVER_ERROR);
 
-    protected final JsonApiSerializer serializer = new JsonApiSerializer();
-    protected final JsonApiDeserializer deserializer = new JsonApiDeserializer();
+    protected final ClientSession session;
+    protected final JsonApiSerializer serializer;
+    protected final JsonApiDeserializer deserializer;
+    protected final HttpTransport transport;
+    /**
+     * The HTTP client of the session if it sends requests using a
+     * {@link org.eclipse.digitaltwin.fa3st.client.transport.JdkHttpTransport}, otherwise null.
+     *
+     * @deprecated requests are sent through {@link #transport}, which also applies the authentication, retry and
+     *             caching configured for the session; sending requests through this client directly bypasses them.
+     */
+    @Deprecated
     protected final HttpClient httpClient;
     protected final URI endpoint;
+    private final ObjectCache objectCache;
+    private final Object cacheScope;
+
+    /**
+     * Creates a new instance sharing the transport, serializer and deserializer of the given session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @param session the session providing the shared resources
+     */
+    @SuppressWarnings("deprecation")
+    protected BaseInterface(URI endpoint, ClientSession session) {
+        Ensure.requireNonNull(session, "session must be non-null");
+        this.endpoint = sanitizeEndpoint(endpoint);
+        this.session = session;
+        this.transport = session.getTransport();
+        this.httpClient = session.getHttpClient();
+        this.serializer = session.getSerializer();
+        this.deserializer = session.getDeserializer();
+        this.objectCache = session.getObjectCache();
+        this.cacheScope = session.getAuthenticationProvider();
+    }
+
 
     /**
      * Creates a new instance.
@@ -85,8 +141,9 @@ public abstract class BaseInterface {
      * @param httpClient Allows user to specify custom http-client
      */
     protected BaseInterface(URI endpoint, HttpClient httpClient) {
-        this.endpoint = sanitizeEndpoint(endpoint);
-        this.httpClient = httpClient;
+        this(endpoint, new ClientSession.Builder()
+                .httpClient(httpClient)
+                .build());
     }
 
 
@@ -136,10 +193,24 @@ public abstract class BaseInterface {
      * @throws InvalidPayloadException if deserializing the payload fails
      */
     protected <T> T get(String path, OutputModifier modifier, Class<T> responseType) throws ConnectivityException, StatusCodeException {
-        HttpRequest request = HttpHelper.createGetRequest(resolve(QueryHelper.apply(path, modifier)));
-        HttpResponse<String> response = HttpHelper.send(httpClient, request);
-        validateStatusCode(HttpMethod.GET, response, HttpStatus.OK);
-        return parseBody(response, responseType);
+        URI uri = resolve(QueryHelper.apply(path, modifier));
+        T cached = getCached(uri, responseType);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+        long version = getCacheVersion(uri);
+        HttpRequest request = HttpHelper.createGetRequest(uri);
+        HttpResponse<String> response = HttpHelper.send(transport, request);
+        try {
+            validateStatusCode(HttpMethod.GET, response, HttpStatus.OK);
+        }
+        catch (NotFoundException e) {
+            cacheNotFound(uri, responseType, e, version);
+            throw e;
+        }
+        T result = parseBody(response, responseType);
+        cache(uri, responseType, result, version);
+        return result;
     }
 
 
@@ -153,13 +224,105 @@ public abstract class BaseInterface {
      */
     protected InMemoryFile getFile(String path) throws ConnectivityException, StatusCodeException {
         HttpRequest request = HttpHelper.createGetRequest(resolve(QueryHelper.apply(path, OutputModifier.DEFAULT)));
-        HttpResponse<byte[]> response = HttpHelper.sendFileRequest(httpClient, request);
+        HttpResponse<byte[]> response = HttpHelper.sendFileRequest(transport, request);
         validateStatusCode(HttpMethod.GET, response, HttpStatus.OK);
 
         return HttpHelper.parseBody(response);
     }
 
 
+    /**
+     * Executes a HTTP GET and returns the response body as a file that is read directly from the connection, i.e.,
+     * without loading it into memory. The returned file must be closed after use.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @return the file name and content
+     * @throws ConnectivityException if connection to the server fails
+     * @throws StatusCodeException if HTTP request returns invalid status code
+     */
+    protected StreamingFile getFileStreaming(String path) throws ConnectivityException, StatusCodeException {
+        HttpRequest request = HttpHelper.createGetRequest(resolve(QueryHelper.apply(path, OutputModifier.DEFAULT)));
+        HttpResponse<InputStream> response = HttpHelper.sendStreaming(transport, request);
+        if (!Objects.equals(HttpStatus.OK.getCode(), response.statusCode())) {
+            validateStatusCode(HttpMethod.GET, HttpHelper.readBodyAsString(response), HttpStatus.OK);
+        }
+        return HttpHelper.parseStreamingBody(response);
+    }
+
+
+    /**
+     * Executes a HTTP GET and writes the response body to a file in constant memory. If {@code target} is an existing
+     * directory, the file is created inside this directory using the file name provided by the server, otherwise
+     * {@code target} is used as file name. Existing files are replaced.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param target the file or directory to write to
+     * @return the file that has been written
+     * @throws ConnectivityException if connection to the server fails or writing the file fails
+     * @throws StatusCodeException if HTTP request returns invalid status code
+     */
+    protected Path getFile(String path, Path target) throws ConnectivityException, StatusCodeException {
+        Ensure.requireNonNull(target, "target must be non-null");
+        try (StreamingFile file = getFileStreaming(path)) {
+            Path result = Files.isDirectory(target)
+                    ? target.resolve(HttpHelper.sanitizeFileName(file.getName()))
+                    : target;
+            file.transferTo(result);
+            return result;
+        }
+        catch (IOException e) {
+            throw new ConnectivityException("failed to download file", e);
+        }
+    }
+
+
+    /**
+     * Executes a HTTP GET and writes the response body to a file using parallel HTTP range requests. Interrupted
+     * downloads are resumed when called again with the same target. See {@link RangedDownload} for details.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param target the file or directory to write to
+     * @param parallelism the maximum number of ranges downloaded in parallel
+     * @param rangeSize the size of a single range in bytes
+     * @return the file that has been written
+     * @throws ConnectivityException if connection to the server fails or writing the file fails
+     * @throws StatusCodeException if HTTP request returns invalid status code
+     */
+    protected Path getFileRanged(String path, Path target, int parallelism, long rangeSize) throws ConnectivityException, StatusCodeException {
+        return new RangedDownload.Builder()
+                .transport(transport)
+                .uri(resolve(QueryHelper.apply(path, OutputModifier.DEFAULT)))
+                .target(target)
+                .parallelism(parallelism)
+                .rangeSize(rangeSize)
+                .errorHandler(x -> validateStatusCode(HttpMethod.GET, x, HttpStatus.OK))
+                .build()
+                .execute();
+    }
+
+
+    /**
+     * Executes a HTTP GET and writes the response body to an output stream in constant memory. The output stream is
+     * not closed.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param output the output stream to write to
+     * @return the name of the file as provided by the server
+     * @throws ConnectivityException if connection to the server fails or writing to the output stream fails
+     * @throws StatusCodeException if HTTP request returns invalid status code
+     */
+    protected String getFile(String path, OutputStream output) throws ConnectivityException, StatusCodeException {
+        Ensure.requireNonNull(output, "output must be non-null");
+        try (StreamingFile file = getFileStreaming(path)) {
+            file.transferTo(output);
+            return file.getName();
+        }
+        catch (IOException e) {
+            throw new ConnectivityException("failed to download file", e);
+        }
+    }
+
+
     /**
      * Executes a HTTP GET and parses the response body as a list of {@code responseType}.
      *
@@ -175,7 +338,7 @@ public abstract class BaseInterface {
      */
     protected <T> List<T> getAll(String path, SearchCriteria searchCriteria, OutputModifier modifier, Class<T> responseType) throws ConnectivityException, StatusCodeException {
         HttpRequest request = HttpHelper.createGetRequest(resolve(QueryHelper.apply(path, modifier, PagingInfo.ALL, searchCriteria)));
-        HttpResponse<String> response = HttpHelper.send(httpClient, request);
+        HttpResponse<String> response = HttpHelper.send(transport, request);
         validateStatusCode(HttpMethod.GET, response, HttpStatus.OK);
         try {
             return deserializePage(response.body(), responseType).getContent();
@@ -203,7 +366,7 @@ public abstract class BaseInterface {
     protected <T> Page<T> getPage(String path, SearchCriteria searchCriteria, OutputModifier modifier, PagingInfo pagingInfo, Class<T> responseType)
             throws ConnectivityException, StatusCodeException {
         HttpRequest request = HttpHelper.createGetRequest(resolve(QueryHelper.apply(path, modifier, pagingInfo, searchCriteria)));
-        HttpResponse<String> response = HttpHelper.send(httpClient, request);
+        HttpResponse<String> response = HttpHelper.send(transport, request);
         validateStatusCode(HttpMethod.GET, response, HttpStatus.OK);
         try {
             return deserializePage(response.body(), responseType);
@@ -214,6 +377,156 @@ public abstract class BaseInterface {
     }
 
 
+    /**
+     * Executes a HTTP GET and returns the response body as a page of {@code responseType} that is parsed incrementally
+     * while being read from the connection. In contrast to
+     * {@link #getPage(String, SearchCriteria, OutputModifier, PagingInfo, Class)}, the response body is not buffered,
+     * i.e., only a single element is held in memory at a time. The returned page must be closed after use.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param searchCriteria the search criteria
+     * @param modifier the output modifier
+     * @param pagingInfo the paging information
+     * @param responseType the result type
+     * @return the streaming page
+     * @throws ConnectivityException if connection to the server fails
+     * @throws StatusCodeException if HTTP request returns invalid status code
+     * @throws InvalidPayloadException if deserializing the payload fails
+     */
+    protected <T> StreamingPage<T> getPageStreaming(String path, SearchCriteria searchCriteria, OutputModifier modifier, PagingInfo pagingInfo, Class<T> responseType)
+            throws ConnectivityException, StatusCodeException {
+        HttpRequest request = HttpHelper.createGetRequest(resolve(QueryHelper.apply(path, modifier, pagingInfo, searchCriteria)));
+        HttpResponse<InputStream> response = HttpHelper.sendStreaming(transport, request);
+        if (!Objects.equals(HttpStatus.OK.getCode(), response.statusCode())) {
+            validateStatusCode(HttpMethod.GET, HttpHelper.readBodyAsString(response), HttpStatus.OK);
+        }
+        return new StreamingPage<>(response.body(), deserializer, responseType);
+    }
+
+
+    /**
+     * Lazily iterates over all elements of type {@code responseType} by following the page cursors. Pages are
+     * requested with {@code pageSize} elements each and only when needed, so only a single page is held in memory at a
+     * time.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param searchCriteria the search criteria
+     * @param modifier the output modifier
+     * @param pageSize the maximum number of elements per page
+     * @param responseType the result type
+     * @return an iterator over all elements; throws
+     *         {@link org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException} if fetching a page fails
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    protected <T> PagingIterator<T> iterate(String path, SearchCriteria searchCriteria, OutputModifier modifier, long pageSize, Class<T> responseType) {
+        return iterate(path, searchCriteria, modifier, pageSize, 0, responseType);
+    }
+
+
+    /**
+     * Lazily iterates over all elements of type {@code responseType} by following the page cursors. Pages are
+     * requested with {@code pageSize} elements each. If {@code prefetchDepth} is greater than 0, the next page is
+     * requested in the background as soon as the cursor of the previous page is known and up to {@code prefetchDepth}
+     * pages are fetched ahead of the page currently consumed.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param searchCriteria the search criteria
+     * @param modifier the output modifier
+     * @param pageSize the maximum number of elements per page
+     * @param prefetchDepth the maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @param responseType the result type
+     * @return an iterator over all elements; throws
+     *         {@link org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException} if fetching a page fails
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    protected <T> PagingIterator<T> iterate(String path,
+                                            SearchCriteria searchCriteria,
+                                            OutputModifier modifier,
+                                            long pageSize,
+                                            int prefetchDepth,
+                                            Class<T> responseType) {
+        if (prefetchDepth == 0) {
+            return new PagingIterator<>(
+                    pagingInfo -> getPage(path, searchCriteria, modifier, pagingInfo, responseType),
+                    pageSize);
+        }
+        return new PagingIterator<>(
+                pagingInfo -> getPageAsync(path, searchCriteria, modifier, pagingInfo, responseType),
+                pageSize,
+                prefetchDepth);
+    }
+
+
+    /**
+     * Lazily streams all elements of type {@code responseType} by following the page cursors. Pages are requested with
+     * {@code pageSize} elements each and only when needed, so only a single page is held in memory at a time.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param searchCriteria the search criteria
+     * @param modifier the output modifier
+     * @param pageSize the maximum number of elements per page
+     * @param responseType the result type
+     * @return a sequential stream of all elements; throws
+     *         {@link org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException} if fetching a page fails
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    protected <T> Stream<T> stream(String path, SearchCriteria searchCriteria, OutputModifier modifier, long pageSize, Class<T> responseType) {
+        return iterate(path, searchCriteria, modifier, pageSize, responseType).stream();
+    }
+
+
+    /**
+     * Lazily streams all elements of type {@code responseType} by following the page cursors. Pages are requested with
+     * {@code pageSize} elements each. If {@code prefetchDepth} is greater than 0, the next page is requested in the
+     * background as soon as the cursor of the previous page is known and up to {@code prefetchDepth} pages are fetched
+     * ahead of the page currently consumed.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param searchCriteria the search criteria
+     * @param modifier the output modifier
+     * @param pageSize the maximum number of elements per page
+     * @param prefetchDepth the maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @param responseType the result type
+     * @return a sequential stream of all elements; throws
+     *         {@link org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException} if fetching a page fails
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    protected <T> Stream<T> stream(String path,
+                                   SearchCriteria searchCriteria,
+                                   OutputModifier modifier,
+                                   long pageSize,
+                                   int prefetchDepth,
+                                   Class<T> responseType) {
+        return iterate(path, searchCriteria, modifier, pageSize, prefetchDepth, responseType).stream();
+    }
+
+
+    /**
+     * Creates a {@link Flow.Publisher} emitting all elements of type {@code responseType} by following the page
+     * cursors. Pages are requested with {@code pageSize} elements each and only when required by the demand of the
+     * subscriber.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param searchCriteria the search criteria
+     * @param modifier the output modifier
+     * @param pageSize the maximum number of elements per page
+     * @param responseType the result type
+     * @return the publisher
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    protected <T> Flow.Publisher<T> publisher(String path, SearchCriteria searchCriteria, OutputModifier modifier, long pageSize, Class<T> responseType) {
+        return new PagingPublisher<>(
+                pagingInfo -> getPageAsync(path, searchCriteria, modifier, pagingInfo, responseType),
+                pageSize);
+    }
+
+
     /**
      * Executes a HTTP POST and parses the response body as {@code responseType}.
      *
@@ -251,8 +564,9 @@ public abstract class BaseInterface {
         HttpRequest request = HttpHelper.createPostRequest(
                 resolve(QueryHelper.apply(path, content, QueryModifier.DEFAULT)),
                 serialize(entity, content, QueryModifier.DEFAULT));
-        HttpResponse<String> response = HttpHelper.send(httpClient, request);
+        HttpResponse<String> response = HttpHelper.send(transport, request);
         validateStatusCode(HttpMethod.POST, response, expectedStatusCode);
+        invalidateCache(request.uri());
         return parseBody(response, responseType);
     }
 
@@ -323,8 +637,9 @@ public abstract class BaseInterface {
         HttpRequest request = HttpHelper.createPutRequest(
                 resolve(QueryHelper.apply(path, content, modifier)),
                 serialize(entity, content, modifier));
-        HttpResponse<String> response = HttpHelper.send(httpClient, request);
+        HttpResponse<String> response = HttpHelper.send(transport, request);
         validateStatusCode(HttpMethod.PUT, response, HttpStatus.NO_CONTENT);
+        invalidateCache(request.uri());
     }
 
 
@@ -338,8 +653,59 @@ public abstract class BaseInterface {
      */
     protected void putFile(String path, TypedInMemoryFile file) throws ConnectivityException, StatusCodeException {
         HttpRequest request = HttpHelper.createPutFileRequest(resolve(QueryHelper.apply(path, Content.DEFAULT, QueryModifier.DEFAULT)), file);
-        HttpResponse<byte[]> response = HttpHelper.sendFileRequest(httpClient, request);
+        HttpResponse<byte[]> response = HttpHelper.sendFileRequest(transport, request);
+        validateStatusCode(HttpMethod.PUT, response, HttpStatus.NO_CONTENT);
+        invalidateCache(request.uri());
+    }
+
+
+    /**
+     * Executes an HTTP PUT for files reading the content from disk while sending the request.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param file the file to upload
+     * @param contentType the content type of the file
+     * @throws ConnectivityException if connection to the server fails or the file cannot be read
+     * @throws StatusCodeException if HTTP request returns invalid status code
+     */
+    protected void putFile(String path, Path file, String contentType) throws ConnectivityException, StatusCodeException {
+        Ensure.requireNonNull(file, "file must be non-null");
+        try {
+            putFile(path, MultipartFileBody.of(file.getFileName().toString(), contentType, file));
+        }
+        catch (FileNotFoundException e) {
+            throw new ConnectivityException(String.format("failed to read file '%s'", file), e);
+        }
+    }
+
+
+    /**
+     * Executes an HTTP PUT for files reading the content from a file channel while sending the request. The content is
+     * read from the current position of the channel up to its end. The channel is neither closed nor is its position
+     * modified.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param channel the channel to upload
+     * @param fileName the file name to send to the server
+     * @param contentType the content type of the file
+     * @throws ConnectivityException if connection to the server fails or the channel cannot be read
+     * @throws StatusCodeException if HTTP request returns invalid status code
+     */
+    protected void putFile(String path, FileChannel channel, String fileName, String contentType) throws ConnectivityException, StatusCodeException {
+        try {
+            putFile(path, MultipartFileBody.of(fileName, contentType, channel));
+        }
+        catch (IOException e) {
+            throw new ConnectivityException("failed to read file channel", e);
+        }
+    }
+
+
+    private void putFile(String path, MultipartFileBody body) throws ConnectivityException, StatusCodeException {
+        HttpRequest request = HttpHelper.createPutFileRequest(resolve(QueryHelper.apply(path, Content.DEFAULT, QueryModifier.DEFAULT)), body);
+        HttpResponse<String> response = HttpHelper.send(transport, request);
         validateStatusCode(HttpMethod.PUT, response, HttpStatus.NO_CONTENT);
+        invalidateCache(request.uri());
     }
 
 
@@ -411,8 +777,9 @@ public abstract class BaseInterface {
         HttpRequest request = HttpHelper.createPatchRequest(
                 resolve(QueryHelper.apply(path, content, modifier)),
                 serialize(entity, content, modifier));
-        HttpResponse<String> response = HttpHelper.send(httpClient, request);
+        HttpResponse<String> response = HttpHelper.send(transport, request);
         validateStatusCode(HttpMethod.PATCH, response, HttpStatus.NO_CONTENT);
+        invalidateCache(request.uri());
     }
 
 
@@ -429,8 +796,9 @@ public abstract class BaseInterface {
         HttpRequest request = HttpHelper.createPatchRequest(
                 resolve(QueryHelper.apply(path, Content.VALUE, modifier)),
                 serializeEntity(entity));
-        HttpResponse<String> response = HttpHelper.send(httpClient, request);
+        HttpResponse<String> response = HttpHelper.send(transport, request);
         validateStatusCode(HttpMethod.PATCH, response, HttpStatus.NO_CONTENT);
+        invalidateCache(request.uri());
     }
 
 
@@ -456,8 +824,492 @@ public abstract class BaseInterface {
      */
     protected void delete(String path, HttpStatus expectedStatus) throws ConnectivityException, StatusCodeException {
         HttpRequest request = HttpHelper.createDeleteRequest(resolve(path));
-        HttpResponse<String> response = HttpHelper.send(httpClient, request);
+        HttpResponse<String> response = HttpHelper.send(transport, request);
         validateStatusCode(HttpMethod.DELETE, response, expectedStatus);
+        invalidateCache(request.uri());
+    }
+
+
+    /**
+     * Executes a HTTP GET asynchronously and parses the response body as {@code responseType}.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param modifier the output modifier
+     * @param responseType the result type
+     * @return a future of the parsed HTTP response which completes exceptionally with a {@link ConnectivityException}
+     *         if connection to the server fails, a {@link StatusCodeException} if HTTP request returns invalid status
+     *         code or a {@link InvalidPayloadException} if deserializing the payload fails
+     */
+    protected <T> CompletableFuture<T> getAsync(String path, OutputModifier modifier, Class<T> responseType) {
+        URI uri;
+        T cached;
+        try {
+            uri = resolve(QueryHelper.apply(path, modifier));
+            cached = getCached(uri, responseType);
+        }
+        catch (NotFoundException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (Objects.nonNull(cached)) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        long version = getCacheVersion(uri);
+        CompletableFuture<T> result = executeAsync(
+                () -> HttpHelper.createGetRequest(uri),
+                HttpMethod.GET,
+                HttpStatus.OK,
+                response -> parseBody(response, responseType));
+        return HttpHelper.propagateCancellation(result, result.whenComplete((value, error) -> {
+            if (Objects.isNull(error)) {
+                cache(uri, responseType, value, version);
+            }
+            else if (HttpHelper.unwrap(error) instanceof NotFoundException) {
+                cacheNotFound(uri, responseType, (NotFoundException) HttpHelper.unwrap(error), version);
+            }
+        }));
+    }
+
+
+    /**
+     * Executes a HTTP GET for files asynchronously.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @return a future of the file name and content which completes exceptionally with a
+     *         {@link ConnectivityException} if connection to the server fails or a {@link StatusCodeException} if HTTP
+     *         request returns invalid status code
+     */
+    protected CompletableFuture<InMemoryFile> getFileAsync(String path) {
+        return executeFileAsync(
+                () -> HttpHelper.createGetRequest(resolve(QueryHelper.apply(path, OutputModifier.DEFAULT))),
+                HttpMethod.GET,
+                HttpStatus.OK,
+                HttpHelper::parseBody);
+    }
+
+
+    /**
+     * Executes a HTTP GET asynchronously and parses the response body as a list of {@code responseType}.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param searchCriteria the search criteria
+     * @param modifier the output modifier
+     * @param responseType the result type
+     * @return a future of the parsed HTTP response which completes exceptionally with a {@link ConnectivityException}
+     *         if connection to the server fails, a {@link StatusCodeException} if HTTP request returns invalid status
+     *         code or a {@link InvalidPayloadException} if deserializing the payload fails
+     */
+    protected <T> CompletableFuture<List<T>> getAllAsync(String path, SearchCriteria searchCriteria, OutputModifier modifier, Class<T> responseType) {
+        return getPageAsync(path, searchCriteria, modifier, PagingInfo.ALL, responseType)
+                .thenApply(Page::getContent);
+    }
+
+
+    /**
+     * Executes a HTTP GET asynchronously and parses the response body as a page of {@code responseType}.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param searchCriteria the search criteria
+     * @param modifier the output modifier
+     * @param pagingInfo the paging information
+     * @param responseType the result type
+     * @return a future of the parsed HTTP response which completes exceptionally with a {@link ConnectivityException}
+     *         if connection to the server fails, a {@link StatusCodeException} if HTTP request returns invalid status
+     *         code or a {@link InvalidPayloadException} if deserializing the payload fails
+     */
+    protected <T> CompletableFuture<Page<T>> getPageAsync(String path,
+                                                          SearchCriteria searchCriteria,
+                                                          OutputModifier modifier,
+                                                          PagingInfo pagingInfo,
+                                                          Class<T> responseType) {
+        return executeAsync(
+                () -> HttpHelper.createGetRequest(resolve(QueryHelper.apply(path, modifier, pagingInfo, searchCriteria))),
+                HttpMethod.GET,
+                HttpStatus.OK,
+                response -> {
+                    try {
+                        return deserializePage(response.body(), responseType);
+                    }
+                    catch (DeserializationException e) {
+                        throw new InvalidPayloadException(e);
+                    }
+                });
+    }
+
+
+    /**
+     * Executes a HTTP POST asynchronously and parses the response body as {@code responseType}.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param entity the payload to send in the POST body
+     * @param content the content modifier
+     * @param responseType the result type
+     * @return a future of the parsed HTTP response which completes exceptionally with a {@link ConnectivityException}
+     *         if connection to the server fails, a {@link StatusCodeException} if HTTP request returns invalid status
+     *         code or a {@link InvalidPayloadException} if deserializing the payload fails
+     */
+    protected <T> CompletableFuture<T> postAsync(String path, Object entity, Content content, Class<T> responseType) {
+        return postAsync(path, entity, content, HttpStatus.CREATED, responseType);
+    }
+
+
+    /**
+     * Executes a HTTP POST asynchronously and parses the response body as {@code responseType}.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param entity the payload to send in the POST body
+     * @param content the content modifier
+     * @param expectedStatusCode the expected HTTP status code
+     * @param responseType the result type
+     * @return a future of the parsed HTTP response which completes exceptionally with a {@link ConnectivityException}
+     *         if connection to the server fails, a {@link StatusCodeException} if HTTP request returns invalid status
+     *         code or a {@link InvalidPayloadException} if deserializing the payload fails
+     */
+    protected <T> CompletableFuture<T> postAsync(String path, Object entity, Content content, HttpStatus expectedStatusCode, Class<T> responseType) {
+        return postAsync(path, entity, content, expectedStatusCode, response -> parseBody(response, responseType));
+    }
+
+
+    /**
+     * Executes a HTTP POST asynchronously and parses the response using {@code parser}. This allows evaluating headers
+     * of the response.
+     *
+     * @param <T> the result type
+     * @param path the URL path relative to the current endpoint
+     * @param entity the payload to send in the POST body
+     * @param content the content modifier
+     * @param expectedStatusCode the expected HTTP status code
+     * @param parser the parser to apply to the response
+     * @return a future of the parsed HTTP response which completes exceptionally with a {@link ConnectivityException}
+     *         if connection to the server fails, a {@link StatusCodeException} if HTTP request returns invalid status
+     *         code or a {@link InvalidPayloadException} if parsing the response fails
+     */
+    protected <T> CompletableFuture<T> postAsync(String path, Object entity, Content content, HttpStatus expectedStatusCode,
+                                                 Function<HttpResponse<String>, T> parser) {
+        return executeAsync(
+                () -> HttpHelper.createPostRequest(
+                        resolve(QueryHelper.apply(path, content, QueryModifier.DEFAULT)),
+                        serialize(entity, content, QueryModifier.DEFAULT)),
+                HttpMethod.POST,
+                expectedStatusCode,
+                parser);
+    }
+
+
+    /**
+     * Executes a HTTP PUT asynchronously.
+     *
+     * @param entity the payload to send in the body
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> putAsync(Object entity) {
+        return putAsync(null, entity, QueryModifier.DEFAULT);
+    }
+
+
+    /**
+     * Executes a HTTP PUT asynchronously.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param entity the payload to send in the body
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> putAsync(String path, Object entity) {
+        return putAsync(path, entity, QueryModifier.DEFAULT);
+    }
+
+
+    /**
+     * Executes a HTTP PUT asynchronously.
+     *
+     * @param entity the payload to send in the body
+     * @param modifier the query modifier
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> putAsync(Object entity, QueryModifier modifier) {
+        return putAsync(null, entity, Content.DEFAULT, modifier);
+    }
+
+
+    /**
+     * Executes a HTTP PUT asynchronously.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param entity the payload to send in the body
+     * @param modifier the query modifier
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> putAsync(String path, Object entity, QueryModifier modifier) {
+        return putAsync(path, entity, Content.DEFAULT, modifier);
+    }
+
+
+    /**
+     * Executes a HTTP PUT asynchronously.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param entity the payload to send in the body
+     * @param content the content modifier
+     * @param modifier the query modifier
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> putAsync(String path, Object entity, Content content, QueryModifier modifier) {
+        return executeAsync(
+                () -> HttpHelper.createPutRequest(
+                        resolve(QueryHelper.apply(path, content, modifier)),
+                        serialize(entity, content, modifier)),
+                HttpMethod.PUT,
+                HttpStatus.NO_CONTENT,
+                response -> null);
+    }
+
+
+    /**
+     * Executes an HTTP PUT for files asynchronously.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param file the file
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> putFileAsync(String path, TypedInMemoryFile file) {
+        return executeFileAsync(
+                () -> HttpHelper.createPutFileRequest(resolve(QueryHelper.apply(path, Content.DEFAULT, QueryModifier.DEFAULT)), file),
+                HttpMethod.PUT,
+                HttpStatus.NO_CONTENT,
+                response -> null);
+    }
+
+
+    /**
+     * Executes a HTTP PATCH asynchronously.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param entity the payload to send in the body
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> patchAsync(String path, Object entity) {
+        return patchAsync(path, entity, QueryModifier.DEFAULT);
+    }
+
+
+    /**
+     * Executes a HTTP PATCH asynchronously.
+     *
+     * @param entity the payload to send in the body
+     * @param modifier the query modifier
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> patchAsync(Object entity, QueryModifier modifier) {
+        return patchAsync(null, entity, Content.DEFAULT, modifier);
+    }
+
+
+    /**
+     * Executes a HTTP PATCH asynchronously.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param entity the payload to send in the body
+     * @param modifier the query modifier
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> patchAsync(String path, Object entity, QueryModifier modifier) {
+        return patchAsync(path, entity, Content.DEFAULT, modifier);
+    }
+
+
+    /**
+     * Executes a HTTP PATCH asynchronously.
+     *
+     * @param entity the payload to send in the body
+     * @param content the content modifier
+     * @param modifier the query modifier
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> patchAsync(Object entity, Content content, QueryModifier modifier) {
+        return patchAsync(null, entity, content, modifier);
+    }
+
+
+    /**
+     * Executes a HTTP PATCH asynchronously.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param entity the payload to send in the body
+     * @param content the content modifier
+     * @param modifier the query modifier
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> patchAsync(String path, Object entity, Content content, QueryModifier modifier) {
+        return executeAsync(
+                () -> HttpHelper.createPatchRequest(
+                        resolve(QueryHelper.apply(path, content, modifier)),
+                        serialize(entity, content, modifier)),
+                HttpMethod.PATCH,
+                HttpStatus.NO_CONTENT,
+                response -> null);
+    }
+
+
+    /**
+     * Executes a HTTP PATCH with valueOnly serialization asynchronously.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param entity the payload to send in the body
+     * @param modifier the query modifier
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> patchValueAsync(String path, Object entity, QueryModifier modifier) {
+        return executeAsync(
+                () -> HttpHelper.createPatchRequest(
+                        resolve(QueryHelper.apply(path, Content.VALUE, modifier)),
+                        serializeEntity(entity)),
+                HttpMethod.PATCH,
+                HttpStatus.NO_CONTENT,
+                response -> null);
+    }
+
+
+    /**
+     * Executes a HTTP DELETE asynchronously.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> deleteAsync(String path) {
+        return deleteAsync(path, HttpStatus.NO_CONTENT);
+    }
+
+
+    /**
+     * Executes a HTTP DELETE asynchronously.
+     *
+     * @param path the URL path relative to the current endpoint
+     * @param expectedStatus the expected HTTP status code
+     * @return a future which completes exceptionally with a {@link ConnectivityException} if connection to the server
+     *         fails or a {@link StatusCodeException} if HTTP request returns invalid status code
+     */
+    protected CompletableFuture<Void> deleteAsync(String path, HttpStatus expectedStatus) {
+        return executeAsync(
+                () -> HttpHelper.createDeleteRequest(resolve(path)),
+                HttpMethod.DELETE,
+                expectedStatus,
+                response -> null);
+    }
+
+
+    /**
+     * Sends a request asynchronously, validates the status code of the response and parses it using the given parser.
+     * Any failure, including failures while creating the request, is reported through the returned future.
+     *
+     * @param <T> the result type
+     * @param requestFactory creates the request to send
+     * @param method the HTTP method
+     * @param expectedStatus the expected HTTP status code
+     * @param parser the parser to apply to the validated response
+     * @return a future of the parsed response
+     */
+    protected <T> CompletableFuture<T> executeAsync(Supplier<HttpRequest> requestFactory,
+                                                    HttpMethod method,
+                                                    HttpStatus expectedStatus,
+                                                    Function<HttpResponse<String>, T> parser) {
+        try {
+            HttpRequest request = requestFactory.get();
+            CompletableFuture<HttpResponse<String>> response = HttpHelper.sendAsync(transport, request);
+            return HttpHelper.propagateCancellation(response, response.thenApply(x -> {
+                T result = validateAndParse(method, x, expectedStatus, parser);
+                if (method != HttpMethod.GET) {
+                    invalidateCache(request.uri());
+                }
+                return result;
+            }));
+        }
+        catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+
+    private <T> CompletableFuture<T> executeFileAsync(Supplier<HttpRequest> requestFactory,
+                                                      HttpMethod method,
+                                                      HttpStatus expectedStatus,
+                                                      Function<HttpResponse<byte[]>, T> parser) {
+        try {
+            HttpRequest request = requestFactory.get();
+            CompletableFuture<HttpResponse<byte[]>> response = HttpHelper.sendFileRequestAsync(transport, request);
+            return HttpHelper.propagateCancellation(response, response.thenApply(x -> {
+                T result = validateAndParse(method, x, expectedStatus, parser);
+                if (method != HttpMethod.GET) {
+                    invalidateCache(request.uri());
+                }
+                return result;
+            }));
+        }
+        catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+
+    private <T> T getCached(URI uri, Class<T> responseType) throws NotFoundException {
+        return Objects.nonNull(objectCache)
+                ? objectCache.get(cacheScope, uri, responseType)
+                : null;
+    }
+
+
+    private long getCacheVersion(URI uri) {
+        return Objects.nonNull(objectCache)
+                ? objectCache.getVersion(uri)
+                : 0;
+    }
+
+
+    private void cache(URI uri, Class<?> responseType, Object value, long version) {
+        if (Objects.nonNull(objectCache)) {
+            objectCache.put(cacheScope, uri, responseType, value, version);
+        }
+    }
+
+
+    private void cacheNotFound(URI uri, Class<?> responseType, NotFoundException exception, long version) {
+        if (Objects.nonNull(objectCache)) {
+            objectCache.putNotFound(cacheScope, uri, responseType, exception, version);
+        }
+    }
+
+
+    private void invalidateCache(URI uri) {
+        if (Objects.nonNull(objectCache)) {
+            objectCache.invalidate(uri);
+        }
+    }
+
+
+    private static <B, T> T validateAndParse(HttpMethod method, HttpResponse<B> response, HttpStatus expectedStatus, Function<HttpResponse<B>, T> parser) {
+        try {
+            validateStatusCode(method, response, expectedStatus);
+        }
+        catch (StatusCodeException e) {
+            throw new CompletionException(e);
+        }
+        return parser.apply(response);
     }
 
 
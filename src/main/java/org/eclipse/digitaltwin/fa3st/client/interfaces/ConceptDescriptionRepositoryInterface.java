@@ -15,12 +15,22 @@ package org.eclipse.digitaltwin.fa3st.client.interfaces;
 
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 import org.eclipse.digitaltwin.aas4j.v3.model.ConceptDescription;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
 import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
 import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
+import org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException;
 import org.eclipse.digitaltwin.fa3st.client.query.ConceptDescriptionSearchCriteria;
+import org.eclipse.digitaltwin.fa3st.client.query.SearchCriteria;
 import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.PagingIterator;
+import org.eclipse.digitaltwin.fa3st.client.util.StreamingPage;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Content;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
@@ -50,6 +60,17 @@ public class ConceptDescriptionRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Creates a new Concept Description Interface sharing the resources of the given session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @param session the session providing the HTTP client, serializer and deserializer
+     */
+    public ConceptDescriptionRepositoryInterface(URI endpoint, ClientSession session) {
+        super(resolve(endpoint, API_PATH), session);
+    }
+
+
     /**
      * Creates a new Concept Description Interface.
      *
@@ -104,6 +125,17 @@ public class ConceptDescriptionRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll()}.
+     *
+     * @return a future of list of all Concept Descriptions that completes exceptionally with any of the exceptions of
+     *         the synchronous variant
+     */
+    public CompletableFuture<List<ConceptDescription>> getAllAsync() {
+        return getAllAsync(ConceptDescriptionSearchCriteria.DEFAULT);
+    }
+
+
     /**
      * Retrieves Concept Descriptions according to specific search criteria.
      *
@@ -126,6 +158,18 @@ public class ConceptDescriptionRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll(ConceptDescriptionSearchCriteria)}.
+     *
+     * @param conceptDescriptionSearchCriteria specific search criteria: idShort, isCaseOf or dataSpecificationRef
+     * @return a future of list of Concept Descriptions matching search criteria that completes exceptionally with any
+     *         of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<List<ConceptDescription>> getAllAsync(ConceptDescriptionSearchCriteria conceptDescriptionSearchCriteria) {
+        return getAllAsync(null, conceptDescriptionSearchCriteria, OutputModifier.DEFAULT, ConceptDescription.class);
+    }
+
+
     /**
      * Retrieves a page of Concept Descriptions.
      *
@@ -148,6 +192,18 @@ public class ConceptDescriptionRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(PagingInfo)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Concept Descriptions that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<ConceptDescription>> getAsync(PagingInfo pagingInfo) {
+        return getAsync(pagingInfo, ConceptDescriptionSearchCriteria.DEFAULT);
+    }
+
+
     /**
      * Returns page of Concept Descriptions according to specific search criteria.
      *
@@ -172,6 +228,201 @@ public class ConceptDescriptionRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(PagingInfo, ConceptDescriptionSearchCriteria)}.
+     *
+     * @param pagingInfo paging meta information
+     * @param conceptDescriptionSearchCriteria specific search criteria
+     * @return a future of list of Concept Descriptions that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<ConceptDescription>> getAsync(PagingInfo pagingInfo, ConceptDescriptionSearchCriteria conceptDescriptionSearchCriteria) {
+        return getPageAsync(null, conceptDescriptionSearchCriteria, OutputModifier.DEFAULT, pagingInfo, ConceptDescription.class);
+    }
+
+
+    /**
+     * Retrieves a page of Concept Descriptions that is parsed incrementally while being read from the connection, i.e.,
+     * only a single element is held in memory at a time. The returned page must be closed after use, e.g., by using a
+     * try-with-resources statement.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return A streaming page of Concept Descriptions
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>401: UnauthorizedException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public StreamingPage<ConceptDescription> getStreaming(PagingInfo pagingInfo) throws StatusCodeException, ConnectivityException {
+        return getPageStreaming(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pagingInfo, ConceptDescription.class);
+    }
+
+
+    /**
+     * Retrieves a page of Concept Descriptions based on specific search criteria that is parsed incrementally while
+     * being read from the connection, i.e., only a single element is held in memory at a time. The returned page must
+     * be closed after use, e.g., by using a try-with-resources statement.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @param conceptDescriptionSearchCriteria specific search criteria: idShort, isCaseOf or dataSpecificationRef
+     * @return A streaming page of Concept Descriptions that match the search criteria
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>401: UnauthorizedException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public StreamingPage<ConceptDescription> getStreaming(PagingInfo pagingInfo, ConceptDescriptionSearchCriteria conceptDescriptionSearchCriteria) throws StatusCodeException, ConnectivityException {
+        return getPageStreaming(null, conceptDescriptionSearchCriteria, OutputModifier.DEFAULT, pagingInfo, ConceptDescription.class);
+    }
+
+
+    /**
+     * Lazily streams all Concept Descriptions using pages of default size. Pages are requested only when needed, so
+     * memory consumption is limited by the page size instead of the total number of Concept Descriptions. If fetching a
+     * page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @return a sequential stream of all Concept Descriptions
+     */
+    public Stream<ConceptDescription> stream() {
+        return stream(PagingIterator.DEFAULT_PAGE_SIZE);
+    }
+
+
+    /**
+     * Lazily streams all Concept Descriptions. Pages are requested only when needed, so memory consumption is limited
+     * by the page size instead of the total number of Concept Descriptions. If fetching a page fails, an
+     * {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param pageSize The maximum number of Concept Descriptions per page
+     * @return a sequential stream of all Concept Descriptions
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<ConceptDescription> stream(long pageSize) {
+        return stream(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, ConceptDescription.class);
+    }
+
+
+    /**
+     * Lazily streams all Concept Descriptions that match specific search criteria. Pages are requested only when
+     * needed, so memory consumption is limited by the page size instead of the total number of Concept Descriptions. If
+     * fetching a page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param conceptDescriptionSearchCriteria specific search criteria: idShort, isCaseOf or dataSpecificationRef
+     * @param pageSize The maximum number of Concept Descriptions per page
+     * @return a sequential stream of all Concept Descriptions that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<ConceptDescription> stream(ConceptDescriptionSearchCriteria conceptDescriptionSearchCriteria, long pageSize) {
+        return stream(null, conceptDescriptionSearchCriteria, OutputModifier.DEFAULT, pageSize, ConceptDescription.class);
+    }
+
+
+    /**
+     * Lazily iterates over all Concept Descriptions that match specific search criteria. Pages are requested only when
+     * needed, so memory consumption is limited by the page size instead of the total number of Concept Descriptions. If
+     * fetching a page fails, an {@link UncheckedClientException} is thrown while iterating.
+     *
+     * @param conceptDescriptionSearchCriteria specific search criteria: idShort, isCaseOf or dataSpecificationRef
+     * @param pageSize The maximum number of Concept Descriptions per page
+     * @return an iterator over all Concept Descriptions that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Iterator<ConceptDescription> iterate(ConceptDescriptionSearchCriteria conceptDescriptionSearchCriteria, long pageSize) {
+        return iterate(null, conceptDescriptionSearchCriteria, OutputModifier.DEFAULT, pageSize, ConceptDescription.class);
+    }
+
+
+    /**
+     * Lazily streams all Concept Descriptions that match specific search criteria while prefetching pages. Pages of
+     * {@code pageSize} elements are requested in the background as soon as the cursor of the previous page is known,
+     * with up to {@code prefetchDepth} pages fetched ahead of the page currently consumed. This overlaps network
+     * latency with processing at the cost of holding up to {@code prefetchDepth} additional pages in memory. If
+     * fetching a page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param conceptDescriptionSearchCriteria specific search criteria: idShort, isCaseOf or dataSpecificationRef
+     * @param pageSize The maximum number of Concept Descriptions per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return a sequential stream of all Concept Descriptions that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Stream<ConceptDescription> stream(ConceptDescriptionSearchCriteria conceptDescriptionSearchCriteria, long pageSize, int prefetchDepth) {
+        return stream(
+                null,
+                conceptDescriptionSearchCriteria,
+                OutputModifier.DEFAULT,
+                pageSize,
+                prefetchDepth,
+                ConceptDescription.class);
+    }
+
+
+    /**
+     * Lazily iterates over all Concept Descriptions that match specific search criteria while prefetching pages. Pages
+     * of {@code pageSize} elements are requested in the background as soon as the cursor of the previous page is known,
+     * with up to {@code prefetchDepth} pages fetched ahead of the page currently consumed. This overlaps network
+     * latency with processing at the cost of holding up to {@code prefetchDepth} additional pages in memory. If
+     * fetching a page fails, an {@link UncheckedClientException} is thrown while iterating.
+     *
+     * @param conceptDescriptionSearchCriteria specific search criteria: idShort, isCaseOf or dataSpecificationRef
+     * @param pageSize The maximum number of Concept Descriptions per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return an iterator over all Concept Descriptions that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Iterator<ConceptDescription> iterate(ConceptDescriptionSearchCriteria conceptDescriptionSearchCriteria, long pageSize, int prefetchDepth) {
+        return iterate(
+                null,
+                conceptDescriptionSearchCriteria,
+                OutputModifier.DEFAULT,
+                pageSize,
+                prefetchDepth,
+                ConceptDescription.class);
+    }
+
+
+    /**
+     * Creates a publisher emitting all Concept Descriptions. Pages are only requested when required by the demand of
+     * the subscriber, i.e., backpressure is propagated to the server. Errors are signalled to the subscriber with the
+     * respective {@link ClientException}.
+     *
+     * @param pageSize The maximum number of Concept Descriptions per page
+     * @return a publisher of all Concept Descriptions
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Flow.Publisher<ConceptDescription> publisher(long pageSize) {
+        return publisher(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, ConceptDescription.class);
+    }
+
+
+    /**
+     * Creates a publisher emitting all Concept Descriptions that match specific search criteria. Pages are only
+     * requested when required by the demand of the subscriber, i.e., backpressure is propagated to the server. Errors
+     * are signalled to the subscriber with the respective {@link ClientException}.
+     *
+     * @param conceptDescriptionSearchCriteria specific search criteria: idShort, isCaseOf or dataSpecificationRef
+     * @param pageSize The maximum number of Concept Descriptions per page
+     * @return a publisher of all Concept Descriptions that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Flow.Publisher<ConceptDescription> publisher(ConceptDescriptionSearchCriteria conceptDescriptionSearchCriteria, long pageSize) {
+        return publisher(null, conceptDescriptionSearchCriteria, OutputModifier.DEFAULT, pageSize, ConceptDescription.class);
+    }
+
+
     /**
      * Creates a new Concept Description. The id of the new Concept Description must be set in the payload.
      *
@@ -195,6 +446,18 @@ public class ConceptDescriptionRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #post(ConceptDescription)}.
+     *
+     * @param conceptDescription Concept Description object
+     * @return a future of requested Concept Descriptions that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<ConceptDescription> postAsync(ConceptDescription conceptDescription) {
+        return postAsync(null, conceptDescription, Content.NORMAL, ConceptDescription.class);
+    }
+
+
     /**
      * Returns a specific Concept Description.
      *
@@ -217,6 +480,18 @@ public class ConceptDescriptionRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @param cdIdentifier The Concept Description’s unique id
+     * @return a future of requested Concept Description that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<ConceptDescription> getAsync(String cdIdentifier) {
+        return getAsync(idPath(cdIdentifier), OutputModifier.DEFAULT, ConceptDescription.class);
+    }
+
+
     /**
      * Replaces an existing Concept Description.
      *
@@ -238,6 +513,18 @@ public class ConceptDescriptionRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #put(ConceptDescription)}.
+     *
+     * @param conceptDescription Concept Description object
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> putAsync(ConceptDescription conceptDescription) {
+        return putAsync(idPath(conceptDescription.getId()), conceptDescription);
+    }
+
+
     /**
      * Deletes a Concept Description.
      *
@@ -258,4 +545,16 @@ public class ConceptDescriptionRepositoryInterface extends BaseInterface {
     public void delete(String cdIdentifier) throws StatusCodeException, ConnectivityException {
         super.delete(idPath(cdIdentifier));
     }
+
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @param cdIdentifier The Concept Description’s unique id
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> deleteAsync(String cdIdentifier) {
+        return super.deleteAsync(idPath(cdIdentifier));
+    }
 }
@@ -17,6 +17,8 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
 import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
 import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
 import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
@@ -48,6 +50,17 @@ public class DescriptionInterface extends BaseInterface {
     }
 
 
+    /**
+     * Creates a new Description Interface sharing the resources of the given session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @param session the session providing the HTTP client, serializer and deserializer
+     */
+    public DescriptionInterface(URI endpoint, ClientSession session) {
+        super(resolve(endpoint, API_PATH), session);
+    }
+
+
     /**
      * Creates a new Description Interface.
      *
@@ -99,9 +112,24 @@ public class DescriptionInterface extends BaseInterface {
      */
     public ServiceDescription get() throws StatusCodeException, ConnectivityException {
         HttpRequest request = HttpHelper.createGetRequest(endpoint);
-        HttpResponse<String> response = HttpHelper.send(httpClient, request);
+        HttpResponse<String> response = HttpHelper.send(transport, request);
         validateStatusCode(HttpMethod.GET, response, HttpStatus.OK);
         return parseBody(response, ServiceDescription.class);
     }
 
+
+    /**
+     * Asynchronous variant of {@link #get()}.
+     *
+     * @return a future of the self-description of the server that completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<ServiceDescription> getAsync() {
+        return executeAsync(
+                () -> HttpHelper.createGetRequest(endpoint),
+                HttpMethod.GET,
+                HttpStatus.OK,
+                response -> parseBody(response, ServiceDescription.class));
+    }
+
 }
@@ -0,0 +1,409 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.interfaces;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.eclipse.digitaltwin.fa3st.client.exception.InvalidPayloadException;
+import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.model.IdShortPath;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.QueryModifier;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Write-behind buffer for high-frequency updates of element values of a single submodel, e.g., sensor readings.
+ * Instead of sending a PATCH request per update like {@link SubmodelInterface#patchElementValue(IdShortPath, Object)},
+ * updates are collected and sent as a single submodel-level PATCH of the value-only representation via
+ * {@link SubmodelInterface#patchValueAsync(QueryModifier, JsonNode)}. If the same element is updated multiple times
+ * before the updates are sent, only the last value is sent.
+ *
+ * <p>Pending updates are sent {@code flushInterval} after the first of them has been added, or as soon as
+ * {@code maxPendingValues} elements have pending updates, whichever comes first. At most one request is in flight at any
+ * time, so updates are applied in the order they were added. Updates of elements within a SubmodelElementList, i.e.,
+ * paths containing an index, and of elements whose parent or child has a pending update as well are sent as separate
+ * requests. If the server rejects the combined request with a 4xx status code, e.g., because a path leads into an
+ * Entity or an AnnotatedRelationshipElement which cannot be updated via the value-only representation of the submodel,
+ * the updates are sent again as separate requests, so that an invalid update does not fail the others.
+ *
+ * <pre>{@code
+ * try (ElementValueWriteBuffer buffer = new ElementValueWriteBuffer.Builder()
+ *         .submodelInterface(submodelInterface)
+ *         .flushInterval(Duration.ofMillis(200))
+ *         .build()) {
+ *     buffer.patchElementValue(temperaturePath, new PropertyValue(new DoubleValue(21.5)));
+ * }
+ * }</pre>
+ */
+public class ElementValueWriteBuffer implements AutoCloseable {
+
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(100);
+    public static final int DEFAULT_MAX_PENDING_VALUES = 1000;
+    private static final Pattern PATH_SEGMENT = Pattern.compile("\\[(\\d+)]|([^.\\[\\]]+)");
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final SubmodelInterface submodelInterface;
+    private final Duration flushInterval;
+    private final int maxPendingValues;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder values = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private Map<String, PendingValue> pending = new LinkedHashMap<>();
+    private CompletableFuture<Void> lastFlush = CompletableFuture.completedFuture(null);
+    private boolean flushScheduled;
+    private boolean closed;
+
+    private ElementValueWriteBuffer(Builder builder) {
+        Ensure.requireNonNull(builder.submodelInterface, "submodelInterface must be non-null");
+        Ensure.requireNonNull(builder.flushInterval, "flushInterval must be non-null");
+        Ensure.require(!builder.flushInterval.isNegative() && !builder.flushInterval.isZero(), "flushInterval must be positive");
+        Ensure.require(builder.maxPendingValues > 0, "maxPendingValues must be positive");
+        this.submodelInterface = builder.submodelInterface;
+        this.flushInterval = builder.flushInterval;
+        this.maxPendingValues = builder.maxPendingValues;
+    }
+
+
+    /**
+     * Adds an update of the value of a submodel element. The returned future completes once the request containing
+     * this value, or a later value of the same element, has been sent.
+     *
+     * @param idShortPath the path to the submodel element
+     * @param value the new value, e.g., an {@code ElementValue} or a {@link JsonNode} in value-only format
+     * @return a future that completes once the value has been written or completes exceptionally with any of the
+     *         exceptions of {@link SubmodelInterface#patchValue(QueryModifier, JsonNode)}
+     * @throws IllegalStateException if the buffer has been closed
+     * @throws InvalidPayloadException if serializing the value fails
+     */
+    public CompletableFuture<Void> patchElementValue(IdShortPath idShortPath, Object value) {
+        Ensure.requireNonNull(idShortPath, "idShortPath must be non-null");
+        JsonNode node = toJsonNode(value);
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        boolean flushNow = false;
+        boolean scheduleFlush = false;
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("buffer has been closed");
+            }
+            values.increment();
+            String key = idShortPath.toString();
+            PendingValue previous = pending.remove(key);
+            PendingValue current = new PendingValue(idShortPath, node);
+            if (Objects.nonNull(previous)) {
+                current.futures.addAll(previous.futures);
+            }
+            current.futures.add(result);
+            pending.put(key, current);
+            if (pending.size() >= maxPendingValues) {
+                flushNow = true;
+            }
+            else if (!flushScheduled) {
+                flushScheduled = true;
+                scheduleFlush = true;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+        if (flushNow) {
+            flush();
+        }
+        else if (scheduleFlush) {
+            CompletableFuture.delayedExecutor(flushInterval.toNanos(), TimeUnit.NANOSECONDS).execute(this::flush);
+        }
+        return result;
+    }
+
+
+    /**
+     * Sends all pending updates.
+     *
+     * @return a future that completes once all updates added so far have been sent
+     */
+    public CompletableFuture<Void> flush() {
+        lock.lock();
+        try {
+            flushScheduled = false;
+            if (pending.isEmpty()) {
+                return lastFlush.handle((x, e) -> null);
+            }
+            Map<String, PendingValue> batch = pending;
+            pending = new LinkedHashMap<>();
+            lastFlush = lastFlush
+                    .handle((x, e) -> null)
+                    .thenCompose(x -> send(batch.values()));
+            return lastFlush.handle((x, e) -> null);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the number of elements with pending updates.
+     *
+     * @return the number of pending updates
+     */
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the total number of values added to this buffer.
+     *
+     * @return the number of values
+     */
+    public long getValues() {
+        return values.sum();
+    }
+
+
+    /**
+     * Returns the total number of PATCH requests sent by this buffer.
+     *
+     * @return the number of requests
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+
+    /**
+     * Sends all pending updates and waits until they have been sent. Afterwards, no more updates can be added.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+        }
+        finally {
+            lock.unlock();
+        }
+        flush().join();
+    }
+
+
+    private CompletableFuture<Void> send(Iterable<PendingValue> batch) {
+        ObjectNode combined = MAPPER.createObjectNode();
+        Set<JsonNode> intermediateNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        intermediateNodes.add(combined);
+        List<PendingValue> combinedValues = new ArrayList<>();
+        List<PendingValue> separateValues = new ArrayList<>();
+        for (PendingValue value: batch) {
+            if (merge(combined, intermediateNodes, value)) {
+                combinedValues.add(value);
+            }
+            else {
+                separateValues.add(value);
+            }
+        }
+        CompletableFuture<Void> result = combinedValues.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : sendCombined(combinedValues, combined);
+        return result.thenCompose(x -> sendSeparately(separateValues));
+    }
+
+
+    private CompletableFuture<Void> sendCombined(List<PendingValue> batch, JsonNode combined) {
+        requests.increment();
+        return request(() -> submodelInterface.patchValueAsync(QueryModifier.DEFAULT, combined))
+                .handle((x, e) -> {
+                    if (batch.size() > 1 && isClientError(e)) {
+                        return sendSeparately(batch);
+                    }
+                    complete(batch, e);
+                    return CompletableFuture.<Void> completedFuture(null);
+                })
+                .thenCompose(x -> x);
+    }
+
+
+    private CompletableFuture<Void> sendSeparately(List<PendingValue> batch) {
+        CompletableFuture<Void> result = CompletableFuture.completedFuture(null);
+        for (PendingValue value: batch) {
+            result = result.thenCompose(x -> {
+                requests.increment();
+                return request(() -> submodelInterface.patchElementValueAsync(value.idShortPath, value.value))
+                        .handle((y, e) -> {
+                            complete(List.of(value), e);
+                            return null;
+                        });
+            });
+        }
+        return result;
+    }
+
+
+    private static CompletableFuture<Void> request(Supplier<CompletableFuture<Void>> request) {
+        try {
+            return request.get();
+        }
+        catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+
+    private static void complete(List<PendingValue> batch, Throwable error) {
+        batch.stream()
+                .flatMap(value -> value.futures.stream())
+                .forEach(future -> {
+                    if (Objects.nonNull(error)) {
+                        future.completeExceptionally(HttpHelper.unwrap(error));
+                    }
+                    else {
+                        future.complete(null);
+                    }
+                });
+    }
+
+
+    private static boolean isClientError(Throwable error) {
+        Throwable cause = HttpHelper.unwrap(error);
+        return cause instanceof StatusCodeException
+                && ((StatusCodeException) cause).getStatusCode() >= 400
+                && ((StatusCodeException) cause).getStatusCode() < 500;
+    }
+
+
+    private static boolean merge(ObjectNode root, Set<JsonNode> intermediateNodes, PendingValue value) {
+        List<String> segments = new ArrayList<>();
+        Matcher matcher = PATH_SEGMENT.matcher(value.idShortPath.toString());
+        while (matcher.find()) {
+            if (Objects.nonNull(matcher.group(1))) {
+                return false;
+            }
+            segments.add(matcher.group(2));
+        }
+        if (segments.isEmpty()) {
+            return false;
+        }
+        ObjectNode parent = root;
+        for (String segment: segments.subList(0, segments.size() - 1)) {
+            JsonNode child = parent.get(segment);
+            if (Objects.isNull(child)) {
+                child = parent.putObject(segment);
+                intermediateNodes.add(child);
+            }
+            if (!intermediateNodes.contains(child)) {
+                return false;
+            }
+            parent = (ObjectNode) child;
+        }
+        String leaf = segments.get(segments.size() - 1);
+        if (parent.has(leaf)) {
+            return false;
+        }
+        parent.set(leaf, value.value);
+        return true;
+    }
+
+
+    private JsonNode toJsonNode(Object value) {
+        if (value instanceof JsonNode) {
+            return (JsonNode) value;
+        }
+        try {
+            return MAPPER.readTree(submodelInterface.serializer.write(value, OutputModifier.DEFAULT));
+        }
+        catch (SerializationException | UnsupportedModifierException | JsonProcessingException e) {
+            throw new InvalidPayloadException("Serialization Failed", e);
+        }
+    }
+
+    private static class PendingValue {
+
+        private final IdShortPath idShortPath;
+        private final JsonNode value;
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        PendingValue(IdShortPath idShortPath, JsonNode value) {
+            this.idShortPath = idShortPath;
+            this.value = value;
+        }
+    }
+
+    public static class Builder {
+        private SubmodelInterface submodelInterface;
+        private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+        private int maxPendingValues = DEFAULT_MAX_PENDING_VALUES;
+
+        public Builder submodelInterface(SubmodelInterface submodelInterface) {
+            this.submodelInterface = submodelInterface;
+            return this;
+        }
+
+
+        /**
+         * Sets how long updates are collected before they are sent.
+         *
+         * @param flushInterval the flush interval
+         * @return the builder
+         */
+        public Builder flushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+
+        /**
+         * Sets the number of elements with pending updates at which the updates are sent without waiting for the flush
+         * interval to elapse.
+         *
+         * @param maxPendingValues the maximum number of pending updates
+         * @return the builder
+         */
+        public Builder maxPendingValues(int maxPendingValues) {
+            this.maxPendingValues = maxPendingValues;
+            return this;
+        }
+
+
+        public ElementValueWriteBuffer build() {
+            return new ElementValueWriteBuffer(this);
+        }
+    }
+}
@@ -14,28 +14,67 @@
 package org.eclipse.digitaltwin.fa3st.client.interfaces;
 
 import static org.eclipse.digitaltwin.fa3st.client.interfaces.BaseInterface.validateStatusCode;
+import static org.eclipse.digitaltwin.fa3st.client.util.Constants.PATH_INVOKE_ASYNC;
+import static org.eclipse.digitaltwin.fa3st.client.util.Constants.PATH_OPERATION_RESULTS;
+import static org.eclipse.digitaltwin.fa3st.client.util.Constants.PATH_OPERATION_STATUS;
+import static org.eclipse.digitaltwin.fa3st.client.util.Constants.URI_PATH_SEPERATOR;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.xml.datatype.Duration;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.eclipse.digitaltwin.aas4j.v3.model.AnnotatedRelationshipElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.BaseOperationResult;
+import org.eclipse.digitaltwin.aas4j.v3.model.Entity;
+import org.eclipse.digitaltwin.aas4j.v3.model.ExecutionState;
+import org.eclipse.digitaltwin.aas4j.v3.model.OperationHandle;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationResult;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationVariable;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementCollection;
+import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElementList;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationRequest;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
 import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
 import org.eclipse.digitaltwin.fa3st.client.exception.InvalidPayloadException;
+import org.eclipse.digitaltwin.fa3st.client.exception.NotFoundException;
 import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
+import org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException;
 import org.eclipse.digitaltwin.fa3st.client.query.SearchCriteria;
 import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.OperationPoller;
+import org.eclipse.digitaltwin.fa3st.client.util.PagingIterator;
 import org.eclipse.digitaltwin.fa3st.client.util.QueryHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.RangedDownload;
+import org.eclipse.digitaltwin.fa3st.client.util.StreamingFile;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.DeserializationException;
 import org.eclipse.digitaltwin.fa3st.common.exception.InvalidRequestException;
+import org.eclipse.digitaltwin.fa3st.common.exception.ValueMappingException;
 import org.eclipse.digitaltwin.fa3st.common.model.IdShortPath;
 import org.eclipse.digitaltwin.fa3st.common.model.InMemoryFile;
 import org.eclipse.digitaltwin.fa3st.common.model.TypedInMemoryFile;
@@ -49,7 +88,10 @@ import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
 import org.eclipse.digitaltwin.fa3st.common.model.http.HttpMethod;
 import org.eclipse.digitaltwin.fa3st.common.model.http.HttpStatus;
 import org.eclipse.digitaltwin.fa3st.common.model.value.ElementValue;
+import org.eclipse.digitaltwin.fa3st.common.model.value.mapper.ElementValueMapper;
 import org.eclipse.digitaltwin.fa3st.common.typing.ElementValueTypeInfo;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
 
 
 /**
@@ -64,6 +106,13 @@ import org.eclipse.digitaltwin.fa3st.common.typing.ElementValueTypeInfo;
  */
 public class SubmodelInterface extends BaseInterface {
 
+    public static final double DEFAULT_SUBMODEL_READ_THRESHOLD = 0.25;
+    public static final int DEFAULT_MAX_CONCURRENT_ELEMENT_READS = 8;
+    private static final String OPERATION_STATUS_SEGMENT = URI_PATH_SEPERATOR + PATH_OPERATION_STATUS + URI_PATH_SEPERATOR;
+    private static final String OPERATION_RESULTS_SEGMENT = URI_PATH_SEPERATOR + PATH_OPERATION_RESULTS + URI_PATH_SEPERATOR;
+    private static final Pattern ID_SHORT_PATH_SEGMENT = Pattern.compile("\\[(\\d+)]|([^.\\[\\]]+)");
+    private final AtomicInteger elementCount = new AtomicInteger(-1);
+
     /**
      * Creates a new Submodel API.
      *
@@ -75,6 +124,17 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Creates a new Submodel API sharing the resources of the given session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @param session the session providing the HTTP client, serializer and deserializer
+     */
+    public SubmodelInterface(URI endpoint, ClientSession session) {
+        super(endpoint, session);
+    }
+
+
     /**
      * Creates a new Submodel API.
      *
@@ -129,6 +189,17 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get()}.
+     *
+     * @return a future of the requested Submodel object in standard format: deep structural depth and without blob
+     *         value that completes exceptionally with any of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<Submodel> getAsync() {
+        return getAsync(QueryModifier.DEFAULT);
+    }
+
+
     /**
      * Retrieves the Submodel formatted according to query modifier.
      *
@@ -151,6 +222,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(QueryModifier)}.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @return a future of requested Submodel object formatted according to query modifier that completes exceptionally
+     *         with any of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<Submodel> getAsync(QueryModifier modifier) {
+        return getAsync(null, OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()), Submodel.class);
+    }
+
+
     /**
      * Retrieves the Submodel formatted according to query modifier.
      *
@@ -174,6 +257,19 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(Level, Extent)}.
+     *
+     * @param level The level to use
+     * @param extent The extent to use
+     * @return a future of requested Submodel object formatted according to query modifier that completes exceptionally
+     *         with any of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<Submodel> getAsync(Level level, Extent extent) {
+        return getAsync(null, OutputModifier.with(Content.NORMAL, level, extent), Submodel.class);
+    }
+
+
     /**
      * Replaces the current Submodel with a new one.
      *
@@ -195,6 +291,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #put(Submodel)}.
+     *
+     * @param submodel The new Submodel object to replace the current one
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> putAsync(Submodel submodel) {
+        return putAsync(submodel, new QueryModifier.Builder().level(Level.DEEP).build());
+    }
+
+
     /**
      * Updates the Submodel.
      *
@@ -217,6 +325,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #patch(Submodel)}.
+     *
+     * @param submodel The new Submodel object to patch the current one
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> patchAsync(Submodel submodel) {
+        return patchAsync(submodel, new QueryModifier.Builder().level(Level.CORE).build());
+    }
+
+
     /**
      * Retrieves the metadata attributes of a specific Submodel.
      *
@@ -239,6 +359,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getMetadata(Level)}.
+     *
+     * @param level The level to use
+     * @return a future of requested Submodel object containing only metadata that completes exceptionally with any of
+     *         the exceptions of the synchronous variant
+     */
+    public CompletableFuture<Submodel> getMetadataAsync(Level level) {
+        return getAsync(null, OutputModifier.with(Content.METADATA), Submodel.class);
+    }
+
+
     /**
      * Updates the metadata attributes of a specific Submodel.
      *
@@ -261,6 +393,19 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #patchMetadata(QueryModifier, Submodel)}.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param submodel The new Submodel object to patch the current one
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> patchMetadataAsync(QueryModifier modifier, Submodel submodel) {
+        return patchAsync(submodel, Content.METADATA, modifier);
+    }
+
+
     /**
      * Retrieves a specific Submodel in the value-only serialization.
      *
@@ -283,6 +428,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getValue(QueryModifier)}.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @return a future of jsonNode containing only the values of a Submodel object that completes exceptionally with
+     *         any of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<Submodel> getValueAsync(QueryModifier modifier) {
+        return getAsync(null, OutputModifier.with(Content.VALUE), Submodel.class);
+    }
+
+
     /**
      * Updates the values of a specific Submodel.
      *
@@ -305,6 +462,19 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #patchValue(QueryModifier, JsonNode)}.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param jsonNode JsonNode containing the new values of the Submodel to update the current ones
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> patchValueAsync(QueryModifier modifier, JsonNode jsonNode) {
+        return patchAsync(jsonNode, Content.VALUE, modifier);
+    }
+
+
     /**
      * Retrieves the reference of a specific Submodel.
      *
@@ -326,6 +496,17 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getReference()}.
+     *
+     * @return a future of the reference of the requested Submodel object that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<Reference> getReferenceAsync() {
+        return getAsync(null, OutputModifier.with(Content.REFERENCE, Level.CORE, Extent.WITHOUT_BLOB_VALUE), Reference.class);
+    }
+
+
     /**
      * Retrieves the path of a specific Submodel.
      *
@@ -352,6 +533,22 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getPath(Level)}.
+     *
+     * @param level The level to use
+     * @return a future of the path of the requested Submodel object that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<List<IdShortPath>> getPathAsync(Level level) {
+        return getAllAsync(
+                null,
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.PATH, level, Extent.DEFAULT),
+                IdShortPath.class);
+    }
+
+
     /**
      * Retrieves a list of all Submodel Elements including their hierarchy.
      *
@@ -373,6 +570,17 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAllElements()}.
+     *
+     * @return a future of a List of all submodel elements that completes exceptionally with any of the exceptions of
+     *         the synchronous variant
+     */
+    public CompletableFuture<List<SubmodelElement>> getAllElementsAsync() {
+        return getAllAsync(submodelElementsPath(), SearchCriteria.DEFAULT, OutputModifier.DEFAULT, SubmodelElement.class);
+    }
+
+
     /**
      * Retrieves a list of all Submodel Elements including their hierarchy formatted according to query modifier.
      *
@@ -399,6 +607,22 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAllElements(QueryModifier)}.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @return a future of a List of all submodel elements that completes exceptionally with any of the exceptions of
+     *         the synchronous variant
+     */
+    public CompletableFuture<List<SubmodelElement>> getAllElementsAsync(QueryModifier modifier) {
+        return getAllAsync(
+                submodelElementsPath(),
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                SubmodelElement.class);
+    }
+
+
     /**
      * Retrieves a list of all Submodel Elements including their hierarchy formatted according to query modifier.
      *
@@ -426,6 +650,23 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAllElements(Level, Extent)}.
+     *
+     * @param level The level to use
+     * @param extent The extent to use
+     * @return a future of a List of all submodel elements that completes exceptionally with any of the exceptions of
+     *         the synchronous variant
+     */
+    public CompletableFuture<List<SubmodelElement>> getAllElementsAsync(Level level, Extent extent) {
+        return getAllAsync(
+                submodelElementsPath(),
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, level, extent),
+                SubmodelElement.class);
+    }
+
+
     /**
      * Retrieves a Page of Submodel Elements including their hierarchy.
      *
@@ -448,6 +689,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElements(PagingInfo)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Submodel Elements that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<SubmodelElement>> getElementsAsync(PagingInfo pagingInfo) {
+        return getElementsAsync(pagingInfo, QueryModifier.DEFAULT);
+    }
+
+
     /**
      * Retrieves a Page of Submodel Elements including their hierarchy.
      *
@@ -476,6 +729,24 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElements(PagingInfo, QueryModifier)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @return a future of a page of Submodel elements that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<SubmodelElement>> getElementsAsync(PagingInfo pagingInfo, QueryModifier modifier) {
+        return getPageAsync(
+                submodelElementsPath(),
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pagingInfo,
+                SubmodelElement.class);
+    }
+
+
     /**
      * Retrieves a Page of Submodel Elements including their hierarchy.
      *
@@ -505,6 +776,139 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElements(PagingInfo, Level, Extent)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @param level The level to use
+     * @param extent The extent to use
+     * @return a future of a page of Submodel elements that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<SubmodelElement>> getElementsAsync(PagingInfo pagingInfo, Level level, Extent extent) {
+        return getPageAsync(
+                submodelElementsPath(),
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, level, extent),
+                pagingInfo,
+                SubmodelElement.class);
+    }
+
+
+    /**
+     * Lazily streams all submodel elements using pages of default size. Pages are requested only when needed, so memory
+     * consumption is limited by the page size instead of the total number of submodel elements. If fetching a page
+     * fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @return a sequential stream of all submodel elements
+     */
+    public Stream<SubmodelElement> streamElements() {
+        return streamElements(PagingIterator.DEFAULT_PAGE_SIZE);
+    }
+
+
+    /**
+     * Lazily streams all submodel elements. Pages are requested only when needed, so memory consumption is limited by
+     * the page size instead of the total number of submodel elements. If fetching a page fails, an
+     * {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param pageSize The maximum number of submodel elements per page
+     * @return a sequential stream of all submodel elements
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<SubmodelElement> streamElements(long pageSize) {
+        return stream(submodelElementsPath(), SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, SubmodelElement.class);
+    }
+
+
+    /**
+     * Lazily streams all submodel elements according to query modifiers. Pages are requested only when needed, so
+     * memory consumption is limited by the page size instead of the total number of submodel elements. If fetching a
+     * page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pageSize The maximum number of submodel elements per page
+     * @return a sequential stream of all submodel elements
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<SubmodelElement> streamElements(QueryModifier modifier, long pageSize) {
+        return stream(
+                submodelElementsPath(),
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pageSize,
+                SubmodelElement.class);
+    }
+
+
+    /**
+     * Lazily iterates over all submodel elements according to query modifiers. Pages are requested only when needed, so
+     * memory consumption is limited by the page size instead of the total number of submodel elements. If fetching a
+     * page fails, an {@link UncheckedClientException} is thrown while iterating.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pageSize The maximum number of submodel elements per page
+     * @return an iterator over all submodel elements
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Iterator<SubmodelElement> iterateElements(QueryModifier modifier, long pageSize) {
+        return iterate(
+                submodelElementsPath(),
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pageSize,
+                SubmodelElement.class);
+    }
+
+
+    /**
+     * Lazily streams all submodel elements according to query modifiers while prefetching pages. Pages of
+     * {@code pageSize} elements are requested in the background as soon as the cursor of the previous page is known, with up
+     * to {@code prefetchDepth} pages fetched ahead of the page currently consumed. This overlaps network latency with
+     * processing at the cost of holding up to {@code prefetchDepth} additional pages in memory. If fetching a page
+     * fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pageSize The maximum number of submodel elements per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return a sequential stream of all submodel elements
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Stream<SubmodelElement> streamElements(QueryModifier modifier, long pageSize, int prefetchDepth) {
+        return stream(
+                submodelElementsPath(),
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pageSize,
+                prefetchDepth,
+                SubmodelElement.class);
+    }
+
+
+    /**
+     * Lazily iterates over all submodel elements according to query modifiers while prefetching pages. Pages of
+     * {@code pageSize} elements are requested in the background as soon as the cursor of the previous page is known, with up
+     * to {@code prefetchDepth} pages fetched ahead of the page currently consumed. This overlaps network latency with
+     * processing at the cost of holding up to {@code prefetchDepth} additional pages in memory. If fetching a page
+     * fails, an {@link UncheckedClientException} is thrown while iterating.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pageSize The maximum number of submodel elements per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return an iterator over all submodel elements
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Iterator<SubmodelElement> iterateElements(QueryModifier modifier, long pageSize, int prefetchDepth) {
+        return iterate(
+                submodelElementsPath(),
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pageSize,
+                prefetchDepth,
+                SubmodelElement.class);
+    }
+
+
     /**
      * Creates a new Submodel Element as a child of the submodel. The idShort of the new Submodel Element must be set in the
      * payload.
@@ -529,6 +933,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #postElement(SubmodelElement)}.
+     *
+     * @param submodelElement The new Submodel Element object
+     * @return a future of created Submodel Element object that completes exceptionally with any of the exceptions of
+     *         the synchronous variant
+     */
+    public CompletableFuture<SubmodelElement> postElementAsync(SubmodelElement submodelElement) {
+        return postAsync(submodelElementsPath(), submodelElement, Content.NORMAL, SubmodelElement.class);
+    }
+
+
     /**
      * Retrieves the metadata attributes of multiple Submodel Elements.
      *
@@ -557,6 +973,24 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElementMetadata(PagingInfo, Level)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @param level The level to use
+     * @return a future of a page of Submodel Element Metadata that completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Page<SubmodelElement>> getElementMetadataAsync(PagingInfo pagingInfo, Level level) {
+        return getPageAsync(
+                submodelElementsPath(),
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.METADATA, level, Extent.WITHOUT_BLOB_VALUE),
+                pagingInfo,
+                SubmodelElement.class);
+    }
+
+
     /**
      * Retrieves the references of multiple Submodel Elements.
      *
@@ -579,6 +1013,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElementReference(PagingInfo)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Submodel Element references that completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Page<Reference>> getElementReferenceAsync(PagingInfo pagingInfo) {
+        return getPageAsync(submodelElementsPath(), SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pagingInfo, Reference.class);
+    }
+
+
     /**
      * Retrieves the path of multiple Submodel Elements.
      *
@@ -607,6 +1053,24 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElementPath(PagingInfo, Level)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @param level The level to use
+     * @return a future of a page of Submodel Element paths that completes exceptionally with any of the exceptions of
+     *         the synchronous variant
+     */
+    public CompletableFuture<Page<String>> getElementPathAsync(PagingInfo pagingInfo, Level level) {
+        return getPageAsync(
+                submodelElementsPath(),
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.PATH, level, Extent.WITHOUT_BLOB_VALUE),
+                pagingInfo,
+                String.class);
+    }
+
+
     /**
      * Retrieves a specific submodel element from the Submodel at a specified path.
      *
@@ -629,6 +1093,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElement(IdShortPath)}.
+     *
+     * @param idShortPath The path of the Submodel Element
+     * @return a future of the requested Submodel Element object that completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<SubmodelElement> getElementAsync(IdShortPath idShortPath) {
+        return getElementAsync(idShortPath, QueryModifier.DEFAULT);
+    }
+
+
     /**
      * Retrieves a specific Submodel Element from the Submodel at a specified path.
      *
@@ -655,6 +1131,22 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElement(IdShortPath, QueryModifier)}.
+     *
+     * @param idShortPath The path of the Submodel Element
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @return a future of the requested submodel element object that completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<SubmodelElement> getElementAsync(IdShortPath idShortPath, QueryModifier modifier) {
+        return getAsync(
+                submodelElementIdPath(idShortPath),
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                SubmodelElement.class);
+    }
+
+
     /**
      * Retrieves a specific Submodel Element from the Submodel at a specified path.
      *
@@ -682,6 +1174,23 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElement(IdShortPath, Level, Extent)}.
+     *
+     * @param idShortPath The path of the Submodel Element
+     * @param level The level to use
+     * @param extent The extent to use
+     * @return a future of the requested submodel element object that completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<SubmodelElement> getElementAsync(IdShortPath idShortPath, Level level, Extent extent) {
+        return getAsync(
+                submodelElementIdPath(idShortPath),
+                OutputModifier.with(Content.NORMAL, level, extent),
+                SubmodelElement.class);
+    }
+
+
     /**
      * Creates a new submodel element at a specified path within the submodel element hierarchy.
      * If the PostSubmodelElementByPath is executed towards a SubmodelElementList, the new SubmodelElement is added to the
@@ -708,6 +1217,19 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #postElement(IdShortPath, SubmodelElement)}.
+     *
+     * @param idShortPath The path under which the new SubmodelElement shall be added
+     * @param submodelElement The new Submodel Element object
+     * @return a future of the new Submodel Element object as hosted on the server that completes exceptionally with any
+     *         of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<SubmodelElement> postElementAsync(IdShortPath idShortPath, SubmodelElement submodelElement) {
+        return postAsync(submodelElementIdPath(idShortPath), submodelElement, Content.NORMAL, SubmodelElement.class);
+    }
+
+
     /**
      * Replaces an existing Submodel Element at a specified path within the submodel element hierarchy.
      *
@@ -731,6 +1253,19 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #putElement(IdShortPath, SubmodelElement)}.
+     *
+     * @param idShortPath The path to the Submodel Element which shall be replaced
+     * @param submodelElement The new Submodel Element object to replace the current one
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> putElementAsync(IdShortPath idShortPath, SubmodelElement submodelElement) {
+        return putAsync(submodelElementIdPath(idShortPath), submodelElement);
+    }
+
+
     /**
      * Updates an existing Submodel Element at a specified path within the submodel element hierarchy.
      *
@@ -753,6 +1288,19 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #patchElement(IdShortPath, SubmodelElement)}.
+     *
+     * @param idShortPath The path to the Submodel Element which shall be replaced
+     * @param submodelElement The new Submodel Element object to update the current one
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> patchElementAsync(IdShortPath idShortPath, SubmodelElement submodelElement) {
+        return patchAsync(submodelElementIdPath(idShortPath), submodelElement);
+    }
+
+
     /**
      * Deletes a Submodel Element at a specified path within the submodel elements hierarchy.
      *
@@ -774,6 +1322,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #deleteElement(IdShortPath)}.
+     *
+     * @param idShortPath The path to the Submodel Element which shall be replaced
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> deleteElementAsync(IdShortPath idShortPath) {
+        return deleteAsync(submodelElementIdPath(idShortPath));
+    }
+
+
     /**
      * Retrieves the metadata attributes of a specific Submodel Element.
      *
@@ -796,6 +1356,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElementMetadata(IdShortPath)}.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @return a future of the Submodel Element metadata that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<SubmodelElement> getElementMetadataAsync(IdShortPath idShortPath) {
+        return getAsync(submodelElementIdPath(idShortPath), OutputModifier.with(Content.METADATA), SubmodelElement.class);
+    }
+
+
     /**
      * Updates the metadata attributes of a specific Submodel Element.
      *
@@ -818,6 +1390,19 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #patchElementMetadata(IdShortPath, SubmodelElement)}.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param submodelElement The new Submodel Element metadata to patch the current one
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> patchElementMetadataAsync(IdShortPath idShortPath, SubmodelElement submodelElement) {
+        return patchAsync(submodelElementIdPath(idShortPath), submodelElement, new QueryModifier.Builder().level(Level.CORE).build());
+    }
+
+
     /**
      * Returns a specific Submodel Element value from the Submodel at a specified path.
      *
@@ -867,7 +1452,7 @@ public class SubmodelInterface extends BaseInterface {
             throws StatusCodeException, ConnectivityException {
         String path = submodelElementIdPath(idShortPath);
         HttpRequest request = HttpHelper.createGetRequest(resolve(QueryHelper.apply(path, OutputModifier.with(Content.VALUE, level, Extent.DEFAULT))));
-        HttpResponse<String> response = HttpHelper.send(httpClient, request);
+        HttpResponse<String> response = HttpHelper.send(transport, request);
         validateStatusCode(HttpMethod.GET, response, HttpStatus.OK);
         try {
             return deserializer.readValue(response.body(), typeInfo);
@@ -878,6 +1463,313 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElementValue(IdShortPath, ElementValueTypeInfo)}.
+     *
+     * @param <T> the return type
+     * @param idShortPath The path to the Submodel Element
+     * @param typeInfo Information specifying how the value should be deserialized. Requires type and datatype to be set
+     * @return a future of the requested submodel element value that completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public <T extends ElementValue> CompletableFuture<T> getElementValueAsync(IdShortPath idShortPath, ElementValueTypeInfo typeInfo) {
+        return getElementValueAsync(idShortPath, typeInfo, Level.DEFAULT);
+    }
+
+
+    /**
+     * Asynchronous variant of {@link #getElementValue(IdShortPath, ElementValueTypeInfo, Level)}.
+     *
+     * @param <T> the return type
+     * @param idShortPath The path to the Submodel Element
+     * @param typeInfo Information specifying how the value should be deserialized. Requires type and datatype to be set
+     * @param level The level to use
+     * @return a future of the requested submodel element value that completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public <T extends ElementValue> CompletableFuture<T> getElementValueAsync(IdShortPath idShortPath, ElementValueTypeInfo typeInfo, Level level) {
+        String path = submodelElementIdPath(idShortPath);
+        return executeAsync(
+                () -> HttpHelper.createGetRequest(resolve(QueryHelper.apply(path, OutputModifier.with(Content.VALUE, level, Extent.DEFAULT)))),
+                HttpMethod.GET,
+                HttpStatus.OK,
+                response -> {
+                    try {
+                        return deserializer.<T> readValue(response.body(), typeInfo);
+                    }
+                    catch (DeserializationException e) {
+                        throw new InvalidPayloadException(e);
+                    }
+                });
+    }
+
+
+    /**
+     * Retrieves the values of multiple Submodel Elements using {@link #DEFAULT_SUBMODEL_READ_THRESHOLD} and
+     * {@link #DEFAULT_MAX_CONCURRENT_ELEMENT_READS}, see
+     * {@link #getElementValues(Collection, double, int)}.
+     *
+     * @param idShortPaths The paths to the Submodel Elements
+     * @return the values of the requested Submodel Elements by path
+     * @throws StatusCodeException if the server responds with an error
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public Map<IdShortPath, ElementValue> getElementValues(Collection<IdShortPath> idShortPaths) throws StatusCodeException, ConnectivityException {
+        return getElementValues(idShortPaths, DEFAULT_SUBMODEL_READ_THRESHOLD, DEFAULT_MAX_CONCURRENT_ELEMENT_READS);
+    }
+
+
+    /**
+     * Retrieves the values of multiple Submodel Elements. Depending on the share of the submodel that is requested,
+     * either the whole submodel is fetched with a single request or the elements are fetched with one request each, of
+     * which at most {@code maxConcurrentReads} are sent in parallel. The whole submodel is fetched if the number of
+     * requested elements is at least {@code submodelReadThreshold} times the number of elements of the submodel. The
+     * number of elements is determined by fetching the paths of all elements on first use and is updated whenever the
+     * whole submodel is fetched. In both cases, paths that do not exist are not contained in the result, while a
+     * {@link NotFoundException} is thrown if the submodel does not exist.
+     *
+     * @param idShortPaths The paths to the Submodel Elements
+     * @param submodelReadThreshold the share of the submodel from which on the whole submodel is fetched, e.g., 0.25
+     *            to fetch the whole submodel if at least a quarter of its elements are requested
+     * @param maxConcurrentReads the maximum number of parallel requests when fetching individual elements
+     * @return the values of the requested Submodel Elements by path in the order of {@code idShortPaths}
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>401: UnauthorizedException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public Map<IdShortPath, ElementValue> getElementValues(Collection<IdShortPath> idShortPaths, double submodelReadThreshold, int maxConcurrentReads)
+            throws StatusCodeException, ConnectivityException {
+        try {
+            return getElementValuesAsync(idShortPaths, submodelReadThreshold, maxConcurrentReads).join();
+        }
+        catch (CompletionException e) {
+            Throwable cause = HttpHelper.unwrap(e);
+            if (cause instanceof StatusCodeException) {
+                throw (StatusCodeException) cause;
+            }
+            if (cause instanceof ConnectivityException) {
+                throw (ConnectivityException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+
+    /**
+     * Asynchronous variant of {@link #getElementValues(Collection)}.
+     *
+     * @param idShortPaths The paths to the Submodel Elements
+     * @return a future of the values of the requested Submodel Elements by path that completes exceptionally with any
+     *         of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<Map<IdShortPath, ElementValue>> getElementValuesAsync(Collection<IdShortPath> idShortPaths) {
+        return getElementValuesAsync(idShortPaths, DEFAULT_SUBMODEL_READ_THRESHOLD, DEFAULT_MAX_CONCURRENT_ELEMENT_READS);
+    }
+
+
+    /**
+     * Asynchronous variant of {@link #getElementValues(Collection, double, int)}.
+     *
+     * @param idShortPaths The paths to the Submodel Elements
+     * @param submodelReadThreshold the share of the submodel from which on the whole submodel is fetched
+     * @param maxConcurrentReads the maximum number of parallel requests when fetching individual elements
+     * @return a future of the values of the requested Submodel Elements by path that completes exceptionally with any
+     *         of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<Map<IdShortPath, ElementValue>> getElementValuesAsync(Collection<IdShortPath> idShortPaths,
+                                                                                   double submodelReadThreshold,
+                                                                                   int maxConcurrentReads) {
+        Ensure.requireNonNull(idShortPaths, "idShortPaths must be non-null");
+        Ensure.require(submodelReadThreshold >= 0, "submodelReadThreshold must be non-negative");
+        Ensure.require(maxConcurrentReads > 0, "maxConcurrentReads must be positive");
+        List<IdShortPath> paths = idShortPaths.stream()
+                .distinct()
+                .collect(Collectors.toList());
+        if (paths.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+        return getElementCountAsync().thenCompose(count -> paths.size() >= submodelReadThreshold * count
+                ? getElementValuesFromSubmodel(paths)
+                : getElementValuesFromElements(paths, maxConcurrentReads));
+    }
+
+
+    private CompletableFuture<Integer> getElementCountAsync() {
+        int knownElementCount = elementCount.get();
+        if (knownElementCount >= 0) {
+            return CompletableFuture.completedFuture(knownElementCount);
+        }
+        // the paths are much smaller than the values, so this is cheap compared to fetching the whole submodel
+        return getElementPathAsync(PagingInfo.ALL, Level.DEEP).thenApply(page -> {
+            int result = page.getContent().size();
+            elementCount.compareAndSet(-1, result);
+            return result;
+        });
+    }
+
+
+    private CompletableFuture<Map<IdShortPath, ElementValue>> getElementValuesFromSubmodel(List<IdShortPath> paths) {
+        return getAsync(QueryModifier.DEFAULT).thenApply(submodel -> {
+            elementCount.set(countElements(submodel.getSubmodelElements()));
+            Map<IdShortPath, ElementValue> result = new LinkedHashMap<>();
+            for (IdShortPath path: paths) {
+                SubmodelElement element = findElement(submodel, path);
+                if (Objects.nonNull(element)) {
+                    result.put(path, toElementValue(element));
+                }
+            }
+            return result;
+        });
+    }
+
+
+    private CompletableFuture<Map<IdShortPath, ElementValue>> getElementValuesFromElements(List<IdShortPath> paths, int maxConcurrentReads) {
+        Queue<IdShortPath> queue = new ConcurrentLinkedQueue<>(paths);
+        Map<IdShortPath, ElementValue> values = new ConcurrentHashMap<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        int workers = Math.min(maxConcurrentReads, paths.size());
+        AtomicInteger activeWorkers = new AtomicInteger(workers);
+        for (int i = 0; i < workers; i++) {
+            readNextElement(queue, values, done, activeWorkers);
+        }
+        // a missing element cannot be told apart from a missing submodel, so check that the submodel exists like
+        // getElementValuesFromSubmodel does implicitly
+        return done.thenCompose(x -> values.size() < paths.size()
+                ? getMetadataAsync(Level.CORE).thenApply(submodel -> x)
+                : CompletableFuture.completedFuture(x))
+                .thenApply(x -> {
+                    Map<IdShortPath, ElementValue> result = new LinkedHashMap<>();
+                    for (IdShortPath path: paths) {
+                        if (values.containsKey(path)) {
+                            result.put(path, values.get(path));
+                        }
+                    }
+                    return result;
+                });
+    }
+
+
+    private void readNextElement(Queue<IdShortPath> queue, Map<IdShortPath, ElementValue> values, CompletableFuture<Void> done, AtomicInteger activeWorkers) {
+        while (true) {
+            IdShortPath path = queue.poll();
+            if (Objects.isNull(path) || done.isDone()) {
+                if (activeWorkers.decrementAndGet() == 0) {
+                    done.complete(null);
+                }
+                return;
+            }
+            CompletableFuture<SubmodelElement> element = getElementAsync(path);
+            if (!element.isDone()) {
+                element.whenComplete((result, error) -> {
+                    storeElementValue(path, result, error, values, done);
+                    readNextElement(queue, values, done, activeWorkers);
+                });
+                return;
+            }
+            element.handle((result, error) -> {
+                storeElementValue(path, result, error, values, done);
+                return null;
+            });
+        }
+    }
+
+
+    private static void storeElementValue(IdShortPath path, SubmodelElement element, Throwable error, Map<IdShortPath, ElementValue> values, CompletableFuture<Void> done) {
+        if (Objects.nonNull(error)) {
+            Throwable cause = HttpHelper.unwrap(error);
+            if (!(cause instanceof NotFoundException)) {
+                done.completeExceptionally(cause);
+            }
+            return;
+        }
+        try {
+            values.put(path, toElementValue(element));
+        }
+        catch (RuntimeException e) {
+            done.completeExceptionally(e);
+        }
+    }
+
+
+    private static ElementValue toElementValue(SubmodelElement element) {
+        try {
+            return ElementValueMapper.toValue(element);
+        }
+        catch (ValueMappingException e) {
+            throw new InvalidPayloadException(e);
+        }
+    }
+
+
+    private static SubmodelElement findElement(Submodel submodel, IdShortPath idShortPath) {
+        SubmodelElement result = null;
+        Collection<? extends SubmodelElement> children = submodel.getSubmodelElements();
+        Matcher matcher = ID_SHORT_PATH_SEGMENT.matcher(idShortPath.toString());
+        while (matcher.find()) {
+            String idShort = matcher.group(2);
+            if (Objects.isNull(idShort)) {
+                if (!(result instanceof SubmodelElementList)) {
+                    return null;
+                }
+                List<SubmodelElement> list = Objects.requireNonNullElse(((SubmodelElementList) result).getValue(), List.of());
+                int index = Integer.parseInt(matcher.group(1));
+                result = index < list.size() ? list.get(index) : null;
+            }
+            else {
+                result = Objects.requireNonNullElse(children, List.<SubmodelElement> of()).stream()
+                        .filter(x -> idShort.equals(x.getIdShort()))
+                        .findFirst()
+                        .orElse(null);
+            }
+            if (Objects.isNull(result)) {
+                return null;
+            }
+            children = getChildren(result);
+        }
+        return result;
+    }
+
+
+    private static Collection<? extends SubmodelElement> getChildren(SubmodelElement element) {
+        if (element instanceof SubmodelElementCollection) {
+            return ((SubmodelElementCollection) element).getValue();
+        }
+        if (element instanceof SubmodelElementList) {
+            return ((SubmodelElementList) element).getValue();
+        }
+        if (element instanceof Entity) {
+            return ((Entity) element).getStatements();
+        }
+        if (element instanceof AnnotatedRelationshipElement) {
+            return ((AnnotatedRelationshipElement) element).getAnnotations();
+        }
+        return List.of();
+    }
+
+
+    private static int countElements(Collection<? extends SubmodelElement> elements) {
+        if (Objects.isNull(elements)) {
+            return 0;
+        }
+        int result = elements.size();
+        for (SubmodelElement element: elements) {
+            result += countElements(getChildren(element));
+        }
+        return result;
+    }
+
+
     /**
      * Updates an existing Submodel Element value at a specified path within the submodel element hierarchy.
      *
@@ -900,6 +1792,19 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #patchElementValue(IdShortPath, Object)}.
+     *
+     * @param idShortPath The path to the Submodel Element which shall be updated
+     * @param value The new Submodel Element value object to replace the current one
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> patchElementValueAsync(IdShortPath idShortPath, Object value) {
+        return patchValueAsync(submodelElementIdPath(idShortPath), value, new QueryModifier.Builder().level(Level.DEFAULT).build());
+    }
+
+
     /**
      * Retrieves a specific Submodel Element reference from the server.
      *
@@ -925,6 +1830,21 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElementReference(IdShortPath)}.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @return a future of the reference of the requested Submodel Element that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<Reference> getElementReferenceAsync(IdShortPath idShortPath) {
+        return getAsync(
+                submodelElementIdPath(idShortPath),
+                OutputModifier.with(Content.REFERENCE, Level.CORE, Extent.DEFAULT),
+                Reference.class);
+    }
+
+
     /**
      * Retrieves a specific Submodel Element path from the server.
      *
@@ -951,6 +1871,22 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getElementPath(IdShortPath, Level)}.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param level The level to use
+     * @return a future of the path of the requested Submodel Element that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<String> getElementPathAsync(IdShortPath idShortPath, Level level) {
+        return getAsync(
+                submodelElementIdPath(idShortPath),
+                OutputModifier.with(Content.PATH, level, Extent.DEFAULT),
+                String.class);
+    }
+
+
     /**
      * Returns a specific file from the Submodel at a specified path.
      *
@@ -973,6 +1909,145 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAttachment(IdShortPath)}.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @return a future of the requested file that completes exceptionally with any of the exceptions of the synchronous
+     *         variant
+     */
+    public CompletableFuture<InMemoryFile> getAttachmentAsync(IdShortPath idShortPath) {
+        return getFileAsync(attachmentPath(idShortPath));
+    }
+
+
+    /**
+     * Downloads a specific file from the Submodel at a specified path to disk without loading it into memory. If
+     * {@code target} is an existing directory, the file is stored inside this directory using the file name provided
+     * by the server, otherwise {@code target} is used as file name. Existing files are replaced.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param target The file or directory to write to
+     * @return The file that has been written
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>405: MethodNotAllowedException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established or writing the file fails
+     */
+    public Path getAttachment(IdShortPath idShortPath, Path target) throws StatusCodeException, ConnectivityException {
+        return getFile(attachmentPath(idShortPath), target);
+    }
+
+
+    /**
+     * Writes a specific file from the Submodel at a specified path to an output stream without loading it into memory.
+     * The output stream is not closed.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param output The output stream to write to
+     * @return The name of the file as provided by the server
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>405: MethodNotAllowedException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established or writing to the output
+     *             stream fails
+     */
+    public String getAttachment(IdShortPath idShortPath, OutputStream output) throws StatusCodeException, ConnectivityException {
+        return getFile(attachmentPath(idShortPath), output);
+    }
+
+
+    /**
+     * Downloads a specific file from the Submodel at a specified path to disk using parallel HTTP range requests. The
+     * file is split into ranges of {@code rangeSize} bytes of which up to {@code parallelism} are downloaded in
+     * parallel. Completed ranges are recorded in a sidecar file next to the target, so calling this method again after
+     * a failed or interrupted download only downloads the missing ranges. If the server does not support range
+     * requests, the file is downloaded in a single request.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param target The file or directory to write to
+     * @param parallelism The maximum number of ranges downloaded in parallel
+     * @param rangeSize The size of a single range in bytes
+     * @return The file that has been written
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>405: MethodNotAllowedException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established or writing the file fails
+     */
+    public Path getAttachment(IdShortPath idShortPath, Path target, int parallelism, long rangeSize) throws StatusCodeException, ConnectivityException {
+        return getFileRanged(attachmentPath(idShortPath), target, parallelism, rangeSize);
+    }
+
+
+    /**
+     * Downloads a specific file from the Submodel at a specified path to disk using parallel HTTP range requests with
+     * the default range size of {@value RangedDownload#DEFAULT_RANGE_SIZE} bytes.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param target The file or directory to write to
+     * @param parallelism The maximum number of ranges downloaded in parallel
+     * @return The file that has been written
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>405: MethodNotAllowedException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established or writing the file fails
+     */
+    public Path getAttachment(IdShortPath idShortPath, Path target, int parallelism) throws StatusCodeException, ConnectivityException {
+        return getAttachment(idShortPath, target, parallelism, RangedDownload.DEFAULT_RANGE_SIZE);
+    }
+
+
+    /**
+     * Returns a specific file from the Submodel at a specified path whose content is read directly from the
+     * connection. The returned file must be closed after use.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @return The requested file
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>405: MethodNotAllowedException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public StreamingFile getAttachmentStreaming(IdShortPath idShortPath) throws StatusCodeException, ConnectivityException {
+        return getFileStreaming(attachmentPath(idShortPath));
+    }
+
+
     /**
      * Replaces the file at a specified path within the submodel element hierarchy.
      *
@@ -995,6 +2070,70 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Replaces the file at a specified path within the submodel element hierarchy with a file from disk. The file is
+     * read while sending the request and not loaded into memory. The name of the file is sent as file name.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param file The new file to replace the current one
+     * @param contentType The content type of the file
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>405: MethodNotAllowedException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established or the file cannot be read
+     */
+    public void putAttachment(IdShortPath idShortPath, Path file, String contentType) throws StatusCodeException, ConnectivityException {
+        putFile(attachmentPath(idShortPath), file, contentType);
+    }
+
+
+    /**
+     * Replaces the file at a specified path within the submodel element hierarchy with the content of a file channel.
+     * The content is read from the current position of the channel up to its end while sending the request and not
+     * loaded into memory. The channel is neither closed nor is its position modified.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param channel The channel providing the new file content
+     * @param fileName The file name to send to the server
+     * @param contentType The content type of the file
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>405: MethodNotAllowedException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established or the channel cannot be
+     *             read
+     */
+    public void putAttachment(IdShortPath idShortPath, FileChannel channel, String fileName, String contentType) throws StatusCodeException, ConnectivityException {
+        putFile(attachmentPath(idShortPath), channel, fileName, contentType);
+    }
+
+
+    /**
+     * Asynchronous variant of {@link #putAttachment(IdShortPath, TypedInMemoryFile)}.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param attachment The new file to replace the current one
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> putAttachmentAsync(IdShortPath idShortPath, TypedInMemoryFile attachment) {
+        return putFileAsync(attachmentPath(idShortPath), attachment);
+    }
+
+
     /**
      * Deletes the file of an existing submodel element at a specified path within the submodel element hierarchy.
      *
@@ -1007,6 +2146,18 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #deleteAttachment(IdShortPath)}.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> deleteAttachmentAsync(IdShortPath idShortPath) {
+        return deleteAsync(attachmentPath(idShortPath), HttpStatus.OK);
+    }
+
+
     /**
      * Invokes a synchronous Operation at a specified path.
      *
@@ -1070,6 +2221,183 @@ public class SubmodelInterface extends BaseInterface {
     }
 
 
+    /**
+     * Invokes an asynchronous Operation at a specified path. The server only returns a handle to the running operation
+     * which is polled using the {@link OperationPoller} of the session, i.e., no connection or thread is blocked while
+     * the operation is running.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param input List of input variables
+     * @param timeout Timeout for client in java xml duration format
+     * @return a future of the result of the operation's invocation that completes exceptionally with a
+     *         {@link ConnectivityException} if the connection to the server cannot be established or a
+     *         {@link StatusCodeException} if the server responds with an error. Possible Exceptions:
+     *         <div>
+     *         <ul>
+     *         <li>400: BadRequestException</li>
+     *         <li>401: UnauthorizedException</li>
+     *         <li>403: ForbiddenException</li>
+     *         <li>404: NotFoundException</li>
+     *         <li>405: MethodNotAllowedException</li>
+     *         <li>409: ConflictException</li>
+     *         <li>500: InternalServerErrorException</li>
+     *         </ul>
+     *         </div>
+     */
+    public CompletableFuture<OperationResult> invokeOperationAsync(IdShortPath idShortPath, List<OperationVariable> input, Duration timeout) {
+        return invokeOperationAsync(idShortPath, input, List.of(), timeout);
+    }
+
+
+    /**
+     * Invokes an asynchronous Operation at a specified path. The server only returns a handle to the running operation
+     * which is polled using the {@link OperationPoller} of the session, i.e., no connection or thread is blocked while
+     * the operation is running.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param input List of input variables
+     * @param inoutput List of inoutput variables
+     * @param timeout Timeout for client in java xml duration format
+     * @return a future of the result of the operation's invocation that completes exceptionally with a
+     *         {@link ConnectivityException} if the connection to the server cannot be established or a
+     *         {@link StatusCodeException} if the server responds with an error. Possible Exceptions:
+     *         <div>
+     *         <ul>
+     *         <li>400: BadRequestException</li>
+     *         <li>401: UnauthorizedException</li>
+     *         <li>403: ForbiddenException</li>
+     *         <li>404: NotFoundException</li>
+     *         <li>405: MethodNotAllowedException</li>
+     *         <li>409: ConflictException</li>
+     *         <li>500: InternalServerErrorException</li>
+     *         </ul>
+     *         </div>
+     */
+    public CompletableFuture<OperationResult> invokeOperationAsync(IdShortPath idShortPath, List<OperationVariable> input, List<OperationVariable> inoutput,
+                                                                   Duration timeout) {
+        return invokeOperationAsync(idShortPath, input, inoutput, timeout, session.getOperationPoller());
+    }
+
+
+    /**
+     * Invokes an asynchronous Operation at a specified path. The server only returns a handle to the running operation
+     * which is polled using the given {@link OperationPoller}. Cancelling the returned future stops polling but does not
+     * cancel the operation on the server.
+     *
+     * @param idShortPath The path to the Submodel Element
+     * @param input List of input variables
+     * @param inoutput List of inoutput variables
+     * @param timeout Timeout for client in java xml duration format
+     * @param poller The poller defining how often the status of the operation is requested
+     * @return a future of the result of the operation's invocation that completes exceptionally with a
+     *         {@link ConnectivityException} if the connection to the server cannot be established or a
+     *         {@link StatusCodeException} if the server responds with an error. Possible Exceptions:
+     *         <div>
+     *         <ul>
+     *         <li>400: BadRequestException</li>
+     *         <li>401: UnauthorizedException</li>
+     *         <li>403: ForbiddenException</li>
+     *         <li>404: NotFoundException</li>
+     *         <li>405: MethodNotAllowedException</li>
+     *         <li>409: ConflictException</li>
+     *         <li>500: InternalServerErrorException</li>
+     *         </ul>
+     *         </div>
+     */
+    public CompletableFuture<OperationResult> invokeOperationAsync(IdShortPath idShortPath, List<OperationVariable> input, List<OperationVariable> inoutput,
+                                                                   Duration timeout, OperationPoller poller) {
+        Ensure.requireNonNull(poller, "poller must be non-null");
+        // each stage is started explicitly and cancelled together with the result, as futures derived via thenCompose
+        // would not forward the cancellation and polling would continue until the operation finishes
+        CompletableFuture<OperationResult> result = new CompletableFuture<>();
+        CompletableFuture<URI> invocation = postAsync(
+                invokeAsyncPath(idShortPath),
+                new DefaultOperationRequest.Builder()
+                        .inputArguments(input)
+                        .inoutputArguments(inoutput)
+                        .clientTimeoutDuration(timeout)
+                        .build(),
+                Content.NORMAL,
+                HttpStatus.ACCEPTED,
+                response -> getOperationStatusUri(idShortPath, response));
+        HttpHelper.propagateCancellation(invocation, result);
+        invocation.whenComplete((statusUri, invocationError) -> {
+            if (Objects.nonNull(invocationError)) {
+                result.completeExceptionally(HttpHelper.unwrap(invocationError));
+                return;
+            }
+            CompletableFuture<URI> polling = poller.poll(() -> pollOperationStatus(statusUri));
+            HttpHelper.propagateCancellation(polling, result);
+            polling.whenComplete((resultUri, pollingError) -> {
+                if (Objects.nonNull(pollingError)) {
+                    result.completeExceptionally(HttpHelper.unwrap(pollingError));
+                    return;
+                }
+                CompletableFuture<OperationResult> fetch = executeAsync(
+                        () -> HttpHelper.createGetRequest(resultUri),
+                        HttpMethod.GET,
+                        HttpStatus.OK,
+                        response -> parseBody(response, OperationResult.class));
+                HttpHelper.propagateCancellation(fetch, result);
+                fetch.whenComplete((operationResult, fetchError) -> {
+                    if (Objects.nonNull(fetchError)) {
+                        result.completeExceptionally(HttpHelper.unwrap(fetchError));
+                    }
+                    else {
+                        result.complete(operationResult);
+                    }
+                });
+            });
+        });
+        return result;
+    }
+
+
+    private URI getOperationStatusUri(IdShortPath idShortPath, HttpResponse<String> response) {
+        Optional<String> location = response.headers().firstValue(HttpHeaders.LOCATION);
+        if (location.isPresent()) {
+            return response.uri().resolve(location.get());
+        }
+        if (StringHelper.isBlank(response.body())) {
+            throw new InvalidPayloadException("server did not return a handle for the invoked operation", null);
+        }
+        return resolve(operationStatusPath(idShortPath, parseBody(response, OperationHandle.class).getHandleId()));
+    }
+
+
+    private CompletableFuture<OperationPoller.Result<URI>> pollOperationStatus(URI statusUri) {
+        return HttpHelper.sendAsync(transport, HttpHelper.createGetRequest(statusUri))
+                .thenApply(response -> {
+                    if (Objects.equals(HttpStatus.FOUND.getCode(), response.statusCode())) {
+                        return OperationPoller.Result.completed(response.headers().firstValue(HttpHeaders.LOCATION)
+                                .map(x -> response.uri().resolve(x))
+                                .orElse(operationResultsUri(statusUri)));
+                    }
+                    try {
+                        validateStatusCode(HttpMethod.GET, response, HttpStatus.OK);
+                    }
+                    catch (StatusCodeException e) {
+                        throw new CompletionException(e);
+                    }
+                    ExecutionState state = parseBody(response, BaseOperationResult.class).getExecutionState();
+                    if (Objects.equals(ExecutionState.INITIATED, state) || Objects.equals(ExecutionState.RUNNING, state)) {
+                        return OperationPoller.Result.pending(HttpHelper.getRetryAfter(response).orElse(null));
+                    }
+                    return OperationPoller.Result.completed(operationResultsUri(statusUri));
+                });
+    }
+
+
+    private static URI operationResultsUri(URI statusUri) {
+        String uri = statusUri.toString();
+        int index = uri.lastIndexOf(OPERATION_STATUS_SEGMENT);
+        if (index < 0) {
+            throw new InvalidPayloadException(String.format("unable to derive URI of operation result from status URI '%s'", statusUri), null);
+        }
+        return URI.create(uri.substring(0, index) + OPERATION_RESULTS_SEGMENT + uri.substring(index + OPERATION_STATUS_SEGMENT.length()));
+    }
+
+
     private static String submodelElementsPath() {
         return "/submodel-elements";
     }
@@ -1088,4 +2416,14 @@ public class SubmodelInterface extends BaseInterface {
     private static String invokePath(IdShortPath idShortPath) {
         return submodelElementIdPath(idShortPath) + "/invoke";
     }
+
+
+    private static String invokeAsyncPath(IdShortPath idShortPath) {
+        return submodelElementIdPath(idShortPath) + URI_PATH_SEPERATOR + PATH_INVOKE_ASYNC;
+    }
+
+
+    private static String operationStatusPath(IdShortPath idShortPath, String handleId) {
+        return submodelElementIdPath(idShortPath) + OPERATION_STATUS_SEGMENT + handleId;
+    }
 }
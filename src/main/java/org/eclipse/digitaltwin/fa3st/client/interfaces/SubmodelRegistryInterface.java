@@ -15,12 +15,21 @@ package org.eclipse.digitaltwin.fa3st.client.interfaces;
 
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelDescriptor;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
 import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
 import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
+import org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException;
 import org.eclipse.digitaltwin.fa3st.client.query.SearchCriteria;
 import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.PagingIterator;
+import org.eclipse.digitaltwin.fa3st.client.util.StreamingPage;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Content;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
@@ -52,6 +61,17 @@ public class SubmodelRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Creates a new Submodel Registry Interface sharing the resources of the given session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @param session the session providing the HTTP client, serializer and deserializer
+     */
+    public SubmodelRegistryInterface(URI endpoint, ClientSession session) {
+        super(resolve(endpoint, API_PATH), session);
+    }
+
+
     /**
      * Creates a new Submodel Registry Interface.
      *
@@ -106,6 +126,17 @@ public class SubmodelRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll()}.
+     *
+     * @return a future of a list containing all Submodel Descriptors that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<List<SubmodelDescriptor>> getAllAsync() {
+        return getAllAsync(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, SubmodelDescriptor.class);
+    }
+
+
     /**
      * Returns a page of Submodel Descriptors.
      *
@@ -128,6 +159,142 @@ public class SubmodelRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(PagingInfo)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Submodel Descriptors that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<SubmodelDescriptor>> getAsync(PagingInfo pagingInfo) {
+        return getPageAsync(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pagingInfo, SubmodelDescriptor.class);
+    }
+
+
+    /**
+     * Retrieves a page of Submodel Descriptors that is parsed incrementally while being read from the connection, i.e.,
+     * only a single element is held in memory at a time. The returned page must be closed after use, e.g., by using a
+     * try-with-resources statement.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return A streaming page of Submodel Descriptors
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>401: UnauthorizedException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public StreamingPage<SubmodelDescriptor> getStreaming(PagingInfo pagingInfo) throws StatusCodeException, ConnectivityException {
+        return getPageStreaming(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pagingInfo, SubmodelDescriptor.class);
+    }
+
+
+    /**
+     * Lazily streams all Submodel Descriptors using pages of default size. Pages are requested only when needed, so
+     * memory consumption is limited by the page size instead of the total number of Submodel Descriptors. If fetching a
+     * page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @return a sequential stream of all Submodel Descriptors
+     */
+    public Stream<SubmodelDescriptor> stream() {
+        return stream(PagingIterator.DEFAULT_PAGE_SIZE);
+    }
+
+
+    /**
+     * Lazily streams all Submodel Descriptors. Pages are requested only when needed, so memory consumption is limited
+     * by the page size instead of the total number of Submodel Descriptors. If fetching a page fails, an
+     * {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param pageSize The maximum number of Submodel Descriptors per page
+     * @return a sequential stream of all Submodel Descriptors
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<SubmodelDescriptor> stream(long pageSize) {
+        return stream(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, SubmodelDescriptor.class);
+    }
+
+
+    /**
+     * Lazily iterates over all Submodel Descriptors. Pages are requested only when needed, so memory consumption is
+     * limited by the page size instead of the total number of Submodel Descriptors. If fetching a page fails, an
+     * {@link UncheckedClientException} is thrown while iterating.
+     *
+     * @param pageSize The maximum number of Submodel Descriptors per page
+     * @return an iterator over all Submodel Descriptors
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Iterator<SubmodelDescriptor> iterate(long pageSize) {
+        return iterate(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, SubmodelDescriptor.class);
+    }
+
+
+    /**
+     * Lazily streams all Submodel Descriptors while prefetching pages. Pages of {@code pageSize} elements are requested
+     * in the background as soon as the cursor of the previous page is known, with up to {@code prefetchDepth} pages
+     * fetched ahead of the page currently consumed. This overlaps network latency with processing at the cost of
+     * holding up to {@code prefetchDepth} additional pages in memory. If fetching a page fails, an
+     * {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param pageSize The maximum number of Submodel Descriptors per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return a sequential stream of all Submodel Descriptors
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Stream<SubmodelDescriptor> stream(long pageSize, int prefetchDepth) {
+        return stream(
+                null,
+                SearchCriteria.DEFAULT,
+                OutputModifier.DEFAULT,
+                pageSize,
+                prefetchDepth,
+                SubmodelDescriptor.class);
+    }
+
+
+    /**
+     * Lazily iterates over all Submodel Descriptors while prefetching pages. Pages of {@code pageSize} elements are
+     * requested in the background as soon as the cursor of the previous page is known, with up to {@code prefetchDepth}
+     * pages fetched ahead of the page currently consumed. This overlaps network latency with processing at the cost of
+     * holding up to {@code prefetchDepth} additional pages in memory. If fetching a page fails, an
+     * {@link UncheckedClientException} is thrown while iterating.
+     *
+     * @param pageSize The maximum number of Submodel Descriptors per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return an iterator over all Submodel Descriptors
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Iterator<SubmodelDescriptor> iterate(long pageSize, int prefetchDepth) {
+        return iterate(
+                null,
+                SearchCriteria.DEFAULT,
+                OutputModifier.DEFAULT,
+                pageSize,
+                prefetchDepth,
+                SubmodelDescriptor.class);
+    }
+
+
+    /**
+     * Creates a publisher emitting all Submodel Descriptors. Pages are only requested when required by the demand of
+     * the subscriber, i.e., backpressure is propagated to the server. Errors are signalled to the subscriber with the
+     * respective {@link ClientException}.
+     *
+     * @param pageSize The maximum number of Submodel Descriptors per page
+     * @return a publisher of all Submodel Descriptors
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Flow.Publisher<SubmodelDescriptor> publisher(long pageSize) {
+        return publisher(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, SubmodelDescriptor.class);
+    }
+
+
     /**
      * Creates a new Submodel Descriptor, i.e. registers a Submodel.
      *
@@ -151,6 +318,18 @@ public class SubmodelRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #post(SubmodelDescriptor)}.
+     *
+     * @param submodelDescriptor Object containing the Submodel’s identification and endpoint information
+     * @return a future of created Submodel Descriptor that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<SubmodelDescriptor> postAsync(SubmodelDescriptor submodelDescriptor) {
+        return postAsync(null, submodelDescriptor, Content.NORMAL, SubmodelDescriptor.class);
+    }
+
+
     /**
      * Returns a specific Submodel Descriptor.
      *
@@ -173,6 +352,18 @@ public class SubmodelRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(String)}.
+     *
+     * @param submodelIdentifier The Submodel’s unique id
+     * @return a future of requested Submodel Descriptor that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<SubmodelDescriptor> getAsync(String submodelIdentifier) {
+        return getAsync(idPath(submodelIdentifier), OutputModifier.DEFAULT, SubmodelDescriptor.class);
+    }
+
+
     /**
      * Replaces an existing Submodel Descriptor, i.e. replaces registration information.
      *
@@ -194,6 +385,18 @@ public class SubmodelRegistryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #put(SubmodelDescriptor)}.
+     *
+     * @param submodelDescriptor Object containing the Submodel’s identification and endpoint information
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> putAsync(SubmodelDescriptor submodelDescriptor) {
+        return super.putAsync(idPath(submodelDescriptor.getId()), submodelDescriptor);
+    }
+
+
     /**
      * Deletes a Submodel Descriptor, i.e. de-registers a Submodel.
      *
@@ -214,4 +417,16 @@ public class SubmodelRegistryInterface extends BaseInterface {
     public void delete(String submodelIdentifier) throws StatusCodeException, ConnectivityException {
         super.delete(idPath(submodelIdentifier));
     }
+
+
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @param submodelIdentifier The Submodel’s unique id
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> deleteAsync(String submodelIdentifier) {
+        return super.deleteAsync(idPath(submodelIdentifier));
+    }
 }
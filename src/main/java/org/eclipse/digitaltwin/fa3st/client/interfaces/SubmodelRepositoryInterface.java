@@ -15,14 +15,23 @@ package org.eclipse.digitaltwin.fa3st.client.interfaces;
 
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 import org.eclipse.digitaltwin.aas4j.v3.model.Reference;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
 import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
 import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
+import org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException;
 import org.eclipse.digitaltwin.fa3st.client.query.SearchCriteria;
 import org.eclipse.digitaltwin.fa3st.client.query.SubmodelSearchCriteria;
 import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.PagingIterator;
+import org.eclipse.digitaltwin.fa3st.client.util.StreamingPage;
 import org.eclipse.digitaltwin.fa3st.common.model.IdShortPath;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Content;
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.Extent;
@@ -56,6 +65,17 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Creates a new Submodel Repository Interface sharing the resources of the given session.
+     *
+     * @param endpoint Uri used to communicate with the FA³ST service
+     * @param session the session providing the HTTP client, serializer and deserializer
+     */
+    public SubmodelRepositoryInterface(URI endpoint, ClientSession session) {
+        super(resolve(endpoint, API_PATH), session);
+    }
+
+
     /**
      * Creates a new Submodel Repository Interface.
      *
@@ -110,6 +130,17 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll()}.
+     *
+     * @return a future of a List of all Submodels that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<List<Submodel>> getAllAsync() {
+        return getAllAsync(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, Submodel.class);
+    }
+
+
     /**
      * Retrieves all Submodels according to output modifier.
      *
@@ -136,6 +167,22 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll(QueryModifier)}.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @return a future of list of all Submodels that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<List<Submodel>> getAllAsync(QueryModifier modifier) {
+        return getAllAsync(
+                null,
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves all Submodels according to output modifier.
      *
@@ -163,6 +210,23 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll(Level, Extent)}.
+     *
+     * @param level The level to use
+     * @param extent The extent to use
+     * @return a future of list of all Submodels that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<List<Submodel>> getAllAsync(Level level, Extent extent) {
+        return getAllAsync(
+                null,
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, level, extent),
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves all Submodels that match specific search criteria.
      *
@@ -185,6 +249,18 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll(SubmodelSearchCriteria)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @return a future of list of all submodels matching the search criteria that completes exceptionally with any of
+     *         the exceptions of the synchronous variant
+     */
+    public CompletableFuture<List<Submodel>> getAllAsync(SubmodelSearchCriteria submodelSearchCriteria) {
+        return getAllAsync(null, submodelSearchCriteria, OutputModifier.DEFAULT, Submodel.class);
+    }
+
+
     /**
      * Retrieves all Submodels that match specific search criteria according to query modifiers.
      * 
@@ -212,6 +288,23 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll(SubmodelSearchCriteria, QueryModifier)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @return a future of list of Submodels that completes exceptionally with any of the exceptions of the synchronous
+     *         variant
+     */
+    public CompletableFuture<List<Submodel>> getAllAsync(SubmodelSearchCriteria submodelSearchCriteria, QueryModifier modifier) {
+        return getAllAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves all Submodels that match specific search criteria according to query modifiers.
      *
@@ -240,6 +333,24 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAll(SubmodelSearchCriteria, Level, Extent)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param level The level to use
+     * @param extent The extent to use
+     * @return a future of list of Submodels that completes exceptionally with any of the exceptions of the synchronous
+     *         variant
+     */
+    public CompletableFuture<List<Submodel>> getAllAsync(SubmodelSearchCriteria submodelSearchCriteria, Level level, Extent extent) {
+        return getAllAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.NORMAL, level, extent),
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves a page of Submodels.
      *
@@ -262,6 +373,18 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(PagingInfo)}.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of submodels that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<Submodel>> getAsync(PagingInfo pagingInfo) {
+        return getPageAsync(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pagingInfo, Submodel.class);
+    }
+
+
     /**
      * Retrieves a page of Submodels that match specific search criteria.
      *
@@ -285,6 +408,19 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(SubmodelSearchCriteria, PagingInfo)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Submodels that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<Submodel>> getAsync(SubmodelSearchCriteria submodelSearchCriteria, PagingInfo pagingInfo) {
+        return getPageAsync(null, submodelSearchCriteria, OutputModifier.DEFAULT, pagingInfo, Submodel.class);
+    }
+
+
     /**
      * Retrieves a page of Submodels according to query modifier.
      *
@@ -313,6 +449,24 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(QueryModifier, PagingInfo)}.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Submodels that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<Submodel>> getAsync(QueryModifier modifier, PagingInfo pagingInfo) {
+        return getPageAsync(
+                null,
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pagingInfo,
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves a page of Submodels according to query modifier.
      *
@@ -342,6 +496,25 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(Level, Extent, PagingInfo)}.
+     *
+     * @param level The level to use
+     * @param extent The extent to use
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Submodels that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<Submodel>> getAsync(Level level, Extent extent, PagingInfo pagingInfo) {
+        return getPageAsync(
+                null,
+                SearchCriteria.DEFAULT,
+                OutputModifier.with(Content.NORMAL, level, extent),
+                pagingInfo,
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves a page of Submodels matching specific search criteria according to query modifier.
      *
@@ -371,6 +544,25 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(SubmodelSearchCriteria, QueryModifier, PagingInfo)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Submodels that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<Submodel>> getAsync(SubmodelSearchCriteria submodelSearchCriteria, QueryModifier modifier, PagingInfo pagingInfo) {
+        return getPageAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pagingInfo,
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves a page of Submodels matching specific search criteria according to query modifier.
      *
@@ -401,6 +593,258 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #get(SubmodelSearchCriteria, Level, Extent, PagingInfo)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param level The level to use
+     * @param extent The extent to use
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Submodels that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<Submodel>> getAsync(SubmodelSearchCriteria submodelSearchCriteria, Level level, Extent extent, PagingInfo pagingInfo) {
+        return getPageAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.NORMAL, level, extent),
+                pagingInfo,
+                Submodel.class);
+    }
+
+
+    /**
+     * Retrieves a page of Submodels that is parsed incrementally while being read from the connection, i.e., only a
+     * single element is held in memory at a time. The returned page must be closed after use, e.g., by using a
+     * try-with-resources statement.
+     *
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return A streaming page of Submodels
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>401: UnauthorizedException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public StreamingPage<Submodel> getStreaming(PagingInfo pagingInfo) throws StatusCodeException, ConnectivityException {
+        return getPageStreaming(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pagingInfo, Submodel.class);
+    }
+
+
+    /**
+     * Retrieves a page of Submodels based on specific search criteria that is parsed incrementally while being read
+     * from the connection, i.e., only a single element is held in memory at a time. The returned page must be closed
+     * after use, e.g., by using a try-with-resources statement.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return A streaming page of Submodels that match the search criteria
+     * @throws StatusCodeException if the server responds with an error. Possible Exceptions:
+     *             <div>
+     *             <ul>
+     *             <li>400: BadRequestException</li>
+     *             <li>401: UnauthorizedException</li>
+     *             <li>403: ForbiddenException</li>
+     *             <li>404: NotFoundException</li>
+     *             <li>500: InternalServerErrorException</li>
+     *             </ul>
+     *             </div>
+     * @throws ConnectivityException if the connection to the server cannot be established
+     */
+    public StreamingPage<Submodel> getStreaming(SubmodelSearchCriteria submodelSearchCriteria, PagingInfo pagingInfo) throws StatusCodeException, ConnectivityException {
+        return getPageStreaming(null, submodelSearchCriteria, OutputModifier.DEFAULT, pagingInfo, Submodel.class);
+    }
+
+
+    /**
+     * Lazily streams all Submodels using pages of default size. Pages are requested only when needed, so memory
+     * consumption is limited by the page size instead of the total number of Submodels. If fetching a page fails, an
+     * {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @return a sequential stream of all Submodels
+     */
+    public Stream<Submodel> stream() {
+        return stream(PagingIterator.DEFAULT_PAGE_SIZE);
+    }
+
+
+    /**
+     * Lazily streams all Submodels. Pages are requested only when needed, so memory consumption is limited by the page
+     * size instead of the total number of Submodels. If fetching a page fails, an {@link UncheckedClientException} is
+     * thrown while consuming the stream.
+     *
+     * @param pageSize The maximum number of Submodels per page
+     * @return a sequential stream of all Submodels
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<Submodel> stream(long pageSize) {
+        return stream(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, Submodel.class);
+    }
+
+
+    /**
+     * Lazily streams all Submodels that match specific search criteria. Pages are requested only when needed, so memory
+     * consumption is limited by the page size instead of the total number of Submodels. If fetching a page fails, an
+     * {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param pageSize The maximum number of Submodels per page
+     * @return a sequential stream of all Submodels that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<Submodel> stream(SubmodelSearchCriteria submodelSearchCriteria, long pageSize) {
+        return stream(null, submodelSearchCriteria, OutputModifier.DEFAULT, pageSize, Submodel.class);
+    }
+
+
+    /**
+     * Lazily streams all Submodels that match specific search criteria according to query modifiers. Pages are
+     * requested only when needed, so memory consumption is limited by the page size instead of the total number of
+     * Submodels. If fetching a page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pageSize The maximum number of Submodels per page
+     * @return a sequential stream of all Submodels that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Stream<Submodel> stream(SubmodelSearchCriteria submodelSearchCriteria, QueryModifier modifier, long pageSize) {
+        return stream(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pageSize,
+                Submodel.class);
+    }
+
+
+    /**
+     * Lazily iterates over all Submodels that match specific search criteria according to query modifiers. Pages are
+     * requested only when needed, so memory consumption is limited by the page size instead of the total number of
+     * Submodels. If fetching a page fails, an {@link UncheckedClientException} is thrown while iterating.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pageSize The maximum number of Submodels per page
+     * @return an iterator over all Submodels that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Iterator<Submodel> iterate(SubmodelSearchCriteria submodelSearchCriteria, QueryModifier modifier, long pageSize) {
+        return iterate(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pageSize,
+                Submodel.class);
+    }
+
+
+    /**
+     * Lazily streams all Submodels that match specific search criteria according to query modifiers while prefetching
+     * pages. Pages of {@code pageSize} elements are requested in the background as soon as the cursor of the previous
+     * page is known, with up to {@code prefetchDepth} pages fetched ahead of the page currently consumed. This overlaps
+     * network latency with processing at the cost of holding up to {@code prefetchDepth} additional pages in memory. If
+     * fetching a page fails, an {@link UncheckedClientException} is thrown while consuming the stream.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pageSize The maximum number of Submodels per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return a sequential stream of all Submodels that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Stream<Submodel> stream(SubmodelSearchCriteria submodelSearchCriteria, QueryModifier modifier, long pageSize, int prefetchDepth) {
+        return stream(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pageSize,
+                prefetchDepth,
+                Submodel.class);
+    }
+
+
+    /**
+     * Lazily iterates over all Submodels that match specific search criteria according to query modifiers while
+     * prefetching pages. Pages of {@code pageSize} elements are requested in the background as soon as the cursor of
+     * the previous page is known, with up to {@code prefetchDepth} pages fetched ahead of the page currently consumed.
+     * This overlaps network latency with processing at the cost of holding up to {@code prefetchDepth} additional pages
+     * in memory. If fetching a page fails, an {@link UncheckedClientException} is thrown while iterating.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pageSize The maximum number of Submodels per page
+     * @param prefetchDepth The maximum number of pages to fetch ahead, 0 means pages are fetched when needed
+     * @return an iterator over all Submodels that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public Iterator<Submodel> iterate(SubmodelSearchCriteria submodelSearchCriteria, QueryModifier modifier, long pageSize, int prefetchDepth) {
+        return iterate(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pageSize,
+                prefetchDepth,
+                Submodel.class);
+    }
+
+
+    /**
+     * Creates a publisher emitting all Submodels. Pages are only requested when required by the demand of the
+     * subscriber, i.e., backpressure is propagated to the server. Errors are signalled to the subscriber with the
+     * respective {@link ClientException}.
+     *
+     * @param pageSize The maximum number of Submodels per page
+     * @return a publisher of all Submodels
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Flow.Publisher<Submodel> publisher(long pageSize) {
+        return publisher(null, SearchCriteria.DEFAULT, OutputModifier.DEFAULT, pageSize, Submodel.class);
+    }
+
+
+    /**
+     * Creates a publisher emitting all Submodels that match specific search criteria. Pages are only requested when
+     * required by the demand of the subscriber, i.e., backpressure is propagated to the server. Errors are signalled to
+     * the subscriber with the respective {@link ClientException}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param pageSize The maximum number of Submodels per page
+     * @return a publisher of all Submodels that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Flow.Publisher<Submodel> publisher(SubmodelSearchCriteria submodelSearchCriteria, long pageSize) {
+        return publisher(null, submodelSearchCriteria, OutputModifier.DEFAULT, pageSize, Submodel.class);
+    }
+
+
+    /**
+     * Creates a publisher emitting all Submodels that match specific search criteria according to query modifiers.
+     * Pages are only requested when required by the demand of the subscriber, i.e., backpressure is propagated to the
+     * server. Errors are signalled to the subscriber with the respective {@link ClientException}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pageSize The maximum number of Submodels per page
+     * @return a publisher of all Submodels that match the search criteria
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public Flow.Publisher<Submodel> publisher(SubmodelSearchCriteria submodelSearchCriteria, QueryModifier modifier, long pageSize) {
+        return publisher(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.NORMAL, modifier.getLevel(), modifier.getExtent()),
+                pageSize,
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves all Submodel metadata matching specific search criteria.
      *
@@ -428,6 +872,23 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAllMetadata(Level, SubmodelSearchCriteria)}.
+     *
+     * @param level The level to use
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @return a future of a List containing all submodels serialised as metadata that completes exceptionally with any
+     *         of the exceptions of the synchronous variant
+     */
+    public CompletableFuture<List<Submodel>> getAllMetadataAsync(Level level, SubmodelSearchCriteria submodelSearchCriteria) {
+        return getAllAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.METADATA, level, Extent.DEFAULT),
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves a page of Submodel metadata matching specific search criteria.
      *
@@ -458,6 +919,25 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getMetadata(SubmodelSearchCriteria, Level, PagingInfo)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param level The level to use
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Submodel metadata that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<Submodel>> getMetadataAsync(SubmodelSearchCriteria submodelSearchCriteria, Level level, PagingInfo pagingInfo) {
+        return getPageAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.METADATA, level, Extent.DEFAULT),
+                pagingInfo,
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves a List containing all Submodels matching specific search criteria in value only serialisation.
      *
@@ -485,6 +965,23 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAllValues(QueryModifier, SubmodelSearchCriteria)}.
+     *
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @return a future of a list of Submodels that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<List<Submodel>> getAllValuesAsync(QueryModifier modifier, SubmodelSearchCriteria submodelSearchCriteria) {
+        return getAllAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.VALUE, modifier.getLevel(), modifier.getExtent()),
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves a List containing all Submodels matching specific search criteria in value only serialisation.
      *
@@ -513,6 +1010,24 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAllValues(Level, Extent, SubmodelSearchCriteria)}.
+     *
+     * @param level The level to use
+     * @param extent The extentto use
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @return a future of a list of Submodels that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<List<Submodel>> getAllValuesAsync(Level level, Extent extent, SubmodelSearchCriteria submodelSearchCriteria) {
+        return getAllAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.VALUE, level, extent),
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves a page containing Submodels matching specific search criteria in value only serialisation.
      * 
@@ -542,6 +1057,25 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getValue(SubmodelSearchCriteria, QueryModifier, PagingInfo)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param modifier The query modifier specifies the structural depth and resource serialization of the submodel
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Submodels in value only serialisation that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<Page<Submodel>> getValueAsync(SubmodelSearchCriteria submodelSearchCriteria, QueryModifier modifier, PagingInfo pagingInfo) {
+        return getPageAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.VALUE, modifier.getLevel(), modifier.getExtent()),
+                pagingInfo,
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves a page containing Submodels matching specific search criteria in value only serialisation.
      * 
@@ -573,6 +1107,26 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getValue(SubmodelSearchCriteria, Level, Extent, PagingInfo)}.
+     *
+     * @param level The level to use
+     * @param extent The extent to use
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of Submodels in value only serialisation that completes exceptionally with any of the
+     *         exceptions of the synchronous variant
+     */
+    public CompletableFuture<Page<Submodel>> getValueAsync(SubmodelSearchCriteria submodelSearchCriteria, Level level, Extent extent, PagingInfo pagingInfo) {
+        return getPageAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.VALUE, level, extent),
+                pagingInfo,
+                Submodel.class);
+    }
+
+
     /**
      * Retrieves a list of references to Submodels matching specific search criteria.
      *
@@ -599,6 +1153,22 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAllReferences(SubmodelSearchCriteria)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @return a future of a List of References that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<List<Reference>> getAllReferencesAsync(SubmodelSearchCriteria submodelSearchCriteria) {
+        return getAllAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.REFERENCE, Level.CORE, Extent.DEFAULT),
+                Reference.class);
+    }
+
+
     /**
      * Retrieves a page of references to Submodels matching specific search criteria.
      *
@@ -627,6 +1197,24 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getReference(SubmodelSearchCriteria, PagingInfo)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of References that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Page<Reference>> getReferenceAsync(SubmodelSearchCriteria submodelSearchCriteria, PagingInfo pagingInfo) {
+        return getPageAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.REFERENCE, Level.CORE, Extent.DEFAULT),
+                pagingInfo,
+                Reference.class);
+    }
+
+
     /**
      * Retrieves a list of paths to Submodels matching specific search criteria.
      *
@@ -654,6 +1242,23 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getAllPaths(SubmodelSearchCriteria, Level)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param level The level to use
+     * @return a future of a list of paths that completes exceptionally with any of the exceptions of the synchronous
+     *         variant
+     */
+    public CompletableFuture<List<IdShortPath>> getAllPathsAsync(SubmodelSearchCriteria submodelSearchCriteria, Level level) {
+        return getAllAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.PATH, level, Extent.DEFAULT),
+                IdShortPath.class);
+    }
+
+
     /**
      * Retrieves a page of paths to Submodels matching specific search criteria.
      *
@@ -684,6 +1289,25 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #getSubmodelsPath(SubmodelSearchCriteria, Level, PagingInfo)}.
+     *
+     * @param submodelSearchCriteria Search criteria to filter Submodels based on IdShort and semanticId
+     * @param level The level to use
+     * @param pagingInfo Metadata for controlling the pagination of results
+     * @return a future of a page of paths that completes exceptionally with any of the exceptions of the synchronous
+     *         variant
+     */
+    public CompletableFuture<Page<IdShortPath>> getSubmodelsPathAsync(SubmodelSearchCriteria submodelSearchCriteria, Level level, PagingInfo pagingInfo) {
+        return getPageAsync(
+                null,
+                submodelSearchCriteria,
+                OutputModifier.with(Content.PATH, level, Extent.DEFAULT),
+                pagingInfo,
+                IdShortPath.class);
+    }
+
+
     /**
      * Creates a new Submodel. The unique if of the new submodel must be set in the payload.
      *
@@ -706,6 +1330,18 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #post(Submodel)}.
+     *
+     * @param submodel Submodel object
+     * @return a future of the created Submodel that completes exceptionally with any of the exceptions of the
+     *         synchronous variant
+     */
+    public CompletableFuture<Submodel> postAsync(Submodel submodel) {
+        return postAsync(null, submodel, Content.NORMAL, Submodel.class);
+    }
+
+
     /**
      * Deletes a Submodel.
      *
@@ -728,6 +1364,18 @@ public class SubmodelRepositoryInterface extends BaseInterface {
     }
 
 
+    /**
+     * Asynchronous variant of {@link #delete(String)}.
+     *
+     * @param submodelIdentifier The unique identifier of the Submodel to be deleted
+     * @return a future that completes once the request succeeded or completes exceptionally with any of the exceptions
+     *         of the synchronous variant
+     */
+    public CompletableFuture<Void> deleteAsync(String submodelIdentifier) {
+        return super.deleteAsync(idPath(submodelIdentifier));
+    }
+
+
     /**
      * Returns a Submodel Interface for use of Interface Methods.
      *
@@ -735,6 +1383,6 @@ public class SubmodelRepositoryInterface extends BaseInterface {
      * @return The requested Submodel Interface
      */
     public SubmodelInterface getSubmodelInterface(String submodelId) {
-        return new SubmodelInterface(resolve(idPath(submodelId)), httpClient);
+        return new SubmodelInterface(resolve(idPath(submodelId)), session);
     }
 }
@@ -0,0 +1,290 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import org.apache.hc.client5.http.auth.AuthScope;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.auth.CredentialsProviderBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Transport based on the asynchronous client of Apache HttpClient 5 with an explicitly configured connection pool.
+ * Compared to the {@link JdkHttpTransport}, this allows to limit the number of connections per server and in total,
+ * to recycle connections after a maximum lifetime, to close idle connections and to validate connections that have
+ * been idle for a while before they are reused.
+ *
+ * <p>Request and response bodies are streamed, i.e., request bodies are read from their
+ * {@link HttpRequest.BodyPublisher} only as fast as they can be written to the connection and response bodies are only
+ * read from the connection as fast as they are consumed by the {@link HttpResponse.BodySubscriber}. Futures returned by
+ * {@link #sendAsync(HttpRequest, HttpResponse.BodyHandler)} are completed using the configured executor so that
+ * dependent actions never run on the I/O threads.
+ *
+ * <p>Redirects are not followed and failed requests are not retried automatically, consistent with the default
+ * behavior of the {@link JdkHttpTransport}. The transport must be closed to release its connections and I/O threads.
+ */
+public class ApacheHttpTransport implements HttpTransport {
+
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+    public static final int DEFAULT_MAX_CONNECTIONS_TOTAL = 100;
+    public static final Duration DEFAULT_CONNECTION_TIME_TO_LIVE = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofMinutes(1);
+    public static final Duration DEFAULT_VALIDATE_AFTER_INACTIVITY = Duration.ofSeconds(2);
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final CloseableHttpAsyncClient client;
+    private final Executor executor;
+
+    private ApacheHttpTransport(Builder builder) {
+        Ensure.require(builder.maxConnectionsPerRoute > 0, "maxConnectionsPerRoute must be positive");
+        Ensure.require(builder.maxConnectionsTotal >= builder.maxConnectionsPerRoute,
+                "maxConnectionsTotal must be greater or equal to maxConnectionsPerRoute");
+        Ensure.requireNonNull(builder.connectionTimeToLive, "connectionTimeToLive must be non-null");
+        Ensure.requireNonNull(builder.maxIdleTime, "maxIdleTime must be non-null");
+        Ensure.requireNonNull(builder.validateAfterInactivity, "validateAfterInactivity must be non-null");
+        Ensure.requireNonNull(builder.connectTimeout, "connectTimeout must be non-null");
+        Ensure.require(!builder.maxIdleTime.isNegative() && !builder.maxIdleTime.isZero(), "maxIdleTime must be positive");
+        this.executor = Objects.nonNull(builder.executor) ? builder.executor : ForkJoinPool.commonPool();
+        PoolingAsyncClientConnectionManagerBuilder connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(builder.maxConnectionsPerRoute)
+                .setMaxConnTotal(builder.maxConnectionsTotal)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.of(builder.connectionTimeToLive))
+                        .setValidateAfterInactivity(TimeValue.of(builder.validateAfterInactivity))
+                        .setConnectTimeout(Timeout.of(builder.connectTimeout))
+                        .build());
+        if (builder.trustAllCertificates) {
+            connectionManager.setTlsStrategy(ClientTlsStrategyBuilder.create()
+                    .setSslContext(HttpHelper.newTrustAllCertificatesSslContext())
+                    .build());
+        }
+        HttpAsyncClientBuilder result = HttpAsyncClientBuilder.create()
+                .setConnectionManager(connectionManager.build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(builder.maxIdleTime))
+                .disableRedirectHandling()
+                .disableAutomaticRetries();
+        if (Objects.nonNull(builder.username)) {
+            result.setDefaultCredentialsProvider(CredentialsProviderBuilder.create()
+                    .add(new AuthScope(null, -1),
+                            builder.username,
+                            Objects.nonNull(builder.password) ? builder.password.toCharArray() : new char[0])
+                    .build());
+        }
+        this.client = result.build();
+        this.client.start();
+    }
+
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        Ensure.requireNonNull(request, "request must be non-null");
+        Ensure.requireNonNull(bodyHandler, "bodyHandler must be non-null");
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        BodyHandlerResponseConsumer<T> consumer = new BodyHandlerResponseConsumer<>(request, bodyHandler);
+        HttpClientContext context = HttpClientContext.create();
+        request.timeout().ifPresent(x -> context.setRequestConfig(RequestConfig.custom()
+                .setResponseTimeout(Timeout.of(x))
+                .build()));
+        Future<HttpResponse<T>> exchange;
+        try {
+            exchange = client.execute(createRequestProducer(request), consumer, null, context, new FutureCallback<>() {
+                @Override
+                public void completed(HttpResponse<T> response) {
+                    executor.execute(() -> result.complete(response));
+                }
+
+
+                @Override
+                public void failed(Exception e) {
+                    executor.execute(() -> result.completeExceptionally(e instanceof IOException ? e : new IOException(e)));
+                }
+
+
+                @Override
+                public void cancelled() {
+                    executor.execute(() -> result.cancel(false));
+                }
+            });
+        }
+        catch (RuntimeException e) {
+            result.completeExceptionally(new IOException("failed to send request", e));
+            return result;
+        }
+        consumer.setExchange(exchange);
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+
+    /**
+     * Closes all connections and stops the I/O threads. Requests that are still running are aborted, i.e., their
+     * futures complete exceptionally.
+     */
+    @Override
+    public void close() {
+        client.close(CloseMode.IMMEDIATE);
+    }
+
+
+    private static AsyncRequestProducer createRequestProducer(HttpRequest request) {
+        BasicHttpRequest result = new BasicHttpRequest(request.method(), request.uri());
+        request.headers().map().forEach((name, values) -> values.forEach(value -> result.addHeader(name, value)));
+        AsyncEntityProducer entityProducer = request.bodyPublisher()
+                .filter(x -> x.contentLength() != 0)
+                .map(x -> new PublisherEntityProducer(x, request.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null)))
+                .orElse(null);
+        return new BasicRequestProducer(result, entityProducer);
+    }
+
+    public static class Builder {
+        private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+        private int maxConnectionsTotal = DEFAULT_MAX_CONNECTIONS_TOTAL;
+        private Duration connectionTimeToLive = DEFAULT_CONNECTION_TIME_TO_LIVE;
+        private Duration maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+        private Duration validateAfterInactivity = DEFAULT_VALIDATE_AFTER_INACTIVITY;
+        private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        private String username;
+        private String password;
+        private boolean trustAllCertificates;
+        private Executor executor;
+
+        /**
+         * Sets the maximum number of pooled connections per route, i.e., per server.
+         *
+         * @param maxConnectionsPerRoute the maximum number of connections per route
+         * @return the builder
+         */
+        public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+
+        /**
+         * Sets the maximum number of pooled connections in total.
+         *
+         * @param maxConnectionsTotal the maximum number of connections
+         * @return the builder
+         */
+        public Builder maxConnectionsTotal(int maxConnectionsTotal) {
+            this.maxConnectionsTotal = maxConnectionsTotal;
+            return this;
+        }
+
+
+        /**
+         * Sets the maximum lifetime of a connection after which it is not reused anymore, e.g., to pick up DNS changes
+         * or to spread the load after servers have been added behind a load balancer.
+         *
+         * @param connectionTimeToLive the maximum lifetime of a connection
+         * @return the builder
+         */
+        public Builder connectionTimeToLive(Duration connectionTimeToLive) {
+            this.connectionTimeToLive = connectionTimeToLive;
+            return this;
+        }
+
+
+        /**
+         * Sets the time after which idle connections are closed by a background thread.
+         *
+         * @param maxIdleTime the maximum idle time of a connection
+         * @return the builder
+         */
+        public Builder maxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+            return this;
+        }
+
+
+        /**
+         * Sets the time of inactivity after which a pooled connection is checked before it is reused. This avoids
+         * failing requests on connections that have been closed by the server in the meantime.
+         *
+         * @param validateAfterInactivity the time of inactivity
+         * @return the builder
+         */
+        public Builder validateAfterInactivity(Duration validateAfterInactivity) {
+            this.validateAfterInactivity = validateAfterInactivity;
+            return this;
+        }
+
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+
+        public Builder credentials(String username, String password) {
+            this.username = username;
+            this.password = password;
+            return this;
+        }
+
+
+        public Builder trustAllCertificates(boolean trustAllCertificates) {
+            this.trustAllCertificates = trustAllCertificates;
+            return this;
+        }
+
+
+        /**
+         * Sets the executor used to complete the futures of responses. Defaults to
+         * {@link ForkJoinPool#commonPool()}.
+         *
+         * @param executor the executor
+         * @return the builder
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+
+        public ApacheHttpTransport build() {
+            return new ApacheHttpTransport(this);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.eclipse.digitaltwin.fa3st.client.auth.AuthenticationProvider;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Transport decorator that attaches the Authorization header provided by an {@link AuthenticationProvider} to each
+ * request before it is sent, i.e., preemptively instead of waiting for a 401 challenge. Requests that already carry an
+ * Authorization header are sent unchanged. If a request is rejected with 401 Unauthorized and the provider is able to
+ * obtain new credentials, the request is retried once.
+ */
+public class AuthenticatingTransport implements HttpTransport {
+
+    private static final int STATUS_UNAUTHORIZED = 401;
+
+    private final HttpTransport delegate;
+    private final AuthenticationProvider authenticationProvider;
+
+    public AuthenticatingTransport(HttpTransport delegate, AuthenticationProvider authenticationProvider) {
+        Ensure.requireNonNull(delegate, "delegate must be non-null");
+        Ensure.requireNonNull(authenticationProvider, "authenticationProvider must be non-null");
+        this.delegate = delegate;
+        this.authenticationProvider = authenticationProvider;
+    }
+
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        if (hasAuthorization(request)) {
+            return delegate.sendAsync(request, bodyHandler);
+        }
+        return sendAuthenticatedAsync(request, bodyHandler, true);
+    }
+
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        if (hasAuthorization(request)) {
+            return delegate.send(request, bodyHandler);
+        }
+        String authorization = getAuthorization();
+        HttpResponse<T> response = delegate.send(withAuthorization(request, authorization), bodyHandler);
+        if (response.statusCode() == STATUS_UNAUTHORIZED && authenticationProvider.invalidate(authorization)) {
+            HttpHelper.discard(response);
+            response = delegate.send(withAuthorization(request, getAuthorization()), bodyHandler);
+        }
+        return response;
+    }
+
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+
+    private <T> CompletableFuture<HttpResponse<T>> sendAuthenticatedAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, boolean retry) {
+        CompletableFuture<String> authorization;
+        try {
+            authorization = authenticationProvider.getAuthorization();
+        }
+        catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(new IOException("failed to obtain credentials", e));
+        }
+        return authorization
+                .exceptionally(e -> {
+                    throw new CompletionException(new IOException("failed to obtain credentials", HttpHelper.unwrap(e)));
+                })
+                .thenCompose(x -> delegate.sendAsync(withAuthorization(request, x), bodyHandler)
+                        .thenCompose(response -> {
+                            if (retry && response.statusCode() == STATUS_UNAUTHORIZED && authenticationProvider.invalidate(x)) {
+                                HttpHelper.discard(response);
+                                return sendAuthenticatedAsync(request, bodyHandler, false);
+                            }
+                            return CompletableFuture.completedFuture(response);
+                        }));
+    }
+
+
+    private String getAuthorization() throws IOException, InterruptedException {
+        try {
+            return authenticationProvider.getAuthorization().get();
+        }
+        catch (ExecutionException | RuntimeException e) {
+            throw new IOException("failed to obtain credentials", HttpHelper.unwrap(e));
+        }
+    }
+
+
+    private static boolean hasAuthorization(HttpRequest request) {
+        return request.headers().firstValue(HttpHeaders.AUTHORIZATION).isPresent();
+    }
+
+
+    private static HttpRequest withAuthorization(HttpRequest request, String authorization) {
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .build();
+    }
+
+}
@@ -0,0 +1,414 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.net.ssl.SSLSession;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.ProtocolVersion;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+
+/**
+ * Adapts a {@link HttpResponse.BodyHandler} to an {@link AsyncResponseConsumer} of Apache HttpClient. The body is
+ * passed to the {@link HttpResponse.BodySubscriber} created by the handler honoring its demand, i.e., the capacity of
+ * the connection is only increased when the subscriber requests more data. Slow consumers such as an InputStream read
+ * by the application therefore throttle the connection instead of having the body buffered in memory.
+ *
+ * @param <T> the type of the response body
+ */
+class BodyHandlerResponseConsumer<T> implements AsyncResponseConsumer<HttpResponse<T>> {
+
+    private static final int CAPACITY_INCREMENT = 64 * 1024;
+
+    private final HttpRequest request;
+    private final HttpResponse.BodyHandler<T> bodyHandler;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+    private final AtomicInteger drainCounter = new AtomicInteger();
+    private HttpResponse.BodySubscriber<T> subscriber;
+    private CapacityChannel capacityChannel;
+    private Future<?> exchange;
+    private long demand;
+    private long outstandingCapacity;
+    private boolean ended;
+    private boolean done;
+    private boolean cancelled;
+    private Exception error;
+
+    BodyHandlerResponseConsumer(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        this.request = request;
+        this.bodyHandler = bodyHandler;
+    }
+
+
+    /**
+     * Sets the future of the exchange this consumer belongs to. It is cancelled if the subscriber cancels its
+     * subscription before the response has been received.
+     *
+     * @param exchange the future of the exchange
+     */
+    void setExchange(Future<?> exchange) {
+        boolean cancel;
+        lock.lock();
+        try {
+            this.exchange = exchange;
+            cancel = cancelled && !done;
+        }
+        finally {
+            lock.unlock();
+        }
+        if (cancel) {
+            exchange.cancel(true);
+        }
+    }
+
+
+    @Override
+    public void consumeResponse(org.apache.hc.core5.http.HttpResponse response,
+                                EntityDetails entityDetails,
+                                HttpContext context,
+                                FutureCallback<HttpResponse<T>> resultCallback)
+            throws HttpException, IOException {
+        Map<String, List<String>> headerValues = new LinkedHashMap<>();
+        for (Header header: response.getHeaders()) {
+            headerValues.computeIfAbsent(header.getName(), x -> new ArrayList<>()).add(header.getValue());
+        }
+        HttpHeaders headers = HttpHeaders.of(headerValues, (name, value) -> true);
+        ProtocolVersion protocolVersion = Objects.nonNull(response.getVersion())
+                ? response.getVersion()
+                : context.getProtocolVersion();
+        HttpClient.Version version = Objects.nonNull(protocolVersion) && protocolVersion.getMajor() == 2
+                ? HttpClient.Version.HTTP_2
+                : HttpClient.Version.HTTP_1_1;
+        int statusCode = response.getCode();
+        HttpResponse.BodySubscriber<T> bodySubscriber = bodyHandler.apply(new HttpResponse.ResponseInfo() {
+            @Override
+            public int statusCode() {
+                return statusCode;
+            }
+
+
+            @Override
+            public HttpHeaders headers() {
+                return headers;
+            }
+
+
+            @Override
+            public HttpClient.Version version() {
+                return version;
+            }
+        });
+        lock.lock();
+        try {
+            subscriber = bodySubscriber;
+            if (Objects.isNull(entityDetails)) {
+                ended = true;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+        bodySubscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                lock.lock();
+                try {
+                    demand = n <= 0 || Long.MAX_VALUE - demand < n ? Long.MAX_VALUE : demand + n;
+                }
+                finally {
+                    lock.unlock();
+                }
+                drain();
+            }
+
+
+            @Override
+            public void cancel() {
+                Future<?> current;
+                CapacityChannel channel;
+                lock.lock();
+                try {
+                    cancelled = true;
+                    buffers.clear();
+                    current = done ? null : exchange;
+                    channel = done || ended ? null : capacityChannel;
+                }
+                finally {
+                    lock.unlock();
+                }
+                if (Objects.nonNull(current)) {
+                    current.cancel(true);
+                }
+                if (Objects.nonNull(channel)) {
+                    // once the response has been delivered, cancelling the exchange has no effect anymore; instead
+                    // the connection is resumed so that the next chunk fails the exchange and the connection is
+                    // closed rather than returned to the pool with unread data
+                    try {
+                        channel.update(CAPACITY_INCREMENT);
+                    }
+                    catch (IOException e) {
+                        // connection is already closed
+                    }
+                }
+            }
+        });
+        bodySubscriber.getBody().whenComplete((body, e) -> {
+            if (Objects.nonNull(e)) {
+                Throwable cause = e instanceof CompletionException && Objects.nonNull(e.getCause()) ? e.getCause() : e;
+                resultCallback.failed(cause instanceof Exception ? (Exception) cause : new IOException(cause));
+            }
+            else {
+                resultCallback.completed(new TransportResponse<>(statusCode, request, headers, body, version));
+            }
+        });
+        drain();
+    }
+
+
+    @Override
+    public void informationResponse(org.apache.hc.core5.http.HttpResponse response, HttpContext context) {
+        // intentionally empty
+    }
+
+
+    @Override
+    public void updateCapacity(CapacityChannel capacityChannel) {
+        lock.lock();
+        try {
+            this.capacityChannel = capacityChannel;
+            outstandingCapacity = 0;
+        }
+        finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+
+    @Override
+    public void consume(ByteBuffer src) throws IOException {
+        ByteBuffer copy = ByteBuffer.allocate(src.remaining());
+        copy.put(src).flip();
+        lock.lock();
+        try {
+            if (cancelled) {
+                throw new IOException("response body has been cancelled by the subscriber");
+            }
+            outstandingCapacity = Math.max(0, outstandingCapacity - copy.remaining());
+            buffers.add(copy);
+        }
+        finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+
+    @Override
+    public void streamEnd(List<? extends Header> trailers) {
+        lock.lock();
+        try {
+            ended = true;
+        }
+        finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+
+    @Override
+    public void failed(Exception cause) {
+        lock.lock();
+        try {
+            if (Objects.isNull(error)) {
+                error = cause;
+            }
+            ended = true;
+        }
+        finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+
+    @Override
+    public void releaseResources() {
+        // buffered data may still be waiting for the subscriber after the exchange has been completed, so it is not
+        // discarded here
+    }
+
+
+    /**
+     * Passes buffered data to the subscriber as long as it has demand, signals completion once all data has been
+     * passed and increases the capacity of the connection when all buffered data has been consumed. Only one thread
+     * drains at a time, calls from other threads while draining cause another iteration.
+     */
+    private void drain() {
+        if (drainCounter.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            boolean proceed = true;
+            while (proceed) {
+                ByteBuffer next = null;
+                boolean complete = false;
+                Exception failure = null;
+                CapacityChannel channel = null;
+                lock.lock();
+                try {
+                    if (Objects.isNull(subscriber) || cancelled || done) {
+                        break;
+                    }
+                    if (Objects.nonNull(error)) {
+                        done = true;
+                        failure = error;
+                        buffers.clear();
+                    }
+                    else if (demand > 0 && !buffers.isEmpty()) {
+                        if (demand != Long.MAX_VALUE) {
+                            demand--;
+                        }
+                        next = buffers.poll();
+                    }
+                    else if (buffers.isEmpty() && ended) {
+                        done = true;
+                        complete = true;
+                    }
+                    else {
+                        proceed = false;
+                        if (demand > 0 && !ended && outstandingCapacity == 0 && Objects.nonNull(capacityChannel)) {
+                            outstandingCapacity = CAPACITY_INCREMENT;
+                            channel = capacityChannel;
+                        }
+                    }
+                }
+                finally {
+                    lock.unlock();
+                }
+                if (Objects.nonNull(next)) {
+                    subscriber.onNext(List.of(next));
+                }
+                else if (Objects.nonNull(failure)) {
+                    subscriber.onError(failure);
+                    proceed = false;
+                }
+                else if (complete) {
+                    subscriber.onComplete();
+                    proceed = false;
+                }
+                else if (Objects.nonNull(channel)) {
+                    try {
+                        channel.update(CAPACITY_INCREMENT);
+                    }
+                    catch (IOException e) {
+                        failed(e);
+                    }
+                }
+            }
+        } while (drainCounter.decrementAndGet() != 0);
+    }
+
+    private static class TransportResponse<T> implements HttpResponse<T> {
+
+        private final int statusCode;
+        private final HttpRequest request;
+        private final HttpHeaders headers;
+        private final T body;
+        private final HttpClient.Version version;
+
+        private TransportResponse(int statusCode, HttpRequest request, HttpHeaders headers, T body, HttpClient.Version version) {
+            this.statusCode = statusCode;
+            this.request = request;
+            this.headers = headers;
+            this.body = body;
+            this.version = version;
+        }
+
+
+        @Override
+        public int statusCode() {
+            return statusCode;
+        }
+
+
+        @Override
+        public HttpRequest request() {
+            return request;
+        }
+
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return Optional.empty();
+        }
+
+
+        @Override
+        public HttpHeaders headers() {
+            return headers;
+        }
+
+
+        @Override
+        public T body() {
+            return body;
+        }
+
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+
+        @Override
+        public HttpClient.Version version() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Circuit breaker of a single endpoint as described in {@link CircuitBreakerPolicy}. While the circuit is open,
+ * {@link #tryAcquirePermission()} only reads a volatile field, so rejecting a call to a dead endpoint takes
+ * microseconds instead of waiting for the connect timeout.
+ */
+public class CircuitBreaker {
+
+    /**
+     * The states of a circuit breaker.
+     */
+    public enum State {
+        /**
+         * Calls are permitted and their outcomes are recorded.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected.
+         */
+        OPEN,
+        /**
+         * A limited number of trial calls is permitted to determine whether the endpoint has recovered.
+         */
+        HALF_OPEN
+    }
+
+    private static final byte OUTCOME_FAILURE = 1;
+    private static final byte OUTCOME_SLOW = 2;
+
+    private final String endpoint;
+    private final CircuitBreakerPolicy policy;
+    private final long slowCallNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final byte[] window;
+    private final LongAdder notPermittedCalls = new LongAdder();
+    private volatile State state = State.CLOSED;
+    private volatile long openUntil;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int failedCalls;
+    private int slowCalls;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(String endpoint, CircuitBreakerPolicy policy) {
+        Ensure.requireNonNull(endpoint, "endpoint must be non-null");
+        Ensure.requireNonNull(policy, "policy must be non-null");
+        this.endpoint = endpoint;
+        this.policy = policy;
+        this.slowCallNanos = policy.getSlowCallDuration().toNanos();
+        this.window = new byte[policy.getSlidingWindowSize()];
+    }
+
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+
+    public State getState() {
+        return state;
+    }
+
+
+    /**
+     * Returns the failure rate in percent of the calls in the sliding window, or -1 if fewer than the minimum number of
+     * calls have been recorded.
+     *
+     * @return the failure rate
+     */
+    public float getFailureRate() {
+        lock.lock();
+        try {
+            return bufferedCalls < policy.getMinimumNumberOfCalls() ? -1 : rate(failedCalls);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the rate of slow calls in percent of the calls in the sliding window, or -1 if fewer than the minimum
+     * number of calls have been recorded.
+     *
+     * @return the slow call rate
+     */
+    public float getSlowCallRate() {
+        lock.lock();
+        try {
+            return bufferedCalls < policy.getMinimumNumberOfCalls() ? -1 : rate(slowCalls);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the number of calls that have been rejected because the circuit was open.
+     *
+     * @return the number of rejected calls
+     */
+    public long getNumberOfNotPermittedCalls() {
+        return notPermittedCalls.sum();
+    }
+
+
+    /**
+     * Tries to obtain the permission for a call. Each permitted call must be followed by either
+     * {@link #onResult(long, boolean)} or {@link #releasePermission()}.
+     *
+     * @return true if the call is permitted, false if it must be rejected
+     */
+    public boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && System.nanoTime() - openUntil < 0) {
+            notPermittedCalls.increment();
+            return false;
+        }
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openUntil >= 0) {
+                state = State.HALF_OPEN;
+                halfOpenPermits = 0;
+                halfOpenSuccesses = 0;
+            }
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.HALF_OPEN && halfOpenPermits < policy.getPermittedCallsInHalfOpenState()) {
+                halfOpenPermits++;
+                return true;
+            }
+            notPermittedCalls.increment();
+            return false;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns a permission without recording an outcome, e.g., because the call has been cancelled.
+     */
+    public void releasePermission() {
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+                halfOpenPermits--;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param durationNanos the duration of the call in nanoseconds
+     * @param failure true if the call failed, otherwise false
+     */
+    public void onResult(long durationNanos, boolean failure) {
+        boolean slow = durationNanos > slowCallNanos;
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    record(failure, slow);
+                    if (bufferedCalls >= policy.getMinimumNumberOfCalls()
+                            && (rate(failedCalls) >= policy.getFailureRateThreshold() || rate(slowCalls) >= policy.getSlowCallRateThreshold())) {
+                        open();
+                    }
+                    break;
+                case HALF_OPEN:
+                    if (failure || slow) {
+                        open();
+                    }
+                    else if (++halfOpenSuccesses >= policy.getPermittedCallsInHalfOpenState()) {
+                        close();
+                    }
+                    break;
+                default:
+                    // outcome of a call permitted before the circuit opened
+                    break;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    private void record(boolean failure, boolean slow) {
+        byte outcome = (byte) ((failure ? OUTCOME_FAILURE : 0) | (slow ? OUTCOME_SLOW : 0));
+        if (bufferedCalls == window.length) {
+            byte evicted = window[windowIndex];
+            failedCalls -= evicted & OUTCOME_FAILURE;
+            slowCalls -= (evicted & OUTCOME_SLOW) >> 1;
+        }
+        else {
+            bufferedCalls++;
+        }
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        failedCalls += outcome & OUTCOME_FAILURE;
+        slowCalls += (outcome & OUTCOME_SLOW) >> 1;
+    }
+
+
+    private float rate(int calls) {
+        return calls * 100f / bufferedCalls;
+    }
+
+
+    private void open() {
+        openUntil = System.nanoTime() + policy.getWaitDurationInOpenState().toNanos();
+        state = State.OPEN;
+    }
+
+
+    private void close() {
+        windowIndex = 0;
+        bufferedCalls = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+        state = State.CLOSED;
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("CircuitBreaker[endpoint=%s, state=%s, failureRate=%.1f, slowCallRate=%.1f, notPermittedCalls=%d]",
+                endpoint, state, getFailureRate(), getSlowCallRate(), getNumberOfNotPermittedCalls());
+    }
+}
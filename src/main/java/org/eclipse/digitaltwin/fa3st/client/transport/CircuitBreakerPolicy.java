@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Configuration of the {@link CircuitBreaker}s used by a {@link CircuitBreakingTransport}.
+ *
+ * <p>The outcomes of the last {@code slidingWindowSize} calls to an endpoint are recorded. A call fails if it ends
+ * with an IOException, e.g., because the connection is refused or times out, or if the server responds with one of the
+ * failure status codes (by default 502, 503 and 504). A call is slow if it takes longer than
+ * {@code slowCallDuration}. Once at least {@code minimumNumberOfCalls} have been recorded and the failure rate or the
+ * slow call rate reaches its threshold, the circuit opens and all calls to the endpoint are rejected immediately for
+ * {@code waitDurationInOpenState}. Afterwards, {@code permittedCallsInHalfOpenState} trial calls are let through; if
+ * all of them succeed the circuit closes again, otherwise it opens again.
+ */
+public class CircuitBreakerPolicy {
+
+    public static final float DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+    public static final float DEFAULT_SLOW_CALL_RATE_THRESHOLD = 100;
+    public static final Duration DEFAULT_SLOW_CALL_DURATION = Duration.ofSeconds(10);
+    public static final int DEFAULT_SLIDING_WINDOW_SIZE = 20;
+    public static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 10;
+    public static final Duration DEFAULT_WAIT_DURATION_IN_OPEN_STATE = Duration.ofSeconds(30);
+    public static final int DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE = 3;
+    public static final Set<Integer> DEFAULT_FAILURE_STATUS_CODES = Set.of(502, 503, 504);
+
+    private final float failureRateThreshold;
+    private final float slowCallRateThreshold;
+    private final Duration slowCallDuration;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final Duration waitDurationInOpenState;
+    private final int permittedCallsInHalfOpenState;
+    private final Set<Integer> failureStatusCodes;
+
+    private CircuitBreakerPolicy(Builder builder) {
+        Ensure.require(builder.failureRateThreshold > 0 && builder.failureRateThreshold <= 100, "failureRateThreshold must be in range (0, 100]");
+        Ensure.require(builder.slowCallRateThreshold > 0 && builder.slowCallRateThreshold <= 100, "slowCallRateThreshold must be in range (0, 100]");
+        Ensure.requireNonNull(builder.slowCallDuration, "slowCallDuration must be non-null");
+        Ensure.requireNonNull(builder.waitDurationInOpenState, "waitDurationInOpenState must be non-null");
+        Ensure.requireNonNull(builder.failureStatusCodes, "failureStatusCodes must be non-null");
+        Ensure.require(builder.slidingWindowSize > 0, "slidingWindowSize must be positive");
+        Ensure.require(builder.minimumNumberOfCalls > 0, "minimumNumberOfCalls must be positive");
+        Ensure.require(builder.minimumNumberOfCalls <= builder.slidingWindowSize, "minimumNumberOfCalls must be less or equal to slidingWindowSize");
+        Ensure.require(builder.permittedCallsInHalfOpenState > 0, "permittedCallsInHalfOpenState must be positive");
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallDuration = builder.slowCallDuration;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumNumberOfCalls = builder.minimumNumberOfCalls;
+        this.waitDurationInOpenState = builder.waitDurationInOpenState;
+        this.permittedCallsInHalfOpenState = builder.permittedCallsInHalfOpenState;
+        this.failureStatusCodes = Set.copyOf(builder.failureStatusCodes);
+    }
+
+
+    public float getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+
+    public float getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+
+    public Duration getWaitDurationInOpenState() {
+        return waitDurationInOpenState;
+    }
+
+
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+
+    /**
+     * Checks whether a response counts as a failure.
+     *
+     * @param response the response
+     * @return true if the response counts as a failure, otherwise false
+     */
+    public boolean isFailure(HttpResponse<?> response) {
+        return Objects.nonNull(response) && failureStatusCodes.contains(response.statusCode());
+    }
+
+    public static class Builder {
+        private float failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+        private float slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+        private Duration slowCallDuration = DEFAULT_SLOW_CALL_DURATION;
+        private int slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+        private int minimumNumberOfCalls = DEFAULT_MINIMUM_NUMBER_OF_CALLS;
+        private Duration waitDurationInOpenState = DEFAULT_WAIT_DURATION_IN_OPEN_STATE;
+        private int permittedCallsInHalfOpenState = DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE;
+        private Set<Integer> failureStatusCodes = DEFAULT_FAILURE_STATUS_CODES;
+
+        /**
+         * Sets the failure rate in percent at which the circuit opens.
+         *
+         * @param failureRateThreshold the failure rate threshold in percent
+         * @return the builder
+         */
+        public Builder failureRateThreshold(float failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+
+        /**
+         * Sets the rate of slow calls in percent at which the circuit opens.
+         *
+         * @param slowCallRateThreshold the slow call rate threshold in percent
+         * @return the builder
+         */
+        public Builder slowCallRateThreshold(float slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            return this;
+        }
+
+
+        public Builder slowCallDuration(Duration slowCallDuration) {
+            this.slowCallDuration = slowCallDuration;
+            return this;
+        }
+
+
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+
+        public Builder minimumNumberOfCalls(int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+
+        public Builder waitDurationInOpenState(Duration waitDurationInOpenState) {
+            this.waitDurationInOpenState = waitDurationInOpenState;
+            return this;
+        }
+
+
+        public Builder permittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+            this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+            return this;
+        }
+
+
+        public Builder failureStatusCodes(Set<Integer> failureStatusCodes) {
+            this.failureStatusCodes = failureStatusCodes;
+            return this;
+        }
+
+
+        public CircuitBreakerPolicy build() {
+            return new CircuitBreakerPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Transport decorator that guards each endpoint, i.e., each combination of scheme, host and port, by its own
+ * {@link CircuitBreaker}. Requests to an endpoint whose circuit is open fail immediately with a
+ * {@link CircuitBreakerOpenException} without being sent.
+ */
+public class CircuitBreakingTransport implements HttpTransport {
+
+    private final HttpTransport delegate;
+    private final CircuitBreakerPolicy policy;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakingTransport(HttpTransport delegate, CircuitBreakerPolicy policy) {
+        Ensure.requireNonNull(delegate, "delegate must be non-null");
+        Ensure.requireNonNull(policy, "policy must be non-null");
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+
+    /**
+     * Returns the circuit breaker of the endpoint of the given URI.
+     *
+     * @param uri the URI
+     * @return the circuit breaker of the endpoint
+     */
+    public CircuitBreaker getCircuitBreaker(URI uri) {
+        Ensure.requireNonNull(uri, "uri must be non-null");
+        return circuitBreakers.computeIfAbsent(getEndpoint(uri), x -> new CircuitBreaker(x, policy));
+    }
+
+
+    /**
+     * Returns the circuit breakers of all endpoints that have been called so far.
+     *
+     * @return the circuit breakers
+     */
+    public Collection<CircuitBreaker> getCircuitBreakers() {
+        return Collections.unmodifiableCollection(circuitBreakers.values());
+    }
+
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        CircuitBreaker circuitBreaker = getCircuitBreaker(request.uri());
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(rejected(circuitBreaker));
+        }
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> result;
+        try {
+            result = delegate.sendAsync(request, bodyHandler);
+        }
+        catch (RuntimeException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+        CompletableFuture<HttpResponse<T>> guarded = result.whenComplete((response, error) -> {
+            if (HttpHelper.unwrap(error) instanceof CancellationException) {
+                circuitBreaker.releasePermission();
+            }
+            else {
+                circuitBreaker.onResult(System.nanoTime() - start, isFailure(response, error));
+            }
+        });
+        // the outcome is not recorded if the returned future is cancelled first, i.e., the permission is released
+        // here and the exchange is cancelled instead of running to completion
+        guarded.whenComplete((response, error) -> {
+            if (guarded.isCancelled()) {
+                circuitBreaker.releasePermission();
+                result.cancel(true);
+            }
+        });
+        return guarded;
+    }
+
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        CircuitBreaker circuitBreaker = getCircuitBreaker(request.uri());
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw rejected(circuitBreaker);
+        }
+        long start = System.nanoTime();
+        try {
+            HttpResponse<T> response = delegate.send(request, bodyHandler);
+            circuitBreaker.onResult(System.nanoTime() - start, policy.isFailure(response));
+            return response;
+        }
+        catch (IOException e) {
+            circuitBreaker.onResult(System.nanoTime() - start, true);
+            throw e;
+        }
+        catch (InterruptedException | RuntimeException e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+    }
+
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+
+    private boolean isFailure(HttpResponse<?> response, Throwable error) {
+        return Objects.nonNull(error)
+                ? HttpHelper.unwrap(error) instanceof IOException
+                : policy.isFailure(response);
+    }
+
+
+    private static CircuitBreakerOpenException rejected(CircuitBreaker circuitBreaker) {
+        return new CircuitBreakerOpenException(String.format("circuit breaker for endpoint %s is open", circuitBreaker.getEndpoint()));
+    }
+
+
+    private static String getEndpoint(URI uri) {
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Transport decorator that coalesces identical concurrent GET requests (single-flight). While a GET request is in
+ * flight, identical requests, i.e., requests with the same URI, the same headers (including credentials) and the same
+ * body handler instance, do not cause another HTTP call but wait for the response of the request in flight. Requests
+ * are only coalesced if they use the same body handler instance, e.g., {@link HttpResponse.BodyHandlers#ofString()},
+ * because handlers of the same class, e.g., lambdas created by the same code, may produce bodies of different types.
+ *
+ * <p>The response is shared if its body is immutable, i.e., a String. Byte array bodies are copied for each caller.
+ * Other bodies, e.g., streams, cannot be shared; in this case, waiting requests are sent on their own once the
+ * request in flight has completed. Errors are shared as well.
+ */
+public class CoalescingTransport implements HttpTransport {
+
+    private static final String METHOD_GET = "GET";
+
+    private final HttpTransport delegate;
+    private final Map<Key, CompletableFuture<HttpResponse<?>>> inflight = new ConcurrentHashMap<>();
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    public CoalescingTransport(HttpTransport delegate) {
+        Ensure.requireNonNull(delegate, "delegate must be non-null");
+        this.delegate = delegate;
+    }
+
+
+    /**
+     * Returns the number of requests that have been answered by the response of an identical request in flight instead
+     * of being sent.
+     *
+     * @return the number of coalesced requests
+     */
+    public long getCoalescedRequests() {
+        return coalescedRequests.sum();
+    }
+
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        if (!Objects.equals(METHOD_GET, request.method())) {
+            return delegate.sendAsync(request, bodyHandler);
+        }
+        Key key = new Key(request, bodyHandler);
+        CompletableFuture<HttpResponse<?>> shared = new CompletableFuture<>();
+        CompletableFuture<HttpResponse<?>> existing = inflight.putIfAbsent(key, shared);
+        if (Objects.isNull(existing)) {
+            CompletableFuture<HttpResponse<T>> result;
+            try {
+                result = delegate.sendAsync(request, bodyHandler);
+            }
+            catch (RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+            result.whenComplete((response, error) -> {
+                inflight.remove(key, shared);
+                if (Objects.isNull(error)) {
+                    shared.complete(response);
+                }
+                else {
+                    shared.completeExceptionally(HttpHelper.unwrap(error));
+                }
+            });
+            return shared.thenApply(x -> (HttpResponse<T>) x);
+        }
+        return existing.thenCompose(x -> {
+            Object body = x.body();
+            if (body instanceof String) {
+                coalescedRequests.increment();
+                return CompletableFuture.completedFuture((HttpResponse<T>) x);
+            }
+            if (body instanceof byte[]) {
+                coalescedRequests.increment();
+                return CompletableFuture.completedFuture((HttpResponse<T>) HttpHelper.withBody(x, ((byte[]) body).clone()));
+            }
+            return delegate.sendAsync(request, bodyHandler);
+        });
+    }
+
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private static class Key {
+
+        private final URI uri;
+        private final Map<String, List<String>> headers;
+        private final HttpResponse.BodyHandler<?> bodyHandler;
+
+        Key(HttpRequest request, HttpResponse.BodyHandler<?> bodyHandler) {
+            this.uri = request.uri();
+            this.headers = request.headers().map();
+            this.bodyHandler = bodyHandler;
+        }
+
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(uri, other.uri)
+                    && Objects.equals(headers, other.headers)
+                    && bodyHandler == other.bodyHandler;
+        }
+
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uri, headers, System.identityHashCode(bodyHandler));
+        }
+    }
+}
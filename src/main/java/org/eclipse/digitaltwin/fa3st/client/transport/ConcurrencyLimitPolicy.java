@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Configuration of the {@link ConcurrencyLimiter}s used by a {@link ConcurrencyLimitingTransport}.
+ *
+ * <p>The limit of concurrent requests per endpoint adapts using additive increase/multiplicative decrease (AIMD). A
+ * request signals overload if it times out, if the server responds with one of the overload status codes (by default
+ * 429 and 503), or if its latency exceeds {@code latencyTolerance} times the smoothed latency of previous requests. On
+ * overload, the limit is multiplied by {@code backoffRatio}. Otherwise, the limit is increased by one as long as the
+ * requests actually use at least half of it. The limit always stays between {@code minLimit} and {@code maxLimit}.
+ *
+ * <p>Requests exceeding the limit are queued, up to {@code maxQueueSize} requests per endpoint. Requests that cannot be
+ * queued or that wait longer than {@code maxQueueTime} fail with a {@link ConcurrencyLimitExceededException}.
+ */
+public class ConcurrencyLimitPolicy {
+
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    public static final double DEFAULT_LATENCY_TOLERANCE = 2;
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+    public static final Duration DEFAULT_MAX_QUEUE_TIME = Duration.ofSeconds(10);
+    public static final Set<Integer> DEFAULT_OVERLOAD_STATUS_CODES = Set.of(429, 503);
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final int maxQueueSize;
+    private final Duration maxQueueTime;
+    private final Set<Integer> overloadStatusCodes;
+
+    private ConcurrencyLimitPolicy(Builder builder) {
+        Ensure.require(builder.minLimit > 0, "minLimit must be positive");
+        Ensure.require(builder.maxLimit >= builder.minLimit, "maxLimit must be greater or equal to minLimit");
+        Ensure.require(builder.initialLimit >= builder.minLimit && builder.initialLimit <= builder.maxLimit, "initialLimit must be in range [minLimit, maxLimit]");
+        Ensure.require(builder.backoffRatio > 0 && builder.backoffRatio < 1, "backoffRatio must be in range (0, 1)");
+        Ensure.require(builder.latencyTolerance > 1, "latencyTolerance must be greater than 1");
+        Ensure.require(builder.maxQueueSize >= 0, "maxQueueSize must be non-negative");
+        Ensure.requireNonNull(builder.maxQueueTime, "maxQueueTime must be non-null");
+        Ensure.requireNonNull(builder.overloadStatusCodes, "overloadStatusCodes must be non-null");
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+        this.maxQueueSize = builder.maxQueueSize;
+        this.maxQueueTime = builder.maxQueueTime;
+        this.overloadStatusCodes = Set.copyOf(builder.overloadStatusCodes);
+    }
+
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+
+    public Duration getMaxQueueTime() {
+        return maxQueueTime;
+    }
+
+
+    /**
+     * Checks whether the outcome of a request signals that the server is overloaded, ignoring its latency.
+     *
+     * @param response the response, or null if the request failed with an error
+     * @param error the error, or null if a response has been received
+     * @return true if the outcome signals overload, otherwise false
+     */
+    public boolean isOverload(HttpResponse<?> response, Throwable error) {
+        if (Objects.nonNull(error)) {
+            return HttpHelper.unwrap(error) instanceof HttpTimeoutException;
+        }
+        return Objects.nonNull(response) && overloadStatusCodes.contains(response.statusCode());
+    }
+
+    public static class Builder {
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+        private double latencyTolerance = DEFAULT_LATENCY_TOLERANCE;
+        private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+        private Duration maxQueueTime = DEFAULT_MAX_QUEUE_TIME;
+        private Set<Integer> overloadStatusCodes = DEFAULT_OVERLOAD_STATUS_CODES;
+
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+
+        /**
+         * Sets the factor the limit is multiplied with on overload.
+         *
+         * @param backoffRatio the backoff ratio in range (0, 1)
+         * @return the builder
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+
+        /**
+         * Sets the factor by which the latency of a request may exceed the smoothed latency of previous requests
+         * before it is considered as overload.
+         *
+         * @param latencyTolerance the latency tolerance, greater than 1
+         * @return the builder
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+
+        /**
+         * Sets the maximum number of requests per endpoint waiting for the limit. If 0, requests exceeding the limit
+         * are rejected immediately.
+         *
+         * @param maxQueueSize the maximum queue size
+         * @return the builder
+         */
+        public Builder maxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+
+        public Builder maxQueueTime(Duration maxQueueTime) {
+            this.maxQueueTime = maxQueueTime;
+            return this;
+        }
+
+
+        public Builder overloadStatusCodes(Set<Integer> overloadStatusCodes) {
+            this.overloadStatusCodes = overloadStatusCodes;
+            return this;
+        }
+
+
+        public ConcurrencyLimitPolicy build() {
+            return new ConcurrencyLimitPolicy(this);
+        }
+    }
+}
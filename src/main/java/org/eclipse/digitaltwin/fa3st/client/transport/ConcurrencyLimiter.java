@@ -0,0 +1,272 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Adaptive concurrency limit of a single endpoint as described in {@link ConcurrencyLimitPolicy}.
+ */
+public class ConcurrencyLimiter {
+
+    private static final CompletableFuture<Void> GRANTED = CompletableFuture.completedFuture(null);
+    private static final double LATENCY_SMOOTHING = 0.05;
+    private static final int LATENCY_WARMUP_SAMPLES = 10;
+
+    private final String endpoint;
+    private final ConcurrencyLimitPolicy policy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Queue<CompletableFuture<Void>> queue = new ArrayDeque<>();
+    private final LongAdder rejectedRequests = new LongAdder();
+    private final LongAdder overloads = new LongAdder();
+    private double limit;
+    private int inflight;
+    private double smoothedLatencyNanos;
+    private int latencySamples;
+
+    public ConcurrencyLimiter(String endpoint, ConcurrencyLimitPolicy policy) {
+        Ensure.requireNonNull(endpoint, "endpoint must be non-null");
+        Ensure.requireNonNull(policy, "policy must be non-null");
+        this.endpoint = endpoint;
+        this.policy = policy;
+        this.limit = policy.getInitialLimit();
+    }
+
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+
+    /**
+     * Returns the current limit of concurrent requests.
+     *
+     * @return the current limit
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the number of requests currently in flight.
+     *
+     * @return the number of requests in flight
+     */
+    public int getInflight() {
+        lock.lock();
+        try {
+            return inflight;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the number of requests currently waiting for the limit.
+     *
+     * @return the number of queued requests
+     */
+    public int getQueueSize() {
+        lock.lock();
+        try {
+            return queue.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the number of requests that have been rejected because the queue was full or they waited too long.
+     *
+     * @return the number of rejected requests
+     */
+    public long getRejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+
+    /**
+     * Returns the number of requests that signaled overload and caused the limit to decrease.
+     *
+     * @return the number of overloads
+     */
+    public long getOverloads() {
+        return overloads.sum();
+    }
+
+
+    /**
+     * Acquires a permit for a request. The returned future completes once the request may be sent, or fails with a
+     * {@link ConcurrencyLimitExceededException} if the request is rejected. Each permit must be returned via
+     * {@link #release(long, boolean)} or {@link #release()}. A permit that is not needed anymore while waiting can be
+     * abandoned via {@link #abandon(CompletableFuture)}.
+     *
+     * @return a future completing once the permit is granted
+     */
+    public CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> result;
+        lock.lock();
+        try {
+            if (inflight < (int) limit && queue.isEmpty()) {
+                inflight++;
+                return GRANTED;
+            }
+            if (queue.size() >= policy.getMaxQueueSize()) {
+                rejectedRequests.increment();
+                return CompletableFuture.failedFuture(rejected("queue is full"));
+            }
+            result = new CompletableFuture<>();
+            queue.add(result);
+        }
+        finally {
+            lock.unlock();
+        }
+        CompletableFuture.delayedExecutor(policy.getMaxQueueTime().toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            // counted before failing the permit so that callers observe the rejection in the metrics
+            if (remove(result) && !result.isDone()) {
+                rejectedRequests.increment();
+                result.completeExceptionally(rejected("timed out waiting in queue"));
+            }
+        });
+        return result;
+    }
+
+
+    /**
+     * Abandons a permit that is not needed anymore. If the permit is still waiting, it is removed from the queue and
+     * cancelled, otherwise it must be released as usual.
+     *
+     * @param permit the permit returned by {@link #acquire()}
+     */
+    public void abandon(CompletableFuture<Void> permit) {
+        if (remove(permit)) {
+            permit.cancel(false);
+        }
+    }
+
+
+    /**
+     * Returns a permit and adapts the limit to the outcome of the request.
+     *
+     * @param latencyNanos the latency of the request in nanoseconds
+     * @param overload true if the outcome signals overload, ignoring its latency
+     */
+    public void release(long latencyNanos, boolean overload) {
+        List<CompletableFuture<Void>> granted;
+        lock.lock();
+        try {
+            boolean latencySpike = latencySamples >= LATENCY_WARMUP_SAMPLES
+                    && latencyNanos > smoothedLatencyNanos * policy.getLatencyTolerance();
+            if (overload || latencySpike) {
+                overloads.increment();
+                limit = Math.max(policy.getMinLimit(), limit * policy.getBackoffRatio());
+            }
+            else {
+                smoothedLatencyNanos = latencySamples == 0
+                        ? latencyNanos
+                        : smoothedLatencyNanos + LATENCY_SMOOTHING * (latencyNanos - smoothedLatencyNanos);
+                latencySamples++;
+                if (inflight * 2 >= limit) {
+                    limit = Math.min(policy.getMaxLimit(), limit + 1);
+                }
+            }
+            inflight--;
+            granted = grant();
+        }
+        finally {
+            lock.unlock();
+        }
+        complete(granted);
+    }
+
+
+    /**
+     * Returns a permit without adapting the limit, e.g., because the request has been cancelled or failed for reasons
+     * unrelated to the load of the server.
+     */
+    public void release() {
+        List<CompletableFuture<Void>> granted;
+        lock.lock();
+        try {
+            inflight--;
+            granted = grant();
+        }
+        finally {
+            lock.unlock();
+        }
+        complete(granted);
+    }
+
+
+    private List<CompletableFuture<Void>> grant() {
+        List<CompletableFuture<Void>> result = new ArrayList<>();
+        while (inflight < (int) limit && !queue.isEmpty()) {
+            result.add(queue.poll());
+            inflight++;
+        }
+        return result;
+    }
+
+
+    private void complete(List<CompletableFuture<Void>> granted) {
+        for (CompletableFuture<Void> permit: granted) {
+            if (!permit.complete(null)) {
+                release();
+            }
+        }
+    }
+
+
+    private boolean remove(CompletableFuture<Void> permit) {
+        lock.lock();
+        try {
+            return queue.remove(permit);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    private ConcurrencyLimitExceededException rejected(String reason) {
+        return new ConcurrencyLimitExceededException(String.format("concurrency limit for endpoint %s exceeded (%s)", endpoint, reason));
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("ConcurrencyLimiter[endpoint=%s, limit=%d, inflight=%d, queueSize=%d, rejectedRequests=%d, overloads=%d]",
+                endpoint, getLimit(), getInflight(), getQueueSize(), getRejectedRequests(), getOverloads());
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Transport decorator that limits the number of concurrent requests per endpoint, i.e., per combination of scheme, host
+ * and port, using an adaptive {@link ConcurrencyLimiter}. Requests exceeding the limit wait without blocking a thread.
+ */
+public class ConcurrencyLimitingTransport implements HttpTransport {
+
+    private final HttpTransport delegate;
+    private final ConcurrencyLimitPolicy policy;
+    private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitingTransport(HttpTransport delegate, ConcurrencyLimitPolicy policy) {
+        Ensure.requireNonNull(delegate, "delegate must be non-null");
+        Ensure.requireNonNull(policy, "policy must be non-null");
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+
+    /**
+     * Returns the concurrency limiter of the endpoint of the given URI.
+     *
+     * @param uri the URI
+     * @return the concurrency limiter of the endpoint
+     */
+    public ConcurrencyLimiter getLimiter(URI uri) {
+        Ensure.requireNonNull(uri, "uri must be non-null");
+        return limiters.computeIfAbsent(uri.getScheme() + "://" + uri.getRawAuthority(), x -> new ConcurrencyLimiter(x, policy));
+    }
+
+
+    /**
+     * Returns the concurrency limiters of all endpoints that have been called so far.
+     *
+     * @return the concurrency limiters
+     */
+    public Collection<ConcurrencyLimiter> getLimiters() {
+        return Collections.unmodifiableCollection(limiters.values());
+    }
+
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        ConcurrencyLimiter limiter = getLimiter(request.uri());
+        CompletableFuture<Void> permit = limiter.acquire();
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        permit.whenComplete((x, error) -> {
+            if (error != null) {
+                result.completeExceptionally(HttpHelper.unwrap(error));
+                return;
+            }
+            if (result.isDone()) {
+                limiter.release();
+                return;
+            }
+            send(limiter, request, bodyHandler, result);
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                limiter.abandon(permit);
+            }
+        });
+        return result;
+    }
+
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+
+    private <T> void send(ConcurrencyLimiter limiter, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, CompletableFuture<HttpResponse<T>> result) {
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> attempt;
+        try {
+            attempt = delegate.sendAsync(request, bodyHandler);
+        }
+        catch (RuntimeException e) {
+            limiter.release();
+            result.completeExceptionally(e);
+            return;
+        }
+        attempt.whenComplete((response, error) -> {
+            Throwable cause = HttpHelper.unwrap(error);
+            if (cause == null || policy.isOverload(response, cause)) {
+                limiter.release(System.nanoTime() - start, policy.isOverload(response, cause));
+            }
+            else {
+                // e.g., cancelled, rejected by a circuit breaker or connection refused, which says nothing about the load
+                limiter.release();
+            }
+            if (cause == null) {
+                if (!result.complete(response)) {
+                    HttpHelper.discard(response);
+                }
+            }
+            else {
+                result.completeExceptionally(cause);
+            }
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                attempt.cancel(true);
+            }
+        });
+    }
+}
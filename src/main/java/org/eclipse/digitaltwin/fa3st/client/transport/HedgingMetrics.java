@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Counters describing the hedged requests sent by a {@link HedgingTransport}. All counters are cumulative and
+ * thread-safe.
+ */
+public class HedgingMetrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedgedRequests = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    void recordRequest() {
+        requests.increment();
+    }
+
+
+    void recordHedge() {
+        hedgedRequests.increment();
+    }
+
+
+    void recordHedgeWin() {
+        hedgeWins.increment();
+    }
+
+
+    /**
+     * Returns the number of requests eligible for hedging.
+     *
+     * @return the number of requests
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+
+    /**
+     * Returns the number of requests for which a hedged request has been sent.
+     *
+     * @return the number of hedged requests
+     */
+    public long getHedgedRequests() {
+        return hedgedRequests.sum();
+    }
+
+
+    /**
+     * Returns the number of hedged requests whose response arrived before the response of the original request.
+     *
+     * @return the number of hedged requests that won
+     */
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("HedgingMetrics[requests=%d, hedgedRequests=%d, hedgeWins=%d]",
+                getRequests(), getHedgedRequests(), getHedgeWins());
+    }
+}
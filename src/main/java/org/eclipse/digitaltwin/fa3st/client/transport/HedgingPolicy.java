@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Configuration of a {@link HedgingTransport}.
+ *
+ * <p>If a GET or HEAD request has not been answered within the hedging delay, an identical request is sent and the
+ * first response wins. By default, the delay is the given percentile (p95) of the latencies of the most recent
+ * {@code windowSize} attempts to the same endpoint, bounded by {@code minDelay} and {@code maxDelay}. The latency of
+ * every completed attempt is observed, and a primary request cancelled in favor of its hedge counts with the time
+ * elapsed until then. No requests are hedged until {@code minSamples} latencies have been observed. Alternatively, a
+ * fixed delay can be configured.
+ *
+ * <p>The hedged request can be redirected, e.g., to a replica of the server, via {@link Builder#hedgeRequest(UnaryOperator)}.
+ */
+public class HedgingPolicy {
+
+    public static final double DEFAULT_PERCENTILE = 0.95;
+    public static final int DEFAULT_WINDOW_SIZE = 1000;
+    public static final int DEFAULT_MIN_SAMPLES = 20;
+    public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(10);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5);
+    private static final Set<String> HEDGED_METHODS = Set.of("GET", "HEAD");
+
+    private final double percentile;
+    private final int windowSize;
+    private final int minSamples;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final Duration delay;
+    private final UnaryOperator<HttpRequest> hedgeRequest;
+    private final HedgingMetrics metrics = new HedgingMetrics();
+
+    private HedgingPolicy(Builder builder) {
+        Ensure.require(builder.percentile > 0 && builder.percentile < 1, "percentile must be in range (0, 1)");
+        Ensure.require(builder.windowSize > 0, "windowSize must be positive");
+        Ensure.require(builder.minSamples > 0 && builder.minSamples <= builder.windowSize, "minSamples must be in range [1, windowSize]");
+        Ensure.requireNonNull(builder.minDelay, "minDelay must be non-null");
+        Ensure.requireNonNull(builder.maxDelay, "maxDelay must be non-null");
+        Ensure.requireNonNull(builder.hedgeRequest, "hedgeRequest must be non-null");
+        Ensure.require(!builder.minDelay.isNegative(), "minDelay must be non-negative");
+        Ensure.require(builder.maxDelay.compareTo(builder.minDelay) >= 0, "maxDelay must be greater or equal to minDelay");
+        Ensure.require(Objects.isNull(builder.delay) || !builder.delay.isNegative(), "delay must be non-negative");
+        this.percentile = builder.percentile;
+        this.windowSize = builder.windowSize;
+        this.minSamples = builder.minSamples;
+        this.minDelay = builder.minDelay;
+        this.maxDelay = builder.maxDelay;
+        this.delay = builder.delay;
+        this.hedgeRequest = builder.hedgeRequest;
+    }
+
+
+    /**
+     * Returns the metrics of all requests sent using this policy.
+     *
+     * @return the metrics
+     */
+    public HedgingMetrics getMetrics() {
+        return metrics;
+    }
+
+
+    /**
+     * Checks whether a request may be hedged, i.e., whether it is safe to send it twice.
+     *
+     * @param request the request
+     * @return true if the request may be hedged, otherwise false
+     */
+    public boolean isHedgeable(HttpRequest request) {
+        return HEDGED_METHODS.contains(request.method());
+    }
+
+
+    Duration getDelay(LatencyTracker latencyTracker) {
+        if (Objects.nonNull(delay)) {
+            return delay;
+        }
+        return latencyTracker.getPercentile()
+                .map(x -> x.compareTo(minDelay) < 0 ? minDelay : x)
+                .map(x -> x.compareTo(maxDelay) > 0 ? maxDelay : x)
+                .orElse(null);
+    }
+
+
+    HttpRequest createHedgeRequest(HttpRequest request) {
+        return hedgeRequest.apply(request);
+    }
+
+
+    LatencyTracker newLatencyTracker() {
+        return new LatencyTracker(percentile, windowSize, minSamples);
+    }
+
+    public static class Builder {
+        private double percentile = DEFAULT_PERCENTILE;
+        private int windowSize = DEFAULT_WINDOW_SIZE;
+        private int minSamples = DEFAULT_MIN_SAMPLES;
+        private Duration minDelay = DEFAULT_MIN_DELAY;
+        private Duration maxDelay = DEFAULT_MAX_DELAY;
+        private Duration delay;
+        private UnaryOperator<HttpRequest> hedgeRequest = UnaryOperator.identity();
+
+        /**
+         * Sets the percentile of the observed latencies used as hedging delay, e.g., 0.95 for p95.
+         *
+         * @param percentile the percentile in range (0, 1)
+         * @return the builder
+         */
+        public Builder percentile(double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+
+        public Builder windowSize(int windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+
+        public Builder minSamples(int minSamples) {
+            this.minSamples = minSamples;
+            return this;
+        }
+
+
+        public Builder minDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+
+        /**
+         * Sets a fixed hedging delay instead of deriving it from the observed latencies.
+         *
+         * @param delay the fixed delay
+         * @return the builder
+         */
+        public Builder delay(Duration delay) {
+            this.delay = delay;
+            return this;
+        }
+
+
+        /**
+         * Sets a function creating the hedged request from the original request, e.g., to send it to a replica of
+         * the server. By default, the original request is sent again.
+         *
+         * @param hedgeRequest the function creating the hedged request
+         * @return the builder
+         */
+        public Builder hedgeRequest(UnaryOperator<HttpRequest> hedgeRequest) {
+            this.hedgeRequest = hedgeRequest;
+            return this;
+        }
+
+
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Transport decorator that hedges read requests according to a {@link HedgingPolicy} to cut tail latency: if a
+ * request has not been answered within the hedging delay, a second request is sent and the first response wins. The
+ * other request is cancelled, or its response is discarded if it has already been received. The request only fails if
+ * all attempts fail.
+ *
+ * <p>Hedging relies on the non-blocking transport path; blocking requests are sent via
+ * {@link #sendAsync(HttpRequest, HttpResponse.BodyHandler)} as well.
+ */
+public class HedgingTransport implements HttpTransport {
+
+    private final HttpTransport delegate;
+    private final HedgingPolicy policy;
+    private final Map<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+
+    public HedgingTransport(HttpTransport delegate, HedgingPolicy policy) {
+        Ensure.requireNonNull(delegate, "delegate must be non-null");
+        Ensure.requireNonNull(policy, "policy must be non-null");
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+
+    public HedgingPolicy getPolicy() {
+        return policy;
+    }
+
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        if (!policy.isHedgeable(request)) {
+            return delegate.sendAsync(request, bodyHandler);
+        }
+        policy.getMetrics().recordRequest();
+        LatencyTracker latencyTracker = latencyTrackers.computeIfAbsent(getEndpoint(request.uri()), x -> policy.newLatencyTracker());
+        Duration delay = policy.getDelay(latencyTracker);
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<HttpResponse<T>>> hedge = new AtomicReference<>();
+        AtomicInteger pendingAttempts = new AtomicInteger(1);
+        AtomicBoolean winner = new AtomicBoolean();
+        CompletableFuture<HttpResponse<T>> primary = send(request, bodyHandler, result, pendingAttempts, winner, latencyTracker, false);
+        result.whenComplete((response, error) -> {
+            primary.cancel(true);
+            CompletableFuture<HttpResponse<T>> hedged = hedge.get();
+            if (Objects.nonNull(hedged)) {
+                hedged.cancel(true);
+            }
+        });
+        if (Objects.nonNull(delay) && !result.isDone()) {
+            CompletableFuture.delayedExecutor(delay.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                pendingAttempts.incrementAndGet();
+                policy.getMetrics().recordHedge();
+                hedge.set(send(policy.createHedgeRequest(request), bodyHandler, result, pendingAttempts, winner, latencyTracker, true));
+                if (result.isDone()) {
+                    hedge.get().cancel(true);
+                }
+            });
+        }
+        return result;
+    }
+
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+
+    private <T> CompletableFuture<HttpResponse<T>> send(HttpRequest request,
+                                                        HttpResponse.BodyHandler<T> bodyHandler,
+                                                        CompletableFuture<HttpResponse<T>> result,
+                                                        AtomicInteger pendingAttempts,
+                                                        AtomicBoolean winner,
+                                                        LatencyTracker latencyTracker,
+                                                        boolean isHedge) {
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> attempt;
+        try {
+            attempt = delegate.sendAsync(request, bodyHandler);
+        }
+        catch (RuntimeException e) {
+            attempt = CompletableFuture.failedFuture(e);
+        }
+        attempt.whenComplete((response, error) -> {
+            if (Objects.isNull(error)) {
+                // latency of every completed attempt is recorded, not only the winner's, as otherwise a fast hedge
+                // would keep lowering the delay; recorded before the result is completed so that callers observe
+                // consistent metrics
+                latencyTracker.record(System.nanoTime() - start);
+                if (!result.isDone() && winner.compareAndSet(false, true) && isHedge) {
+                    policy.getMetrics().recordHedgeWin();
+                }
+                if (!result.complete(response)) {
+                    HttpHelper.discard(response);
+                }
+                return;
+            }
+            if (!isHedge
+                    && HttpHelper.unwrap(error) instanceof CancellationException
+                    && result.isDone()
+                    && !result.isCompletedExceptionally()) {
+                // primary lost against the hedge, its latency is at least the time elapsed until it was cancelled
+                latencyTracker.record(System.nanoTime() - start);
+            }
+            if (pendingAttempts.decrementAndGet() == 0) {
+                result.completeExceptionally(HttpHelper.unwrap(error));
+            }
+        });
+        return attempt;
+    }
+
+
+    private static String getEndpoint(URI uri) {
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+}
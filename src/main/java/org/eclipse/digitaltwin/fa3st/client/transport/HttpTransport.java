@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+
+/**
+ * Sends HTTP requests on behalf of the client interfaces. Requests and responses are exchanged using the types of
+ * {@code java.net.http}, so the interfaces are independent of the HTTP library actually used to talk to the server.
+ *
+ * <p>Implementations must be thread-safe. The body of a response is provided via the given
+ * {@link HttpResponse.BodyHandler} with the usual semantics, i.e., the returned future completes when the body
+ * subscriber provides its body. This means that streaming body handlers such as
+ * {@link HttpResponse.BodyHandlers#ofInputStream()} get the response as soon as the headers have been received.
+ *
+ * @see JdkHttpTransport
+ * @see ApacheHttpTransport
+ */
+public interface HttpTransport extends AutoCloseable {
+
+    /**
+     * Sends the given request asynchronously.
+     *
+     * @param <T> the type of the response body
+     * @param request the request
+     * @param bodyHandler the body handler used to process the response body
+     * @return a future of the response that completes exceptionally with an IOException if the request fails
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler);
+
+
+    /**
+     * Sends the given request and blocks until the response is available. The default implementation waits for the
+     * result of {@link #sendAsync(HttpRequest, HttpResponse.BodyHandler)}.
+     *
+     * @param <T> the type of the response body
+     * @param request the request
+     * @param bodyHandler the body handler used to process the response body
+     * @return the response
+     * @throws IOException if sending the request or receiving the response fails
+     * @throws InterruptedException if the current thread is interrupted while waiting for the response
+     */
+    public default <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        CompletableFuture<HttpResponse<T>> result = sendAsync(request, bodyHandler);
+        try {
+            return result.get();
+        }
+        catch (InterruptedException e) {
+            result.cancel(true);
+            throw e;
+        }
+        catch (CancellationException e) {
+            throw new IOException("request cancelled", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+
+    /**
+     * Releases the resources held by this transport, e.g., pooled connections and I/O threads. The default
+     * implementation does nothing.
+     */
+    @Override
+    public default void close() {
+        // intentionally empty
+    }
+}
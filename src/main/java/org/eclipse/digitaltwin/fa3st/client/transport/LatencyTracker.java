@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Tracks the latencies of the most recent requests and provides a percentile of them. The percentile is recomputed
+ * after every {@code windowSize / 10} new samples so that reading it does not require sorting on each request.
+ */
+class LatencyTracker {
+
+    private final double percentile;
+    private final int minSamples;
+    private final long[] samples;
+    private final int recomputeInterval;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int index;
+    private int count;
+    private int sinceRecompute;
+    private volatile long percentileNanos = -1;
+
+    LatencyTracker(double percentile, int windowSize, int minSamples) {
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.samples = new long[windowSize];
+        this.recomputeInterval = Math.max(1, windowSize / 10);
+    }
+
+
+    void record(long latencyNanos) {
+        lock.lock();
+        try {
+            samples[index] = latencyNanos;
+            index = (index + 1) % samples.length;
+            if (count < samples.length) {
+                count++;
+            }
+            if (count >= minSamples && (++sinceRecompute >= recomputeInterval || percentileNanos < 0)) {
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                percentileNanos = sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+                sinceRecompute = 0;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the current percentile of the latencies, or empty if fewer than the minimum number of samples have been
+     * recorded.
+     *
+     * @return the current percentile
+     */
+    Optional<Duration> getPercentile() {
+        long result = percentileNanos;
+        return result < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(result));
+    }
+}
@@ -0,0 +1,261 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+
+
+/**
+ * Adapts a {@link HttpRequest.BodyPublisher} to an {@link AsyncEntityProducer} of Apache HttpClient. The publisher is
+ * subscribed when the I/O reactor is ready to send the body and each buffer is only requested from the publisher once
+ * the previous one has been written to the connection, i.e., bodies such as files are streamed without being buffered
+ * in memory.
+ */
+class PublisherEntityProducer implements AsyncEntityProducer, Flow.Subscriber<ByteBuffer> {
+
+    private final HttpRequest.BodyPublisher publisher;
+    private final String contentType;
+    private final long contentLength;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+    private Flow.Subscription subscription;
+    private DataStreamChannel channel;
+    private boolean subscribed;
+    private boolean completed;
+    private boolean ended;
+    private Throwable error;
+
+    PublisherEntityProducer(HttpRequest.BodyPublisher publisher, String contentType) {
+        this.publisher = publisher;
+        this.contentType = contentType;
+        this.contentLength = publisher.contentLength();
+    }
+
+
+    @Override
+    public boolean isRepeatable() {
+        return false;
+    }
+
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+
+    @Override
+    public String getContentEncoding() {
+        return null;
+    }
+
+
+    @Override
+    public boolean isChunked() {
+        return contentLength < 0;
+    }
+
+
+    @Override
+    public Set<String> getTrailerNames() {
+        return null;
+    }
+
+
+    @Override
+    public int available() {
+        lock.lock();
+        try {
+            int result = buffers.stream().mapToInt(ByteBuffer::remaining).sum();
+            if (result > 0) {
+                return result;
+            }
+            // signal pending output until the channel is known so that produce is called at least once, and when the
+            // end of the stream still has to be written
+            return Objects.isNull(channel) || (completed && !ended) || Objects.nonNull(error) ? 1 : 0;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    @Override
+    public void produce(DataStreamChannel channel) throws IOException {
+        boolean subscribe;
+        lock.lock();
+        try {
+            this.channel = channel;
+            subscribe = !subscribed;
+            subscribed = true;
+        }
+        finally {
+            lock.unlock();
+        }
+        if (subscribe) {
+            publisher.subscribe(this);
+        }
+        while (true) {
+            ByteBuffer head;
+            boolean endStream = false;
+            lock.lock();
+            try {
+                if (Objects.nonNull(error)) {
+                    throw new IOException("failed to read request body", error);
+                }
+                head = buffers.peek();
+                if (Objects.isNull(head) && completed && !ended) {
+                    ended = true;
+                    endStream = true;
+                }
+            }
+            finally {
+                lock.unlock();
+            }
+            if (endStream) {
+                channel.endStream();
+                return;
+            }
+            if (Objects.isNull(head)) {
+                return;
+            }
+            channel.write(head);
+            if (head.hasRemaining()) {
+                // connection is busy, produce is called again once it is ready for more data
+                return;
+            }
+            Flow.Subscription current;
+            lock.lock();
+            try {
+                buffers.poll();
+                current = subscription;
+            }
+            finally {
+                lock.unlock();
+            }
+            if (Objects.nonNull(current)) {
+                current.request(1);
+            }
+        }
+    }
+
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        lock.lock();
+        try {
+            this.subscription = subscription;
+        }
+        finally {
+            lock.unlock();
+        }
+        subscription.request(1);
+    }
+
+
+    @Override
+    public void onNext(ByteBuffer item) {
+        lock.lock();
+        try {
+            buffers.add(item);
+        }
+        finally {
+            lock.unlock();
+        }
+        requestOutput();
+    }
+
+
+    @Override
+    public void onError(Throwable throwable) {
+        lock.lock();
+        try {
+            error = throwable;
+        }
+        finally {
+            lock.unlock();
+        }
+        requestOutput();
+    }
+
+
+    @Override
+    public void onComplete() {
+        lock.lock();
+        try {
+            completed = true;
+        }
+        finally {
+            lock.unlock();
+        }
+        requestOutput();
+    }
+
+
+    @Override
+    public void failed(Exception cause) {
+        releaseResources();
+    }
+
+
+    @Override
+    public void releaseResources() {
+        Flow.Subscription current;
+        lock.lock();
+        try {
+            current = completed ? null : subscription;
+            subscription = null;
+            completed = true;
+            ended = true;
+            buffers.clear();
+        }
+        finally {
+            lock.unlock();
+        }
+        if (Objects.nonNull(current)) {
+            current.cancel();
+        }
+    }
+
+
+    private void requestOutput() {
+        DataStreamChannel current;
+        lock.lock();
+        try {
+            current = channel;
+        }
+        finally {
+            lock.unlock();
+        }
+        if (Objects.nonNull(current)) {
+            current.requestOutput();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Counters describing the retries performed by a {@link RetryingTransport}. All counters are cumulative and
+ * thread-safe.
+ */
+public class RetryMetrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder retriedRequests = new LongAdder();
+    private final LongAdder recoveredRequests = new LongAdder();
+    private final LongAdder exhaustedRequests = new LongAdder();
+
+    void recordRequest(int attempts, boolean successful) {
+        requests.increment();
+        if (attempts > 1) {
+            retries.add(attempts - 1L);
+            retriedRequests.increment();
+            if (successful) {
+                recoveredRequests.increment();
+            }
+            else {
+                exhaustedRequests.increment();
+            }
+        }
+    }
+
+
+    /**
+     * Returns the number of requests, i.e., without counting retries.
+     *
+     * @return the number of requests
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+
+    /**
+     * Returns the total number of retries of all requests.
+     *
+     * @return the number of retries
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+
+    /**
+     * Returns the number of requests that have been retried at least once.
+     *
+     * @return the number of retried requests
+     */
+    public long getRetriedRequests() {
+        return retriedRequests.sum();
+    }
+
+
+    /**
+     * Returns the number of retried requests that eventually succeeded, i.e., received a response that is not
+     * retryable.
+     *
+     * @return the number of recovered requests
+     */
+    public long getRecoveredRequests() {
+        return recoveredRequests.sum();
+    }
+
+
+    /**
+     * Returns the number of retried requests that still failed after the last attempt.
+     *
+     * @return the number of exhausted requests
+     */
+    public long getExhaustedRequests() {
+        return exhaustedRequests.sum();
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("RetryMetrics[requests=%d, retries=%d, retriedRequests=%d, recoveredRequests=%d, exhaustedRequests=%d]",
+                getRequests(), getRetries(), getRetriedRequests(), getRecoveredRequests(), getExhaustedRequests());
+    }
+}
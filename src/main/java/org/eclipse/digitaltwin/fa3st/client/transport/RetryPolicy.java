@@ -0,0 +1,232 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Decides whether and when a failed request is retried by a {@link RetryingTransport}.
+ *
+ * <p>A request is retried if it failed with an IOException, e.g., because the server is restarting, or if the server
+ * responded with one of the retryable status codes (by default 429, 502, 503 and 504). Only idempotent requests, i.e.,
+ * GET, HEAD, OPTIONS, PUT and DELETE, are retried. POST requests are only retried if enabled via
+ * {@link Builder#retryPost(boolean)} or if the connection could not be established, i.e., the request has not been
+ * sent. PATCH requests are never retried. Requests rejected by an open {@link CircuitBreaker} are not retried either.
+ *
+ * <p>The delay before retry number {@code n} is chosen randomly between zero and
+ * {@code min(maxBackoff, initialBackoff * multiplier^(n-1))} (exponential backoff with full jitter), which spreads the
+ * retries of many clients hitting the same server. If a 429 or 503 response contains a Retry-After header, the delay
+ * requested by the server is used instead; if it exceeds {@code maxRetryAfter}, the response is returned without
+ * retrying.
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100);
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(10);
+    public static final double DEFAULT_MULTIPLIER = 2;
+    public static final Duration DEFAULT_MAX_RETRY_AFTER = Duration.ofSeconds(60);
+    public static final Set<Integer> DEFAULT_RETRYABLE_STATUS_CODES = Set.of(429, 502, 503, 504);
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private static final Set<Integer> RETRY_AFTER_STATUS_CODES = Set.of(429, 503);
+    private static final String METHOD_POST = "POST";
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double multiplier;
+    private final Duration maxRetryAfter;
+    private final Set<Integer> retryableStatusCodes;
+    private final boolean retryPost;
+    private final RetryMetrics metrics = new RetryMetrics();
+
+    private RetryPolicy(Builder builder) {
+        Ensure.require(builder.maxAttempts >= 1, "maxAttempts must be at least 1");
+        Ensure.requireNonNull(builder.initialBackoff, "initialBackoff must be non-null");
+        Ensure.requireNonNull(builder.maxBackoff, "maxBackoff must be non-null");
+        Ensure.requireNonNull(builder.maxRetryAfter, "maxRetryAfter must be non-null");
+        Ensure.requireNonNull(builder.retryableStatusCodes, "retryableStatusCodes must be non-null");
+        Ensure.require(!builder.initialBackoff.isNegative(), "initialBackoff must be non-negative");
+        Ensure.require(builder.maxBackoff.compareTo(builder.initialBackoff) >= 0, "maxBackoff must be greater or equal to initialBackoff");
+        Ensure.require(builder.multiplier >= 1, "multiplier must be at least 1");
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.multiplier = builder.multiplier;
+        this.maxRetryAfter = builder.maxRetryAfter;
+        this.retryableStatusCodes = Set.copyOf(builder.retryableStatusCodes);
+        this.retryPost = builder.retryPost;
+    }
+
+
+    /**
+     * Returns the metrics of all requests sent using this policy.
+     *
+     * @return the metrics
+     */
+    public RetryMetrics getMetrics() {
+        return metrics;
+    }
+
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+
+    /**
+     * Determines whether a request is retried after the given attempt.
+     *
+     * @param request the request
+     * @param response the response of the attempt, or null if the attempt failed with an error
+     * @param error the error of the attempt, or null if a response has been received
+     * @param attempt the number of the attempt, starting at 1
+     * @return the delay before the next attempt, or empty if the request is not retried
+     */
+    public Optional<Duration> getRetryDelay(HttpRequest request, HttpResponse<?> response, Throwable error, int attempt) {
+        Ensure.requireNonNull(request, "request must be non-null");
+        if (attempt >= maxAttempts || !isRetryable(request, response, error)) {
+            return Optional.empty();
+        }
+        if (Objects.nonNull(response) && RETRY_AFTER_STATUS_CODES.contains(response.statusCode())) {
+            Optional<Duration> retryAfter = HttpHelper.getRetryAfter(response);
+            if (retryAfter.isPresent()) {
+                return retryAfter.get().compareTo(maxRetryAfter) <= 0
+                        ? retryAfter
+                        : Optional.empty();
+            }
+        }
+        double backoff = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() * Math.pow(multiplier, attempt - 1d));
+        return Optional.of(Duration.ofMillis((long) (ThreadLocalRandom.current().nextDouble() * backoff)));
+    }
+
+
+    /**
+     * Records the final outcome of a request in the metrics of this policy.
+     *
+     * @param request the request
+     * @param response the response of the last attempt, or null if the last attempt failed with an error
+     * @param error the error of the last attempt, or null if a response has been received
+     * @param attempts the number of attempts
+     */
+    void recordResult(HttpRequest request, HttpResponse<?> response, Throwable error, int attempts) {
+        metrics.recordRequest(attempts, Objects.isNull(error) && !isRetryable(request, response, null));
+    }
+
+
+    private boolean isRetryable(HttpRequest request, HttpResponse<?> response, Throwable error) {
+        if (Objects.nonNull(error)) {
+            Throwable cause = HttpHelper.unwrap(error);
+            if (!(cause instanceof IOException) || cause instanceof CircuitBreakerOpenException) {
+                return false;
+            }
+            return isRetryable(request.method()) || cause instanceof ConnectException;
+        }
+        return Objects.nonNull(response)
+                && retryableStatusCodes.contains(response.statusCode())
+                && isRetryable(request.method());
+    }
+
+
+    private boolean isRetryable(String method) {
+        return IDEMPOTENT_METHODS.contains(method) || (retryPost && Objects.equals(METHOD_POST, method));
+    }
+
+    public static class Builder {
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        private Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+        private Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+        private double multiplier = DEFAULT_MULTIPLIER;
+        private Duration maxRetryAfter = DEFAULT_MAX_RETRY_AFTER;
+        private Set<Integer> retryableStatusCodes = DEFAULT_RETRYABLE_STATUS_CODES;
+        private boolean retryPost;
+
+        /**
+         * Sets the maximum number of attempts including the first one.
+         *
+         * @param maxAttempts the maximum number of attempts
+         * @return the builder
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+
+        public Builder initialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+
+        public Builder maxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+
+        public Builder multiplier(double multiplier) {
+            this.multiplier = multiplier;
+            return this;
+        }
+
+
+        /**
+         * Sets the maximum delay requested via Retry-After that is honored. Responses requesting a longer delay are
+         * returned without retrying.
+         *
+         * @param maxRetryAfter the maximum delay
+         * @return the builder
+         */
+        public Builder maxRetryAfter(Duration maxRetryAfter) {
+            this.maxRetryAfter = maxRetryAfter;
+            return this;
+        }
+
+
+        public Builder retryableStatusCodes(Set<Integer> retryableStatusCodes) {
+            this.retryableStatusCodes = retryableStatusCodes;
+            return this;
+        }
+
+
+        /**
+         * Enables retries of POST requests. Only enable this if the server handles repeated POST requests safely,
+         * e.g., because a repeated creation of the same entity is rejected with 409 Conflict.
+         *
+         * @param retryPost true to retry POST requests
+         * @return the builder
+         */
+        public Builder retryPost(boolean retryPost) {
+            this.retryPost = retryPost;
+            return this;
+        }
+
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
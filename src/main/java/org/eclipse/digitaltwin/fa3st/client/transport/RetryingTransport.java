@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Transport decorator that retries failed requests according to a {@link RetryPolicy}. Responses that are retried are
+ * discarded; the caller only receives the response of the last attempt, or its error if no response was received.
+ * Asynchronous requests wait for the next attempt without blocking a thread.
+ */
+public class RetryingTransport implements HttpTransport {
+
+    private final HttpTransport delegate;
+    private final RetryPolicy retryPolicy;
+
+    public RetryingTransport(HttpTransport delegate, RetryPolicy retryPolicy) {
+        Ensure.requireNonNull(delegate, "delegate must be non-null");
+        Ensure.requireNonNull(retryPolicy, "retryPolicy must be non-null");
+        this.delegate = delegate;
+        this.retryPolicy = retryPolicy;
+    }
+
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        return sendAsync(request, bodyHandler, 1);
+    }
+
+
+    @Override
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) throws IOException, InterruptedException {
+        for (int attempt = 1;; attempt++) {
+            HttpResponse<T> response = null;
+            IOException error = null;
+            try {
+                response = delegate.send(request, bodyHandler);
+            }
+            catch (IOException e) {
+                error = e;
+            }
+            Optional<Duration> delay = retryPolicy.getRetryDelay(request, response, error, attempt);
+            if (delay.isEmpty()) {
+                retryPolicy.recordResult(request, response, error, attempt);
+                if (error != null) {
+                    throw error;
+                }
+                return response;
+            }
+            HttpHelper.discard(response);
+            Thread.sleep(delay.get().toMillis());
+        }
+    }
+
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+
+    private <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, int attempt) {
+        CompletableFuture<HttpResponse<T>> result;
+        try {
+            result = delegate.sendAsync(request, bodyHandler);
+        }
+        catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result
+                .handle((response, error) -> {
+                    Optional<Duration> delay = retryPolicy.getRetryDelay(request, response, error, attempt);
+                    if (delay.isEmpty()) {
+                        retryPolicy.recordResult(request, response, error, attempt);
+                        return error == null
+                                ? CompletableFuture.completedFuture(response)
+                                : CompletableFuture.<HttpResponse<T>> failedFuture(unwrapCompletion(error));
+                    }
+                    HttpHelper.discard(response);
+                    return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(delay.get().toMillis(), TimeUnit.MILLISECONDS))
+                            .thenCompose(x -> sendAsync(request, bodyHandler, attempt + 1));
+                })
+                .thenCompose(x -> x);
+    }
+
+
+    private static Throwable unwrapCompletion(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+    }
+}
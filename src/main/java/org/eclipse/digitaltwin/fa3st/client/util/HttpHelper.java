@@ -14,9 +14,13 @@
 package org.eclipse.digitaltwin.fa3st.client.util;
 
 import static org.apache.commons.fileupload.FileUploadBase.CONTENT_DISPOSITION;
+import static org.eclipse.digitaltwin.fa3st.client.util.Constants.DEFAULT_CHARSET;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
 import java.net.Authenticator;
 import java.net.PasswordAuthentication;
 import java.net.URI;
@@ -25,8 +29,21 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.security.GeneralSecurityException;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.apache.commons.fileupload.ParameterParser;
@@ -35,10 +52,13 @@ import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntity;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
+import org.eclipse.digitaltwin.fa3st.client.transport.HttpTransport;
+import org.eclipse.digitaltwin.fa3st.client.transport.JdkHttpTransport;
 import org.eclipse.digitaltwin.fa3st.common.model.InMemoryFile;
 import org.eclipse.digitaltwin.fa3st.common.model.TypedInMemoryFile;
 import org.eclipse.digitaltwin.fa3st.common.model.http.HttpMethod;
 import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
 
 
 /**
@@ -53,6 +73,7 @@ public final class HttpHelper {
     private static final String FILE_PARAMETER = "file";
     private static final String FILENAME_PARAMETER = "fileName";
     private static final String DEFAULT_FILENAME = "unknown";
+    private static final Method VIRTUAL_THREAD_EXECUTOR_FACTORY = findVirtualThreadExecutorFactory();
 
     private HttpHelper() {}
 
@@ -63,7 +84,19 @@ public final class HttpHelper {
      * @return the new HTTP client
      */
     public static HttpClient newDefaultClient() {
-        return HttpClient.newHttpClient();
+        return newDefaultClient(false);
+    }
+
+
+    /**
+     * Creates a new default HTTP client.
+     *
+     * @param useVirtualThreads if true, the client executes its tasks on virtual threads, see
+     *            {@link #newVirtualThreadExecutor()}; ignored if the runtime does not support virtual threads
+     * @return the new HTTP client
+     */
+    public static HttpClient newDefaultClient(boolean useVirtualThreads) {
+        return newClientBuilder(useVirtualThreads).build();
     }
 
 
@@ -75,7 +108,21 @@ public final class HttpHelper {
      * @return the new HTTP client
      */
     public static HttpClient newUsernamePasswordClient(String username, String password) {
-        return HttpClient.newBuilder()
+        return newUsernamePasswordClient(username, password, false);
+    }
+
+
+    /**
+     * Creates a new HTTP client with basic username/password authentication.
+     *
+     * @param username the username
+     * @param password the password
+     * @param useVirtualThreads if true, the client executes its tasks on virtual threads, see
+     *            {@link #newVirtualThreadExecutor()}; ignored if the runtime does not support virtual threads
+     * @return the new HTTP client
+     */
+    public static HttpClient newUsernamePasswordClient(String username, String password, boolean useVirtualThreads) {
+        return newClientBuilder(useVirtualThreads)
                 .authenticator(new Authenticator() {
                     @Override
                     protected PasswordAuthentication getPasswordAuthentication() {
@@ -91,6 +138,57 @@ public final class HttpHelper {
      * @return the new HTTP client
      */
     public static HttpClient newTrustAllCertificatesClient() {
+        return newTrustAllCertificatesClient(false);
+    }
+
+
+    /**
+     * Creates a new HTTP client that trusts all certificates (including self-signed ones).
+     *
+     * @param useVirtualThreads if true, the client executes its tasks on virtual threads, see
+     *            {@link #newVirtualThreadExecutor()}; ignored if the runtime does not support virtual threads
+     * @return the new HTTP client
+     */
+    public static HttpClient newTrustAllCertificatesClient(boolean useVirtualThreads) {
+        return newClientBuilder(useVirtualThreads)
+                .sslContext(newTrustAllCertificatesSslContext())
+                .build();
+    }
+
+
+    /**
+     * Creates a new HTTP client combining the options of the other factory methods.
+     *
+     * @param username the username for basic authentication, or null to disable authentication
+     * @param password the password for basic authentication
+     * @param trustAllCertificates if true, all certificates (including self-signed ones) are trusted
+     * @param useVirtualThreads if true, the client executes its tasks on virtual threads, see
+     *            {@link #newVirtualThreadExecutor()}; ignored if the runtime does not support virtual threads
+     * @return the new HTTP client
+     */
+    public static HttpClient newClient(String username, String password, boolean trustAllCertificates, boolean useVirtualThreads) {
+        HttpClient.Builder result = newClientBuilder(useVirtualThreads);
+        if (Objects.nonNull(username)) {
+            result.authenticator(new Authenticator() {
+                @Override
+                protected PasswordAuthentication getPasswordAuthentication() {
+                    return new PasswordAuthentication(username, Objects.nonNull(password) ? password.toCharArray() : new char[0]);
+                }
+            });
+        }
+        if (trustAllCertificates) {
+            result.sslContext(newTrustAllCertificatesSslContext());
+        }
+        return result.build();
+    }
+
+
+    /**
+     * Creates a new SSL context that trusts all certificates (including self-signed ones).
+     *
+     * @return the new SSL context
+     */
+    public static SSLContext newTrustAllCertificatesSslContext() {
         try {
             SSLContext sslContext = SSLContext.getInstance("TLS");
             sslContext.init(null, new TrustManager[] {
@@ -113,9 +211,7 @@ public final class HttpHelper {
                         }
                     }
             }, new java.security.SecureRandom());
-            return HttpClient.newBuilder()
-                    .sslContext(sslContext)
-                    .build();
+            return sslContext;
         }
         catch (GeneralSecurityException e) {
             throw new RuntimeException("failed to create HTTP client that trusts all certificates", e);
@@ -123,6 +219,60 @@ public final class HttpHelper {
     }
 
 
+    /**
+     * Checks whether the current Java runtime supports virtual threads (Java 21 or newer).
+     *
+     * @return true if virtual threads are supported, otherwise false
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR_FACTORY != null;
+    }
+
+
+    /**
+     * Creates a new executor that starts a new virtual thread for each task. Used as executor of an HTTP client, the
+     * client's internal tasks and its callbacks are executed on virtual threads. Blocking calls such as
+     * {@link #send(HttpClient, HttpRequest)} from a virtual thread only park that virtual thread as the client does not
+     * hold any monitors while waiting for the response, i.e., the carrier thread is not pinned. This allows plain
+     * blocking code to perform a large number of concurrent requests.
+     *
+     * @return the new executor
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        if (!isVirtualThreadSupported()) {
+            throw new UnsupportedOperationException(String.format(
+                    "virtual threads are not supported by the current Java runtime (version: %s, required: 21+)",
+                    Runtime.version()));
+        }
+        try {
+            return (ExecutorService) VIRTUAL_THREAD_EXECUTOR_FACTORY.invoke(null);
+        }
+        catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("failed to create virtual thread executor", e);
+        }
+    }
+
+
+    private static HttpClient.Builder newClientBuilder(boolean useVirtualThreads) {
+        HttpClient.Builder result = HttpClient.newBuilder();
+        if (useVirtualThreads && isVirtualThreadSupported()) {
+            result.executor(newVirtualThreadExecutor());
+        }
+        return result;
+    }
+
+
+    private static Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        }
+        catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+
     /**
      * Creates a GET request to the specified URI.
      *
@@ -197,6 +347,25 @@ public final class HttpHelper {
     }
 
 
+    /**
+     * Creates a PUT request to the specified URI uploading a file as multipart/form-data. In contrast to
+     * {@link #createPutFileRequest(URI, TypedInMemoryFile)}, the content of the file is read while sending the request
+     * and not copied into memory.
+     *
+     * @param uri the target URI to send the PUT request to
+     * @param body the multipart body
+     * @return the HttpRequest
+     */
+    public static HttpRequest createPutFileRequest(URI uri, MultipartFileBody body) {
+        Ensure.requireNonNull(body, "body must be non-null");
+        return HttpRequest.newBuilder()
+                .uri(uri)
+                .header(HttpHeaders.CONTENT_TYPE, body.getContentType())
+                .PUT(body.toBodyPublisher())
+                .build();
+    }
+
+
     /**
      * Creates a PATCH request to the specified URI with the provided request body.
      *
@@ -229,18 +398,22 @@ public final class HttpHelper {
      * Handles any IOException or InterruptedException by throwing
      * a ConnectivityException.
      *
-     * @param httpClient the client to use
+     * @param transport the transport to use
      * @param request the HttpRequest to be sent
      * @return the HttpResponse containing the response body as a string
      * @throws ConnectivityException if a connectivity error occurs during the request
      */
-    public static HttpResponse<String> send(HttpClient httpClient, HttpRequest request) throws ConnectivityException {
+    public static HttpResponse<String> send(HttpTransport transport, HttpRequest request) throws ConnectivityException {
         try {
-            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return transport.send(request, HttpResponse.BodyHandlers.ofString());
         }
-        catch (IOException | InterruptedException e) {
+        catch (IOException e) {
             throw new ConnectivityException(e);
         }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectivityException("Request interrupted", e);
+        }
     }
 
 
@@ -249,14 +422,40 @@ public final class HttpHelper {
      * Handles any IOException or InterruptedException by throwing
      * a ConnectivityException.
      *
-     * @param httpClient the client to use
+     * @param transport the transport to use
      * @param request the HttpRequest to be sent
      * @return the HttpResponse containing the response body as a string
      * @throws ConnectivityException if a connectivity error occurs during the request
      */
-    public static HttpResponse<byte[]> sendFileRequest(HttpClient httpClient, HttpRequest request) throws ConnectivityException {
+    public static HttpResponse<byte[]> sendFileRequest(HttpTransport transport, HttpRequest request) throws ConnectivityException {
+        try {
+            return transport.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        }
+        catch (IOException e) {
+            throw new ConnectivityException(e);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectivityException("Request interrupted", e);
+        }
+    }
+
+
+    /**
+     * Sends the provided HttpRequest and returns the HttpResponse as soon as the response headers have been received.
+     * For successful responses (status code 2xx), the body is provided as an InputStream that reads directly from the
+     * connection, i.e., the body is not buffered in memory. The stream must be closed to release the connection. For
+     * all other responses, the body is buffered so that it is available for error reporting.
+     * Handles any IOException or InterruptedException by throwing a ConnectivityException.
+     *
+     * @param transport the transport to use
+     * @param request the HttpRequest to be sent
+     * @return the HttpResponse containing the response body as an InputStream
+     * @throws ConnectivityException if a connectivity error occurs during the request
+     */
+    public static HttpResponse<InputStream> sendStreaming(HttpTransport transport, HttpRequest request) throws ConnectivityException {
         try {
-            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            return transport.send(request, HttpHelper::streamingBodySubscriber);
         }
         catch (IOException e) {
             throw new ConnectivityException(e);
@@ -268,6 +467,251 @@ public final class HttpHelper {
     }
 
 
+    /**
+     * Reads the body of a streamed response completely and returns the response with the body as a string.
+     *
+     * @param response the response with the body as an InputStream
+     * @return the response with the body as a string
+     * @throws ConnectivityException if reading the body fails
+     */
+    public static HttpResponse<String> readBodyAsString(HttpResponse<InputStream> response) throws ConnectivityException {
+        Ensure.requireNonNull(response, "response must be non-null");
+        try (InputStream body = response.body()) {
+            return withBody(response, new String(body.readAllBytes(), DEFAULT_CHARSET));
+        }
+        catch (IOException e) {
+            throw new ConnectivityException(e);
+        }
+    }
+
+
+    /**
+     * Releases the body of a response that is not used anymore, e.g., because the request is retried. Bodies that are
+     * not closeable, e.g., strings or byte arrays, have already been read completely and need no cleanup.
+     *
+     * @param response the response to discard
+     */
+    public static void discard(HttpResponse<?> response) {
+        if (response != null && response.body() instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) response.body()).close();
+            }
+            catch (Exception e) {
+                // nothing to do, the response is not used anymore
+            }
+        }
+    }
+
+
+    /**
+     * Creates a view of the given response with a different body. All other properties are delegated to the original
+     * response.
+     *
+     * @param <T> the type of the new body
+     * @param response the original response
+     * @param body the new body
+     * @return the response with the new body
+     */
+    public static <T> HttpResponse<T> withBody(HttpResponse<?> response, T body) {
+        Ensure.requireNonNull(response, "response must be non-null");
+        return new HttpResponse<>() {
+            @Override
+            public int statusCode() {
+                return response.statusCode();
+            }
+
+
+            @Override
+            public HttpRequest request() {
+                return response.request();
+            }
+
+
+            @Override
+            public Optional<HttpResponse<T>> previousResponse() {
+                return Optional.empty();
+            }
+
+
+            @Override
+            public java.net.http.HttpHeaders headers() {
+                return response.headers();
+            }
+
+
+            @Override
+            public T body() {
+                return body;
+            }
+
+
+            @Override
+            public Optional<SSLSession> sslSession() {
+                return response.sslSession();
+            }
+
+
+            @Override
+            public URI uri() {
+                return response.uri();
+            }
+
+
+            @Override
+            public HttpClient.Version version() {
+                return response.version();
+            }
+        };
+    }
+
+
+    private static HttpResponse.BodySubscriber<InputStream> streamingBodySubscriber(HttpResponse.ResponseInfo responseInfo) {
+        if (responseInfo.statusCode() >= 200 && responseInfo.statusCode() < 300) {
+            return HttpResponse.BodySubscribers.ofInputStream();
+        }
+        return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), ByteArrayInputStream::new);
+    }
+
+
+    /**
+     * Sends the provided HttpRequest asynchronously and returns a future of the HttpResponse containing a string body.
+     * The returned future completes exceptionally with a ConnectivityException if a connectivity error occurs during
+     * the request.
+     *
+     * @param transport the transport to use
+     * @param request the HttpRequest to be sent
+     * @return a future of the HttpResponse containing the response body as a string
+     */
+    public static CompletableFuture<HttpResponse<String>> sendAsync(HttpTransport transport, HttpRequest request) {
+        return sendAsync(transport, request, HttpResponse.BodyHandlers.ofString());
+    }
+
+
+    /**
+     * Sends the provided HttpRequest asynchronously and returns a future of the HttpResponse containing a byte array
+     * body. The returned future completes exceptionally with a ConnectivityException if a connectivity error occurs
+     * during the request.
+     *
+     * @param transport the transport to use
+     * @param request the HttpRequest to be sent
+     * @return a future of the HttpResponse containing the response body as a byte array
+     */
+    public static CompletableFuture<HttpResponse<byte[]>> sendFileRequestAsync(HttpTransport transport, HttpRequest request) {
+        return sendAsync(transport, request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+
+    private static <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpTransport transport, HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        CompletableFuture<HttpResponse<T>> exchange = transport.sendAsync(request, bodyHandler);
+        return propagateCancellation(exchange, exchange.handle((response, error) -> {
+            if (error != null) {
+                throw new CompletionException(new ConnectivityException(unwrap(error)));
+            }
+            return response;
+        }));
+    }
+
+
+    /**
+     * Cancels the given source future when the dependent future is cancelled. Futures derived from another future, e.g.,
+     * via {@link CompletableFuture#thenApply(java.util.function.Function)}, do not forward cancellation to the future
+     * they depend on, i.e., without this, cancelling a derived future leaves the underlying HTTP exchange running.
+     *
+     * @param <T> the result type of the dependent future
+     * @param source the future to cancel
+     * @param dependent the future depending on the source
+     * @return the dependent future
+     */
+    public static <T> CompletableFuture<T> propagateCancellation(CompletableFuture<?> source, CompletableFuture<T> dependent) {
+        dependent.whenComplete((result, error) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+
+    /**
+     * Sends the provided HttpRequest using the given client, see {@link #send(HttpTransport, HttpRequest)}.
+     *
+     * @param httpClient the client to use
+     * @param request the HttpRequest to be sent
+     * @return the HttpResponse containing the response body as a string
+     * @throws ConnectivityException if a connectivity error occurs during the request
+     */
+    public static HttpResponse<String> send(HttpClient httpClient, HttpRequest request) throws ConnectivityException {
+        return send(new JdkHttpTransport(httpClient), request);
+    }
+
+
+    /**
+     * Sends the provided HttpRequest using the given client, see {@link #sendFileRequest(HttpTransport, HttpRequest)}.
+     *
+     * @param httpClient the client to use
+     * @param request the HttpRequest to be sent
+     * @return the HttpResponse containing the response body as a byte array
+     * @throws ConnectivityException if a connectivity error occurs during the request
+     */
+    public static HttpResponse<byte[]> sendFileRequest(HttpClient httpClient, HttpRequest request) throws ConnectivityException {
+        return sendFileRequest(new JdkHttpTransport(httpClient), request);
+    }
+
+
+    /**
+     * Sends the provided HttpRequest using the given client, see {@link #sendStreaming(HttpTransport, HttpRequest)}.
+     *
+     * @param httpClient the client to use
+     * @param request the HttpRequest to be sent
+     * @return the HttpResponse containing the response body as an InputStream
+     * @throws ConnectivityException if a connectivity error occurs during the request
+     */
+    public static HttpResponse<InputStream> sendStreaming(HttpClient httpClient, HttpRequest request) throws ConnectivityException {
+        return sendStreaming(new JdkHttpTransport(httpClient), request);
+    }
+
+
+    /**
+     * Sends the provided HttpRequest asynchronously using the given client, see
+     * {@link #sendAsync(HttpTransport, HttpRequest)}.
+     *
+     * @param httpClient the client to use
+     * @param request the HttpRequest to be sent
+     * @return a future of the HttpResponse containing the response body as a string
+     */
+    public static CompletableFuture<HttpResponse<String>> sendAsync(HttpClient httpClient, HttpRequest request) {
+        return sendAsync(new JdkHttpTransport(httpClient), request);
+    }
+
+
+    /**
+     * Sends the provided HttpRequest asynchronously using the given client, see
+     * {@link #sendFileRequestAsync(HttpTransport, HttpRequest)}.
+     *
+     * @param httpClient the client to use
+     * @param request the HttpRequest to be sent
+     * @return a future of the HttpResponse containing the response body as a byte array
+     */
+    public static CompletableFuture<HttpResponse<byte[]>> sendFileRequestAsync(HttpClient httpClient, HttpRequest request) {
+        return sendFileRequestAsync(new JdkHttpTransport(httpClient), request);
+    }
+
+
+    /**
+     * Unwraps the actual cause from the wrapper exceptions used by {@link CompletableFuture}.
+     *
+     * @param error the error to unwrap
+     * @return the actual cause
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable result = error;
+        while ((result instanceof CompletionException || result instanceof ExecutionException) && result.getCause() != null) {
+            result = result.getCause();
+        }
+        return result;
+    }
+
+
     /**
      * Parses HTTP response to TypedInMemoryFile.
      *
@@ -276,10 +720,83 @@ public final class HttpHelper {
      */
     public static InMemoryFile parseBody(HttpResponse<byte[]> httpResponse) {
         Ensure.requireNonNull(httpResponse, "httpResponse must be non-null");
-        String contentDispositionHeader = httpResponse.headers().firstValue(CONTENT_DISPOSITION).orElse(DEFAULT_FILENAME);
         return new InMemoryFile.Builder()
                 .content(httpResponse.body())
-                .path(extractName(contentDispositionHeader)).build();
+                .path(getFileName(httpResponse)).build();
+    }
+
+
+    /**
+     * Wraps the body of a streamed HTTP response as a {@link StreamingFile} without reading it.
+     *
+     * @param httpResponse the HTTP response with the body as an InputStream
+     * @return the streaming file
+     */
+    public static StreamingFile parseStreamingBody(HttpResponse<InputStream> httpResponse) {
+        Ensure.requireNonNull(httpResponse, "httpResponse must be non-null");
+        return new StreamingFile(
+                getFileName(httpResponse),
+                httpResponse.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null),
+                httpResponse.headers().firstValueAsLong(HttpHeaders.CONTENT_LENGTH).orElse(-1),
+                httpResponse.body());
+    }
+
+
+    /**
+     * Reduces a file name provided by the server to its last path element to prevent writing outside of the target
+     * directory.
+     *
+     * @param fileName the file name provided by the server
+     * @return the sanitized file name
+     */
+    public static String sanitizeFileName(String fileName) {
+        String result = StringHelper.isBlank(fileName)
+                ? DEFAULT_FILENAME
+                : fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1);
+        return StringHelper.isBlank(result) || Objects.equals(result, ".") || Objects.equals(result, "..")
+                ? DEFAULT_FILENAME
+                : result;
+    }
+
+
+    /**
+     * Parses the Retry-After header of an HTTP response, which is either a number of seconds or an HTTP date.
+     *
+     * @param httpResponse the HTTP response
+     * @return the delay requested by the server, or empty if the response does not contain a valid Retry-After header
+     */
+    public static Optional<Duration> getRetryAfter(HttpResponse<?> httpResponse) {
+        Ensure.requireNonNull(httpResponse, "httpResponse must be non-null");
+        Optional<String> value = httpResponse.headers().firstValue(HttpHeaders.RETRY_AFTER).map(String::trim);
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.get()))));
+        }
+        catch (NumberFormatException e) {
+            // not a number of seconds, try HTTP date
+        }
+        try {
+            Duration result = Duration.between(Instant.now(), ZonedDateTime.parse(value.get(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+            return Optional.of(result.isNegative() ? Duration.ZERO : result);
+        }
+        catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+
+    /**
+     * Extracts the file name from the Content-Disposition header of an HTTP response.
+     *
+     * @param httpResponse the HTTP response
+     * @return the file name, or {@code unknown} if the response does not contain a file name
+     */
+    public static String getFileName(HttpResponse<?> httpResponse) {
+        Ensure.requireNonNull(httpResponse, "httpResponse must be non-null");
+        String contentDispositionHeader = httpResponse.headers().firstValue(CONTENT_DISPOSITION).orElse(DEFAULT_FILENAME);
+        return extractName(contentDispositionHeader);
     }
 
 
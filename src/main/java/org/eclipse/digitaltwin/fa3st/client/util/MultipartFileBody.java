@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.util;
+
+import static org.eclipse.digitaltwin.fa3st.client.util.Constants.DEFAULT_CHARSET;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.UUID;
+import org.apache.hc.core5.http.ContentType;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * A multipart/form-data body for uploading a file that is read while sending the request instead of being loaded into
+ * memory. Only the multipart framing is held in memory, the file content is published directly from the given
+ * {@link Path} or {@link FileChannel}.
+ *
+ * <p>The generated payload is identical to the one produced by
+ * {@link org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder} for in-memory files, i.e., it consists of a
+ * text part {@code fileName} containing the file name followed by a binary part {@code file} containing the content.
+ */
+public class MultipartFileBody {
+
+    private static final String CRLF = "\r\n";
+    private static final String DASHES = "--";
+    private static final String BOUNDARY_PREFIX = "fa3st_boundary_";
+    private static final String FILE_PARAMETER = "file";
+    private static final String FILENAME_PARAMETER = "fileName";
+
+    private final String boundary;
+    private final byte[] head;
+    private final BodyPublisher content;
+    private final byte[] tail;
+
+    private MultipartFileBody(String fileName, String contentType, BodyPublisher content) {
+        Ensure.requireNonNull(fileName, "fileName must be non-null");
+        Ensure.requireNonNull(contentType, "contentType must be non-null");
+        this.boundary = BOUNDARY_PREFIX + UUID.randomUUID();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        buffer.writeBytes(header(String.format("form-data; name=\"%s\"", FILENAME_PARAMETER),
+                ContentType.TEXT_PLAIN.withCharset(DEFAULT_CHARSET).toString()));
+        buffer.writeBytes(fileName.getBytes(DEFAULT_CHARSET));
+        buffer.writeBytes(CRLF.getBytes(StandardCharsets.ISO_8859_1));
+        buffer.writeBytes(header(String.format("form-data; name=\"%s\"; filename=\"%s\"", FILE_PARAMETER, escape(fileName)),
+                ContentType.create(contentType).toString()));
+        this.head = buffer.toByteArray();
+        this.content = content;
+        this.tail = (CRLF + DASHES + boundary + DASHES + CRLF).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+
+    /**
+     * Creates a multipart body reading the content from a file.
+     *
+     * @param fileName the file name to send to the server
+     * @param contentType the content type of the file
+     * @param file the file to upload
+     * @return the multipart body
+     * @throws FileNotFoundException if the file does not exist or is not readable
+     */
+    public static MultipartFileBody of(String fileName, String contentType, Path file) throws FileNotFoundException {
+        Ensure.requireNonNull(file, "file must be non-null");
+        return new MultipartFileBody(fileName, contentType, BodyPublishers.ofFile(file));
+    }
+
+
+    /**
+     * Creates a multipart body reading the content from a file channel, starting at the current position of the channel
+     * up to its end. The content is read using positional reads, i.e., the position of the channel is not modified and
+     * the channel is not closed.
+     *
+     * @param fileName the file name to send to the server
+     * @param contentType the content type of the file
+     * @param channel the channel to upload
+     * @return the multipart body
+     * @throws IOException if accessing the channel fails
+     */
+    public static MultipartFileBody of(String fileName, String contentType, FileChannel channel) throws IOException {
+        Ensure.requireNonNull(channel, "channel must be non-null");
+        long start = channel.position();
+        return new MultipartFileBody(
+                fileName,
+                contentType,
+                BodyPublishers.fromPublisher(
+                        BodyPublishers.ofInputStream(() -> new ChannelInputStream(channel, start)),
+                        Math.max(0, channel.size() - start)));
+    }
+
+
+    /**
+     * Returns the value of the Content-Type header to use for this body including the boundary.
+     *
+     * @return the content type
+     */
+    public String getContentType() {
+        return String.format("%s; charset=%s; boundary=%s",
+                ContentType.MULTIPART_FORM_DATA.getMimeType(),
+                StandardCharsets.ISO_8859_1.name(),
+                boundary);
+    }
+
+
+    /**
+     * Returns a body publisher sending the multipart framing and the file content.
+     *
+     * @return the body publisher
+     */
+    public BodyPublisher toBodyPublisher() {
+        return BodyPublishers.concat(
+                BodyPublishers.ofByteArray(head),
+                content,
+                BodyPublishers.ofByteArray(tail));
+    }
+
+
+    private byte[] header(String contentDisposition, String contentType) {
+        return new StringBuilder()
+                .append(DASHES).append(boundary).append(CRLF)
+                .append("Content-Disposition: ").append(contentDisposition).append(CRLF)
+                .append("Content-Type: ").append(contentType).append(CRLF)
+                .append(CRLF)
+                .toString()
+                .getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Input stream reading from a file channel using positional reads. Closing the stream does not close the channel.
+     */
+    private static class ChannelInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private long position;
+
+        private ChannelInputStream(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+
+        @Override
+        public int read() throws IOException {
+            byte[] buffer = new byte[1];
+            return read(buffer, 0, 1) < 0 ? -1 : Byte.toUnsignedInt(buffer[0]);
+        }
+
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            int result = channel.read(ByteBuffer.wrap(buffer, offset, length), position);
+            if (result > 0) {
+                position += result;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.util;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * Repeatedly executes an asynchronous poll until it reports a result, e.g., to wait for the completion of an operation
+ * invoked asynchronously on the server. Polls are triggered by a scheduler and are expected to be non-blocking, so a
+ * single scheduler thread can drive an arbitrary number of concurrent polls. By default, all instances share one
+ * daemon scheduler thread.
+ *
+ * <p>The delay between two polls starts at {@code initialDelay} and is multiplied by {@code multiplier} after each
+ * poll up to {@code maxDelay}. Each delay is reduced by a random amount of up to {@code jitter} to spread the polls of
+ * many concurrent operations. If a poll provides a delay requested by the server, e.g., via a Retry-After header, this
+ * delay is used for the next poll instead.
+ */
+public class OperationPoller {
+
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(10);
+    public static final double DEFAULT_MULTIPLIER = 2;
+    public static final double DEFAULT_JITTER = 0.2;
+    private static final String SCHEDULER_THREAD_NAME = "fa3st-client-poller";
+
+    private final ScheduledExecutorService scheduler;
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final double multiplier;
+    private final double jitter;
+
+    private OperationPoller(Builder builder) {
+        Ensure.requireNonNull(builder.initialDelay, "initialDelay must be non-null");
+        Ensure.requireNonNull(builder.maxDelay, "maxDelay must be non-null");
+        Ensure.require(!builder.initialDelay.isNegative(), "initialDelay must be non-negative");
+        Ensure.require(builder.maxDelay.compareTo(builder.initialDelay) >= 0, "maxDelay must be greater or equal to initialDelay");
+        Ensure.require(builder.multiplier >= 1, "multiplier must be at least 1");
+        Ensure.require(builder.jitter >= 0 && builder.jitter < 1, "jitter must be in range [0, 1)");
+        this.scheduler = Objects.nonNull(builder.scheduler) ? builder.scheduler : SharedScheduler.INSTANCE;
+        this.initialDelay = builder.initialDelay;
+        this.maxDelay = builder.maxDelay;
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+    }
+
+
+    /**
+     * Starts polling. The first poll is executed after the initial delay. Cancelling the returned future stops polling
+     * and cancels the poll in progress, if any.
+     *
+     * @param <T> the type of the result
+     * @param poll the poll to execute, must not block
+     * @return a future that completes with the result of the first poll reporting completion or exceptionally with the
+     *         first error of a poll
+     */
+    public <T> CompletableFuture<T> poll(Supplier<CompletableFuture<Result<T>>> poll) {
+        Ensure.requireNonNull(poll, "poll must be non-null");
+        CompletableFuture<T> result = new CompletableFuture<>();
+        schedule(result, poll, initialDelay, initialDelay);
+        return result;
+    }
+
+
+    private <T> void schedule(CompletableFuture<T> result, Supplier<CompletableFuture<Result<T>>> poll, Duration delay, Duration backoff) {
+        long nanos = delay.toNanos();
+        if (jitter > 0) {
+            nanos -= (long) (nanos * jitter * ThreadLocalRandom.current().nextDouble());
+        }
+        try {
+            scheduler.schedule(() -> execute(result, poll, backoff), nanos, TimeUnit.NANOSECONDS);
+        }
+        catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+
+    private <T> void execute(CompletableFuture<T> result, Supplier<CompletableFuture<Result<T>>> poll, Duration backoff) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<Result<T>> current;
+        try {
+            current = poll.get();
+        }
+        catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        HttpHelper.propagateCancellation(current, result);
+        current.whenComplete((x, e) -> {
+            if (Objects.nonNull(e)) {
+                result.completeExceptionally(HttpHelper.unwrap(e));
+            }
+            else if (x.isCompleted()) {
+                result.complete(x.getValue());
+            }
+            else {
+                Duration nextBackoff = next(backoff);
+                schedule(result, poll, Objects.nonNull(x.getRetryAfter()) ? x.getRetryAfter() : nextBackoff, nextBackoff);
+            }
+        });
+    }
+
+
+    private Duration next(Duration backoff) {
+        double nanos = backoff.toNanos() * multiplier;
+        return nanos >= maxDelay.toNanos()
+                ? maxDelay
+                : Duration.ofNanos((long) nanos);
+    }
+
+    /**
+     * The outcome of a single poll.
+     *
+     * @param <T> the type of the result
+     */
+    public static class Result<T> {
+
+        private final boolean completed;
+        private final T value;
+        private final Duration retryAfter;
+
+        private Result(boolean completed, T value, Duration retryAfter) {
+            this.completed = completed;
+            this.value = value;
+            this.retryAfter = retryAfter;
+        }
+
+
+        /**
+         * Creates a result indicating that polling is finished.
+         *
+         * @param <T> the type of the result
+         * @param value the result value
+         * @return the result
+         */
+        public static <T> Result<T> completed(T value) {
+            return new Result<>(true, value, null);
+        }
+
+
+        /**
+         * Creates a result indicating that polling must continue.
+         *
+         * @param <T> the type of the result
+         * @param retryAfter the delay before the next poll requested by the server, or null to use the backoff delay
+         * @return the result
+         */
+        public static <T> Result<T> pending(Duration retryAfter) {
+            return new Result<>(false, null, retryAfter);
+        }
+
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+
+        public T getValue() {
+            return value;
+        }
+
+
+        public Duration getRetryAfter() {
+            return retryAfter;
+        }
+    }
+
+    public static class Builder {
+        private ScheduledExecutorService scheduler;
+        private Duration initialDelay = DEFAULT_INITIAL_DELAY;
+        private Duration maxDelay = DEFAULT_MAX_DELAY;
+        private double multiplier = DEFAULT_MULTIPLIER;
+        private double jitter = DEFAULT_JITTER;
+
+        /**
+         * Sets the scheduler used to trigger polls. If not set, a scheduler shared by all instances is used.
+         *
+         * @param scheduler the scheduler
+         * @return the builder
+         */
+        public Builder scheduler(ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+
+        public Builder initialDelay(Duration initialDelay) {
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+
+        public Builder multiplier(double multiplier) {
+            this.multiplier = multiplier;
+            return this;
+        }
+
+
+        public Builder jitter(double jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+
+        public OperationPoller build() {
+            return new OperationPoller(this);
+        }
+    }
+
+    /**
+     * Lazily creates the shared scheduler on first use.
+     */
+    private static class SharedScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = create();
+
+        private static ScheduledExecutorService create() {
+            ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(1, x -> {
+                Thread thread = new Thread(x, SCHEDULER_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            result.setRemoveOnCancelPolicy(true);
+            return result;
+        }
+    }
+}
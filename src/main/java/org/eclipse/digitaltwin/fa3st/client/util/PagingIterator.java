@@ -0,0 +1,324 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.util;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
+import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
+import org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
+
+
+/**
+ * Iterator that lazily walks over paged results by following the cursor of each page. Only a single page is held in
+ * memory at a time, i.e., memory consumption is limited by the page size and not by the total number of results.
+ *
+ * <p>By default, pages are fetched sequentially when needed while iterating. Optionally, a prefetch depth can be
+ * provided. In this case, the request for the next page is sent as soon as the cursor of the previous page is known,
+ * i.e., while the caller is still processing the current page, and up to {@code prefetchDepth} pages are fetched
+ * ahead. This overlaps network latency with processing at the cost of holding up to {@code prefetchDepth} additional
+ * pages in memory.
+ *
+ * <p>As {@link Iterator} does not allow checked exceptions, any {@link ClientException} occurring while fetching a page
+ * is wrapped in an {@link UncheckedClientException}. Pages that have been prefetched but are no longer needed can be
+ * discarded by calling {@link #close()}.
+ *
+ * @param <T> the type of the elements
+ */
+public class PagingIterator<T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * The page size used if none is specified explicitly.
+     */
+    public static final long DEFAULT_PAGE_SIZE = 100;
+
+    private final AsyncPageFetcher<T> fetcher;
+    private final long pageSize;
+    private final int prefetchDepth;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<CompletableFuture<Page<T>>> pending = new ArrayDeque<>();
+    private Iterator<T> current = Collections.emptyIterator();
+    private String nextCursor;
+    private boolean started = false;
+    private boolean lastPageRequested = false;
+    private boolean closed = false;
+
+    /**
+     * Creates a new instance that fetches pages sequentially.
+     *
+     * @param fetcher function to fetch a single page
+     * @param pageSize the maximum number of elements per page
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public PagingIterator(PageFetcher<T> fetcher, long pageSize) {
+        this(toAsync(fetcher), pageSize, 0);
+    }
+
+
+    /**
+     * Creates a new instance that prefetches up to {@code prefetchDepth} pages ahead.
+     *
+     * @param fetcher function to asynchronously fetch a single page
+     * @param pageSize the maximum number of elements per page
+     * @param prefetchDepth the maximum number of pages to fetch ahead of the page currently consumed, 0 means pages are
+     *            fetched sequentially when needed
+     * @throws IllegalArgumentException if pageSize is not positive or prefetchDepth is negative
+     */
+    public PagingIterator(AsyncPageFetcher<T> fetcher, long pageSize, int prefetchDepth) {
+        Ensure.requireNonNull(fetcher, "fetcher must be non-null");
+        Ensure.require(pageSize > 0, "pageSize must be positive");
+        Ensure.require(prefetchDepth >= 0, "prefetchDepth must be non-negative");
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.prefetchDepth = prefetchDepth;
+    }
+
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            CompletableFuture<Page<T>> next = nextPage();
+            if (Objects.isNull(next)) {
+                return false;
+            }
+            current = awaitPage(next);
+        }
+        return true;
+    }
+
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+
+    /**
+     * Returns a sequential {@link Stream} backed by this iterator. Consuming the stream consumes this iterator. Closing
+     * the stream closes this iterator.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+                .onClose(this::close);
+    }
+
+
+    /**
+     * Stops iterating and cancels all pending page requests. Cancellation is forwarded to the futures returned by the
+     * fetcher, i.e., HTTP exchanges still in flight are aborted if the underlying transport supports cancellation.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            current = Collections.emptyIterator();
+            pending.forEach(x -> x.cancel(false));
+            pending.clear();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    private CompletableFuture<Page<T>> nextPage() {
+        lock.lock();
+        try {
+            if (closed) {
+                return null;
+            }
+            if (!started) {
+                started = true;
+                request(null);
+            }
+            else if (pending.isEmpty() && !lastPageRequested && Objects.nonNull(nextCursor)) {
+                request(takeNextCursor());
+            }
+            return pending.poll();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    private Iterator<T> awaitPage(CompletableFuture<Page<T>> future) {
+        Page<T> page;
+        try {
+            page = future.join();
+        }
+        catch (CompletionException e) {
+            close();
+            Throwable cause = HttpHelper.unwrap(e);
+            if (cause instanceof ClientException) {
+                throw new UncheckedClientException((ClientException) cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+        lock.lock();
+        try {
+            // consuming a page frees a prefetch slot
+            if (Objects.nonNull(nextCursor) && pending.size() < prefetchDepth) {
+                request(takeNextCursor());
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+        return Objects.nonNull(page.getContent())
+                ? page.getContent().iterator()
+                : Collections.emptyIterator();
+    }
+
+
+    private void request(String cursor) {
+        PagingInfo pagingInfo = PagingInfo.builder()
+                .limit(pageSize)
+                .cursor(cursor)
+                .build();
+        // enqueue before fetching so that fetchers completing synchronously cannot exceed the prefetch depth
+        CompletableFuture<Page<T>> result = new CompletableFuture<>();
+        pending.add(result);
+        CompletableFuture<Page<T>> fetched;
+        try {
+            fetched = fetcher.fetch(pagingInfo);
+        }
+        catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        HttpHelper.propagateCancellation(fetched, result);
+        fetched.whenComplete((page, error) -> {
+            if (Objects.nonNull(error)) {
+                result.completeExceptionally(error);
+                return;
+            }
+            try {
+                onPageReceived(cursor, page);
+                result.complete(page);
+            }
+            catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+
+    private void onPageReceived(String cursor, Page<T> page) {
+        String cursorOfNextPage = Objects.nonNull(page.getMetadata())
+                ? page.getMetadata().getCursor()
+                : null;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (StringHelper.isBlank(cursorOfNextPage) || Objects.equals(cursor, cursorOfNextPage)) {
+                lastPageRequested = true;
+                return;
+            }
+            nextCursor = cursorOfNextPage;
+            if (pending.size() < prefetchDepth) {
+                request(takeNextCursor());
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+
+    private String takeNextCursor() {
+        String result = nextCursor;
+        nextCursor = null;
+        return result;
+    }
+
+
+    private static <T> AsyncPageFetcher<T> toAsync(PageFetcher<T> fetcher) {
+        Ensure.requireNonNull(fetcher, "fetcher must be non-null");
+        return pagingInfo -> {
+            try {
+                return CompletableFuture.completedFuture(fetcher.fetch(pagingInfo));
+            }
+            catch (ConnectivityException | StatusCodeException | RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        };
+    }
+
+    /**
+     * Function to fetch a single page.
+     *
+     * @param <T> the type of the elements
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+
+        /**
+         * Fetches a single page.
+         *
+         * @param pagingInfo the paging information, i.e., the page size and the cursor
+         * @return the page
+         * @throws ConnectivityException if connection to the server fails
+         * @throws StatusCodeException if HTTP request returns invalid status code
+         */
+        Page<T> fetch(PagingInfo pagingInfo) throws ConnectivityException, StatusCodeException;
+    }
+
+    /**
+     * Function to asynchronously fetch a single page.
+     *
+     * @param <T> the type of the elements
+     */
+    @FunctionalInterface
+    public interface AsyncPageFetcher<T> {
+
+        /**
+         * Fetches a single page asynchronously.
+         *
+         * @param pagingInfo the paging information, i.e., the page size and the cursor
+         * @return a future of the page that completes exceptionally with a {@link ConnectivityException} or
+         *         {@link StatusCodeException} if fetching the page fails
+         */
+        CompletableFuture<Page<T>> fetch(PagingInfo pagingInfo);
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eclipse.digitaltwin.fa3st.client.util.PagingIterator.AsyncPageFetcher;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
+
+
+/**
+ * {@link Flow.Publisher} that emits all elements of a paged result by following the cursor of each page. The
+ * publisher is cold, i.e., each subscriber receives all elements starting from the first page.
+ *
+ * <p>Pages are only requested when the downstream demand cannot be satisfied by the elements already received, i.e.,
+ * backpressure is propagated to the cursor walk and at most a single page is buffered per subscriber. Pages are fetched
+ * asynchronously and no thread is blocked while waiting for the server. Errors while fetching a page are signalled via
+ * {@link Flow.Subscriber#onError(Throwable)} with the original
+ * {@link org.eclipse.digitaltwin.fa3st.client.exception.ClientException} as argument.
+ *
+ * @param <T> the type of the elements
+ */
+public class PagingPublisher<T> implements Flow.Publisher<T> {
+
+    private final AsyncPageFetcher<T> fetcher;
+    private final long pageSize;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param fetcher function to asynchronously fetch a single page
+     * @param pageSize the maximum number of elements per page
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public PagingPublisher(AsyncPageFetcher<T> fetcher, long pageSize) {
+        Ensure.requireNonNull(fetcher, "fetcher must be non-null");
+        Ensure.require(pageSize > 0, "pageSize must be positive");
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+    }
+
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Ensure.requireNonNull(subscriber, "subscriber must be non-null");
+        PagingSubscription subscription = new PagingSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private class PagingSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<Page<T>> receivedPage = new AtomicReference<>();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final Deque<T> buffer = new ArrayDeque<>();
+        private volatile boolean cancelled = false;
+        private boolean fetching = false;
+        private boolean lastPageReceived = false;
+        private boolean done = false;
+        private String cursor;
+
+        private PagingSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error.compareAndSet(null, new IllegalArgumentException(
+                        String.format("number of requested elements must be positive (requested: %d)", n)));
+            }
+            else {
+                demand.getAndUpdate(x -> x + n < 0 ? Long.MAX_VALUE : x + n);
+            }
+            drain();
+        }
+
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+
+        /**
+         * Delivers buffered elements and requests the next page if needed. All signals to the subscriber are issued
+         * from within this loop, which is entered by at most one thread at a time.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!done) {
+                    drainOnce();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+
+        private void drainOnce() {
+            if (cancelled) {
+                terminate();
+                return;
+            }
+            Throwable currentError = error.get();
+            if (Objects.nonNull(currentError)) {
+                terminate();
+                subscriber.onError(currentError);
+                return;
+            }
+            Page<T> page = receivedPage.getAndSet(null);
+            if (Objects.nonNull(page)) {
+                onPageReceived(page);
+            }
+            while (!buffer.isEmpty() && demand.get() > 0 && !cancelled) {
+                subscriber.onNext(buffer.poll());
+                demand.getAndUpdate(x -> x == Long.MAX_VALUE ? x : x - 1);
+            }
+            if (cancelled) {
+                terminate();
+                return;
+            }
+            if (buffer.isEmpty() && lastPageReceived) {
+                terminate();
+                subscriber.onComplete();
+                return;
+            }
+            if (buffer.isEmpty() && demand.get() > 0 && !fetching) {
+                fetchNextPage();
+            }
+        }
+
+
+        private void onPageReceived(Page<T> page) {
+            fetching = false;
+            if (Objects.nonNull(page.getContent())) {
+                page.getContent().stream()
+                        .filter(Objects::nonNull)
+                        .forEach(buffer::add);
+            }
+            String nextCursor = Objects.nonNull(page.getMetadata())
+                    ? page.getMetadata().getCursor()
+                    : null;
+            lastPageReceived = StringHelper.isBlank(nextCursor) || Objects.equals(cursor, nextCursor);
+            cursor = nextCursor;
+        }
+
+
+        private void fetchNextPage() {
+            fetching = true;
+            PagingInfo pagingInfo = PagingInfo.builder()
+                    .limit(pageSize)
+                    .cursor(cursor)
+                    .build();
+            fetcher.fetch(pagingInfo).whenComplete((page, e) -> {
+                if (Objects.nonNull(e)) {
+                    error.compareAndSet(null, HttpHelper.unwrap(e));
+                }
+                else {
+                    receivedPage.set(page);
+                }
+                drain();
+            });
+        }
+
+
+        private void terminate() {
+            done = true;
+            buffer.clear();
+        }
+    }
+}
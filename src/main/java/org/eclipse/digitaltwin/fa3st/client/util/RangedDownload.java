@@ -0,0 +1,470 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
+import org.eclipse.digitaltwin.fa3st.client.exception.StatusCodeException;
+import org.eclipse.digitaltwin.fa3st.client.transport.HttpTransport;
+import org.eclipse.digitaltwin.fa3st.client.transport.JdkHttpTransport;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+import org.eclipse.digitaltwin.fa3st.common.util.StringHelper;
+
+
+/**
+ * Downloads a file using HTTP range requests. The file is split into ranges of fixed size which are downloaded in
+ * parallel and written into a pre-allocated temporary file ({@code <target>.part}) using positional writes. The
+ * completed ranges are recorded in a sidecar file ({@code <target>.part.state}) so that an interrupted download resumes
+ * with the missing ranges when executed again for the same target. Once all ranges are completed, the temporary file
+ * is moved to the target and the sidecar file is deleted.
+ *
+ * <p>Resuming is only done if the size of the file and its validator (ETag or Last-Modified header) are unchanged.
+ * Ranged requests are sent with an If-Range header so that a file modified on the server during the download is
+ * detected and the download is restarted on the next execution.
+ *
+ * <p>If the server does not support range requests, i.e., answers the first ranged request with 200 instead of 206, or
+ * does not report the size of the file, the file is downloaded in a single request.
+ */
+public class RangedDownload {
+
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final long DEFAULT_RANGE_SIZE = 8L * 1024 * 1024;
+    private static final String PART_SUFFIX = ".part";
+    private static final String STATE_SUFFIX = ".part.state";
+    private static final String STATE_LENGTH = "length";
+    private static final String STATE_RANGE_SIZE = "rangeSize";
+    private static final String STATE_VALIDATOR = "validator";
+    private static final String STATE_COMPLETED = "completed";
+    private static final String HEADER_RANGE = "Range";
+    private static final String HEADER_IF_RANGE = "If-Range";
+    private static final String HEADER_CONTENT_RANGE = "Content-Range";
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("bytes\\s+(\\d+)-(\\d+)/(\\d+|\\*)");
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_PARTIAL_CONTENT = 206;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final HttpTransport transport;
+    private final URI uri;
+    private final Path target;
+    private final int parallelism;
+    private final long rangeSize;
+    private final ErrorHandler errorHandler;
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final BitSet completed = new BitSet();
+    private Path file;
+    private Path partFile;
+    private Path stateFile;
+    private long length;
+    private String validator;
+
+    private RangedDownload(Builder builder) {
+        Ensure.requireNonNull(builder.transport, "transport must be non-null");
+        Ensure.requireNonNull(builder.uri, "uri must be non-null");
+        Ensure.requireNonNull(builder.target, "target must be non-null");
+        Ensure.requireNonNull(builder.errorHandler, "errorHandler must be non-null");
+        Ensure.require(builder.parallelism > 0, "parallelism must be positive");
+        Ensure.require(builder.rangeSize > 0, "rangeSize must be positive");
+        this.transport = builder.transport;
+        this.uri = builder.uri;
+        this.target = builder.target;
+        this.parallelism = builder.parallelism;
+        this.rangeSize = builder.rangeSize;
+        this.errorHandler = builder.errorHandler;
+    }
+
+
+    /**
+     * Executes the download, resuming a previously interrupted download of the same target if possible.
+     *
+     * @return the file that has been written
+     * @throws ConnectivityException if connection to the server fails, the server does not respond as expected or
+     *             writing the file fails
+     * @throws StatusCodeException if the server responds with an error
+     */
+    public Path execute() throws ConnectivityException, StatusCodeException {
+        HttpResponse<InputStream> probe = HttpHelper.sendStreaming(transport, createRangeRequest(0, rangeSize - 1, null));
+        try (InputStream body = probe.body()) {
+            if (probe.statusCode() == STATUS_OK) {
+                resolveFiles(probe);
+                return writeCompletely(body);
+            }
+            if (probe.statusCode() != STATUS_PARTIAL_CONTENT) {
+                errorHandler.handle(HttpHelper.readBodyAsString(probe));
+                throw new ConnectivityException(String.format("unexpected HTTP status code %d", probe.statusCode()));
+            }
+            Optional<long[]> range = parseContentRange(probe);
+            if (range.isEmpty() || range.get()[0] != 0 || range.get()[2] < 0) {
+                body.close();
+                return downloadCompletely();
+            }
+            resolveFiles(probe);
+            length = range.get()[2];
+            validator = getValidator(probe).orElse("");
+            loadState();
+            if (completed.get(0)) {
+                body.close();
+                return downloadRanges(null);
+            }
+            return downloadRanges(body);
+        }
+        catch (IOException e) {
+            throw new ConnectivityException(String.format("failed to download file to '%s'", target), e);
+        }
+    }
+
+
+    private Path downloadCompletely() throws ConnectivityException, StatusCodeException, IOException {
+        HttpResponse<InputStream> response = HttpHelper.sendStreaming(transport, HttpHelper.createGetRequest(uri));
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != STATUS_OK) {
+                errorHandler.handle(HttpHelper.readBodyAsString(response));
+                throw new ConnectivityException(String.format("unexpected HTTP status code %d", response.statusCode()));
+            }
+            resolveFiles(response);
+            return writeCompletely(body);
+        }
+    }
+
+
+    private Path writeCompletely(InputStream body) throws IOException {
+        deleteState();
+        try (OutputStream output = Files.newOutputStream(partFile)) {
+            body.transferTo(output);
+        }
+        return complete();
+    }
+
+
+    private Path downloadRanges(InputStream firstRange) throws ConnectivityException, StatusCodeException, IOException {
+        int rangeCount = (int) ((length + rangeSize - 1) / rangeSize);
+        try (RandomAccessFile data = new RandomAccessFile(partFile.toFile(), "rw")) {
+            if (data.length() != length) {
+                data.setLength(length);
+            }
+            FileChannel channel = data.getChannel();
+            AtomicReference<Exception> failure = new AtomicReference<>();
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, rangeCount - completed.cardinality())));
+            List<Future<?>> tasks = new ArrayList<>();
+            try {
+                for (int i = 0; i < rangeCount; i++) {
+                    if (completed.get(i)) {
+                        continue;
+                    }
+                    int index = i;
+                    InputStream prefetched = index == 0 ? firstRange : null;
+                    tasks.add(executor.submit(() -> {
+                        if (Objects.nonNull(failure.get())) {
+                            return;
+                        }
+                        try {
+                            downloadRange(channel, index, prefetched);
+                        }
+                        catch (ClientException | IOException | RuntimeException e) {
+                            failure.compareAndSet(null, e);
+                        }
+                    }));
+                }
+                executor.shutdown();
+                if (!executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+                    throw new ConnectivityException("download did not terminate");
+                }
+            }
+            catch (InterruptedException e) {
+                tasks.forEach(x -> x.cancel(true));
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new ConnectivityException("download interrupted", e);
+            }
+            rethrow(failure.get());
+            channel.force(false);
+        }
+        return complete();
+    }
+
+
+    private void downloadRange(FileChannel channel, int index, InputStream prefetched) throws ConnectivityException, StatusCodeException, IOException {
+        long first = index * rangeSize;
+        long last = Math.min(length, first + rangeSize) - 1;
+        if (Objects.nonNull(prefetched)) {
+            write(channel, prefetched, first, last);
+        }
+        else {
+            HttpResponse<InputStream> response = HttpHelper.sendStreaming(transport, createRangeRequest(first, last, validator));
+            try (InputStream body = response.body()) {
+                if (response.statusCode() == STATUS_OK) {
+                    throw new ConnectivityException("file has been modified on the server during download, download must be restarted");
+                }
+                if (response.statusCode() != STATUS_PARTIAL_CONTENT) {
+                    errorHandler.handle(HttpHelper.readBodyAsString(response));
+                    throw new ConnectivityException(String.format("unexpected HTTP status code %d", response.statusCode()));
+                }
+                Optional<long[]> range = parseContentRange(response);
+                if (range.isEmpty() || range.get()[0] != first || range.get()[1] != last) {
+                    throw new ConnectivityException(String.format("server returned unexpected range (requested: %d-%d)", first, last));
+                }
+                write(channel, body, first, last);
+            }
+        }
+        markCompleted(index);
+    }
+
+
+    private static void write(FileChannel channel, InputStream input, long first, long last) throws IOException, ConnectivityException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long position = first;
+        int read;
+        while (position <= last && (read = input.read(buffer, 0, (int) Math.min(buffer.length, last - position + 1))) >= 0) {
+            ByteBuffer data = ByteBuffer.wrap(buffer, 0, read);
+            while (data.hasRemaining()) {
+                position += channel.write(data, position);
+            }
+        }
+        if (position != last + 1) {
+            throw new ConnectivityException(String.format("incomplete range received (expected: %d-%d, received until: %d)", first, last, position - 1));
+        }
+    }
+
+
+    private HttpRequest createRangeRequest(long first, long last, String ifRange) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(uri)
+                .header(HEADER_RANGE, String.format("bytes=%d-%d", first, last))
+                .GET();
+        if (!StringHelper.isBlank(ifRange)) {
+            builder.header(HEADER_IF_RANGE, ifRange);
+        }
+        return builder.build();
+    }
+
+
+    private static Optional<long[]> parseContentRange(HttpResponse<?> response) {
+        return response.headers().firstValue(HEADER_CONTENT_RANGE)
+                .map(CONTENT_RANGE_PATTERN::matcher)
+                .filter(Matcher::matches)
+                .map(x -> new long[] {
+                        Long.parseLong(x.group(1)),
+                        Long.parseLong(x.group(2)),
+                        Objects.equals(x.group(3), "*") ? -1 : Long.parseLong(x.group(3))
+                });
+    }
+
+
+    private static Optional<String> getValidator(HttpResponse<?> response) {
+        Optional<String> etag = response.headers().firstValue(HttpHeaders.ETAG);
+        // weak ETags must not be used in If-Range
+        if (etag.isPresent() && !etag.get().startsWith("W/")) {
+            return etag;
+        }
+        return response.headers().firstValue(HttpHeaders.LAST_MODIFIED);
+    }
+
+
+    private void resolveFiles(HttpResponse<?> response) {
+        file = Files.isDirectory(target)
+                ? target.resolve(HttpHelper.sanitizeFileName(HttpHelper.getFileName(response)))
+                : target;
+        partFile = file.resolveSibling(file.getFileName() + PART_SUFFIX);
+        stateFile = file.resolveSibling(file.getFileName() + STATE_SUFFIX);
+    }
+
+
+    private void loadState() throws IOException {
+        if (!Files.exists(stateFile) || !Files.exists(partFile)) {
+            deleteState();
+            return;
+        }
+        Properties state = new Properties();
+        try (InputStream input = Files.newInputStream(stateFile)) {
+            state.load(input);
+        }
+        if (!Objects.equals(Long.toString(length), state.getProperty(STATE_LENGTH))
+                || !Objects.equals(Long.toString(rangeSize), state.getProperty(STATE_RANGE_SIZE))
+                || !Objects.equals(validator, state.getProperty(STATE_VALIDATOR))) {
+            deleteState();
+            return;
+        }
+        for (String index: state.getProperty(STATE_COMPLETED, "").split(",")) {
+            if (!index.isBlank()) {
+                completed.set(Integer.parseInt(index.trim()));
+            }
+        }
+    }
+
+
+    private void markCompleted(int index) throws IOException {
+        stateLock.lock();
+        try {
+            completed.set(index);
+            Properties state = new Properties();
+            state.setProperty(STATE_LENGTH, Long.toString(length));
+            state.setProperty(STATE_RANGE_SIZE, Long.toString(rangeSize));
+            state.setProperty(STATE_VALIDATOR, validator);
+            state.setProperty(STATE_COMPLETED, completed.stream()
+                    .mapToObj(Integer::toString)
+                    .collect(Collectors.joining(",")));
+            Path temp = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+            try (OutputStream output = Files.newOutputStream(temp)) {
+                state.store(output, null);
+            }
+            move(temp, stateFile);
+        }
+        finally {
+            stateLock.unlock();
+        }
+    }
+
+
+    private void deleteState() throws IOException {
+        completed.clear();
+        Files.deleteIfExists(stateFile);
+        Files.deleteIfExists(partFile);
+    }
+
+
+    private Path complete() throws IOException {
+        move(partFile, file);
+        Files.deleteIfExists(stateFile);
+        return file;
+    }
+
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+
+    private static void rethrow(Exception e) throws ConnectivityException, StatusCodeException, IOException {
+        if (Objects.isNull(e)) {
+            return;
+        }
+        if (e instanceof ConnectivityException) {
+            throw (ConnectivityException) e;
+        }
+        if (e instanceof StatusCodeException) {
+            throw (StatusCodeException) e;
+        }
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        }
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        throw new ConnectivityException(e);
+    }
+
+    /**
+     * Handles responses with unexpected status codes, typically by throwing the matching {@link StatusCodeException}.
+     */
+    @FunctionalInterface
+    public interface ErrorHandler {
+
+        /**
+         * Handles a response with an unexpected status code.
+         *
+         * @param response the response with the body as string
+         * @throws StatusCodeException the exception matching the status code
+         */
+        public void handle(HttpResponse<String> response) throws StatusCodeException;
+    }
+
+    public static class Builder {
+        private HttpTransport transport;
+        private URI uri;
+        private Path target;
+        private int parallelism = DEFAULT_PARALLELISM;
+        private long rangeSize = DEFAULT_RANGE_SIZE;
+        private ErrorHandler errorHandler;
+
+        public Builder transport(HttpTransport transport) {
+            this.transport = transport;
+            return this;
+        }
+
+
+        public Builder httpClient(HttpClient httpClient) {
+            this.transport = new JdkHttpTransport(httpClient);
+            return this;
+        }
+
+
+        public Builder uri(URI uri) {
+            this.uri = uri;
+            return this;
+        }
+
+
+        public Builder target(Path target) {
+            this.target = target;
+            return this;
+        }
+
+
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+
+        public Builder rangeSize(long rangeSize) {
+            this.rangeSize = rangeSize;
+            return this;
+        }
+
+
+        public Builder errorHandler(ErrorHandler errorHandler) {
+            this.errorHandler = errorHandler;
+            return this;
+        }
+
+
+        public RangedDownload build() {
+            return new RangedDownload(this);
+        }
+    }
+}
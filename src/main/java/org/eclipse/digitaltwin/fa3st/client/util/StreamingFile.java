@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * A file that is read directly from the connection instead of being loaded into memory. In contrast to
+ * {@link org.eclipse.digitaltwin.fa3st.common.model.InMemoryFile}, the content is provided as an {@link InputStream},
+ * i.e., files of arbitrary size can be processed in constant memory.
+ *
+ * <p>A streaming file holds an open connection to the server and must be closed after use, e.g., by using a
+ * try-with-resources statement.
+ */
+public class StreamingFile implements AutoCloseable {
+
+    private final String name;
+    private final String contentType;
+    private final long contentLength;
+    private final InputStream content;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param name the name of the file
+     * @param contentType the content type of the file, may be null if unknown
+     * @param contentLength the length of the content in bytes, -1 if unknown
+     * @param content the content
+     */
+    public StreamingFile(String name, String contentType, long contentLength, InputStream content) {
+        Ensure.requireNonNull(content, "content must be non-null");
+        this.name = name;
+        this.contentType = contentType;
+        this.contentLength = contentLength;
+        this.content = content;
+    }
+
+
+    /**
+     * Returns the name of the file as provided by the server via the Content-Disposition header.
+     *
+     * @return the name of the file
+     */
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * Returns the content type of the file.
+     *
+     * @return the content type of the file, or null if unknown
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+
+    /**
+     * Returns the length of the content in bytes.
+     *
+     * @return the length of the content in bytes, or -1 if unknown
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+
+    /**
+     * Returns the content of the file. The content can only be read once.
+     *
+     * @return the content of the file
+     */
+    public InputStream getContent() {
+        return content;
+    }
+
+
+    /**
+     * Writes the content to the given output stream and closes this file afterwards. The output stream is not closed.
+     *
+     * @param output the output stream to write to
+     * @return the number of bytes written
+     * @throws IOException if reading the content or writing to the output stream fails
+     */
+    public long transferTo(OutputStream output) throws IOException {
+        Ensure.requireNonNull(output, "output must be non-null");
+        try (InputStream input = content) {
+            return input.transferTo(output);
+        }
+    }
+
+
+    /**
+     * Writes the content to the given file and closes this file afterwards. If the file already exists, it is
+     * replaced.
+     *
+     * @param target the file to write to
+     * @return the number of bytes written
+     * @throws IOException if reading the content or writing to the file fails
+     */
+    public long transferTo(Path target) throws IOException {
+        Ensure.requireNonNull(target, "target must be non-null");
+        try (InputStream input = content) {
+            return Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+
+    /**
+     * Closes the underlying connection.
+     *
+     * @throws IOException if closing the connection fails
+     */
+    @Override
+    public void close() throws IOException {
+        content.close();
+    }
+}
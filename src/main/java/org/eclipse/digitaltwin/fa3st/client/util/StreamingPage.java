@@ -0,0 +1,257 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
+import org.eclipse.digitaltwin.fa3st.client.exception.InvalidPayloadException;
+import org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.DeserializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiDeserializer;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingMetadata;
+import org.eclipse.digitaltwin.fa3st.common.util.Ensure;
+
+
+/**
+ * A page of results that is parsed incrementally while being read from the network. Instead of buffering the whole
+ * response and deserializing it at once, the elements of the {@code result} array are parsed one at a time when
+ * requested, i.e., memory consumption is roughly limited to a single element regardless of the size of the page.
+ *
+ * <p>The paging metadata is available via {@link #getMetadata()} as soon as it has been parsed. As the JSON
+ * representation does not guarantee that {@code paging_metadata} precedes {@code result}, it may only be available
+ * after all elements have been consumed.
+ *
+ * <p>A streaming page holds an open connection to the server and must be closed after use, e.g., by using a
+ * try-with-resources statement. It is closed automatically once all elements have been consumed. Errors while reading
+ * from the connection are thrown as {@link UncheckedClientException} wrapping a {@link ConnectivityException}, errors
+ * while parsing the payload as {@link InvalidPayloadException}.
+ *
+ * @param <T> the type of the elements
+ */
+public class StreamingPage<T> implements Iterator<T>, AutoCloseable {
+
+    private static final JsonFactory JSON_FACTORY = new MappingJsonFactory();
+    private static final String FIELD_RESULT = "result";
+    private static final String FIELD_PAGING_METADATA = "paging_metadata";
+    private static final String FIELD_CURSOR = "cursor";
+
+    private final JsonParser parser;
+    private final JsonApiDeserializer deserializer;
+    private final Class<T> elementType;
+    private final StringWriter buffer = new StringWriter();
+    private PagingMetadata metadata;
+    private boolean started = false;
+    private boolean inResult = false;
+    private boolean finished = false;
+    private T next;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param input the input stream containing the JSON serialization of a page
+     * @param deserializer the deserializer to use for the elements
+     * @param elementType the type of the elements
+     * @throws InvalidPayloadException if the input cannot be parsed
+     */
+    public StreamingPage(InputStream input, JsonApiDeserializer deserializer, Class<T> elementType) {
+        Ensure.requireNonNull(input, "input must be non-null");
+        Ensure.requireNonNull(deserializer, "deserializer must be non-null");
+        Ensure.requireNonNull(elementType, "elementType must be non-null");
+        this.deserializer = deserializer;
+        this.elementType = elementType;
+        try {
+            this.parser = JSON_FACTORY.createParser(input);
+        }
+        catch (IOException e) {
+            throw new InvalidPayloadException("failed to parse page", e);
+        }
+    }
+
+
+    /**
+     * Returns the paging metadata of this page.
+     *
+     * @return the paging metadata, {@link PagingMetadata#EMPTY} if the page does not contain any, or null if it has
+     *         not been parsed yet
+     */
+    public PagingMetadata getMetadata() {
+        if (Objects.isNull(metadata) && finished) {
+            return PagingMetadata.EMPTY;
+        }
+        return metadata;
+    }
+
+
+    /**
+     * Returns the cursor pointing to the next page.
+     *
+     * @return the cursor pointing to the next page, or null if there is no next page or the paging metadata has not
+     *         been parsed yet
+     */
+    public String getCursor() {
+        return Objects.nonNull(getMetadata())
+                ? getMetadata().getCursor()
+                : null;
+    }
+
+
+    @Override
+    public boolean hasNext() {
+        if (Objects.isNull(next) && !finished) {
+            next = advance();
+        }
+        return Objects.nonNull(next);
+    }
+
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T result = next;
+        next = null;
+        return result;
+    }
+
+
+    /**
+     * Returns a sequential {@link Stream} backed by this page. Consuming the stream consumes this page. Closing the
+     * stream closes this page.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+                .onClose(this::close);
+    }
+
+
+    /**
+     * Closes the underlying connection. Elements that have not been consumed yet are discarded.
+     */
+    @Override
+    public void close() {
+        finished = true;
+        next = null;
+        try {
+            parser.close();
+        }
+        catch (IOException e) {
+            throw new UncheckedClientException(new ConnectivityException(e));
+        }
+    }
+
+
+    private T advance() {
+        try {
+            if (!started) {
+                started = true;
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new InvalidPayloadException(new IllegalArgumentException("page must be a JSON object"));
+                }
+            }
+            while (true) {
+                JsonToken token = parser.nextToken();
+                if (Objects.isNull(token)) {
+                    throw new JsonEOFException(parser, null, "unexpected end of page");
+                }
+                if (inResult) {
+                    if (token == JsonToken.END_ARRAY) {
+                        inResult = false;
+                        continue;
+                    }
+                    if (token == JsonToken.VALUE_NULL) {
+                        continue;
+                    }
+                    return readElement();
+                }
+                if (token == JsonToken.END_OBJECT) {
+                    close();
+                    return null;
+                }
+                String fieldName = parser.currentName();
+                token = parser.nextToken();
+                if (Objects.equals(FIELD_RESULT, fieldName) && token == JsonToken.START_ARRAY) {
+                    inResult = true;
+                }
+                else if (Objects.equals(FIELD_PAGING_METADATA, fieldName) && token == JsonToken.START_OBJECT) {
+                    metadata = readMetadata();
+                }
+                else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        catch (JsonProcessingException | DeserializationException e) {
+            closeQuietly();
+            throw new InvalidPayloadException("failed to parse page", e);
+        }
+        catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedClientException(new ConnectivityException(e));
+        }
+    }
+
+
+    private PagingMetadata readMetadata() throws IOException {
+        JsonNode node = parser.readValueAsTree();
+        if (Objects.isNull(node)) {
+            throw new JsonEOFException(parser, null, "unexpected end of paging metadata");
+        }
+        return PagingMetadata.builder()
+                .cursor(node.path(FIELD_CURSOR).asText(null))
+                .build();
+    }
+
+
+    private void closeQuietly() {
+        try {
+            close();
+        }
+        catch (UncheckedClientException e) {
+            // ignore as there already is an error to report
+        }
+    }
+
+
+    private T readElement() throws IOException, DeserializationException {
+        // copy the tokens of the element as they are read instead of building an intermediate tree as the
+        // deserializer only accepts serialized input
+        buffer.getBuffer().setLength(0);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return deserializer.read(buffer.toString(), elementType);
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newSubmodel;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.fa3st.client.auth.BasicAuthenticationProvider;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.transport.HttpTransport;
+import org.eclipse.digitaltwin.fa3st.client.transport.JdkHttpTransport;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class ClientSessionTest {
+
+    private static final ApiSerializer serializer = new JsonApiSerializer();
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    @Test
+    public void testInterfacesUseSessionTransport() throws SerializationException, ClientException, UnsupportedModifierException {
+        AssetAdministrationShell aas = newAAS();
+        Submodel submodel = newSubmodel();
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(aas.getId())))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(aas))));
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels/" + EncodingHelper.base64UrlEncode(submodel.getId())))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(submodel))));
+        CountingTransport transport = new CountingTransport();
+        URI endpoint = URI.create(server.url("/api/v3.0"));
+        try (ClientSession session = new ClientSession.Builder()
+                .transport(transport)
+                .build()) {
+            assertEquals(aas, session.getAASRepositoryInterface(endpoint).getAASInterface(aas.getId()).get());
+            assertEquals(submodel, session.getSubmodelRepositoryInterface(endpoint).getSubmodelInterface(submodel.getId()).get());
+            assertEquals(submodel, session.withCredentials("user", "password")
+                    .getSubmodelRepositoryInterface(endpoint)
+                    .getSubmodelInterface(submodel.getId())
+                    .get());
+        }
+        assertEquals(3, transport.requests.get());
+    }
+
+
+    @Test
+    public void testCloseClosesTransport() {
+        CountingTransport transport = new CountingTransport();
+        ClientSession session = new ClientSession.Builder()
+                .transport(transport)
+                .build();
+        session.withCredentials("user", "password").close();
+        assertFalse(transport.closed.get());
+        session.close();
+        assertTrue(transport.closed.get());
+    }
+
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testHttpClientOnlyAvailableForJdkTransport() {
+        HttpClient httpClient = HttpHelper.newDefaultClient();
+        try (ClientSession session = new ClientSession.Builder()
+                .httpClient(httpClient)
+                .build()) {
+            assertSame(httpClient, session.getHttpClient());
+            assertSame(httpClient, session.withCredentials("user", "password").getHttpClient());
+        }
+        try (ClientSession session = new ClientSession.Builder()
+                .transport(new CountingTransport())
+                .build()) {
+            assertNull(session.getHttpClient());
+        }
+    }
+
+
+    @Test
+    public void testSessionViewsWithDifferentCredentials() throws SerializationException, ClientException, UnsupportedModifierException {
+        AssetAdministrationShell aas1 = newAAS();
+        AssetAdministrationShell aas2 = newAAS();
+        aas2.setIdShort("tenant2AAS");
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(aas1.getId());
+        server.stubFor(get(urlPathEqualTo(path))
+                .withHeader(HttpHeaders.AUTHORIZATION, equalTo("Basic dGVuYW50MTpwYXNzd29yZDE="))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(aas1))));
+        server.stubFor(get(urlPathEqualTo(path))
+                .withHeader(HttpHeaders.AUTHORIZATION, equalTo("Basic dGVuYW50MjpwYXNzd29yZDI="))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(aas2))));
+        URI endpoint = URI.create(server.url("/example/api/v3.0"));
+        ClientSession session = new ClientSession.Builder().build();
+        ClientSession tenant1 = session.withCredentials("tenant1", "password1");
+        ClientSession tenant2 = session.withCredentials("tenant2", "password2");
+
+        assertEquals(aas1, tenant1.getAASRepositoryInterface(endpoint).getAASInterface(aas1.getId()).get());
+        assertEquals(aas2, tenant2.getAASRepositoryInterface(endpoint).getAASInterface(aas1.getId()).get());
+        assertSame(session.getSerializer(), tenant1.getSerializer());
+        assertSame(session.getDeserializer(), tenant2.getDeserializer());
+    }
+
+
+    @Test
+    public void testViewAuthentication() throws IOException, InterruptedException {
+        server.stubFor(get(urlPathEqualTo("/test"))
+                .willReturn(aResponse().withStatus(200)));
+        URI uri = URI.create(server.url("/test"));
+        try (ClientSession session = new ClientSession.Builder()
+                .authentication(new BasicAuthenticationProvider("user", "password"))
+                .build()) {
+            ClientSession anonymous = session.withAuthentication(null);
+            ClientSession tenant = session.withCredentials("tenant", "password");
+            assertNull(anonymous.getAuthenticationProvider());
+            assertEquals(new BasicAuthenticationProvider("tenant", "password"), tenant.getAuthenticationProvider());
+            for (ClientSession view: List.of(session, anonymous, tenant)) {
+                view.getTransport().send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding());
+            }
+        }
+        server.verify(getRequestedFor(urlPathEqualTo("/test")).withHeader(HttpHeaders.AUTHORIZATION, equalTo("Basic dXNlcjpwYXNzd29yZA==")));
+        server.verify(getRequestedFor(urlPathEqualTo("/test")).withHeader(HttpHeaders.AUTHORIZATION, equalTo("Basic dGVuYW50OnBhc3N3b3Jk")));
+        server.verify(1, getRequestedFor(urlPathEqualTo("/test")).withHeader(HttpHeaders.AUTHORIZATION, absent()));
+    }
+
+    private static class CountingTransport implements HttpTransport {
+
+        private final HttpTransport delegate = new JdkHttpTransport(HttpHelper.newDefaultClient());
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            requests.incrementAndGet();
+            return delegate.sendAsync(request, bodyHandler);
+        }
+
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.Before;
+import org.junit.Test;
+
+
+public class BearerTokenProviderTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    private MutableClock clock;
+    private List<CompletableFuture<AccessToken>> fetches;
+    private BearerTokenProvider provider;
+
+    @Before
+    public void setup() {
+        clock = new MutableClock(START);
+        fetches = new ArrayList<>();
+        provider = new BearerTokenProvider.Builder()
+                .tokenSource(() -> {
+                    CompletableFuture<AccessToken> result = new CompletableFuture<>();
+                    fetches.add(result);
+                    return result;
+                })
+                .refreshAhead(Duration.ofSeconds(30))
+                .clock(clock)
+                .build();
+    }
+
+
+    @Test
+    public void testConcurrentRequestsShareFetch() {
+        CompletableFuture<String> first = provider.getAuthorization();
+        CompletableFuture<String> second = provider.getAuthorization();
+        assertEquals(1, fetches.size());
+        assertFalse(first.isDone());
+
+        fetches.get(0).complete(token("token1", Duration.ofMinutes(5)));
+        assertEquals("Bearer token1", first.join());
+        assertEquals("Bearer token1", second.join());
+        assertEquals("Bearer token1", provider.getAuthorization().join());
+        assertEquals(1, fetches.size());
+    }
+
+
+    @Test
+    public void testRefreshAheadOfExpiry() {
+        provider.getToken();
+        fetches.get(0).complete(token("token1", Duration.ofMinutes(5)));
+
+        clock.advance(Duration.ofMinutes(4).plusSeconds(45));
+        // token is about to expire, a new one is fetched in the background while the current one is still used
+        assertEquals("Bearer token1", provider.getAuthorization().join());
+        assertEquals("Bearer token1", provider.getAuthorization().join());
+        assertEquals(2, fetches.size());
+
+        fetches.get(1).complete(token("token2", Duration.ofMinutes(5)));
+        assertEquals("Bearer token2", provider.getAuthorization().join());
+        assertEquals(2, fetches.size());
+    }
+
+
+    @Test
+    public void testExpiredTokenWaitsForFetch() {
+        provider.getToken();
+        fetches.get(0).complete(token("token1", Duration.ofMinutes(5)));
+
+        clock.advance(Duration.ofMinutes(5));
+        CompletableFuture<String> actual = provider.getAuthorization();
+        assertFalse(actual.isDone());
+        fetches.get(1).complete(token("token2", Duration.ofMinutes(5)));
+        assertEquals("Bearer token2", actual.join());
+    }
+
+
+    @Test
+    public void testTokenWithoutExpiry() {
+        provider.getToken();
+        fetches.get(0).complete(new AccessToken("token1", null));
+        clock.advance(Duration.ofDays(365));
+        assertEquals("Bearer token1", provider.getAuthorization().join());
+        assertEquals(1, fetches.size());
+    }
+
+
+    @Test
+    public void testInvalidate() {
+        provider.getToken();
+        fetches.get(0).complete(token("token1", Duration.ofMinutes(5)));
+
+        // rejecting an outdated token does not discard the current one
+        assertTrue(provider.invalidate("Bearer token0"));
+        assertEquals("Bearer token1", provider.getAuthorization().join());
+        assertEquals(1, fetches.size());
+
+        assertTrue(provider.invalidate("Bearer token1"));
+        CompletableFuture<String> actual = provider.getAuthorization();
+        assertEquals(2, fetches.size());
+        fetches.get(1).complete(token("token2", Duration.ofMinutes(5)));
+        assertEquals("Bearer token2", actual.join());
+    }
+
+
+    @Test
+    public void testFailedFetchIsNotCached() {
+        CompletableFuture<AccessToken> first = provider.getToken();
+        IllegalStateException expected = new IllegalStateException("token endpoint unavailable");
+        fetches.get(0).completeExceptionally(expected);
+        ExecutionException actual = assertThrows(ExecutionException.class, first::get);
+        assertSame(expected, actual.getCause());
+
+        CompletableFuture<AccessToken> second = provider.getToken();
+        assertEquals(2, fetches.size());
+        fetches.get(1).complete(token("token1", Duration.ofMinutes(5)));
+        assertEquals("token1", second.join().getValue());
+    }
+
+
+    @Test
+    public void testTokenSourceThrowing() {
+        BearerTokenProvider failing = new BearerTokenProvider.Builder()
+                .tokenSource(() -> {
+                    throw new IllegalStateException("misconfigured");
+                })
+                .build();
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> failing.getToken().get());
+        assertTrue(actual.getCause() instanceof IllegalStateException);
+    }
+
+
+    @Test
+    public void testTokenSourceProvidingNull() {
+        BearerTokenProvider failing = new BearerTokenProvider.Builder()
+                .tokenSource(() -> CompletableFuture.completedFuture(null))
+                .build();
+        assertThrows(ExecutionException.class, () -> failing.getToken().get());
+    }
+
+
+    private AccessToken token(String value, Duration expiresIn) {
+        return new AccessToken(value, clock.instant().plus(expiresIn));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
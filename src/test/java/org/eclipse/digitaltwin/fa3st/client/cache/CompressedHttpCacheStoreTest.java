@@ -0,0 +1,212 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASInterface;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class CompressedHttpCacheStoreTest {
+
+    private static final ApiSerializer serializer = new JsonApiSerializer();
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    @Test
+    public void testCompressedHttpCacheStore() throws SerializationException, ClientException, UnsupportedModifierException {
+        AssetAdministrationShell expected = newAAS();
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId());
+        server.stubFor(get(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(expected))));
+        CompressedHttpCacheStore store = new CompressedHttpCacheStore.Builder().build();
+        ClientSession session = new ClientSession.Builder()
+                .httpCache(new HttpCache.Builder()
+                        .store(store)
+                        .defaultTtl(Duration.ofMinutes(1))
+                        .build())
+                .build();
+        AASInterface aasInterface = session.getAASRepositoryInterface(URI.create(server.url("/example/api/v3.0")))
+                .getAASInterface(expected.getId());
+
+        assertEquals(expected, aasInterface.get());
+        assertEquals(expected, aasInterface.get());
+        server.verify(1, getRequestedFor(urlPathEqualTo(path)));
+        assertEquals(1, store.getCount());
+    }
+
+
+
+
+    @Test
+    public void testRoundTripOnHeap() {
+        assertRoundTrip(new CompressedHttpCacheStore.Builder().build());
+    }
+
+
+    @Test
+    public void testRoundTripWithoutCompression() {
+        assertRoundTrip(new CompressedHttpCacheStore.Builder()
+                .compressionLevel(0)
+                .build());
+    }
+
+
+    @Test
+    public void testBodyIsCompressed() {
+        CompressedHttpCacheStore store = new CompressedHttpCacheStore.Builder().build();
+        byte[] body = "{\"idShort\":\"foo\"}".repeat(1000).getBytes(StandardCharsets.UTF_8);
+
+        store.put("key", response(body));
+
+        assertTrue(store.getSize() < body.length / 10);
+        assertArrayEquals(body, store.get("key").get().getBody());
+    }
+
+
+    @Test
+    public void testTouch() {
+        CompressedHttpCacheStore store = new CompressedHttpCacheStore.Builder().build();
+        byte[] body = "{\"idShort\":\"foo\"}".getBytes(StandardCharsets.UTF_8);
+        Map<String, List<String>> headers = Map.of("etag", List.of("\"2\""));
+        Instant expiresAt = Instant.ofEpochSecond(1_800_000_000L);
+        store.put("key", response(body));
+
+        store.touch("key", headers, expiresAt);
+        store.touch("other", headers, expiresAt);
+
+        CachedResponse actual = store.get("key").get();
+        assertEquals(headers, actual.getHeaders());
+        assertArrayEquals(body, actual.getBody());
+        assertEquals(expiresAt, actual.getExpiresAt());
+        assertFalse(store.get("other").isPresent());
+    }
+
+
+    @Test
+    public void testSizeIncludesOverheadPerEntry() {
+        CompressedHttpCacheStore store = new CompressedHttpCacheStore.Builder()
+                .compressionLevel(0)
+                .build();
+        store.put("key", new CachedResponse.Builder()
+                .headers(Map.of("etag", List.of("\"1\"")))
+                .body(new byte[0])
+                .expiresAt(Instant.MAX)
+                .build());
+        long size = store.getSize();
+
+        assertTrue(size >= CompressedHttpCacheStore.ENTRY_OVERHEAD + CompressedHttpCacheStore.HEADER_OVERHEAD + "key".length());
+        store.put("other", response(new byte[0]));
+        assertTrue(store.getSize() - size >= CompressedHttpCacheStore.ENTRY_OVERHEAD);
+    }
+
+
+    @Test
+    public void testRemove() {
+        CompressedHttpCacheStore store = new CompressedHttpCacheStore.Builder().build();
+        store.put("a", response(new byte[1]));
+        store.put("b", response(new byte[1]));
+        store.put("c", response(new byte[1]));
+
+        store.remove("a");
+        assertFalse(store.get("a").isPresent());
+        assertTrue(store.get("b").isPresent());
+
+        store.removeIf("b"::equals);
+        assertFalse(store.get("b").isPresent());
+        assertTrue(store.get("c").isPresent());
+
+        store.clear();
+        assertFalse(store.get("c").isPresent());
+        assertEquals(0, store.getCount());
+    }
+
+
+    @Test
+    public void testEvictionByMaxSize() throws InterruptedException {
+        CompressedHttpCacheStore store = new CompressedHttpCacheStore.Builder()
+                .maxSize(4096)
+                .compressionLevel(0)
+                .build();
+        for (int i = 0; i < 100; i++) {
+            store.put("key" + i, response(new byte[256]));
+        }
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (store.getSize() > 4096 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(store.getSize() <= 4096);
+        assertTrue(store.getCount() < 100);
+    }
+
+
+    private static void assertRoundTrip(CompressedHttpCacheStore store) {
+        CachedResponse expected = new CachedResponse.Builder()
+                .headers(Map.of(
+                        "content-type", List.of(ContentType.APPLICATION_JSON.getMimeType()),
+                        "etag", List.of("\"1\"")))
+                .body("{\"idShort\":\"foo\"}".getBytes(StandardCharsets.UTF_8))
+                .expiresAt(Instant.ofEpochSecond(1_700_000_000L, 123))
+                .build();
+
+        store.put("key", expected);
+        CachedResponse actual = store.get("key").get();
+
+        assertEquals(expected.getHeaders(), actual.getHeaders());
+        assertArrayEquals(expected.getBody(), actual.getBody());
+        assertEquals(expected.getExpiresAt(), actual.getExpiresAt());
+        assertEquals(1, store.getCount());
+    }
+
+
+    private static CachedResponse response(byte[] body) {
+        return new CachedResponse.Builder()
+                .headers(Map.of())
+                .body(body)
+                .expiresAt(Instant.MAX)
+                .build();
+    }
+}
@@ -0,0 +1,304 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASInterface;
+import org.eclipse.digitaltwin.fa3st.client.transport.JdkHttpTransport;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class HttpCacheTest {
+
+    private static final ApiSerializer serializer = new JsonApiSerializer();
+    private static final String BASE_URI = "http://example.org/api/v3.0";
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    @Test
+    public void testRevalidateCachedResponseWithETag() throws SerializationException, ClientException, UnsupportedModifierException {
+        AssetAdministrationShell expected = newAAS();
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId());
+        server.stubFor(get(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withHeader(HttpHeaders.ETAG, "\"1\"")
+                        .withBody(serializer.write(expected))));
+        server.stubFor(get(urlPathEqualTo(path))
+                .atPriority(1)
+                .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo("\"1\""))
+                .willReturn(aResponse()
+                        .withStatus(304)
+                        .withHeader(HttpHeaders.ETAG, "\"1\"")));
+        HttpCache httpCache = new HttpCache.Builder().build();
+        ClientSession session = new ClientSession.Builder()
+                .httpCache(httpCache)
+                .build();
+        AASInterface aasInterface = session.getAASRepositoryInterface(URI.create(server.url("/example/api/v3.0")))
+                .getAASInterface(expected.getId());
+
+        assertEquals(expected, aasInterface.get());
+        assertEquals(expected, aasInterface.get());
+        server.verify(2, getRequestedFor(urlPathEqualTo(path)));
+        server.verify(1, getRequestedFor(urlPathEqualTo(path)).withHeader(HttpHeaders.IF_NONE_MATCH, equalTo("\"1\"")));
+        assertEquals(1, httpCache.getMetrics().getRevalidations());
+    }
+
+
+
+
+    @Test
+    public void testRevalidationOnlyTouchesStoredResponse() {
+        server.stubFor(get(urlPathEqualTo("/shells"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.ETAG, "\"1\"")
+                        .withBody("[]")));
+        server.stubFor(get(urlPathEqualTo("/shells"))
+                .atPriority(1)
+                .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo("\"1\""))
+                .willReturn(aResponse()
+                        .withStatus(304)
+                        .withHeader(HttpHeaders.ETAG, "\"1\"")
+                        .withHeader(HttpHeaders.CACHE_CONTROL, "max-age=60")));
+        CountingStore store = new CountingStore();
+        HttpCache cache = new HttpCache.Builder()
+                .store(store)
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(server.url("/shells"))).build();
+        try (CachingTransport transport = new CachingTransport(new JdkHttpTransport(HttpClient.newHttpClient()), cache)) {
+            assertEquals("[]", transport.sendAsync(request, HttpResponse.BodyHandlers.ofString()).join().body());
+            assertEquals("[]", transport.sendAsync(request, HttpResponse.BodyHandlers.ofString()).join().body());
+            assertEquals("[]", transport.sendAsync(request, HttpResponse.BodyHandlers.ofString()).join().body());
+        }
+
+        server.verify(2, getRequestedFor(urlPathEqualTo("/shells")));
+        assertEquals(1, store.puts.get());
+        assertEquals(1, store.touches.get());
+        assertEquals(List.of("max-age=60"), store.get(cache.getKey(request)).get().getHeaders().get("cache-control"));
+    }
+
+
+    @Test
+    public void testInvalidateRemovesResourceParentsAndChildren() {
+        HttpCache cache = new HttpCache.Builder().build();
+        List<String> invalidated = List.of(
+                "/shells",
+                "/shells?limit=1",
+                "/shells/a",
+                "/shells/a?level=deep",
+                "/shells/a/submodel-refs");
+        List<String> retained = List.of(
+                "/shells/b",
+                "/submodels",
+                "/submodels/a");
+        invalidated.forEach(x -> put(cache, x));
+        retained.forEach(x -> put(cache, x));
+
+        cache.invalidate(URI.create(BASE_URI + "/shells/a"));
+
+        invalidated.forEach(x -> assertFalse(x, isCached(cache, x)));
+        retained.forEach(x -> assertTrue(x, isCached(cache, x)));
+    }
+
+
+    @Test
+    public void testInvalidateMatchesPathSegments() {
+        HttpCache cache = new HttpCache.Builder().build();
+        List<String> invalidated = List.of(
+                "",
+                "/shells",
+                "/shells/abc",
+                "/shells/abc/",
+                "/shells/abc/submodel-refs");
+        List<String> retained = List.of(
+                "/shell",
+                "/shells/a",
+                "/shells/ab",
+                "/shells/abcdef",
+                "/shells/abc-submodel-refs");
+        invalidated.forEach(x -> put(cache, x));
+        retained.forEach(x -> put(cache, x));
+
+        cache.invalidate(URI.create(BASE_URI + "/shells/abc"));
+
+        invalidated.forEach(x -> assertFalse(x, isCached(cache, x)));
+        retained.forEach(x -> assertTrue(x, isCached(cache, x)));
+    }
+
+
+    @Test
+    public void testInvalidateDoesNotScanStore() {
+        CountingStore store = new CountingStore();
+        HttpCache cache = new HttpCache.Builder()
+                .store(store)
+                .build();
+        put(cache, "/shells/a");
+        put(cache, "/shells/b");
+        int scans = store.scans.get();
+
+        cache.invalidate(URI.create(BASE_URI + "/shells/a"));
+
+        assertEquals(scans, store.scans.get());
+        assertFalse(isCached(cache, "/shells/a"));
+        assertTrue(isCached(cache, "/shells/b"));
+    }
+
+
+    @Test
+    public void testInvalidateResponsesStoredBeforeCacheCreation() {
+        HttpCacheStore store = new InMemoryHttpCacheStore.Builder().build();
+        HttpCache previous = new HttpCache.Builder()
+                .store(store)
+                .build();
+        put(previous, "/shells/a");
+        put(previous, "/shells/b");
+        HttpCache cache = new HttpCache.Builder()
+                .store(store)
+                .build();
+
+        cache.invalidate(URI.create(BASE_URI + "/shells/a"));
+
+        assertFalse(isCached(cache, "/shells/a"));
+        assertTrue(isCached(cache, "/shells/b"));
+    }
+
+
+    @Test
+    public void testInvalidateAfterEvictionByStore() {
+        HttpCache cache = new HttpCache.Builder()
+                .store(new InMemoryHttpCacheStore.Builder()
+                        .maxSize(4)
+                        .build())
+                .build();
+        for (int i = 0; i < 2000; i++) {
+            put(cache, "/shells/" + i);
+        }
+
+        assertTrue(isCached(cache, "/shells/1999"));
+        cache.invalidate(URI.create(BASE_URI + "/shells"));
+
+        assertFalse(isCached(cache, "/shells/1999"));
+    }
+
+
+    @Test
+    public void testRemoveAndClear() {
+        HttpCache cache = new HttpCache.Builder().build();
+        put(cache, "/shells/a");
+        put(cache, "/shells/b");
+
+        cache.remove(getKey(cache, "/shells/a"));
+        assertFalse(isCached(cache, "/shells/a"));
+        assertTrue(isCached(cache, "/shells/b"));
+
+        cache.clear();
+        assertFalse(isCached(cache, "/shells/b"));
+        put(cache, "/shells/b");
+        cache.invalidate(URI.create(BASE_URI + "/shells/b"));
+        assertFalse(isCached(cache, "/shells/b"));
+    }
+
+
+    private static void put(HttpCache cache, String path) {
+        cache.put(getKey(cache, path), new CachedResponse.Builder()
+                .headers(Map.of())
+                .body(new byte[1])
+                .expiresAt(Instant.MAX)
+                .build());
+    }
+
+
+    private static boolean isCached(HttpCache cache, String path) {
+        return cache.getStore().get(getKey(cache, path)).isPresent();
+    }
+
+
+    private static String getKey(HttpCache cache, String path) {
+        return cache.getKey(HttpRequest.newBuilder(URI.create(BASE_URI + path)).build());
+    }
+
+    private static class CountingStore implements HttpCacheStore {
+
+        private final HttpCacheStore delegate = new InMemoryHttpCacheStore.Builder().build();
+        private final AtomicInteger scans = new AtomicInteger();
+        private final AtomicInteger puts = new AtomicInteger();
+        private final AtomicInteger touches = new AtomicInteger();
+
+        @Override
+        public Optional<CachedResponse> get(String key) {
+            return delegate.get(key);
+        }
+
+
+        @Override
+        public void put(String key, CachedResponse response) {
+            puts.incrementAndGet();
+            delegate.put(key, response);
+        }
+
+
+        @Override
+        public void touch(String key, Map<String, List<String>> headers, Instant expiresAt) {
+            touches.incrementAndGet();
+            delegate.touch(key, headers, expiresAt);
+        }
+
+
+        @Override
+        public void remove(String key) {
+            delegate.remove(key);
+        }
+
+
+        @Override
+        public void removeIf(Predicate<String> keyPredicate) {
+            scans.incrementAndGet();
+            delegate.removeIf(keyPredicate);
+        }
+    }
+}
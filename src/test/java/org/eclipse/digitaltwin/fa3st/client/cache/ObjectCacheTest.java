@@ -0,0 +1,376 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.exception.NotFoundException;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASInterface;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class ObjectCacheTest {
+
+    private static final ApiSerializer serializer = new JsonApiSerializer();
+    private static final String BASE_URI = "http://example.org/api/v3.0";
+    private static final Object SCOPE = "scope";
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    @Test
+    public void testObjectCacheInvalidatedByPut() throws SerializationException, ClientException, UnsupportedModifierException {
+        AssetAdministrationShell expected = newAAS();
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId());
+        server.stubFor(get(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(expected))));
+        server.stubFor(put(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(204)));
+        ObjectCache objectCache = new ObjectCache.Builder().build();
+        ClientSession session = new ClientSession.Builder()
+                .objectCache(objectCache)
+                .build();
+        AASInterface aasInterface = session.getAASRepositoryInterface(URI.create(server.url("/example/api/v3.0")))
+                .getAASInterface(expected.getId());
+
+        AssetAdministrationShell actual = aasInterface.get();
+        assertEquals(expected, actual);
+        assertSame(actual, aasInterface.get());
+        server.verify(1, getRequestedFor(urlPathEqualTo(path)));
+
+        aasInterface.put(expected);
+        assertEquals(expected, aasInterface.get());
+        server.verify(2, getRequestedFor(urlPathEqualTo(path)));
+    }
+
+
+
+
+    @Test
+    public void testSlowGetDoesNotCacheOutdatedObject() throws SerializationException, ClientException, UnsupportedModifierException, InterruptedException {
+        AssetAdministrationShell expected = newAAS();
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId());
+        server.stubFor(get(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(500)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(expected))));
+        server.stubFor(put(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(204)));
+        ObjectCache objectCache = new ObjectCache.Builder().build();
+        ClientSession session = new ClientSession.Builder()
+                .objectCache(objectCache)
+                .build();
+        AASInterface aasInterface = session.getAASRepositoryInterface(URI.create(server.url("/example/api/v3.0")))
+                .getAASInterface(expected.getId());
+
+        // the GET is sent before and answered after the PUT
+        CompletableFuture<AssetAdministrationShell> slowGet = aasInterface.getAsync();
+        Thread.sleep(100);
+        aasInterface.put(expected);
+        assertEquals(expected, slowGet.join());
+
+        assertEquals(expected, aasInterface.get());
+        server.verify(2, getRequestedFor(urlPathEqualTo(path)));
+    }
+
+
+    @Test
+    public void testOutdatedObjectIsNotCached() throws IOException, InterruptedException, NotFoundException {
+        ObjectCache cache = new ObjectCache.Builder().build();
+        long version = cache.getVersion(uri("/shells/a"));
+        long parentVersion = cache.getVersion(uri("/shells"));
+        long childVersion = cache.getVersion(uri("/shells/a/submodel-refs"));
+        long otherVersion = cache.getVersion(uri("/shells/ab"));
+
+        cache.invalidate(uri("/shells/a"));
+        cache.put(SCOPE, uri("/shells/a?level=deep"), String.class, "a", version);
+        cache.put(SCOPE, uri("/shells"), String.class, "shells", parentVersion);
+        cache.putNotFound(SCOPE, uri("/shells/a/submodel-refs"), String.class, notFound(), childVersion);
+        cache.put(SCOPE, uri("/shells/ab"), String.class, "ab", otherVersion);
+
+        assertNull(cache.get(SCOPE, uri("/shells/a?level=deep"), String.class));
+        assertNull(cache.get(SCOPE, uri("/shells"), String.class));
+        assertNull(cache.get(SCOPE, uri("/shells/a/submodel-refs"), String.class));
+        assertEquals("ab", cache.get(SCOPE, uri("/shells/ab"), String.class));
+
+        cache.put(SCOPE, uri("/shells/a"), String.class, "a", cache.getVersion(uri("/shells/a")));
+        assertEquals("a", cache.get(SCOPE, uri("/shells/a"), String.class));
+
+        version = cache.getVersion(uri("/shells/a"));
+        cache.invalidateAll();
+        cache.put(SCOPE, uri("/shells/a"), String.class, "a", version);
+        assertNull(cache.get(SCOPE, uri("/shells/a"), String.class));
+    }
+
+
+    @Test
+    public void testTtlPerType() throws NotFoundException {
+        MutableClock clock = new MutableClock(Instant.now());
+        ObjectCache cache = new ObjectCache.Builder()
+                .defaultTtl(Duration.ofMinutes(1))
+                .ttl(String.class, Duration.ofSeconds(10))
+                .clock(clock)
+                .build();
+        cache.put(SCOPE, uri("/shells/a"), String.class, "a");
+        cache.put(SCOPE, uri("/shells/b"), Integer.class, 1);
+
+        clock.advance(Duration.ofSeconds(9));
+        assertEquals("a", cache.get(SCOPE, uri("/shells/a"), String.class));
+        assertEquals(Integer.valueOf(1), cache.get(SCOPE, uri("/shells/b"), Integer.class));
+
+        clock.advance(Duration.ofSeconds(2));
+        assertNull(cache.get(SCOPE, uri("/shells/a"), String.class));
+        assertEquals(Integer.valueOf(1), cache.get(SCOPE, uri("/shells/b"), Integer.class));
+
+        clock.advance(Duration.ofMinutes(1));
+        assertNull(cache.get(SCOPE, uri("/shells/b"), Integer.class));
+    }
+
+
+    @Test
+    public void testTtlOfSupertype() throws NotFoundException {
+        MutableClock clock = new MutableClock(Instant.now());
+        ObjectCache cache = new ObjectCache.Builder()
+                .defaultTtl(Duration.ofMinutes(1))
+                .ttl(Number.class, Duration.ofSeconds(10))
+                .clock(clock)
+                .build();
+        cache.put(SCOPE, uri("/shells/a"), Object.class, 1);
+
+        clock.advance(Duration.ofSeconds(11));
+        assertNull(cache.get(SCOPE, uri("/shells/a"), Object.class));
+    }
+
+
+    @Test
+    public void testNegativeCaching() throws IOException, InterruptedException, NotFoundException {
+        MutableClock clock = new MutableClock(Instant.now());
+        ObjectCache cache = new ObjectCache.Builder()
+                .negativeTtl(Duration.ofSeconds(5))
+                .clock(clock)
+                .build();
+        NotFoundException expected = notFound();
+        cache.putNotFound(SCOPE, uri("/shells/a"), String.class, expected);
+
+        NotFoundException first = assertThrows(NotFoundException.class, () -> cache.get(SCOPE, uri("/shells/a"), String.class));
+        NotFoundException second = assertThrows(NotFoundException.class, () -> cache.get(SCOPE, uri("/shells/a"), String.class));
+        assertNotSame(expected, first);
+        assertNotSame(first, second);
+        assertEquals(expected.getUri(), first.getUri());
+        assertEquals(expected.getStatusCode(), first.getStatusCode());
+        assertEquals(expected.getBody(), first.getBody());
+        assertNull(cache.get("other", uri("/shells/a"), String.class));
+
+        clock.advance(Duration.ofSeconds(6));
+        assertNull(cache.get(SCOPE, uri("/shells/a"), String.class));
+    }
+
+
+    @Test
+    public void testNegativeCachingDisabled() throws IOException, InterruptedException, NotFoundException {
+        ObjectCache cache = new ObjectCache.Builder()
+                .negativeTtl(Duration.ZERO)
+                .build();
+        cache.putNotFound(SCOPE, uri("/shells/a"), String.class, notFound());
+
+        assertNull(cache.get(SCOPE, uri("/shells/a"), String.class));
+    }
+
+
+    @Test
+    public void testPutNullIsIgnored() throws NotFoundException {
+        ObjectCache cache = new ObjectCache.Builder().build();
+        cache.put(SCOPE, uri("/shells/a"), String.class, null);
+
+        assertNull(cache.get(SCOPE, uri("/shells/a"), String.class));
+        assertEquals(0, cache.size());
+    }
+
+
+    @Test
+    public void testInvalidateRemovesResourceParentsAndChildren() throws IOException, InterruptedException, NotFoundException {
+        ObjectCache cache = new ObjectCache.Builder().build();
+        List<String> invalidated = List.of(
+                "/shells",
+                "/shells?limit=1",
+                "/shells/a",
+                "/shells/a?level=deep",
+                "/shells/a/submodel-refs");
+        List<String> retained = List.of(
+                "/shells/b",
+                "/submodels",
+                "/submodels/a");
+        invalidated.forEach(x -> cache.put(SCOPE, uri(x), String.class, x));
+        retained.forEach(x -> cache.put(SCOPE, uri(x), String.class, x));
+        cache.put("other", uri("/shells/a"), String.class, "other");
+        cache.putNotFound(SCOPE, uri("/shells/a/submodel-refs/b"), String.class, notFound());
+
+        cache.invalidate(uri("/shells/a"));
+
+        for (String path: invalidated) {
+            assertNull(path, cache.get(SCOPE, uri(path), String.class));
+        }
+        for (String path: retained) {
+            assertEquals(path, cache.get(SCOPE, uri(path), String.class));
+        }
+        assertNull(cache.get("other", uri("/shells/a"), String.class));
+        assertNull(cache.get(SCOPE, uri("/shells/a/submodel-refs/b"), String.class));
+    }
+
+
+    @Test
+    public void testInvalidateMatchesPathSegments() throws NotFoundException {
+        ObjectCache cache = new ObjectCache.Builder().build();
+        List<String> invalidated = List.of(
+                "/shells",
+                "/shells/abc",
+                "/shells/abc/submodel-refs");
+        List<String> retained = List.of(
+                "/shell",
+                "/shells/ab",
+                "/shells/abcdef");
+        invalidated.forEach(x -> cache.put(SCOPE, uri(x), String.class, x));
+        retained.forEach(x -> cache.put(SCOPE, uri(x), String.class, x));
+
+        cache.invalidate(uri("/shells/abc"));
+
+        for (String path: invalidated) {
+            assertNull(path, cache.get(SCOPE, uri(path), String.class));
+        }
+        for (String path: retained) {
+            assertEquals(path, cache.get(SCOPE, uri(path), String.class));
+        }
+    }
+
+
+    @Test
+    public void testInvalidateAfterEviction() throws NotFoundException {
+        ObjectCache cache = new ObjectCache.Builder()
+                .maximumSize(10)
+                .build();
+        for (int i = 0; i < 2000; i++) {
+            cache.put(SCOPE, uri("/shells/" + i), Integer.class, i);
+        }
+        cache.put(SCOPE, uri("/shells/a"), String.class, "a");
+
+        cache.invalidate(uri("/shells"));
+
+        assertNull(cache.get(SCOPE, uri("/shells/a"), String.class));
+        assertNull(cache.get(SCOPE, uri("/shells/1999"), Integer.class));
+    }
+
+
+    @Test
+    public void testInvalidateAll() throws NotFoundException {
+        ObjectCache cache = new ObjectCache.Builder().build();
+        cache.put(SCOPE, uri("/shells/a"), String.class, "a");
+
+        cache.invalidateAll();
+        assertNull(cache.get(SCOPE, uri("/shells/a"), String.class));
+
+        cache.put(SCOPE, uri("/shells/a"), String.class, "a");
+        cache.invalidate(uri("/shells/a"));
+        assertNull(cache.get(SCOPE, uri("/shells/a"), String.class));
+    }
+
+
+    private NotFoundException notFound() throws IOException, InterruptedException {
+        server.stubFor(get(anyUrl())
+                .willReturn(aResponse()
+                        .withStatus(404)));
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create(server.url("/shells/a"))).build(),
+                HttpResponse.BodyHandlers.ofString());
+        return new NotFoundException(response);
+    }
+
+
+    private static URI uri(String path) {
+        return URI.create(BASE_URI + path);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
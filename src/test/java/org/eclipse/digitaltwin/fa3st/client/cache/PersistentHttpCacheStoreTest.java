@@ -0,0 +1,379 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.cache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+
+public class PersistentHttpCacheStoreTest {
+
+    private static final ApiSerializer serializer = new JsonApiSerializer();
+    private static final int SEGMENT_SIZE = 4096;
+    private static final Map<String, List<String>> TOUCHED_HEADERS = Map.of(HttpHeaders.ETAG, List.of("\"2\""));
+    private static final Instant TOUCHED_EXPIRES_AT = Instant.ofEpochSecond(1_800_000_000L);
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testPersistentHttpCacheStoreSurvivesRestart() throws SerializationException, ClientException, UnsupportedModifierException, IOException {
+        AssetAdministrationShell expected = newAAS();
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId());
+        server.stubFor(get(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withHeader(HttpHeaders.ETAG, "\"1\"")
+                        .withBody(serializer.write(expected))));
+        server.stubFor(get(urlPathEqualTo(path))
+                .atPriority(1)
+                .withHeader(HttpHeaders.IF_NONE_MATCH, equalTo("\"1\""))
+                .willReturn(aResponse()
+                        .withStatus(304)
+                        .withHeader(HttpHeaders.ETAG, "\"1\"")));
+        URI endpoint = URI.create(server.url("/example/api/v3.0"));
+        PersistentHttpCacheStore store = new PersistentHttpCacheStore.Builder()
+                .directory(tempFolder.getRoot().toPath())
+                .build();
+        try (ClientSession session = new ClientSession.Builder()
+                .httpCache(new HttpCache.Builder()
+                        .store(store)
+                        .build())
+                .build()) {
+            assertEquals(expected, session.getAASRepositoryInterface(endpoint).getAASInterface(expected.getId()).get());
+        }
+        store.close();
+
+        PersistentHttpCacheStore reopened = new PersistentHttpCacheStore.Builder()
+                .directory(tempFolder.getRoot().toPath())
+                .build();
+        assertEquals(1, reopened.getCount());
+        try (ClientSession session = new ClientSession.Builder()
+                .httpCache(new HttpCache.Builder()
+                        .store(reopened)
+                        .build())
+                .build()) {
+            assertEquals(expected, session.getAASRepositoryInterface(endpoint).getAASInterface(expected.getId()).get());
+        }
+        reopened.close();
+        server.verify(2, getRequestedFor(urlPathEqualTo(path)));
+        server.verify(1, getRequestedFor(urlPathEqualTo(path)).withHeader(HttpHeaders.IF_NONE_MATCH, equalTo("\"1\"")));
+    }
+
+
+
+
+    @Test
+    public void testPutGetRemove() throws IOException {
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            CachedResponse expected = response(100);
+            store.put("a", expected);
+
+            CachedResponse actual = store.get("a").get();
+            assertEquals(expected.getHeaders(), actual.getHeaders());
+            assertArrayEquals(expected.getBody(), actual.getBody());
+            assertEquals(expected.getExpiresAt(), actual.getExpiresAt());
+
+            store.remove("a");
+            assertFalse(store.get("a").isPresent());
+            assertEquals(0, store.getCount());
+        }
+    }
+
+
+    @Test
+    public void testTouchDoesNotRewriteBody() throws IOException {
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            store.put("a", response(2000));
+            for (int i = 0; i < 20; i++) {
+                store.touch("a", TOUCHED_HEADERS, TOUCHED_EXPIRES_AT.plusSeconds(i));
+            }
+            store.touch("b", TOUCHED_HEADERS, TOUCHED_EXPIRES_AT);
+
+            assertEquals(1, getSegmentFiles().size());
+            assertTouched(store.get("a").get(), 2000, TOUCHED_EXPIRES_AT.plusSeconds(19));
+            assertFalse(store.get("b").isPresent());
+            assertEquals(1, store.getCount());
+        }
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            assertTouched(store.get("a").get(), 2000, TOUCHED_EXPIRES_AT.plusSeconds(19));
+            store.put("a", response(1000));
+            assertEquals(response(1000).getHeaders(), store.get("a").get().getHeaders());
+        }
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            assertEquals(response(1000).getExpiresAt(), store.get("a").get().getExpiresAt());
+        }
+    }
+
+
+    @Test
+    public void testTouchSurvivesCompaction() throws IOException {
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            store.put("a", response(1000));
+            store.touch("a", TOUCHED_HEADERS, TOUCHED_EXPIRES_AT);
+            store.put("b", response(1000));
+            store.put("c", response(1000));
+            store.put("d", response(1000));
+            Path first = getSegmentFiles().get(0);
+            store.put("b", response(1000));
+            store.put("c", response(1000));
+
+            assertFalse(Files.exists(first));
+            assertTouched(store.get("a").get(), 1000, TOUCHED_EXPIRES_AT);
+        }
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            assertTouched(store.get("a").get(), 1000, TOUCHED_EXPIRES_AT);
+            assertEquals(4, store.getCount());
+        }
+    }
+
+
+    @Test
+    public void testDirectoryUsedByOneStoreAtATime() throws IOException {
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            store.put("a", response(100));
+
+            assertThrows(IOException.class, () -> open(SEGMENT_SIZE));
+            assertTrue(store.get("a").isPresent());
+        }
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            assertTrue(store.get("a").isPresent());
+        }
+    }
+
+
+    @Test
+    public void testResponseLargerThanSegmentNotStored() throws IOException {
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            store.put("a", response(100));
+            store.put("a", response(SEGMENT_SIZE));
+
+            assertFalse(store.get("a").isPresent());
+        }
+    }
+
+
+    @Test
+    public void testTornTailRecordIgnored() throws IOException {
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            store.put("a", response(100));
+            store.put("b", response(100));
+        }
+        Path segment = getSegmentFiles().get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            channel.read(header, 0);
+            int offset = 8 + header.flip().getInt();
+            // simulate a crash while writing the last record by corrupting its last byte
+            header.clear();
+            channel.read(header, offset);
+            int last = offset + 8 + header.flip().getInt() - 1;
+            channel.write(ByteBuffer.allocate(1).put(0, (byte) 42), last);
+        }
+
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            assertTrue(store.get("a").isPresent());
+            assertFalse(store.get("b").isPresent());
+            assertEquals(1, store.getCount());
+            store.put("c", response(100));
+        }
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            assertTrue(store.get("a").isPresent());
+            assertFalse(store.get("b").isPresent());
+            assertTrue(store.get("c").isPresent());
+        }
+    }
+
+
+    @Test
+    public void testTombstoneReplayedAfterRestart() throws IOException {
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            store.put("a", response(1000));
+            store.put("b", response(1000));
+            store.put("c", response(1000));
+            store.put("d", response(1000));
+            store.remove("a");
+            store.remove("d");
+            assertEquals(2, getSegmentFiles().size());
+        }
+
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            assertFalse(store.get("a").isPresent());
+            assertTrue(store.get("b").isPresent());
+            assertTrue(store.get("c").isPresent());
+            assertFalse(store.get("d").isPresent());
+            assertEquals(2, store.getCount());
+        }
+    }
+
+
+    @Test
+    public void testCompaction() throws IOException {
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            store.put("a", response(1000));
+            store.put("b", response(1000));
+            store.put("c", response(1000));
+            store.put("d", response(1000));
+            Path first = getSegmentFiles().get(0);
+            store.put("a", response(1000));
+            assertTrue(Files.exists(first));
+            store.put("b", response(1000));
+
+            assertFalse(Files.exists(first));
+            for (String key: List.of("a", "b", "c", "d")) {
+                assertTrue(key, store.get(key).isPresent());
+            }
+        }
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            assertEquals(4, store.getCount());
+        }
+    }
+
+
+    @Test
+    public void testCompactionDropsResponsesLargerThanSegment() throws IOException {
+        try (PersistentHttpCacheStore store = open(2 * SEGMENT_SIZE)) {
+            store.put("large", response(SEGMENT_SIZE + 1000));
+            store.put("small", response(1000));
+            store.put("other", response(SEGMENT_SIZE));
+            assertEquals(2, getSegmentFiles().size());
+        }
+
+        try (PersistentHttpCacheStore store = new PersistentHttpCacheStore.Builder()
+                .directory(tempFolder.getRoot().toPath())
+                .segmentSize(SEGMENT_SIZE)
+                .compactionThreshold(0.9)
+                .build()) {
+            assertFalse(store.get("large").isPresent());
+            assertTrue(store.get("small").isPresent());
+            assertTrue(store.get("other").isPresent());
+            assertEquals(2, store.getCount());
+        }
+    }
+
+
+    @Test
+    public void testEvictionByMaxSize() throws IOException {
+        try (PersistentHttpCacheStore store = new PersistentHttpCacheStore.Builder()
+                .directory(tempFolder.getRoot().toPath())
+                .segmentSize(SEGMENT_SIZE)
+                .maxSize(2 * SEGMENT_SIZE)
+                .build()) {
+            for (int i = 0; i < 10; i++) {
+                store.put("key" + i, response(1000));
+            }
+
+            assertTrue(store.getSize() <= 2 * SEGMENT_SIZE);
+            assertTrue(getSegmentFiles().size() <= 2);
+            assertFalse(store.get("key0").isPresent());
+            assertTrue(store.get("key9").isPresent());
+            assertTrue(store.getCount() < 10);
+        }
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            assertFalse(store.get("key0").isPresent());
+            assertTrue(store.get("key9").isPresent());
+        }
+    }
+
+
+    @Test
+    public void testClear() throws IOException {
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            store.put("a", response(1000));
+            store.put("b", response(1000));
+            store.put("c", response(1000));
+            store.put("d", response(1000));
+            store.clear();
+
+            assertEquals(0, store.getCount());
+            assertEquals(1, getSegmentFiles().size());
+        }
+        try (PersistentHttpCacheStore store = open(SEGMENT_SIZE)) {
+            assertEquals(0, store.getCount());
+        }
+    }
+
+
+    private static void assertTouched(CachedResponse actual, int bodySize, Instant expiresAt) {
+        assertEquals(TOUCHED_HEADERS, actual.getHeaders());
+        assertEquals(bodySize, actual.getBody().length);
+        assertEquals(expiresAt, actual.getExpiresAt());
+    }
+
+
+    private PersistentHttpCacheStore open(int segmentSize) throws IOException {
+        return new PersistentHttpCacheStore.Builder()
+                .directory(tempFolder.getRoot().toPath())
+                .segmentSize(segmentSize)
+                .build();
+    }
+
+
+    private List<Path> getSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempFolder.getRoot().toPath())) {
+            return files
+                    .filter(x -> x.getFileName().toString().startsWith("segment-"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+
+    private static CachedResponse response(int bodySize) {
+        return new CachedResponse.Builder()
+                .headers(Map.of(HttpHeaders.ETAG, List.of("\"1\"")))
+                .body(new byte[bodySize])
+                .expiresAt(Instant.ofEpochSecond(1_700_000_000L))
+                .build();
+    }
+}
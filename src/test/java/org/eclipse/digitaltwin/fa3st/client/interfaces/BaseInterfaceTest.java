@@ -16,8 +16,11 @@ package org.eclipse.digitaltwin.fa3st.client.interfaces;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
 import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newPage;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -27,9 +30,12 @@ import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
 import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
 import org.eclipse.digitaltwin.fa3st.client.query.SearchCriteria;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
@@ -39,6 +45,7 @@ import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierExcepti
 import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.OutputModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -148,6 +155,32 @@ public class BaseInterfaceTest {
         assertEquals(expected, actual);
     }
 
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testChildInterfacesShareSession() throws SerializationException, ClientException, UnsupportedModifierException {
+        AssetAdministrationShell expected = newAAS();
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId())))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(expected))));
+        ClientSession session = new ClientSession.Builder().build();
+        AASRepositoryInterface repository = session.getAASRepositoryInterface(URI.create(server.url("/api/v3.0")));
+        AASInterface aasInterface = repository.getAASInterface(expected.getId());
+        SubmodelInterface submodelInterface = aasInterface.getSubmodelInterface("submodel");
+
+        assertEquals(expected, aasInterface.get());
+        assertNotNull(session.getHttpClient());
+        for (BaseInterface child: List.of(repository, aasInterface, submodelInterface)) {
+            assertSame(session, child.session);
+            assertSame(session.getTransport(), child.transport);
+            assertSame(session.getHttpClient(), child.httpClient);
+            assertSame(session.getSerializer(), child.serializer);
+            assertSame(session.getDeserializer(), child.deserializer);
+        }
+    }
+
     public class BaseInterfaceImpl extends BaseInterface {
 
         public BaseInterfaceImpl(URI endpoint) {
@@ -17,10 +17,12 @@ import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.any;
 import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import java.io.IOException;
 import java.net.URI;
+import java.util.concurrent.ExecutionException;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultSubmodel;
 import org.eclipse.digitaltwin.fa3st.client.exception.*;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
@@ -90,6 +92,26 @@ public class ExceptionHandlingTest {
     }
 
 
+    @Test
+    public void testGetAsyncNotFoundException() {
+        mockStatusCode(404);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> {
+            client.getSubmodelInterface("wrongId").getAsync().get();
+        });
+        assertTrue(exception.getCause() instanceof NotFoundException);
+    }
+
+
+    @Test
+    public void testDeleteAsyncInternalServerErrorException() {
+        mockStatusCode(500);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> {
+            client.deleteAsync("path").get();
+        });
+        assertTrue(exception.getCause() instanceof InternalServerErrorException);
+    }
+
+
     private void mockStatusCode(int code) {
         server.stubFor(any(anyUrl())
                 .willReturn(aResponse()
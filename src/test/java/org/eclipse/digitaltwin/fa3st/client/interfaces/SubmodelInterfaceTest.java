@@ -19,38 +19,66 @@ import static com.github.tomakehurst.wiremock.client.WireMock.delete;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.patch;
+import static com.github.tomakehurst.wiremock.client.WireMock.patchRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.putRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
 import static org.apache.commons.fileupload.FileUploadBase.CONTENT_DISPOSITION;
 import static org.apache.commons.fileupload.FileUploadBase.CONTENT_TYPE;
 import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newProperty;
 import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newSubmodel;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.DataTypeDefXsd;
 import org.eclipse.digitaltwin.aas4j.v3.model.ExecutionState;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationRequest;
 import org.eclipse.digitaltwin.aas4j.v3.model.OperationResult;
 import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
 import org.eclipse.digitaltwin.aas4j.v3.model.SubmodelElement;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultBaseOperationResult;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultEntity;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperation;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationRequest;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationResult;
 import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultOperationVariable;
+import org.eclipse.digitaltwin.aas4j.v3.model.impl.DefaultProperty;
+import org.eclipse.digitaltwin.fa3st.client.exception.BadRequestException;
 import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.exception.InternalServerErrorException;
+import org.eclipse.digitaltwin.fa3st.client.exception.NotFoundException;
+import org.eclipse.digitaltwin.fa3st.client.util.OperationPoller;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
@@ -70,6 +98,7 @@ import org.eclipse.digitaltwin.fa3st.common.typing.ElementValueTypeInfo;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.springframework.web.util.UriUtils;
 
 
@@ -81,6 +110,9 @@ public class SubmodelInterfaceTest {
     @Rule
     public WireMockRule server = new WireMockRule();
 
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
     @Before
     public void setup() throws IOException {
         client = new SubmodelInterface(URI.create(server.url("/api/v3.0/submodel")));
@@ -228,6 +260,184 @@ public class SubmodelInterfaceTest {
     }
 
 
+    @Test
+    public void testCoalescePatchElementValue() throws SerializationException, ClientException, UnsupportedModifierException, ValueMappingException {
+        SubmodelElement property1 = newProperty();
+        SubmodelElement property2 = new DefaultProperty.Builder()
+                .idShort("otherProperty")
+                .valueType(DataTypeDefXsd.STRING)
+                .value("other value")
+                .build();
+        ElementValue value1 = ElementValueMapper.toValue(property1);
+        ElementValue value2 = ElementValueMapper.toValue(property2);
+        String payload = String.format("{\"%s\": %s, \"%s\": %s}",
+                property1.getIdShort(),
+                serializer.write(value1),
+                property2.getIdShort(),
+                serializer.write(value2));
+        server.stubFor(patch(urlPathEqualTo("/api/v3.0/submodel/$value"))
+                .withRequestBody(equalToJson(payload))
+                .willReturn(aResponse()
+                        .withStatus(204)));
+        IdShortPath path1 = IdShortPath.builder()
+                .idShort(property1.getIdShort())
+                .build();
+        IdShortPath path2 = IdShortPath.builder()
+                .idShort(property2.getIdShort())
+                .build();
+        CompletableFuture<Void> written;
+        try (ElementValueWriteBuffer buffer = new ElementValueWriteBuffer.Builder()
+                .submodelInterface(client)
+                .flushInterval(Duration.ofMinutes(1))
+                .build()) {
+            buffer.patchElementValue(path1, value2);
+            buffer.patchElementValue(path2, value2);
+            written = buffer.patchElementValue(path1, value1);
+            assertEquals(2, buffer.getPendingCount());
+        }
+        written.join();
+        server.verify(1, patchRequestedFor(urlPathEqualTo("/api/v3.0/submodel/$value")));
+    }
+
+
+    @Test
+    public void testCoalescePatchElementValueFallsBackToSeparateRequests() {
+        server.stubFor(patch(urlPathEqualTo("/api/v3.0/submodel/$value"))
+                .willReturn(aResponse()
+                        .withStatus(400)));
+        server.stubFor(patch(urlPathEqualTo("/api/v3.0/submodel/submodel-elements/property/$value"))
+                .willReturn(aResponse()
+                        .withStatus(204)));
+        server.stubFor(patch(urlPathEqualTo("/api/v3.0/submodel/submodel-elements/entity.statement/$value"))
+                .willReturn(aResponse()
+                        .withStatus(400)));
+        IdShortPath valid = IdShortPath.builder()
+                .idShort("property")
+                .build();
+        IdShortPath invalid = IdShortPath.builder()
+                .idShort("entity")
+                .idShort("statement")
+                .build();
+        CompletableFuture<Void> validWritten;
+        CompletableFuture<Void> invalidWritten;
+        ElementValueWriteBuffer buffer = new ElementValueWriteBuffer.Builder()
+                .submodelInterface(client)
+                .flushInterval(Duration.ofMinutes(1))
+                .build();
+        validWritten = buffer.patchElementValue(valid, TextNode.valueOf("foo"));
+        invalidWritten = buffer.patchElementValue(invalid, TextNode.valueOf("bar"));
+        buffer.close();
+
+        validWritten.join();
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> invalidWritten.get());
+        assertTrue(exception.getCause() instanceof BadRequestException);
+        assertEquals(3, buffer.getRequests());
+        server.verify(1, patchRequestedFor(urlPathEqualTo("/api/v3.0/submodel/$value"))
+                .withRequestBody(equalToJson("{\"property\": \"foo\", \"entity\": {\"statement\": \"bar\"}}")));
+        server.verify(1, patchRequestedFor(urlPathEqualTo("/api/v3.0/submodel/submodel-elements/property/$value")));
+        server.verify(1, patchRequestedFor(urlPathEqualTo("/api/v3.0/submodel/submodel-elements/entity.statement/$value")));
+    }
+
+
+    @Test
+    public void testGetElementValues() throws SerializationException, ClientException, UnsupportedModifierException, ValueMappingException {
+        SubmodelElement property1 = newProperty();
+        SubmodelElement property2 = new DefaultProperty.Builder()
+                .idShort("otherProperty")
+                .valueType(DataTypeDefXsd.STRING)
+                .value("other value")
+                .build();
+        for (SubmodelElement property: List.of(property1, property2)) {
+            server.stubFor(get(urlPathEqualTo("/api/v3.0/submodel/submodel-elements/" + property.getIdShort()))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withBody(serializer.write(property))));
+        }
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodel/submodel-elements/missing"))
+                .willReturn(aResponse()
+                        .withStatus(404)));
+        IdShortPath path1 = IdShortPath.builder()
+                .idShort(property1.getIdShort())
+                .build();
+        IdShortPath path2 = IdShortPath.builder()
+                .idShort(property2.getIdShort())
+                .build();
+        IdShortPath missing = IdShortPath.builder()
+                .idShort("missing")
+                .build();
+        Map<IdShortPath, ElementValue> expected = Map.of(
+                path1, ElementValueMapper.toValue(property1),
+                path2, ElementValueMapper.toValue(property2));
+        stubElementPaths(20);
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodel/$metadata"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody(serializer.write(newSubmodel()))));
+        Map<IdShortPath, ElementValue> actual = client.getElementValues(List.of(path1, path2, missing));
+        assertEquals(expected, actual);
+        server.verify(0, getRequestedFor(urlPathEqualTo("/api/v3.0/submodel")));
+        server.verify(1, getRequestedFor(urlPathEqualTo("/api/v3.0/submodel/submodel-elements/$path")));
+        server.verify(1, getRequestedFor(urlPathEqualTo("/api/v3.0/submodel/$metadata")));
+
+        client.getElementValues(List.of(path1, path2));
+        server.verify(1, getRequestedFor(urlPathEqualTo("/api/v3.0/submodel/submodel-elements/$path")));
+        server.verify(1, getRequestedFor(urlPathEqualTo("/api/v3.0/submodel/$metadata")));
+    }
+
+
+    @Test
+    public void testGetElementValuesFromSubmodel() throws SerializationException, ClientException, UnsupportedModifierException, ValueMappingException {
+        SubmodelElement property = newProperty();
+        Submodel submodel = newSubmodel();
+        submodel.setSubmodelElements(List.of(property));
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodel"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody(serializer.write(submodel))));
+        stubElementPaths(4);
+        IdShortPath path = IdShortPath.builder()
+                .idShort(property.getIdShort())
+                .build();
+        IdShortPath missing = IdShortPath.builder()
+                .idShort("missing")
+                .build();
+        Map<IdShortPath, ElementValue> actual = client.getElementValues(List.of(path, missing));
+        assertEquals(Map.of(path, ElementValueMapper.toValue(property)), actual);
+        server.verify(1, getRequestedFor(urlPathEqualTo("/api/v3.0/submodel")));
+        server.verify(0, getRequestedFor(urlPathEqualTo("/api/v3.0/submodel/submodel-elements/missing")));
+    }
+
+
+    @Test
+    public void testGetElementValuesSubmodelNotFound() throws SerializationException, UnsupportedModifierException {
+        stubElementPaths(20);
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodel/submodel-elements/missing"))
+                .willReturn(aResponse()
+                        .withStatus(404)));
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodel/$metadata"))
+                .willReturn(aResponse()
+                        .withStatus(404)));
+        IdShortPath missing = IdShortPath.builder()
+                .idShort("missing")
+                .build();
+        assertThrows(NotFoundException.class, () -> client.getElementValues(List.of(missing)));
+    }
+
+
+    private void stubElementPaths(int count) throws SerializationException, UnsupportedModifierException {
+        Page<String> paths = Page.<String> builder()
+                .result(IntStream.range(0, count)
+                        .mapToObj(i -> "element" + i)
+                        .collect(Collectors.toList()))
+                .metadata(new PagingMetadata.Builder().build())
+                .build();
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodel/submodel-elements/$path"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody(serializer.write(paths))));
+    }
+
+
     @Test
     public void testPostElementByPath() throws SerializationException, InterruptedException, ClientException, UnsupportedModifierException {
         SubmodelElement expected = newProperty();
@@ -319,6 +529,93 @@ public class SubmodelInterfaceTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testGetAttachmentToFile() throws ClientException, IOException {
+        byte[] content = "attachment-content".getBytes();
+        IdShortPath idShortPath = new IdShortPath.Builder()
+                .idShort("file")
+                .build();
+        stubFor(get(urlPathEqualTo(String.format("/api/v3.0/submodel/submodel-elements/%s/attachment", encodeForUrl(idShortPath))))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(CONTENT_TYPE, "application/pdf")
+                        .withHeader(CONTENT_DISPOSITION, "attachment; fileName=\"../attachment.pdf\"")
+                        .withBody(content)));
+        File directory = tempFolder.newFolder();
+        Path actual = client.getAttachment(idShortPath, directory.toPath());
+        assertEquals(directory.toPath().resolve("attachment.pdf"), actual);
+        assertArrayEquals(content, Files.readAllBytes(actual));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertEquals("../attachment.pdf", client.getAttachment(idShortPath, output));
+        assertArrayEquals(content, output.toByteArray());
+    }
+
+
+    @Test
+    public void testGetAttachmentRangedWithResume() throws ClientException, IOException {
+        IdShortPath idShortPath = new IdShortPath.Builder()
+                .idShort("file")
+                .build();
+        String url = String.format("/api/v3.0/submodel/submodel-elements/%s/attachment", encodeForUrl(idShortPath));
+        stubRange(url, 0, 3, "0123");
+        stubFor(get(urlPathEqualTo(url))
+                .withHeader("Range", equalTo("bytes=4-7"))
+                .willReturn(aResponse()
+                        .withStatus(500)));
+        stubRange(url, 8, 9, "89");
+        Path target = tempFolder.getRoot().toPath().resolve("attachment.bin");
+        assertThrows(InternalServerErrorException.class, () -> client.getAttachment(idShortPath, target, 1, 4));
+        assertTrue(Files.exists(target.resolveSibling("attachment.bin.part.state")));
+
+        stubRange(url, 4, 7, "4567");
+        assertEquals(target, client.getAttachment(idShortPath, target, 1, 4));
+        assertEquals("0123456789", Files.readString(target));
+        assertFalse(Files.exists(target.resolveSibling("attachment.bin.part")));
+        assertFalse(Files.exists(target.resolveSibling("attachment.bin.part.state")));
+        verify(1, getRequestedFor(urlPathEqualTo(url)).withHeader("Range", equalTo("bytes=8-9")));
+    }
+
+
+    @Test
+    public void testGetAttachmentRangedWithoutRangeSupport() throws ClientException, IOException {
+        IdShortPath idShortPath = new IdShortPath.Builder()
+                .idShort("file")
+                .build();
+        stubFor(get(urlPathEqualTo(String.format("/api/v3.0/submodel/submodel-elements/%s/attachment", encodeForUrl(idShortPath))))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(CONTENT_DISPOSITION, "attachment; fileName=\"attachment.bin\"")
+                        .withBody("0123456789")));
+        File directory = tempFolder.newFolder();
+        Path actual = client.getAttachment(idShortPath, directory.toPath(), 4, 4);
+        assertEquals(directory.toPath().resolve("attachment.bin"), actual);
+        assertEquals("0123456789", Files.readString(actual));
+    }
+
+
+    private static void stubRange(String url, int first, int last, String content) {
+        stubFor(get(urlPathEqualTo(url))
+                .withHeader("Range", equalTo(String.format("bytes=%d-%d", first, last)))
+                .willReturn(aResponse()
+                        .withStatus(206)
+                        .withHeader("ETag", "\"v1\"")
+                        .withHeader("Content-Range", String.format("bytes %d-%d/10", first, last))
+                        .withBody(content)));
+    }
+
+
+    @Test
+    public void testGetAttachmentStreamingWithError() throws ClientException {
+        IdShortPath idShortPath = new IdShortPath.Builder()
+                .idShort("file")
+                .build();
+        stubFor(get(urlPathEqualTo(String.format("/api/v3.0/submodel/submodel-elements/%s/attachment", encodeForUrl(idShortPath))))
+                .willReturn(aResponse()
+                        .withStatus(404)));
+        assertThrows(NotFoundException.class, () -> client.getAttachmentStreaming(idShortPath));
+    }
+
     //    @Test
     //    public void testGetAttachmentLive() throws InterruptedException, ClientException, InvalidRequestException {
     //        byte[] content = "attachment-content".getBytes();
@@ -376,6 +673,37 @@ public class SubmodelInterfaceTest {
     }
 
 
+    @Test
+    public void testPutAttachmentFromFile() throws ClientException, IOException {
+        byte[] content = "attachment-content".getBytes();
+        Path file = tempFolder.newFile("TestFile.png").toPath();
+        Files.write(file, content);
+        IdShortPath idShortPath = new IdShortPath.Builder()
+                .idShort("list")
+                .index(1)
+                .idShort("property")
+                .build();
+        stubFor(put(urlPathEqualTo(String.format("/api/v3.0/submodel/submodel-elements/%s/attachment", encodeForUrl(idShortPath))))
+                .withMultipartRequestBody(aMultipart()
+                        .withName("fileName")
+                        .withHeader(HttpHeaders.CONTENT_TYPE, equalTo(ContentType.TEXT_PLAIN.withCharset(DEFAULT_CHARSET).toString()))
+                        .withBody(equalTo("TestFile.png")))
+                .withMultipartRequestBody(aMultipart()
+                        .withName("file")
+                        .withFileName("TestFile.png")
+                        .withHeader(HttpHeaders.CONTENT_TYPE, equalTo(ContentType.IMAGE_PNG.toString()))
+                        .withBody(equalTo(new String(content))))
+                .willReturn(aResponse()
+                        .withStatus(204)));
+        client.putAttachment(idShortPath, file, ContentType.IMAGE_PNG.getMimeType());
+        try (FileChannel channel = FileChannel.open(file)) {
+            client.putAttachment(idShortPath, channel, "TestFile.png", ContentType.IMAGE_PNG.getMimeType());
+            assertEquals(0, channel.position());
+        }
+        verify(2, putRequestedFor(urlPathEqualTo(String.format("/api/v3.0/submodel/submodel-elements/%s/attachment", encodeForUrl(idShortPath)))));
+    }
+
+
     @Test
     public void testDeleteFileByPath() throws InterruptedException, ClientException {
         IdShortPath idShortPath = new IdShortPath.Builder()
@@ -425,6 +753,108 @@ public class SubmodelInterfaceTest {
     }
 
 
+    @Test
+    public void testInvokeOperationAsync() throws SerializationException, InterruptedException, ExecutionException, DatatypeConfigurationException,
+            UnsupportedModifierException {
+        OperationRequest request = new DefaultOperationRequest.Builder()
+                .clientTimeoutDuration(DatatypeFactory.newInstance().newDuration(1000))
+                .inputArguments(List.of(
+                        new DefaultOperationVariable.Builder()
+                                .value(newProperty())
+                                .build()))
+                .build();
+        OperationResult expected = new DefaultOperationResult.Builder()
+                .success(true)
+                .executionState(ExecutionState.COMPLETED)
+                .outputArguments(List.of(
+                        new DefaultOperationVariable.Builder()
+                                .value(newProperty())
+                                .build()))
+                .build();
+        IdShortPath idShortPath = new IdShortPath.Builder()
+                .idShort("list")
+                .index(1)
+                .idShort("operation")
+                .build();
+        String operationPath = String.format("/api/v3.0/submodel/submodel-elements/%s", encodeForUrl(idShortPath));
+        stubFor(post(urlPathEqualTo(operationPath + "/invoke-async"))
+                .withRequestBody(equalToJson(serializer.write(request)))
+                .willReturn(aResponse()
+                        .withStatus(202)
+                        .withHeader(HttpHeaders.LOCATION, operationPath + "/operation-status/handle")));
+        stubFor(get(urlPathEqualTo(operationPath + "/operation-status/handle"))
+                .inScenario("operation")
+                .whenScenarioStateIs(STARTED)
+                .willSetStateTo("running")
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.RETRY_AFTER, "0")
+                        .withBody(serializer.write(new DefaultBaseOperationResult.Builder()
+                                .executionState(ExecutionState.RUNNING)
+                                .build()))));
+        stubFor(get(urlPathEqualTo(operationPath + "/operation-status/handle"))
+                .inScenario("operation")
+                .whenScenarioStateIs("running")
+                .willReturn(aResponse()
+                        .withStatus(302)
+                        .withHeader(HttpHeaders.LOCATION, operationPath + "/operation-results/handle")));
+        stubFor(get(urlPathEqualTo(operationPath + "/operation-results/handle"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody(serializer.write(expected))));
+        OperationPoller poller = new OperationPoller.Builder()
+                .initialDelay(Duration.ZERO)
+                .build();
+        OperationResult actual = client.invokeOperationAsync(
+                idShortPath,
+                request.getInputArguments(),
+                List.of(),
+                request.getClientTimeoutDuration(),
+                poller)
+                .get();
+        assertEquals(expected, actual);
+        verify(2, getRequestedFor(urlPathEqualTo(operationPath + "/operation-status/handle")));
+    }
+
+
+    @Test
+    public void testCancelInvokeOperationAsyncStopsPolling() throws SerializationException, InterruptedException, UnsupportedModifierException {
+        IdShortPath idShortPath = new IdShortPath.Builder()
+                .idShort("operation")
+                .build();
+        String operationPath = String.format("/api/v3.0/submodel/submodel-elements/%s", encodeForUrl(idShortPath));
+        String statusPath = operationPath + "/operation-status/handle";
+        server.stubFor(post(urlPathEqualTo(operationPath + "/invoke-async"))
+                .willReturn(aResponse()
+                        .withStatus(202)
+                        .withHeader(HttpHeaders.LOCATION, statusPath)));
+        server.stubFor(get(urlPathEqualTo(statusPath))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody(serializer.write(new DefaultBaseOperationResult.Builder()
+                                .executionState(ExecutionState.RUNNING)
+                                .build()))));
+        OperationPoller poller = new OperationPoller.Builder()
+                .initialDelay(Duration.ofMillis(10))
+                .maxDelay(Duration.ofMillis(10))
+                .jitter(0)
+                .build();
+        CompletableFuture<OperationResult> result = client.invokeOperationAsync(idShortPath, List.of(), List.of(), null, poller);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (server.findAll(getRequestedFor(urlPathEqualTo(statusPath))).size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertTrue(result.cancel(true));
+        Thread.sleep(50);
+        int polls = server.findAll(getRequestedFor(urlPathEqualTo(statusPath))).size();
+        Thread.sleep(200);
+
+        assertTrue(polls >= 2);
+        assertEquals(polls, server.findAll(getRequestedFor(urlPathEqualTo(statusPath))).size());
+    }
+
+
     private static String encodeForUrl(IdShortPath idShortPath) {
         return UriUtils.encodePath(idShortPath.toString(), DEFAULT_CHARSET);
     }
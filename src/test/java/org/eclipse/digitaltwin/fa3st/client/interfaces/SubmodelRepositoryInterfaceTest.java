@@ -14,10 +14,12 @@
 package org.eclipse.digitaltwin.fa3st.client.interfaces;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
 import static com.github.tomakehurst.wiremock.client.WireMock.delete;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.patch;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
@@ -27,23 +29,38 @@ import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newPage;
 import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newProperty;
 import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newSubmodel;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
 import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
 import org.eclipse.digitaltwin.aas4j.v3.model.*;
 import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.exception.NotFoundException;
+import org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException;
 import org.eclipse.digitaltwin.fa3st.client.query.SubmodelSearchCriteria;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.client.util.StreamingPage;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
 import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
 import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
 import org.eclipse.digitaltwin.fa3st.common.exception.ValueMappingException;
 import org.eclipse.digitaltwin.fa3st.common.model.IdShortPath;
+import org.eclipse.digitaltwin.fa3st.common.model.api.modifier.QueryModifier;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
 import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingMetadata;
 import org.eclipse.digitaltwin.fa3st.common.model.value.Datatype;
 import org.eclipse.digitaltwin.fa3st.common.model.value.ElementValue;
@@ -52,6 +69,7 @@ import org.eclipse.digitaltwin.fa3st.common.model.value.mapper.ElementValueMappe
 import org.eclipse.digitaltwin.fa3st.common.typing.ElementValueTypeInfo;
 import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
 import org.eclipse.digitaltwin.fa3st.common.util.ReferenceBuilder;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -83,6 +101,198 @@ public class SubmodelRepositoryInterfaceTest {
     }
 
 
+    @Test
+    public void testGetAllAsync() throws SerializationException, InterruptedException, ExecutionException, UnsupportedModifierException {
+        Page<Submodel> expected = newPage(3, false, Submodel.class);
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels"))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withStatus(200)
+                        .withBody(serializer.write(expected))));
+        List<Submodel> actual = client.getAllAsync().get();
+        assertEquals(expected.getContent(), actual);
+    }
+
+
+    @Test
+    public void testGetAllUsingVirtualThreads() throws SerializationException, InterruptedException, ExecutionException, UnsupportedModifierException {
+        Assume.assumeTrue(HttpHelper.isVirtualThreadSupported());
+        Page<Submodel> expected = newPage(3, false, Submodel.class);
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels"))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withStatus(200)
+                        .withBody(serializer.write(expected))));
+        SubmodelRepositoryInterface virtualThreadClient = new SubmodelRepositoryInterface(
+                URI.create(server.url("/api/v3.0")),
+                HttpHelper.newDefaultClient(true));
+        ExecutorService executor = HttpHelper.newVirtualThreadExecutor();
+        try {
+            List<Future<List<Submodel>>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> virtualThreadClient.getAll()));
+            }
+            for (Future<List<Submodel>> result: results) {
+                assertEquals(expected.getContent(), result.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+
+    @Test
+    public void testStream() throws SerializationException, UnsupportedModifierException {
+        Page<Submodel> page1 = newPage(3, true, Submodel.class);
+        Page<Submodel> page2 = newPage(2, false, Submodel.class);
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels"))
+                .withQueryParam("limit", equalTo("3"))
+                .withQueryParam("cursor", absent())
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withStatus(200)
+                        .withBody(serializer.write(page1))));
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels"))
+                .withQueryParam("limit", equalTo("3"))
+                .withQueryParam("cursor", equalTo(EncodingHelper.base64UrlEncode(page1.getMetadata().getCursor())))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withStatus(200)
+                        .withBody(serializer.write(page2))));
+        List<Submodel> expected = new ArrayList<>(page1.getContent());
+        expected.addAll(page2.getContent());
+        List<Submodel> actual = client.stream(3).toList();
+        assertEquals(expected, actual);
+        server.verify(2, getRequestedFor(urlPathEqualTo("/api/v3.0/submodels")));
+    }
+
+
+    @Test
+    public void testStreamWithPrefetch() throws SerializationException, UnsupportedModifierException {
+        List<Page<Submodel>> pages = List.of(
+                Page.of(newList(3, Submodel.class), PagingMetadata.builder().cursor("cursor1").build()),
+                Page.of(newList(3, Submodel.class), PagingMetadata.builder().cursor("cursor2").build()),
+                Page.of(newList(1, Submodel.class), PagingMetadata.EMPTY));
+        String cursor = null;
+        for (Page<Submodel> page: pages) {
+            server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels"))
+                    .withQueryParam("cursor", Objects.isNull(cursor) ? absent() : equalTo(EncodingHelper.base64UrlEncode(cursor)))
+                    .willReturn(aResponse()
+                            .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                            .withStatus(200)
+                            .withBody(serializer.write(page))));
+            cursor = page.getMetadata().getCursor();
+        }
+        List<Submodel> expected = pages.stream()
+                .flatMap(x -> x.getContent().stream())
+                .toList();
+        List<Submodel> actual = client.stream(SubmodelSearchCriteria.DEFAULT, QueryModifier.DEFAULT, 3, 2).toList();
+        assertEquals(expected, actual);
+        server.verify(3, getRequestedFor(urlPathEqualTo("/api/v3.0/submodels")));
+    }
+
+    @Test
+    public void testStreamIsLazy() throws SerializationException, UnsupportedModifierException {
+        Page<Submodel> page1 = newPage(3, true, Submodel.class);
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels"))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withStatus(200)
+                        .withBody(serializer.write(page1))));
+        List<Submodel> actual = client.stream(3).limit(3).toList();
+        assertEquals(page1.getContent(), actual);
+        server.verify(1, getRequestedFor(urlPathEqualTo("/api/v3.0/submodels")));
+    }
+
+
+    @Test
+    public void testStreamWithError() {
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels"))
+                .willReturn(aResponse()
+                        .withStatus(404)));
+        UncheckedClientException exception = assertThrows(UncheckedClientException.class, () -> client.stream(3).toList());
+        assertTrue(exception.getCause() instanceof NotFoundException);
+    }
+
+    @Test
+    public void testPublisher() throws SerializationException, UnsupportedModifierException, InterruptedException, ExecutionException {
+        Page<Submodel> page1 = newPage(3, true, Submodel.class);
+        Page<Submodel> page2 = newPage(2, false, Submodel.class);
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels"))
+                .withQueryParam("cursor", absent())
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withStatus(200)
+                        .withBody(serializer.write(page1))));
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels"))
+                .withQueryParam("cursor", equalTo(EncodingHelper.base64UrlEncode(page1.getMetadata().getCursor())))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withStatus(200)
+                        .withBody(serializer.write(page2))));
+        List<Submodel> expected = new ArrayList<>(page1.getContent());
+        expected.addAll(page2.getContent());
+        List<Submodel> actual = new ArrayList<>();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        client.publisher(3).subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+
+            @Override
+            public void onNext(Submodel item) {
+                actual.add(item);
+                subscription.request(1);
+            }
+
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+
+            @Override
+            public void onComplete() {
+                completed.complete(null);
+            }
+        });
+        completed.get();
+        assertEquals(expected, actual);
+        server.verify(2, getRequestedFor(urlPathEqualTo("/api/v3.0/submodels")));
+    }
+
+    @Test
+    public void testGetStreaming() throws SerializationException, ClientException, UnsupportedModifierException {
+        Page<Submodel> expected = newPage(3, true, Submodel.class);
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels"))
+                .willReturn(aResponse()
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withStatus(200)
+                        .withBody(serializer.write(expected))));
+        try (StreamingPage<Submodel> actual = client.getStreaming(PagingInfo.builder().limit(3).build())) {
+            assertEquals(expected.getContent(), actual.stream().toList());
+            assertEquals(expected.getMetadata().getCursor(), actual.getCursor());
+        }
+    }
+
+
+    @Test
+    public void testGetStreamingWithError() {
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/submodels"))
+                .willReturn(aResponse()
+                        .withStatus(404)
+                        .withBody("not found")));
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> client.getStreaming(PagingInfo.builder().limit(3).build()));
+        assertEquals("not found", exception.getBody());
+    }
+
     @Test
     public void testGetAllReference() throws SerializationException, InterruptedException, ClientException, UnsupportedModifierException {
         List<Reference> expected = newList(3, Submodel.class).stream()
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.binaryEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASRepositoryInterface;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class ApacheHttpTransportTest {
+
+    private static final ApiSerializer serializer = new JsonApiSerializer();
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    @Test
+    public void testSession() throws SerializationException, ClientException, UnsupportedModifierException {
+        AssetAdministrationShell expected = newAAS();
+        String payload = serializer.write(expected);
+        server.stubFor(post(urlPathEqualTo("/api/v3.0/shells"))
+                .withHeader(HttpHeaders.CONTENT_TYPE, equalTo(ContentType.APPLICATION_JSON.getMimeType()))
+                .withRequestBody(equalToJson(payload))
+                .willReturn(aResponse()
+                        .withStatus(201)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(payload)));
+        server.stubFor(get(urlPathEqualTo("/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId())))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(payload)));
+        try (ClientSession session = new ClientSession.Builder()
+                .transport(new ApacheHttpTransport.Builder()
+                        .maxConnectionsPerRoute(1)
+                        .maxConnectionsTotal(1)
+                        .build())
+                .build()) {
+            AASRepositoryInterface repository = session.getAASRepositoryInterface(URI.create(server.url("/api/v3.0")));
+            assertEquals(expected, repository.post(expected));
+            assertEquals(expected, repository.getAASInterface(expected.getId()).get());
+            assertEquals(expected, repository.getAASInterface(expected.getId()).getAsync().join());
+        }
+    }
+
+
+    @Test
+    public void testStreamRequestAndResponseBody() throws IOException, InterruptedException {
+        byte[] content = new byte[1024 * 1024];
+        new Random(42).nextBytes(content);
+        server.stubFor(post(urlPathEqualTo("/echo"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody(content)));
+        try (ApacheHttpTransport transport = new ApacheHttpTransport.Builder().build()) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(server.url("/echo")))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(content))
+                    .build();
+            HttpResponse<InputStream> response = transport.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            assertEquals(200, response.statusCode());
+            try (InputStream body = response.body()) {
+                assertArrayEquals(content, body.readAllBytes());
+            }
+        }
+        server.verify(postRequestedFor(urlPathEqualTo("/echo"))
+                .withHeader(HttpHeaders.CONTENT_LENGTH, equalTo(Integer.toString(content.length)))
+                .withRequestBody(binaryEqualTo(content)));
+    }
+
+
+    @Test
+    public void testFailedRequestBody() {
+        server.stubFor(post(urlPathEqualTo("/upload"))
+                .willReturn(aResponse()
+                        .withStatus(204)));
+        IOException expected = new IOException("failed to read file");
+        try (ApacheHttpTransport transport = new ApacheHttpTransport.Builder().build()) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(server.url("/upload")))
+                    .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new InputStream() {
+                        @Override
+                        public int read() throws IOException {
+                            throw expected;
+                        }
+                    }))
+                    .build();
+            assertThrows(IOException.class, () -> transport.send(request, HttpResponse.BodyHandlers.discarding()));
+        }
+    }
+
+
+    @Test(timeout = 5000)
+    public void testCloseAbortsRunningRequests() throws InterruptedException {
+        server.stubFor(get(urlPathEqualTo("/slow"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(30000)));
+        ApacheHttpTransport transport = new ApacheHttpTransport.Builder().build();
+        CompletableFuture<HttpResponse<String>> response = transport.sendAsync(
+                HttpRequest.newBuilder(URI.create(server.url("/slow"))).build(),
+                HttpResponse.BodyHandlers.ofString());
+        Thread.sleep(200);
+        transport.close();
+        assertTrue(assertThrows(Exception.class, () -> response.get(2, TimeUnit.SECONDS)) instanceof ExecutionException
+                || response.isCancelled());
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.auth.AccessToken;
+import org.eclipse.digitaltwin.fa3st.client.auth.AuthenticationProvider;
+import org.eclipse.digitaltwin.fa3st.client.auth.BasicAuthenticationProvider;
+import org.eclipse.digitaltwin.fa3st.client.auth.BearerTokenProvider;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASInterface;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASRepositoryInterface;
+import org.eclipse.digitaltwin.fa3st.client.util.HttpHelper;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class AuthenticatingTransportTest {
+
+    private static final ApiSerializer serializer = new JsonApiSerializer();
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    @Test
+    public void testPreemptiveBasicAuthentication() throws SerializationException, ClientException, UnsupportedModifierException {
+        AssetAdministrationShell expected = newAAS();
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId());
+        server.stubFor(get(urlPathEqualTo(path))
+                .withHeader(HttpHeaders.AUTHORIZATION, equalTo("Basic dXNlcjpwYXNzd29yZA=="))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(expected))));
+        ClientSession session = new ClientSession.Builder()
+                .authentication(new BasicAuthenticationProvider("user", "password"))
+                .build();
+        AASRepositoryInterface repository = session.getAASRepositoryInterface(URI.create(server.url("/example/api/v3.0")));
+
+        assertEquals(expected, repository.getAASInterface(expected.getId()).get());
+        server.verify(1, getRequestedFor(urlPathEqualTo(path)));
+    }
+
+
+    @Test
+    public void testBearerTokenAuthentication() throws SerializationException, ClientException, UnsupportedModifierException {
+        AssetAdministrationShell expected = newAAS();
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId());
+        server.stubFor(get(urlPathEqualTo(path))
+                .withHeader(HttpHeaders.AUTHORIZATION, equalTo("Bearer token"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(expected))));
+        AtomicInteger fetchCount = new AtomicInteger();
+        ClientSession session = new ClientSession.Builder()
+                .authentication(new BearerTokenProvider.Builder()
+                        .tokenSource(() -> {
+                            fetchCount.incrementAndGet();
+                            return CompletableFuture.completedFuture(AccessToken.of("token", Duration.ofHours(1)));
+                        })
+                        .build())
+                .build();
+        AASInterface aasInterface = session.getAASRepositoryInterface(URI.create(server.url("/example/api/v3.0")))
+                .getAASInterface(expected.getId());
+
+        assertEquals(expected, aasInterface.get());
+        assertEquals(expected, aasInterface.getAsync().join());
+        assertEquals(1, fetchCount.get());
+        server.verify(2, getRequestedFor(urlPathEqualTo(path)));
+    }
+
+
+    @Test
+    public void testRetryOnceWithNewToken() throws IOException, InterruptedException {
+        server.stubFor(get(urlPathEqualTo("/test"))
+                .withHeader(HttpHeaders.AUTHORIZATION, equalTo("Bearer token2"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody("ok")));
+        server.stubFor(get(urlPathEqualTo("/test"))
+                .withHeader(HttpHeaders.AUTHORIZATION, equalTo("Bearer token1"))
+                .willReturn(aResponse().withStatus(401)));
+        AtomicInteger fetchCount = new AtomicInteger();
+        HttpTransport transport = newTransport(new BearerTokenProvider.Builder()
+                .tokenSource(() -> CompletableFuture.completedFuture(
+                        AccessToken.of("token" + fetchCount.incrementAndGet(), Duration.ofHours(1))))
+                .build());
+
+        assertEquals("ok", transport.sendAsync(request(), HttpResponse.BodyHandlers.ofString()).join().body());
+        assertEquals("ok", transport.send(request(), HttpResponse.BodyHandlers.ofString()).body());
+        assertEquals(2, fetchCount.get());
+        server.verify(3, getRequestedFor(urlPathEqualTo("/test")));
+    }
+
+
+    @Test
+    public void testRetryOnlyOnce() {
+        server.stubFor(get(urlPathEqualTo("/test"))
+                .willReturn(aResponse().withStatus(401)));
+        AtomicInteger fetchCount = new AtomicInteger();
+        HttpTransport transport = newTransport(new BearerTokenProvider.Builder()
+                .tokenSource(() -> CompletableFuture.completedFuture(
+                        AccessToken.of("token" + fetchCount.incrementAndGet(), Duration.ofHours(1))))
+                .build());
+
+        assertEquals(401, transport.sendAsync(request(), HttpResponse.BodyHandlers.ofString()).join().statusCode());
+        assertEquals(2, fetchCount.get());
+        server.verify(2, getRequestedFor(urlPathEqualTo("/test")));
+    }
+
+
+    @Test
+    public void testNoRetryWithoutNewCredentials() {
+        server.stubFor(get(urlPathEqualTo("/test"))
+                .willReturn(aResponse().withStatus(401)));
+        HttpTransport transport = newTransport(new BasicAuthenticationProvider("user", "password"));
+
+        assertEquals(401, transport.sendAsync(request(), HttpResponse.BodyHandlers.ofString()).join().statusCode());
+        server.verify(1, getRequestedFor(urlPathEqualTo("/test")));
+    }
+
+
+    @Test
+    public void testExistingAuthorizationIsKept() throws IOException, InterruptedException {
+        server.stubFor(get(urlPathEqualTo("/test"))
+                .withHeader(HttpHeaders.AUTHORIZATION, equalTo("Bearer custom"))
+                .willReturn(aResponse().withStatus(200)));
+        AtomicInteger fetchCount = new AtomicInteger();
+        HttpTransport transport = newTransport(() -> {
+            fetchCount.incrementAndGet();
+            return CompletableFuture.completedFuture("Bearer token");
+        });
+        HttpRequest request = HttpRequest.newBuilder(URI.create(server.url("/test")))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer custom")
+                .build();
+
+        assertEquals(200, transport.sendAsync(request, HttpResponse.BodyHandlers.discarding()).join().statusCode());
+        assertEquals(200, transport.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+        assertEquals(0, fetchCount.get());
+    }
+
+
+    @Test
+    public void testFailureToObtainCredentials() {
+        server.stubFor(get(urlPathEqualTo("/test"))
+                .withHeader(HttpHeaders.AUTHORIZATION, absent())
+                .willReturn(aResponse().withStatus(200)));
+        IllegalStateException expected = new IllegalStateException("token endpoint unavailable");
+        HttpTransport transport = newTransport(() -> CompletableFuture.failedFuture(expected));
+
+        CompletionException actual = assertThrows(CompletionException.class,
+                () -> transport.sendAsync(request(), HttpResponse.BodyHandlers.discarding()).join());
+        assertTrue(actual.getCause() instanceof IOException);
+        assertSame(expected, actual.getCause().getCause());
+        IOException actualSync = assertThrows(IOException.class, () -> transport.send(request(), HttpResponse.BodyHandlers.discarding()));
+        assertSame(expected, actualSync.getCause());
+        server.verify(0, getRequestedFor(urlPathEqualTo("/test")));
+    }
+
+
+    private HttpRequest request() {
+        return HttpRequest.newBuilder(URI.create(server.url("/test"))).build();
+    }
+
+
+    private static HttpTransport newTransport(AuthenticationProvider authenticationProvider) {
+        return new AuthenticatingTransport(new JdkHttpTransport(HttpHelper.newDefaultClient()), authenticationProvider);
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.impl.BasicEntityDetails;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.junit.Test;
+
+
+public class BodyHandlerResponseConsumerTest {
+
+    private static final int CAPACITY_INCREMENT = 64 * 1024;
+    private static final HttpRequest REQUEST = HttpRequest.newBuilder(URI.create("http://localhost/test")).build();
+
+    @Test
+    public void testCapacityIsOnlyGrantedOnDemand() throws HttpException, IOException {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        BodyHandlerResponseConsumer<List<ByteBuffer>> consumer = new BodyHandlerResponseConsumer<>(REQUEST, info -> subscriber);
+        ResultCallback<List<ByteBuffer>> callback = new ResultCallback<>();
+        RecordingCapacityChannel channel = new RecordingCapacityChannel();
+        consumer.consumeResponse(new BasicHttpResponse(200), new BasicEntityDetails(-1, null), HttpCoreContext.create(), callback);
+        consumer.updateCapacity(channel);
+        assertTrue(channel.updates.isEmpty());
+
+        subscriber.subscription.request(1);
+        assertEquals(List.of(CAPACITY_INCREMENT), channel.updates);
+
+        consumer.consume(ByteBuffer.wrap(new byte[CAPACITY_INCREMENT]));
+        assertEquals(1, subscriber.received.size());
+        // data sent by the server beyond the demand of the subscriber is buffered without granting more capacity
+        consumer.consume(ByteBuffer.wrap(new byte[10]));
+        assertEquals(1, subscriber.received.size());
+        assertEquals(1, channel.updates.size());
+
+        subscriber.subscription.request(1);
+        assertEquals(2, subscriber.received.size());
+        assertEquals(1, channel.updates.size());
+
+        subscriber.subscription.request(1);
+        assertEquals(2, channel.updates.size());
+
+        consumer.streamEnd(null);
+        assertTrue(subscriber.completed);
+        assertEquals(200, callback.result.join().statusCode());
+    }
+
+
+    @Test
+    public void testBody() throws HttpException, IOException, InterruptedException, ExecutionException {
+        BodyHandlerResponseConsumer<byte[]> consumer = new BodyHandlerResponseConsumer<>(REQUEST, HttpResponse.BodyHandlers.ofByteArray());
+        ResultCallback<byte[]> callback = new ResultCallback<>();
+        BasicHttpResponse response = new BasicHttpResponse(201);
+        response.addHeader("ETag", "\"1\"");
+        consumer.consumeResponse(response, new BasicEntityDetails(6, null), HttpCoreContext.create(), callback);
+        consumer.updateCapacity(new RecordingCapacityChannel());
+        consumer.consume(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8)));
+        consumer.consume(ByteBuffer.wrap("bar".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(callback.result.isDone());
+        consumer.streamEnd(null);
+        HttpResponse<byte[]> actual = callback.result.get();
+        assertEquals(201, actual.statusCode());
+        assertEquals("\"1\"", actual.headers().firstValue("etag").orElseThrow());
+        assertArrayEquals("foobar".getBytes(StandardCharsets.UTF_8), actual.body());
+        assertSame(REQUEST, actual.request());
+    }
+
+
+    @Test
+    public void testResponseWithoutEntity() throws HttpException, IOException, InterruptedException, ExecutionException {
+        BodyHandlerResponseConsumer<String> consumer = new BodyHandlerResponseConsumer<>(REQUEST, HttpResponse.BodyHandlers.ofString());
+        ResultCallback<String> callback = new ResultCallback<>();
+        consumer.consumeResponse(new BasicHttpResponse(204), null, HttpCoreContext.create(), callback);
+        assertEquals("", callback.result.get().body());
+    }
+
+
+    @Test
+    public void testCancelBeforeExchangeIsKnown() throws HttpException, IOException {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        BodyHandlerResponseConsumer<List<ByteBuffer>> consumer = new BodyHandlerResponseConsumer<>(REQUEST, info -> subscriber);
+        consumer.consumeResponse(new BasicHttpResponse(200), new BasicEntityDetails(-1, null), HttpCoreContext.create(), new ResultCallback<>());
+        subscriber.subscription.cancel();
+        CompletableFuture<Void> exchange = new CompletableFuture<>();
+        consumer.setExchange(exchange);
+        assertTrue(exchange.isCancelled());
+        assertThrows(IOException.class, () -> consumer.consume(ByteBuffer.wrap(new byte[10])));
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+
+    @Test
+    public void testCancelWhileStreamingClosesConnection() throws HttpException, IOException {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        BodyHandlerResponseConsumer<List<ByteBuffer>> consumer = new BodyHandlerResponseConsumer<>(REQUEST, info -> subscriber);
+        RecordingCapacityChannel channel = new RecordingCapacityChannel();
+        CompletableFuture<Void> exchange = new CompletableFuture<>();
+        consumer.consumeResponse(new BasicHttpResponse(200), new BasicEntityDetails(-1, null), HttpCoreContext.create(), new ResultCallback<>());
+        consumer.setExchange(exchange);
+        consumer.updateCapacity(channel);
+        consumer.consume(ByteBuffer.wrap(new byte[10]));
+
+        subscriber.subscription.cancel();
+        assertTrue(exchange.isCancelled());
+        // the connection is resumed so that the next chunk fails the exchange instead of returning the connection to
+        // the pool with unread data
+        assertEquals(List.of(CAPACITY_INCREMENT), channel.updates);
+        assertThrows(IOException.class, () -> consumer.consume(ByteBuffer.wrap(new byte[10])));
+        assertTrue(subscriber.received.isEmpty());
+    }
+
+
+    @Test
+    public void testFailureIsPropagated() throws HttpException, IOException {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        BodyHandlerResponseConsumer<List<ByteBuffer>> consumer = new BodyHandlerResponseConsumer<>(REQUEST, info -> subscriber);
+        ResultCallback<List<ByteBuffer>> callback = new ResultCallback<>();
+        consumer.consumeResponse(new BasicHttpResponse(200), new BasicEntityDetails(-1, null), HttpCoreContext.create(), callback);
+        consumer.updateCapacity(new RecordingCapacityChannel());
+        consumer.consume(ByteBuffer.wrap(new byte[10]));
+        IOException expected = new IOException("connection reset");
+        consumer.failed(expected);
+        // failures are signaled without waiting for demand and discard buffered data
+        assertSame(expected, subscriber.error);
+        assertTrue(subscriber.received.isEmpty());
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> callback.result.get());
+        assertSame(expected, actual.getCause());
+    }
+
+
+    @Test
+    public void testCapacityUpdateFailureIsPropagated() throws HttpException, IOException {
+        ManualSubscriber subscriber = new ManualSubscriber();
+        BodyHandlerResponseConsumer<List<ByteBuffer>> consumer = new BodyHandlerResponseConsumer<>(REQUEST, info -> subscriber);
+        consumer.consumeResponse(new BasicHttpResponse(200), new BasicEntityDetails(-1, null), HttpCoreContext.create(), new ResultCallback<>());
+        IOException expected = new IOException("connection closed");
+        consumer.updateCapacity(increment -> {
+            throw expected;
+        });
+        subscriber.subscription.request(1);
+        assertSame(expected, subscriber.error);
+    }
+
+    private static class RecordingCapacityChannel implements CapacityChannel {
+
+        private final List<Integer> updates = new ArrayList<>();
+
+        @Override
+        public void update(int increment) {
+            updates.add(increment);
+        }
+    }
+
+    private static class ResultCallback<T> implements FutureCallback<HttpResponse<T>> {
+
+        private final CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+
+        @Override
+        public void completed(HttpResponse<T> response) {
+            result.complete(response);
+        }
+
+
+        @Override
+        public void failed(Exception e) {
+            result.completeExceptionally(e);
+        }
+
+
+        @Override
+        public void cancelled() {
+            result.cancel(false);
+        }
+    }
+
+    private static class ManualSubscriber implements HttpResponse.BodySubscriber<List<ByteBuffer>> {
+
+        private final CompletableFuture<List<ByteBuffer>> body = new CompletableFuture<>();
+        private final List<ByteBuffer> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public CompletionStage<List<ByteBuffer>> getBody() {
+            return body;
+        }
+
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            received.addAll(item);
+        }
+
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            body.completeExceptionally(throwable);
+        }
+
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            body.complete(received);
+        }
+    }
+}
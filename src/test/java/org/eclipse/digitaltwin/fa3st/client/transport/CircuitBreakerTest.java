@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASInterface;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+    private static final Duration WAIT_DURATION = Duration.ofMillis(50);
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    @Test
+    public void testCircuitBreakerFailsFast() {
+        String id = newAAS().getId();
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(id);
+        server.stubFor(get(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(503)));
+        ClientSession session = new ClientSession.Builder()
+                .circuitBreakerPolicy(new CircuitBreakerPolicy.Builder()
+                        .slidingWindowSize(4)
+                        .minimumNumberOfCalls(2)
+                        .build())
+                .build();
+        AASInterface aasInterface = session.getAASRepositoryInterface(URI.create(server.url("/example/api/v3.0")))
+                .getAASInterface(id);
+
+        assertThrows(ClientException.class, aasInterface::get);
+        assertThrows(ClientException.class, aasInterface::get);
+        ConnectivityException exception = assertThrows(ConnectivityException.class, aasInterface::get);
+        assertTrue(exception.getCause() instanceof CircuitBreakerOpenException);
+        server.verify(2, getRequestedFor(urlPathEqualTo(path)));
+    }
+
+
+
+
+    @Test
+    public void testOpensWhenFailureRateIsExceeded() {
+        CircuitBreaker circuitBreaker = newCircuitBreaker(new CircuitBreakerPolicy.Builder());
+        for (int i = 0; i < 3; i++) {
+            call(circuitBreaker, false);
+        }
+        assertEquals(-1, circuitBreaker.getFailureRate(), 0);
+        call(circuitBreaker, true);
+        assertEquals(25, circuitBreaker.getFailureRate(), 0);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+
+        // the oldest success is evicted from the sliding window
+        call(circuitBreaker, true);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        assertEquals(1, circuitBreaker.getNumberOfNotPermittedCalls());
+    }
+
+
+    @Test
+    public void testSlidingWindowForgetsOldFailures() {
+        CircuitBreaker circuitBreaker = newCircuitBreaker(new CircuitBreakerPolicy.Builder()
+                .failureRateThreshold(75));
+        call(circuitBreaker, true);
+        call(circuitBreaker, true);
+        call(circuitBreaker, false);
+        call(circuitBreaker, false);
+        assertEquals(50, circuitBreaker.getFailureRate(), 0);
+        call(circuitBreaker, false);
+        call(circuitBreaker, false);
+        assertEquals(0, circuitBreaker.getFailureRate(), 0);
+        call(circuitBreaker, true);
+        call(circuitBreaker, true);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        call(circuitBreaker, true);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+
+    @Test
+    public void testOpensWhenSlowCallRateIsExceeded() {
+        CircuitBreaker circuitBreaker = newCircuitBreaker(new CircuitBreakerPolicy.Builder()
+                .slowCallDuration(Duration.ofMillis(100))
+                .slowCallRateThreshold(50));
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onResult(FAST, false);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onResult(FAST, false);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onResult(SLOW, false);
+        assertEquals(-1, circuitBreaker.getSlowCallRate(), 0);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onResult(SLOW, false);
+        assertEquals(50, circuitBreaker.getSlowCallRate(), 0);
+        assertEquals(0, circuitBreaker.getFailureRate(), 0);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+
+    @Test
+    public void testHalfOpenClosesAfterSuccessfulTrialCalls() throws InterruptedException {
+        CircuitBreaker circuitBreaker = newCircuitBreaker(new CircuitBreakerPolicy.Builder());
+        open(circuitBreaker);
+        assertFalse(circuitBreaker.tryAcquirePermission());
+
+        Thread.sleep(WAIT_DURATION.toMillis() * 2);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+
+        circuitBreaker.onResult(FAST, false);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        circuitBreaker.onResult(FAST, false);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        // the outcomes recorded before the circuit opened are discarded
+        assertEquals(-1, circuitBreaker.getFailureRate(), 0);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+    }
+
+
+    @Test
+    public void testHalfOpenReopensOnFailureOrSlowCall() throws InterruptedException {
+        CircuitBreaker circuitBreaker = newCircuitBreaker(new CircuitBreakerPolicy.Builder()
+                .slowCallDuration(Duration.ofMillis(100)));
+        open(circuitBreaker);
+        Thread.sleep(WAIT_DURATION.toMillis() * 2);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onResult(FAST, true);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+
+        Thread.sleep(WAIT_DURATION.toMillis() * 2);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onResult(SLOW, false);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+
+    @Test
+    public void testReleasedPermissionIsAvailableAgain() throws InterruptedException {
+        CircuitBreaker circuitBreaker = newCircuitBreaker(new CircuitBreakerPolicy.Builder());
+        open(circuitBreaker);
+        Thread.sleep(WAIT_DURATION.toMillis() * 2);
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertFalse(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.releasePermission();
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+    }
+
+
+    @Test
+    public void testCancelReleasesPermission() throws InterruptedException {
+        CircuitBreakerPolicy policy = newPolicy(new CircuitBreakerPolicy.Builder());
+        PendingTransport delegate = new PendingTransport();
+        CircuitBreakingTransport transport = new CircuitBreakingTransport(delegate, policy);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost/test")).build();
+        CircuitBreaker circuitBreaker = transport.getCircuitBreaker(request.uri());
+        open(circuitBreaker);
+        Thread.sleep(WAIT_DURATION.toMillis() * 2);
+
+        CompletableFuture<HttpResponse<Void>> first = transport.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        transport.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        assertThrows(CompletionException.class, () -> transport.sendAsync(request, HttpResponse.BodyHandlers.discarding()).join());
+
+        first.cancel(true);
+        assertTrue(delegate.exchange.isCancelled());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        CompletableFuture<HttpResponse<Void>> third = transport.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        assertFalse(third.isDone());
+    }
+
+
+    @Test
+    public void testCircuitsArePerEndpoint() {
+        CircuitBreakerPolicy policy = newPolicy(new CircuitBreakerPolicy.Builder());
+        FailingTransport delegate = new FailingTransport();
+        CircuitBreakingTransport transport = new CircuitBreakingTransport(delegate, policy);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://host1/test")).build();
+        for (int i = 0; i < 4; i++) {
+            assertThrows(CompletionException.class, () -> transport.sendAsync(request, HttpResponse.BodyHandlers.discarding()).join());
+        }
+        CompletionException actual = assertThrows(CompletionException.class, () -> transport.sendAsync(request, HttpResponse.BodyHandlers.discarding()).join());
+        assertTrue(actual.getCause() instanceof CircuitBreakerOpenException);
+        assertThrows(CircuitBreakerOpenException.class, () -> transport.send(request, HttpResponse.BodyHandlers.discarding()));
+        assertEquals(4, delegate.requests);
+
+        assertSame(transport.getCircuitBreaker(URI.create("http://host1/other")), transport.getCircuitBreaker(request.uri()));
+        assertEquals(CircuitBreaker.State.CLOSED, transport.getCircuitBreaker(URI.create("http://host2/test")).getState());
+        assertEquals(2, transport.getCircuitBreakers().size());
+    }
+
+
+    private static CircuitBreakerPolicy newPolicy(CircuitBreakerPolicy.Builder builder) {
+        return builder
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .waitDurationInOpenState(WAIT_DURATION)
+                .permittedCallsInHalfOpenState(2)
+                .build();
+    }
+
+
+    private static CircuitBreaker newCircuitBreaker(CircuitBreakerPolicy.Builder builder) {
+        return new CircuitBreaker("http://localhost", newPolicy(builder));
+    }
+
+
+    private static void call(CircuitBreaker circuitBreaker, boolean failure) {
+        assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onResult(FAST, failure);
+    }
+
+
+    private static void open(CircuitBreaker circuitBreaker) {
+        while (circuitBreaker.getState() != CircuitBreaker.State.OPEN) {
+            call(circuitBreaker, true);
+        }
+    }
+
+    private static class PendingTransport implements HttpTransport {
+
+        private CompletableFuture<?> exchange;
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+            if (exchange == null) {
+                exchange = result;
+            }
+            return result;
+        }
+    }
+
+    private static class FailingTransport implements HttpTransport {
+
+        private int requests;
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            requests++;
+            return CompletableFuture.failedFuture(new IOException("connection refused"));
+        }
+    }
+}
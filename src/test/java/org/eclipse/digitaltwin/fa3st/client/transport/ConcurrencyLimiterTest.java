@@ -0,0 +1,312 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASInterface;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class ConcurrencyLimiterTest {
+
+    private static final ApiSerializer serializer = new JsonApiSerializer();
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final HttpRequest REQUEST = HttpRequest.newBuilder(URI.create("http://localhost/test")).build();
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    @Test
+    public void testConcurrencyLimitRejectsExcessRequests() throws SerializationException, UnsupportedModifierException, InterruptedException, ExecutionException {
+        AssetAdministrationShell expected = newAAS();
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId());
+        server.stubFor(get(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(500)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(expected))));
+        ConcurrencyLimitPolicy concurrencyLimitPolicy = new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(1)
+                .maxLimit(1)
+                .maxQueueSize(0)
+                .build();
+        ClientSession session = new ClientSession.Builder()
+                .concurrencyLimitPolicy(concurrencyLimitPolicy)
+                .build();
+        AASInterface aasInterface = session.getAASRepositoryInterface(URI.create(server.url("/example/api/v3.0")))
+                .getAASInterface(expected.getId());
+
+        CompletableFuture<AssetAdministrationShell> first = aasInterface.getAsync();
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> aasInterface.getAsync().get());
+        assertTrue(exception.getCause() instanceof ConnectivityException);
+        assertTrue(exception.getCause().getCause() instanceof ConcurrencyLimitExceededException);
+        assertEquals(expected, first.get());
+        server.verify(1, getRequestedFor(urlPathEqualTo(path)));
+    }
+
+
+
+
+    @Test
+    public void testAdditiveIncrease() {
+        ConcurrencyLimiter limiter = newLimiter(new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(2)
+                .maxLimit(3));
+        acquire(limiter, 2);
+        limiter.release(LATENCY, false);
+        assertEquals(3, limiter.getLimit());
+        acquire(limiter, 2);
+        limiter.release(LATENCY, false);
+        assertEquals(3, limiter.getLimit());
+    }
+
+
+    @Test
+    public void testNoIncreaseIfLimitIsNotUsed() {
+        ConcurrencyLimiter limiter = newLimiter(new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(10));
+        acquire(limiter, 1);
+        limiter.release(LATENCY, false);
+        assertEquals(10, limiter.getLimit());
+        assertEquals(0, limiter.getInflight());
+    }
+
+
+    @Test
+    public void testMultiplicativeDecreaseOnOverload() {
+        ConcurrencyLimiter limiter = newLimiter(new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(10)
+                .minLimit(4)
+                .backoffRatio(0.5));
+        acquire(limiter, 3);
+        limiter.release(LATENCY, true);
+        assertEquals(5, limiter.getLimit());
+        limiter.release(LATENCY, true);
+        assertEquals(4, limiter.getLimit());
+        limiter.release(LATENCY, true);
+        assertEquals(4, limiter.getLimit());
+        assertEquals(3, limiter.getOverloads());
+    }
+
+
+    @Test
+    public void testDecreaseOnLatencySpike() {
+        ConcurrencyLimiter limiter = newLimiter(new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(10)
+                .maxLimit(10)
+                .backoffRatio(0.5)
+                .latencyTolerance(2));
+        for (int i = 0; i < 10; i++) {
+            acquire(limiter, 1);
+            limiter.release(LATENCY, false);
+        }
+        acquire(limiter, 1);
+        limiter.release(LATENCY * 3, false);
+        assertEquals(5, limiter.getLimit());
+        assertEquals(1, limiter.getOverloads());
+    }
+
+
+    @Test
+    public void testQueuedPermitIsGrantedOnRelease() {
+        ConcurrencyLimiter limiter = newLimiter(new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(1)
+                .maxLimit(1));
+        acquire(limiter, 1);
+        CompletableFuture<Void> queued = limiter.acquire();
+        assertFalse(queued.isDone());
+        assertEquals(1, limiter.getQueueSize());
+        limiter.release();
+        assertTrue(queued.isDone());
+        assertEquals(1, limiter.getInflight());
+        assertEquals(0, limiter.getQueueSize());
+    }
+
+
+    @Test
+    public void testQueueTimeout() throws InterruptedException {
+        ConcurrencyLimiter limiter = newLimiter(new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(1)
+                .maxLimit(1)
+                .maxQueueTime(Duration.ofMillis(50)));
+        acquire(limiter, 1);
+        CompletableFuture<Void> queued = limiter.acquire();
+        ExecutionException actual = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        assertTrue(actual.getCause() instanceof ConcurrencyLimitExceededException);
+        assertEquals(0, limiter.getQueueSize());
+        assertEquals(1, limiter.getRejectedRequests());
+        // a timed out permit is not granted anymore
+        limiter.release();
+        assertEquals(0, limiter.getInflight());
+    }
+
+
+    @Test
+    public void testQueueFull() {
+        ConcurrencyLimiter limiter = newLimiter(new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(1)
+                .maxLimit(1)
+                .maxQueueSize(1));
+        acquire(limiter, 1);
+        limiter.acquire();
+        CompletionException actual = assertThrows(CompletionException.class, () -> limiter.acquire().join());
+        assertTrue(actual.getCause() instanceof ConcurrencyLimitExceededException);
+        assertEquals(1, limiter.getRejectedRequests());
+        assertEquals(1, limiter.getQueueSize());
+    }
+
+
+    @Test
+    public void testAbandonQueuedPermit() {
+        ConcurrencyLimiter limiter = newLimiter(new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(1)
+                .maxLimit(1));
+        acquire(limiter, 1);
+        CompletableFuture<Void> abandoned = limiter.acquire();
+        CompletableFuture<Void> queued = limiter.acquire();
+        limiter.abandon(abandoned);
+        assertTrue(abandoned.isCancelled());
+        assertEquals(1, limiter.getQueueSize());
+        limiter.release();
+        assertTrue(queued.isDone());
+        assertEquals(1, limiter.getInflight());
+    }
+
+
+    @Test
+    public void testCancelQueuedRequest() {
+        ConcurrencyLimitPolicy policy = new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(1)
+                .maxLimit(1)
+                .build();
+        PendingTransport delegate = new PendingTransport();
+        ConcurrencyLimitingTransport transport = new ConcurrencyLimitingTransport(delegate, policy);
+        ConcurrencyLimiter limiter = transport.getLimiter(REQUEST.uri());
+        CompletableFuture<HttpResponse<Void>> first = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.discarding());
+        CompletableFuture<HttpResponse<Void>> second = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.discarding());
+        assertEquals(1, limiter.getQueueSize());
+
+        second.cancel(true);
+        assertEquals(0, limiter.getQueueSize());
+        delegate.exchanges.get(0).complete(new TestResponse<>(REQUEST, 200));
+        assertEquals(200, first.join().statusCode());
+        assertEquals(0, limiter.getInflight());
+        assertEquals(1, delegate.exchanges.size());
+    }
+
+
+    @Test
+    public void testCancelInflightRequestReleasesPermit() {
+        ConcurrencyLimitPolicy policy = new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(1)
+                .maxLimit(1)
+                .build();
+        PendingTransport delegate = new PendingTransport();
+        ConcurrencyLimitingTransport transport = new ConcurrencyLimitingTransport(delegate, policy);
+        ConcurrencyLimiter limiter = transport.getLimiter(REQUEST.uri());
+        CompletableFuture<HttpResponse<Void>> first = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.discarding());
+        CompletableFuture<HttpResponse<Void>> second = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.discarding());
+
+        first.cancel(true);
+        assertTrue(delegate.exchanges.get(0).isCancelled());
+        assertEquals(2, delegate.exchanges.size());
+        assertEquals(1, limiter.getInflight());
+        assertEquals(1, limiter.getLimit());
+        delegate.exchanges.get(1).complete(new TestResponse<>(REQUEST, 200));
+        assertEquals(200, second.join().statusCode());
+        assertEquals(0, limiter.getInflight());
+        assertEquals(0, limiter.getOverloads());
+    }
+
+
+    @Test
+    public void testTimeoutSignalsOverload() {
+        ConcurrencyLimitPolicy policy = new ConcurrencyLimitPolicy.Builder()
+                .initialLimit(10)
+                .backoffRatio(0.5)
+                .build();
+        PendingTransport delegate = new PendingTransport();
+        ConcurrencyLimitingTransport transport = new ConcurrencyLimitingTransport(delegate, policy);
+        CompletableFuture<HttpResponse<Void>> timedOut = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.discarding());
+        CompletableFuture<HttpResponse<Void>> unavailable = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.discarding());
+        delegate.exchanges.get(0).completeExceptionally(new HttpTimeoutException("request timed out"));
+        delegate.exchanges.get(1).complete(new TestResponse<>(REQUEST, 503));
+        assertThrows(CompletionException.class, timedOut::join);
+        assertEquals(503, unavailable.join().statusCode());
+        ConcurrencyLimiter limiter = transport.getLimiter(REQUEST.uri());
+        assertEquals(2, limiter.getOverloads());
+        assertEquals(2, limiter.getLimit());
+    }
+
+
+    private static ConcurrencyLimiter newLimiter(ConcurrencyLimitPolicy.Builder builder) {
+        return new ConcurrencyLimiter("http://localhost", builder.build());
+    }
+
+
+    private static void acquire(ConcurrencyLimiter limiter, int permits) {
+        for (int i = 0; i < permits; i++) {
+            assertTrue(limiter.acquire().isDone());
+        }
+    }
+
+    private static class PendingTransport implements HttpTransport {
+
+        private final List<CompletableFuture<HttpResponse<?>>> exchanges = new ArrayList<>();
+
+        @Override
+        @SuppressWarnings({
+                "unchecked",
+                "rawtypes"
+        })
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+            exchanges.add((CompletableFuture) result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASInterface;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class HedgingTransportTest {
+
+    private static final ApiSerializer serializer = new JsonApiSerializer();
+    private static final HttpRequest REQUEST = HttpRequest.newBuilder(URI.create("http://localhost/test")).build();
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    private ManualTransport delegate;
+    private HedgingPolicy policy;
+    private HedgingTransport transport;
+
+    @Before
+    public void setup() {
+        delegate = new ManualTransport();
+        policy = new HedgingPolicy.Builder()
+                .delay(Duration.ofMillis(20))
+                .build();
+        transport = new HedgingTransport(delegate, policy);
+    }
+
+    @Test
+    public void testHedgedGetRequest() throws SerializationException, ClientException, UnsupportedModifierException {
+        AssetAdministrationShell expected = newAAS();
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId());
+        server.stubFor(get(urlPathEqualTo(path))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(5000)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(expected))));
+        server.stubFor(get(urlPathEqualTo(path))
+                .withHeader("X-Hedged", equalTo("true"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(expected))));
+        HedgingPolicy hedgingPolicy = new HedgingPolicy.Builder()
+                .delay(Duration.ofMillis(100))
+                .hedgeRequest(x -> HttpRequest.newBuilder(x, (name, value) -> true)
+                        .header("X-Hedged", "true")
+                        .build())
+                .build();
+        ClientSession session = new ClientSession.Builder()
+                .hedgingPolicy(hedgingPolicy)
+                .build();
+        AASInterface aasInterface = session.getAASRepositoryInterface(URI.create(server.url("/example/api/v3.0")))
+                .getAASInterface(expected.getId());
+
+        assertEquals(expected, aasInterface.get());
+        server.verify(2, getRequestedFor(urlPathEqualTo(path)));
+        assertEquals(1, hedgingPolicy.getMetrics().getHedgeWins());
+    }
+
+
+
+
+    @Test
+    public void testHedgeWinsAndPrimaryIsCancelled() throws InterruptedException {
+        CompletableFuture<HttpResponse<String>> result = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<HttpResponse<?>> primary = delegate.nextAttempt();
+        CompletableFuture<HttpResponse<?>> hedge = delegate.nextAttempt();
+        assertFalse(result.isDone());
+
+        HttpResponse<String> expected = new TestResponse<>(REQUEST, 200, Map.of(), "hedge");
+        hedge.complete(expected);
+        assertSame(expected, result.join());
+        awaitCancelled(primary);
+        assertEquals(1, policy.getMetrics().getRequests());
+        assertEquals(1, policy.getMetrics().getHedgedRequests());
+        assertEquals(1, policy.getMetrics().getHedgeWins());
+    }
+
+
+    @Test
+    public void testPrimaryWinsAndHedgeIsCancelled() throws InterruptedException {
+        CompletableFuture<HttpResponse<String>> result = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<HttpResponse<?>> primary = delegate.nextAttempt();
+        CompletableFuture<HttpResponse<?>> hedge = delegate.nextAttempt();
+
+        HttpResponse<String> expected = new TestResponse<>(REQUEST, 200, Map.of(), "primary");
+        primary.complete(expected);
+        assertSame(expected, result.join());
+        awaitCancelled(hedge);
+        assertEquals(1, policy.getMetrics().getHedgedRequests());
+        assertEquals(0, policy.getMetrics().getHedgeWins());
+    }
+
+
+    @Test
+    public void testFastResponseIsNotHedged() throws InterruptedException {
+        CompletableFuture<HttpResponse<String>> result = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        delegate.nextAttempt().complete(new TestResponse<>(REQUEST, 200));
+        assertEquals(200, result.join().statusCode());
+        Thread.sleep(100);
+        assertTrue(delegate.attempts.isEmpty());
+        assertEquals(1, policy.getMetrics().getRequests());
+        assertEquals(0, policy.getMetrics().getHedgedRequests());
+    }
+
+
+    @Test
+    public void testLateResponseIsDiscarded() throws InterruptedException {
+        CompletableFuture<HttpResponse<InputStream>> result = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofInputStream());
+        CompletableFuture<HttpResponse<?>> primary = delegate.nextAttempt();
+        CompletableFuture<HttpResponse<?>> hedge = delegate.nextAttempt();
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream body = new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        // the response of the other attempt arrives before it is cancelled
+        delegate.ignoreCancel = true;
+        hedge.complete(new TestResponse<>(REQUEST, 200));
+        assertEquals(200, result.join().statusCode());
+        primary.complete(new TestResponse<>(REQUEST, 200, Map.of(), body));
+        assertTrue(closed.get());
+        assertEquals(1, policy.getMetrics().getHedgeWins());
+    }
+
+
+    @Test
+    public void testFailsOnlyIfAllAttemptsFail() throws InterruptedException {
+        CompletableFuture<HttpResponse<String>> result = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<HttpResponse<?>> primary = delegate.nextAttempt();
+        CompletableFuture<HttpResponse<?>> hedge = delegate.nextAttempt();
+        primary.completeExceptionally(new IOException("connection reset"));
+        assertFalse(result.isDone());
+        IOException expected = new IOException("connection refused");
+        hedge.completeExceptionally(expected);
+        CompletionException actual = assertThrows(CompletionException.class, result::join);
+        assertSame(expected, actual.getCause());
+        assertEquals(0, policy.getMetrics().getHedgeWins());
+    }
+
+
+    @Test
+    public void testFailureBeforeHedgeDelay() throws InterruptedException {
+        CompletableFuture<HttpResponse<String>> result = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        IOException expected = new IOException("connection refused");
+        delegate.nextAttempt().completeExceptionally(expected);
+        CompletionException actual = assertThrows(CompletionException.class, result::join);
+        assertSame(expected, actual.getCause());
+        Thread.sleep(100);
+        assertTrue(delegate.attempts.isEmpty());
+        assertEquals(0, policy.getMetrics().getHedgedRequests());
+    }
+
+
+    @Test
+    public void testCancelCancelsAllAttempts() throws InterruptedException {
+        CompletableFuture<HttpResponse<String>> result = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<HttpResponse<?>> primary = delegate.nextAttempt();
+        CompletableFuture<HttpResponse<?>> hedge = delegate.nextAttempt();
+        result.cancel(true);
+        assertTrue(primary.isCancelled());
+        awaitCancelled(hedge);
+
+        CompletableFuture<HttpResponse<String>> cancelledEarly = transport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<HttpResponse<?>> unhedged = delegate.nextAttempt();
+        cancelledEarly.cancel(true);
+        assertTrue(unhedged.isCancelled());
+        Thread.sleep(100);
+        assertTrue(delegate.attempts.isEmpty());
+    }
+
+
+    @Test
+    public void testOnlyReadRequestsAreHedged() throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(REQUEST.uri())
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        CompletableFuture<HttpResponse<String>> result = transport.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<HttpResponse<?>> attempt = delegate.nextAttempt();
+        Thread.sleep(100);
+        assertTrue(delegate.attempts.isEmpty());
+        attempt.complete(new TestResponse<>(request, 201));
+        assertEquals(201, result.join().statusCode());
+        assertEquals(0, policy.getMetrics().getRequests());
+    }
+
+
+    @Test
+    public void testNoHedgeUntilLatencyIsKnown() throws InterruptedException {
+        HedgingPolicy adaptivePolicy = new HedgingPolicy.Builder()
+                .windowSize(10)
+                .minSamples(5)
+                .minDelay(Duration.ofMillis(20))
+                .build();
+        HedgingTransport adaptiveTransport = new HedgingTransport(delegate, adaptivePolicy);
+        for (int i = 0; i < 5; i++) {
+            CompletableFuture<HttpResponse<String>> result = adaptiveTransport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+            CompletableFuture<HttpResponse<?>> attempt = delegate.nextAttempt();
+            Thread.sleep(40);
+            assertTrue(delegate.attempts.isEmpty());
+            attempt.complete(new TestResponse<>(REQUEST, 200));
+            result.join();
+        }
+        adaptiveTransport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+        delegate.nextAttempt();
+        // the hedging delay is derived from the latency of the previous requests, i.e., at least 40 ms
+        assertTrue(delegate.attempts.poll(20, TimeUnit.MILLISECONDS) == null);
+        delegate.nextAttempt();
+        assertEquals(1, adaptivePolicy.getMetrics().getHedgedRequests());
+    }
+
+    @Test
+    public void testDelayIsStableUnderSlowTail() throws InterruptedException {
+        HedgingPolicy adaptivePolicy = new HedgingPolicy.Builder()
+                .windowSize(10)
+                .minSamples(5)
+                .minDelay(Duration.ofMillis(1))
+                .build();
+        HedgingTransport adaptiveTransport = new HedgingTransport(delegate, adaptivePolicy);
+        for (int i = 0; i < 5; i++) {
+            CompletableFuture<HttpResponse<String>> result = adaptiveTransport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+            CompletableFuture<HttpResponse<?>> attempt = delegate.nextAttempt();
+            Thread.sleep(50);
+            attempt.complete(new TestResponse<>(REQUEST, 200));
+            result.join();
+        }
+        // every primary is slow and every hedge answers immediately
+        long delay = 0;
+        for (int i = 0; i < 15; i++) {
+            long start = System.nanoTime();
+            CompletableFuture<HttpResponse<String>> result = adaptiveTransport.sendAsync(REQUEST, HttpResponse.BodyHandlers.ofString());
+            CompletableFuture<HttpResponse<?>> primary = delegate.nextAttempt();
+            CompletableFuture<HttpResponse<?>> hedge = delegate.nextAttempt();
+            delay = System.nanoTime() - start;
+            hedge.complete(new TestResponse<>(REQUEST, 200));
+            result.join();
+            awaitCancelled(primary);
+        }
+        assertTrue(delay >= TimeUnit.MILLISECONDS.toNanos(40));
+        assertEquals(15, adaptivePolicy.getMetrics().getHedgeWins());
+    }
+
+    private static void awaitCancelled(CompletableFuture<?> attempt) throws InterruptedException {
+        // losing attempts are cancelled by the thread completing the result, possibly after the caller has been
+        // notified, and a hedge sent concurrently to the completion is cancelled right after it has been sent
+        for (int i = 0; i < 50 && !attempt.isCancelled(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(attempt.isCancelled());
+    }
+
+    private static class ManualTransport implements HttpTransport {
+
+        private final BlockingQueue<CompletableFuture<HttpResponse<?>>> attempts = new LinkedBlockingQueue<>();
+        private volatile boolean ignoreCancel;
+
+        private CompletableFuture<HttpResponse<?>> nextAttempt() throws InterruptedException {
+            CompletableFuture<HttpResponse<?>> result = attempts.poll(5, TimeUnit.SECONDS);
+            assertTrue("expected another attempt", result != null);
+            return result;
+        }
+
+
+        @Override
+        @SuppressWarnings({
+                "unchecked",
+                "rawtypes"
+        })
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>() {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                    return !ignoreCancel && super.cancel(mayInterruptIfRunning);
+                }
+            };
+            attempts.add((CompletableFuture) result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Flow;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.junit.Test;
+
+
+public class PublisherEntityProducerTest {
+
+    @Test
+    public void testRequestsOneBufferAtATime() throws IOException {
+        ManualPublisher publisher = new ManualPublisher(6);
+        PublisherEntityProducer producer = new PublisherEntityProducer(publisher, "text/plain");
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        assertEquals(6, producer.getContentLength());
+        assertFalse(producer.isChunked());
+        assertEquals(1, producer.available());
+
+        producer.produce(channel);
+        assertEquals(1, publisher.requested);
+        assertEquals(0, producer.available());
+
+        publisher.subscriber.onNext(buffer("foo"));
+        assertEquals(1, channel.outputRequests);
+        assertEquals(3, producer.available());
+        producer.produce(channel);
+        assertEquals(2, publisher.requested);
+
+        publisher.subscriber.onNext(buffer("bar"));
+        producer.produce(channel);
+        assertEquals(3, publisher.requested);
+        assertFalse(channel.ended);
+
+        publisher.subscriber.onComplete();
+        assertEquals(1, producer.available());
+        producer.produce(channel);
+        assertTrue(channel.ended);
+        assertEquals("foobar", channel.written());
+        assertEquals(0, producer.available());
+    }
+
+
+    @Test
+    public void testPartialWriteDoesNotRequestMore() throws IOException {
+        ManualPublisher publisher = new ManualPublisher(-1);
+        PublisherEntityProducer producer = new PublisherEntityProducer(publisher, null);
+        RecordingChannel channel = new RecordingChannel(2);
+        assertTrue(producer.isChunked());
+        producer.produce(channel);
+        publisher.subscriber.onNext(buffer("foobar"));
+
+        producer.produce(channel);
+        assertEquals("fo", channel.written());
+        assertEquals(1, publisher.requested);
+        assertEquals(4, producer.available());
+
+        producer.produce(channel);
+        producer.produce(channel);
+        assertEquals("foobar", channel.written());
+        assertEquals(2, publisher.requested);
+    }
+
+
+    @Test
+    public void testPublisherErrorFailsProduce() throws IOException {
+        ManualPublisher publisher = new ManualPublisher(-1);
+        PublisherEntityProducer producer = new PublisherEntityProducer(publisher, null);
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        producer.produce(channel);
+        IOException expected = new IOException("file not readable");
+        publisher.subscriber.onError(expected);
+        assertEquals(1, channel.outputRequests);
+        assertEquals(1, producer.available());
+        IOException actual = assertThrows(IOException.class, () -> producer.produce(channel));
+        assertSame(expected, actual.getCause());
+        assertFalse(channel.ended);
+    }
+
+
+    @Test
+    public void testReleaseResourcesCancelsSubscription() throws IOException {
+        ManualPublisher publisher = new ManualPublisher(-1);
+        PublisherEntityProducer producer = new PublisherEntityProducer(publisher, null);
+        producer.produce(new RecordingChannel(Integer.MAX_VALUE));
+        publisher.subscriber.onNext(buffer("foo"));
+        producer.failed(new IOException("connection reset"));
+        assertTrue(publisher.cancelled);
+        assertEquals(0, producer.available());
+    }
+
+
+    @Test
+    public void testReleaseResourcesAfterCompletionDoesNotCancel() throws IOException {
+        ManualPublisher publisher = new ManualPublisher(0);
+        PublisherEntityProducer producer = new PublisherEntityProducer(publisher, null);
+        RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+        producer.produce(channel);
+        publisher.subscriber.onComplete();
+        producer.produce(channel);
+        producer.releaseResources();
+        assertTrue(channel.ended);
+        assertFalse(publisher.cancelled);
+    }
+
+
+    private static ByteBuffer buffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class ManualPublisher implements HttpRequest.BodyPublisher {
+
+        private final long contentLength;
+        private Flow.Subscriber<? super ByteBuffer> subscriber;
+        private long requested;
+        private boolean cancelled;
+
+        private ManualPublisher(long contentLength) {
+            this.contentLength = contentLength;
+        }
+
+
+        @Override
+        public long contentLength() {
+            return contentLength;
+        }
+
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested += n;
+                }
+
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static class RecordingChannel implements DataStreamChannel {
+
+        private final int maxWrite;
+        private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        private int outputRequests;
+        private boolean ended;
+
+        private RecordingChannel(int maxWrite) {
+            this.maxWrite = maxWrite;
+        }
+
+
+        private String written() {
+            return output.toString(StandardCharsets.UTF_8);
+        }
+
+
+        @Override
+        public void requestOutput() {
+            outputRequests++;
+        }
+
+
+        @Override
+        public int write(ByteBuffer src) {
+            int length = Math.min(maxWrite, src.remaining());
+            byte[] data = new byte[length];
+            src.get(data);
+            output.write(data, 0, length);
+            return length;
+        }
+
+
+        @Override
+        public void endStream() {
+            ended = true;
+        }
+
+
+        @Override
+        public void endStream(List<? extends Header> trailers) {
+            ended = true;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.transport;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newAAS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.ContentType;
+import org.eclipse.digitaltwin.aas4j.v3.model.AssetAdministrationShell;
+import org.eclipse.digitaltwin.fa3st.client.ClientSession;
+import org.eclipse.digitaltwin.fa3st.client.exception.ClientException;
+import org.eclipse.digitaltwin.fa3st.client.interfaces.AASInterface;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.ApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.util.EncodingHelper;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class RetryingTransportTest {
+
+    private static final ApiSerializer serializer = new JsonApiSerializer();
+    private static final URI URI_TEST = URI.create("http://localhost/test");
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    @Test
+    public void testRetryOnServiceUnavailable() throws SerializationException, ClientException, UnsupportedModifierException {
+        AssetAdministrationShell expected = newAAS();
+        String path = "/example/api/v3.0/shells/" + EncodingHelper.base64UrlEncode(expected.getId());
+        server.stubFor(get(urlPathEqualTo(path))
+                .inScenario("retry")
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(aResponse()
+                        .withStatus(503)
+                        .withHeader(HttpHeaders.RETRY_AFTER, "0"))
+                .willSetStateTo("recovered"));
+        server.stubFor(get(urlPathEqualTo(path))
+                .inScenario("retry")
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType())
+                        .withBody(serializer.write(expected))));
+        RetryPolicy retryPolicy = new RetryPolicy.Builder()
+                .initialBackoff(Duration.ofMillis(10))
+                .build();
+        ClientSession session = new ClientSession.Builder()
+                .retryPolicy(retryPolicy)
+                .build();
+        AASInterface aasInterface = session.getAASRepositoryInterface(URI.create(server.url("/example/api/v3.0")))
+                .getAASInterface(expected.getId());
+
+        assertEquals(expected, aasInterface.get());
+        server.verify(2, getRequestedFor(urlPathEqualTo(path)));
+        assertEquals(1, retryPolicy.getMetrics().getRequests());
+        assertEquals(1, retryPolicy.getMetrics().getRecoveredRequests());
+    }
+
+
+
+
+    @Test
+    public void testBackoffWithFullJitter() {
+        RetryPolicy retryPolicy = new RetryPolicy.Builder()
+                .maxAttempts(10)
+                .initialBackoff(Duration.ofMillis(100))
+                .maxBackoff(Duration.ofMillis(500))
+                .multiplier(2)
+                .build();
+        HttpRequest request = request("GET");
+        HttpResponse<Void> response = new TestResponse<>(request, 503);
+        long[] maxDelays = {
+                100,
+                200,
+                400,
+                500,
+                500
+        };
+        for (int attempt = 1; attempt <= maxDelays.length; attempt++) {
+            Set<Long> delays = new HashSet<>();
+            for (int i = 0; i < 100; i++) {
+                long delay = retryPolicy.getRetryDelay(request, response, null, attempt).orElseThrow().toMillis();
+                assertTrue(delay >= 0 && delay <= maxDelays[attempt - 1]);
+                delays.add(delay);
+            }
+            assertTrue("delays must be randomized", delays.size() > 1);
+        }
+        assertEquals(Optional.empty(), retryPolicy.getRetryDelay(request, response, null, 10));
+    }
+
+
+    @Test
+    public void testRetryAfter() {
+        RetryPolicy retryPolicy = new RetryPolicy.Builder()
+                .initialBackoff(Duration.ofMillis(10))
+                .maxBackoff(Duration.ofMillis(10))
+                .maxRetryAfter(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = request("GET");
+        assertEquals(Optional.of(Duration.ofSeconds(3)),
+                retryPolicy.getRetryDelay(request, new TestResponse<>(request, 503, Map.of(HttpHeaders.RETRY_AFTER, List.of("3")), null), null, 1));
+        assertEquals(Optional.of(Duration.ofSeconds(5)),
+                retryPolicy.getRetryDelay(request, new TestResponse<>(request, 429, Map.of(HttpHeaders.RETRY_AFTER, List.of("5")), null), null, 1));
+        // the server asks for a longer delay than the client is willing to wait
+        assertEquals(Optional.empty(),
+                retryPolicy.getRetryDelay(request, new TestResponse<>(request, 503, Map.of(HttpHeaders.RETRY_AFTER, List.of("6")), null), null, 1));
+        // Retry-After is only honored for 429 and 503
+        assertTrue(retryPolicy.getRetryDelay(request, new TestResponse<>(request, 502, Map.of(HttpHeaders.RETRY_AFTER, List.of("60")), null), null, 1)
+                .orElseThrow()
+                .toMillis() <= 10);
+        // invalid values fall back to the backoff
+        assertTrue(retryPolicy.getRetryDelay(request, new TestResponse<>(request, 503, Map.of(HttpHeaders.RETRY_AFTER, List.of("soon")), null), null, 1)
+                .orElseThrow()
+                .toMillis() <= 10);
+    }
+
+
+    @Test
+    public void testRetryableRequests() {
+        RetryPolicy retryPolicy = new RetryPolicy.Builder().build();
+        for (String method: List.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE")) {
+            HttpRequest request = request(method);
+            assertTrue(method, retryPolicy.getRetryDelay(request, new TestResponse<>(request, 503), null, 1).isPresent());
+            assertTrue(method, retryPolicy.getRetryDelay(request, null, new IOException("connection reset"), 1).isPresent());
+        }
+        HttpRequest request = request("GET");
+        assertFalse(retryPolicy.getRetryDelay(request, new TestResponse<>(request, 500), null, 1).isPresent());
+        assertFalse(retryPolicy.getRetryDelay(request, new TestResponse<>(request, 404), null, 1).isPresent());
+        assertFalse(retryPolicy.getRetryDelay(request, null, new IllegalStateException(), 1).isPresent());
+        assertFalse(retryPolicy.getRetryDelay(request, null, new CompletionException(new CircuitBreakerOpenException("open")), 1).isPresent());
+        assertTrue(retryPolicy.getRetryDelay(request, null, new CompletionException(new IOException("connection reset")), 1).isPresent());
+    }
+
+
+    @Test
+    public void testRetryPostOnlyIfEnabled() {
+        RetryPolicy retryPolicy = new RetryPolicy.Builder().build();
+        HttpRequest post = request("POST");
+        HttpRequest patch = request("PATCH");
+        assertFalse(retryPolicy.getRetryDelay(post, new TestResponse<>(post, 503), null, 1).isPresent());
+        assertFalse(retryPolicy.getRetryDelay(post, null, new IOException("connection reset"), 1).isPresent());
+        // the request has not been sent if the connection could not be established
+        assertTrue(retryPolicy.getRetryDelay(post, null, new ConnectException("connection refused"), 1).isPresent());
+        assertFalse(retryPolicy.getRetryDelay(patch, new TestResponse<>(patch, 503), null, 1).isPresent());
+
+        RetryPolicy retryPostPolicy = new RetryPolicy.Builder()
+                .retryPost(true)
+                .build();
+        assertTrue(retryPostPolicy.getRetryDelay(post, new TestResponse<>(post, 503), null, 1).isPresent());
+        assertTrue(retryPostPolicy.getRetryDelay(post, null, new IOException("connection reset"), 1).isPresent());
+        assertFalse(retryPostPolicy.getRetryDelay(patch, new TestResponse<>(patch, 503), null, 1).isPresent());
+        assertFalse(retryPostPolicy.getRetryDelay(patch, null, new IOException("connection reset"), 1).isPresent());
+    }
+
+
+    @Test
+    public void testRetriesExhausted() throws IOException, InterruptedException {
+        RetryPolicy retryPolicy = new RetryPolicy.Builder()
+                .initialBackoff(Duration.ZERO)
+                .maxBackoff(Duration.ZERO)
+                .build();
+        ScriptedTransport delegate = new ScriptedTransport();
+        RetryingTransport transport = new RetryingTransport(delegate, retryPolicy);
+        for (int i = 0; i < 3; i++) {
+            delegate.respond(503);
+        }
+        assertEquals(503, transport.sendAsync(request("GET"), HttpResponse.BodyHandlers.discarding()).join().statusCode());
+        for (int i = 0; i < 3; i++) {
+            delegate.respond(503);
+        }
+        assertEquals(503, transport.send(request("GET"), HttpResponse.BodyHandlers.discarding()).statusCode());
+        assertEquals(6, delegate.requests.get());
+        assertEquals(2, retryPolicy.getMetrics().getRequests());
+        assertEquals(4, retryPolicy.getMetrics().getRetries());
+        assertEquals(2, retryPolicy.getMetrics().getExhaustedRequests());
+        assertEquals(0, retryPolicy.getMetrics().getRecoveredRequests());
+    }
+
+
+    @Test
+    public void testErrorOfLastAttempt() {
+        RetryPolicy retryPolicy = new RetryPolicy.Builder()
+                .maxAttempts(2)
+                .initialBackoff(Duration.ZERO)
+                .maxBackoff(Duration.ZERO)
+                .build();
+        ScriptedTransport delegate = new ScriptedTransport();
+        RetryingTransport transport = new RetryingTransport(delegate, retryPolicy);
+        IOException expected = new IOException("connection reset");
+        delegate.fail(new IOException("connection refused"));
+        delegate.fail(expected);
+        CompletionException actual = assertThrows(CompletionException.class,
+                () -> transport.sendAsync(request("GET"), HttpResponse.BodyHandlers.discarding()).join());
+        assertSame(expected, actual.getCause());
+        assertEquals(2, delegate.requests.get());
+
+        delegate.fail(new IOException("connection refused"));
+        delegate.fail(expected);
+        assertSame(expected, assertThrows(IOException.class, () -> transport.send(request("GET"), HttpResponse.BodyHandlers.discarding())));
+        assertEquals(4, delegate.requests.get());
+        assertEquals(2, retryPolicy.getMetrics().getExhaustedRequests());
+    }
+
+
+    private static HttpRequest request(String method) {
+        return HttpRequest.newBuilder(URI_TEST)
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private static class ScriptedTransport implements HttpTransport {
+
+        private final Deque<Object> outcomes = new ArrayDeque<>();
+        private final AtomicInteger requests = new AtomicInteger();
+
+        private void respond(int statusCode) {
+            outcomes.add(statusCode);
+        }
+
+
+        private void fail(IOException error) {
+            outcomes.add(error);
+        }
+
+
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            requests.incrementAndGet();
+            Object outcome = outcomes.poll();
+            if (outcome instanceof IOException) {
+                return CompletableFuture.failedFuture((IOException) outcome);
+            }
+            return CompletableFuture.completedFuture(new TestResponse<>(request, (Integer) outcome));
+        }
+    }
+}
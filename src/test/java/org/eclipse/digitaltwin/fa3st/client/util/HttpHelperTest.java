@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.util;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ExecutorService;
+import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+
+
+public class HttpHelperTest {
+
+    @Rule
+    public WireMockRule server = new WireMockRule();
+
+    @Test
+    public void testNewClientWithVirtualThreadsFallsBackOnUnsupportedRuntime() throws ConnectivityException {
+        Assume.assumeFalse(HttpHelper.isVirtualThreadSupported());
+        assertUsable(HttpHelper.newDefaultClient(true));
+        assertUsable(HttpHelper.newUsernamePasswordClient("user", "password", true));
+        assertUsable(HttpHelper.newTrustAllCertificatesClient(true));
+        assertUsable(HttpHelper.newClient(null, null, false, true));
+        assertFalse(HttpHelper.newDefaultClient(true).executor().isPresent());
+    }
+
+
+    @Test
+    public void testNewVirtualThreadExecutorOnUnsupportedRuntime() {
+        Assume.assumeFalse(HttpHelper.isVirtualThreadSupported());
+        assertThrows(UnsupportedOperationException.class, HttpHelper::newVirtualThreadExecutor);
+    }
+
+
+    @Test
+    public void testNewClientWithVirtualThreads() throws ConnectivityException {
+        Assume.assumeTrue(HttpHelper.isVirtualThreadSupported());
+        HttpClient client = HttpHelper.newDefaultClient(true);
+        assertTrue(client.executor().isPresent());
+        assertUsable(client);
+        ExecutorService executor = HttpHelper.newVirtualThreadExecutor();
+        executor.shutdown();
+    }
+
+
+    private void assertUsable(HttpClient client) throws ConnectivityException {
+        server.stubFor(get(urlPathEqualTo("/ping"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withBody("pong")));
+        HttpResponse<String> response = HttpHelper.send(client, HttpHelper.createGetRequest(URI.create(server.url("/ping"))));
+        assertEquals(200, response.statusCode());
+        assertEquals("pong", response.body());
+    }
+}
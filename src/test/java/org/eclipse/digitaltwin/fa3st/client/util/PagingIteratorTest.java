@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
+import org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingInfo;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.PagingMetadata;
+import org.junit.Test;
+
+
+public class PagingIteratorTest {
+
+    private static Page<String> page(String cursor, String... content) {
+        return Page.of(List.of(content), Objects.nonNull(cursor)
+                ? PagingMetadata.builder().cursor(cursor).build()
+                : PagingMetadata.EMPTY);
+    }
+
+
+    @Test
+    public void testIterate() {
+        Map<String, Page<String>> pages = Map.of(
+                "", page("2", "a", "b"),
+                "2", page("3", "c", "d"),
+                "3", page(null, "e"));
+        AtomicInteger requests = new AtomicInteger();
+        PagingIterator<String> iterator = new PagingIterator<>(
+                pagingInfo -> {
+                    requests.incrementAndGet();
+                    return pages.get(Objects.requireNonNullElse(pagingInfo.getCursor(), ""));
+                },
+                2);
+        assertEquals(List.of("a", "b", "c", "d", "e"), iterator.stream().toList());
+        assertEquals(3, requests.get());
+    }
+
+
+    @Test(timeout = 5000)
+    public void testSyncFetcherThrowsRuntimeExceptionMidIteration() {
+        IllegalStateException expected = new IllegalStateException("failed to parse page");
+        PagingIterator<String> iterator = new PagingIterator<>(
+                pagingInfo -> {
+                    if (Objects.isNull(pagingInfo.getCursor())) {
+                        return page("2", "a");
+                    }
+                    throw expected;
+                },
+                1);
+        assertEquals("a", iterator.next());
+        assertSame(expected, assertThrows(IllegalStateException.class, iterator::hasNext));
+        assertFalse(iterator.hasNext());
+    }
+
+
+    @Test(timeout = 5000)
+    public void testSyncFetcherThrowsUncheckedClientExceptionMidIteration() {
+        PagingIterator<String> iterator = new PagingIterator<>(
+                pagingInfo -> {
+                    if (Objects.isNull(pagingInfo.getCursor())) {
+                        return page("2", "a");
+                    }
+                    throw new UncheckedClientException(new ConnectivityException("connection reset"));
+                },
+                1);
+        assertEquals("a", iterator.next());
+        UncheckedClientException actual = assertThrows(UncheckedClientException.class, iterator::hasNext);
+        assertTrue(actual.getCause() instanceof ConnectivityException);
+    }
+
+
+    @Test(timeout = 5000)
+    public void testAsyncFetcherThrowsWhilePrefetching() {
+        IllegalStateException expected = new IllegalStateException("failed to create request");
+        PagingIterator<String> iterator = new PagingIterator<>(
+                pagingInfo -> {
+                    if (Objects.isNull(pagingInfo.getCursor())) {
+                        return CompletableFuture.completedFuture(page("2", "a"));
+                    }
+                    throw expected;
+                },
+                1,
+                2);
+        assertEquals("a", iterator.next());
+        assertSame(expected, assertThrows(IllegalStateException.class, iterator::hasNext));
+    }
+
+
+    @Test
+    public void testCloseCancelsFetcherFutures() {
+        Map<String, CompletableFuture<Page<String>>> requested = new ConcurrentHashMap<>();
+        PagingIterator<String> iterator = new PagingIterator<>(
+                pagingInfo -> {
+                    String cursor = Objects.requireNonNullElse(pagingInfo.getCursor(), "");
+                    if (cursor.isEmpty()) {
+                        return CompletableFuture.completedFuture(page("2", "a"));
+                    }
+                    return requested.computeIfAbsent(cursor, x -> new CompletableFuture<>());
+                },
+                1,
+                1);
+        assertEquals("a", iterator.next());
+        CompletableFuture<Page<String>> inFlight = requested.get("2");
+        assertFalse(inFlight.isDone());
+        iterator.close();
+        assertTrue(inFlight.isCancelled());
+        assertFalse(iterator.hasNext());
+    }
+}
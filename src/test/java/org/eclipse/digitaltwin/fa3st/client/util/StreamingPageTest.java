@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2025 the Eclipse FA³ST Authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.digitaltwin.fa3st.client.util;
+
+import static org.eclipse.digitaltwin.fa3st.client.util.TestData.newPage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.eclipse.digitaltwin.aas4j.v3.model.Submodel;
+import org.eclipse.digitaltwin.fa3st.client.exception.ConnectivityException;
+import org.eclipse.digitaltwin.fa3st.client.exception.InvalidPayloadException;
+import org.eclipse.digitaltwin.fa3st.client.exception.UncheckedClientException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.SerializationException;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiDeserializer;
+import org.eclipse.digitaltwin.fa3st.common.dataformat.json.JsonApiSerializer;
+import org.eclipse.digitaltwin.fa3st.common.exception.UnsupportedModifierException;
+import org.eclipse.digitaltwin.fa3st.common.model.api.paging.Page;
+import org.junit.Test;
+
+
+public class StreamingPageTest {
+
+    private static final JsonApiSerializer serializer = new JsonApiSerializer();
+    private static final JsonApiDeserializer deserializer = new JsonApiDeserializer();
+
+    private static StreamingPage<Submodel> streamingPage(String json) {
+        return new StreamingPage<>(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), deserializer, Submodel.class);
+    }
+
+
+    @Test
+    public void testRead() throws SerializationException, UnsupportedModifierException {
+        Page<Submodel> expected = newPage(3, true, Submodel.class);
+        try (StreamingPage<Submodel> actual = streamingPage(serializer.write(expected))) {
+            assertEquals(expected.getContent(), actual.stream().toList());
+            assertEquals(expected.getMetadata().getCursor(), actual.getCursor());
+        }
+    }
+
+
+    @Test
+    public void testTruncatedWithinElement() throws SerializationException, UnsupportedModifierException {
+        String json = serializer.write(newPage(3, true, Submodel.class));
+        StreamingPage<Submodel> actual = streamingPage(json.substring(0, json.indexOf("\"result\"") + 20));
+        assertThrows(InvalidPayloadException.class, actual::hasNext);
+        assertFalse(actual.hasNext());
+    }
+
+
+    @Test
+    public void testTruncatedBetweenElements() throws SerializationException, UnsupportedModifierException {
+        Page<Submodel> page = newPage(2, false, Submodel.class);
+        String first = serializer.write(page.getContent().get(0));
+        StreamingPage<Submodel> actual = streamingPage("{\"result\":[" + first + ",");
+        assertTrue(actual.hasNext());
+        assertEquals(page.getContent().get(0), actual.next());
+        assertThrows(InvalidPayloadException.class, actual::hasNext);
+    }
+
+
+    @Test
+    public void testTruncatedBeforeEndOfPage() throws SerializationException, UnsupportedModifierException {
+        Page<Submodel> page = newPage(1, false, Submodel.class);
+        StreamingPage<Submodel> actual = streamingPage("{\"result\":[" + serializer.write(page.getContent().get(0)) + "]");
+        assertEquals(page.getContent().get(0), actual.next());
+        assertThrows(InvalidPayloadException.class, actual::hasNext);
+    }
+
+
+    @Test
+    public void testTruncatedWithinPagingMetadata() {
+        StreamingPage<Submodel> actual = streamingPage("{\"paging_metadata\":{\"cursor\":");
+        assertThrows(InvalidPayloadException.class, actual::hasNext);
+    }
+
+
+    @Test
+    public void testStreamClosedWhileReading() {
+        InputStream input = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("stream closed");
+            }
+        };
+        StreamingPage<Submodel> actual = new StreamingPage<>(input, deserializer, Submodel.class);
+        UncheckedClientException exception = assertThrows(UncheckedClientException.class, actual::hasNext);
+        assertTrue(exception.getCause() instanceof ConnectivityException);
+    }
+}